@@ -0,0 +1,38 @@
+package org.example.develop_server_kcompany.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 정합성 점검 작업 전용 DataSource 설정 클래스입니다.
+ * <p>
+ * 원장 스트리밍에 필요한 서버 커서({@code useCursorFetch=true})는 커넥션 단위 설정이며,
+ * 켜면 모든 문장이 서버 측 prepared statement가 되어 prepare/close 왕복이 추가됩니다.
+ * 온라인 요청의 커넥션에는 영향을 주지 않도록 점검 작업만 별도 커넥션 풀에서 이 설정을 사용합니다.
+ * </p>
+ * <p>
+ * {@code defaultCandidate = false}로 등록하므로 기본 DataSource 자동 구성과 일반 주입 대상에서 제외되며,
+ * {@link #RECONCILIATION_DATA_SOURCE} 한정자로만 주입됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.point.reconciliation.datasource", name = "jdbc-url")
+public class ReconciliationDataSourceConfig {
+
+	public static final String RECONCILIATION_DATA_SOURCE = "reconciliationDataSource";
+
+	@Bean(name = RECONCILIATION_DATA_SOURCE, defaultCandidate = false)
+	@ConfigurationProperties("app.point.reconciliation.datasource")
+	public HikariDataSource reconciliationDataSource() {
+		return DataSourceBuilder.create().type(HikariDataSource.class).build();
+	}
+}
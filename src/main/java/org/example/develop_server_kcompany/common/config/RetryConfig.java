@@ -0,0 +1,21 @@
+package org.example.develop_server_kcompany.common.config;
+
+import org.example.develop_server_kcompany.common.retry.RetryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재시도 정책 설정 클래스입니다.
+ * <p>
+ * {@code app.retry.*} 설정을 {@link RetryProperties}로 바인딩합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Configuration
+@EnableConfigurationProperties(RetryProperties.class)
+public class RetryConfig {
+
+}
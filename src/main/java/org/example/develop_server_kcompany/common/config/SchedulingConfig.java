@@ -0,0 +1,21 @@
+package org.example.develop_server_kcompany.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스입니다.
+ * <p>
+ * 메뉴 카탈로그 주기적 갱신 등 {@code @Scheduled} 기반 백그라운드 작업을 활성화합니다.
+ * Auditing 설정과 마찬가지로 Application 클래스와 분리하여 설정 책임을 명확히 합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,54 @@
+package org.example.develop_server_kcompany.common.config;
+
+import org.example.develop_server_kcompany.common.id.SnowflakeIdGenerator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Snowflake 식별자 생성기의 노드 식별자를 기동 시 검증하는 설정 클래스입니다.
+ * <p>
+ * 노드 식별자가 인스턴스 간에 겹치면 같은 밀리초에 같은 식별자가 만들어질 수 있습니다.
+ * 따라서 노드 식별자를 지정하지 않은 경우 local/test 프로필에서만 임의 값을 허용하고, 그 외에는 기동을 실패시킵니다.
+ * 생성기는 Hibernate 식별자 생성기에서 Spring 설정보다 먼저 쓰일 수 있어 설정 파일이 아닌
+ * 시스템 프로퍼티/환경 변수로만 지정하므로, 설정 파일에만 지정된 경우에도 기동을 실패시킵니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SnowflakeIdConfig {
+
+	private static final Profiles RANDOM_NODE_ID_PROFILES = Profiles.of("local", "test");
+
+	private final Environment environment;
+
+	@PostConstruct
+	void verifyNodeId() {
+		SnowflakeIdGenerator generator = SnowflakeIdGenerator.getInstance();
+		if (generator.isNodeIdConfigured()) {
+			log.info("[ID] Snowflake 노드 식별자. nodeId={}", generator.getNodeId());
+			return;
+		}
+
+		if (environment.containsProperty(SnowflakeIdGenerator.NODE_ID_PROPERTY)) {
+			throw new IllegalStateException("노드 식별자는 설정 파일이 아닌 시스템 프로퍼티(-D"
+				+ SnowflakeIdGenerator.NODE_ID_PROPERTY + ") 또는 환경 변수(" + SnowflakeIdGenerator.NODE_ID_ENV
+				+ ")로 지정해야 합니다.");
+		}
+		if (!environment.acceptsProfiles(RANDOM_NODE_ID_PROFILES)) {
+			throw new IllegalStateException("노드 식별자가 지정되지 않았습니다. 인스턴스마다 다른 값을 시스템 프로퍼티(-D"
+				+ SnowflakeIdGenerator.NODE_ID_PROPERTY + ") 또는 환경 변수(" + SnowflakeIdGenerator.NODE_ID_ENV
+				+ ")로 지정해 주세요. 활성 프로필=" + String.join(",", environment.getActiveProfiles()));
+		}
+		log.warn("[ID] 노드 식별자가 지정되지 않아 임의 값을 사용합니다(local/test 프로필). nodeId={}", generator.getNodeId());
+	}
+}
@@ -1,14 +1,21 @@
 package org.example.develop_server_kcompany.common.config.kafka.consumer;
 
 import org.example.develop_server_kcompany.payment.messaging.dto.OrderPaidEventPayload;
+import org.example.develop_server_kcompany.point.messaging.dto.PointChargeCommandPayload;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 
 import java.util.Map;
@@ -76,4 +83,66 @@ public class KafkaConsumerConfig {
 		factory.setConcurrency(3);
 		return factory;
 	}
+
+	/**
+	 * 포인트 충전 명령을 DTO로 역직렬화하여 소비하기 위한 ConsumerFactory 입니다.
+	 * <p>
+	 * 한 번의 poll로 가져오는 최대 레코드 수가 곧 소비 측 배치 크기입니다.
+	 * </p>
+	 */
+	@Bean
+	public ConsumerFactory<String, PointChargeCommandPayload> pointChargeCommandConsumerFactory(
+		KafkaProperties kafkaProperties,
+		@Value("${app.point.charge-command.max-poll-records:500}") int maxPollRecords
+	) {
+		Map<String, Object> props = kafkaProperties.buildConsumerProperties();
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+		JsonDeserializer<PointChargeCommandPayload> deserializer = new JsonDeserializer<>(PointChargeCommandPayload.class);
+		deserializer.addTrustedPackages("*");
+		deserializer.setUseTypeHeaders(false);
+
+		return new DefaultKafkaConsumerFactory<>(
+			props,
+			new StringDeserializer(),
+			deserializer
+		);
+	}
+
+	/**
+	 * 포인트 충전 명령(PointChargeCommandPayload)을 배치로 소비하는 ListenerContainerFactory 입니다.
+	 * <p>
+	 * 동시성은 토픽 파티션 수 이하로 두며, 파티션마다 한 스레드가 순서대로 처리합니다.
+	 * </p>
+	 * <p>
+	 * 접수(202) 이후의 명령이 DB/Redis 장애로 버려지지 않도록, 실패한 명령부터 지수 백오프로 다시 전달받고
+	 * 재시도 횟수를 넘기면 DLT({@code <토픽>.DLT})로 보냅니다. DLT 파티션은 키(userId)로 정하므로 원본 토픽과 파티션 수가 달라도 됩니다.
+	 * </p>
+	 */
+	@Bean
+	public ConcurrentKafkaListenerContainerFactory<String, PointChargeCommandPayload>
+	pointChargeCommandKafkaListenerContainerFactory(
+		ConsumerFactory<String, PointChargeCommandPayload> pointChargeCommandConsumerFactory,
+		KafkaTemplate<String, Object> kafkaTemplate,
+		@Value("${app.point.charge-command.concurrency:3}") int concurrency,
+		@Value("${app.point.charge-command.retry-initial-interval-ms:1000}") long retryInitialIntervalMs,
+		@Value("${app.point.charge-command.retry-max-interval-ms:30000}") long retryMaxIntervalMs,
+		@Value("${app.point.charge-command.max-retries:10}") int maxRetries
+	) {
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+			(record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+		ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(maxRetries);
+		backOff.setInitialInterval(retryInitialIntervalMs);
+		backOff.setMultiplier(2.0);
+		backOff.setMaxInterval(retryMaxIntervalMs);
+
+		ConcurrentKafkaListenerContainerFactory<String, PointChargeCommandPayload> factory =
+			new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(pointChargeCommandConsumerFactory);
+		factory.setBatchListener(true);
+		factory.setConcurrency(concurrency);
+		factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, backOff));
+		return factory;
+	}
 }
\ No newline at end of file
@@ -29,14 +29,22 @@ public enum ErrorCode {
 	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", "유저를 조회할 수 없습니다."),
 	// 메뉴
 	MENU_NOT_FOUND(HttpStatus.NOT_FOUND, "MENU_NOT_FOUND", "메뉴를 찾을 수 없습니다."),
+	// 주문
+	ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND", "주문을 찾을 수 없습니다."),
+	ORDER_CANCELED(HttpStatus.CONFLICT, "ORDER_CANCELED", "결제에 실패하여 취소된 주문입니다."),
 
 	//포인트
 	WALLET_NOT_FOUND(HttpStatus.NOT_FOUND, "WALLET_NOT_FOUND", "지갑 정보를 조회할 수 없습니다.(오류)"),
 	CHARGE_FAIL(HttpStatus.EXPECTATION_FAILED, "CHARGE_FAIL", "포인트 충전 요청이 실패했습니다."),
+	CHARGE_COMMAND_NOT_FOUND(HttpStatus.NOT_FOUND, "CHARGE_COMMAND_NOT_FOUND", "접수된 포인트 충전 요청을 찾을 수 없습니다."),
 	SPEND_FAIL(HttpStatus.EXPECTATION_FAILED, "SPEND_FAIL", "포인트 차감 요청이 실패했습니다."),
 	INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "INVALID_AMOUNT", "충전/차감 금액은 양수만 입력 가능합니다."),
 	BALANCE_OVERFLOW(HttpStatus.BAD_REQUEST, "BALANCE_OVERFLOW", "최대 보유 가능 포인트를 초과합니다."),
-	INSUFFICIENT_BALANCE(HttpStatus.CONFLICT, "INSUFFICIENT_BALANCE", "포인트 잔액이 부족합니다. 충전 후 재구매 해주세요.");
+	HOLD_NOT_AVAILABLE(HttpStatus.CONFLICT, "HOLD_NOT_AVAILABLE", "포인트 가점유가 만료되었거나 이미 처리되었습니다."),
+	HOLD_IN_PROGRESS(HttpStatus.CONFLICT, "HOLD_IN_PROGRESS", "같은 요청의 포인트 결제가 진행 중입니다. 잠시 후 다시 시도해 주세요."),
+	INSUFFICIENT_BALANCE(HttpStatus.CONFLICT, "INSUFFICIENT_BALANCE", "포인트 잔액이 부족합니다. 충전 후 재구매 해주세요."),
+	BULK_GRANT_NOT_FOUND(HttpStatus.NOT_FOUND, "BULK_GRANT_NOT_FOUND", "포인트 일괄 지급 작업을 찾을 수 없습니다."),
+	BULK_GRANT_IN_PROGRESS(HttpStatus.CONFLICT, "BULK_GRANT_IN_PROGRESS", "같은 작업 식별자의 포인트 일괄 지급이 진행 중입니다.");
 
 	private final HttpStatus status;
 	private final String code;
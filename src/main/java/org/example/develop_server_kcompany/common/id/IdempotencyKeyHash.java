@@ -0,0 +1,92 @@
+package org.example.develop_server_kcompany.common.id;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 멱등성 키를 16바이트 고정 길이 값으로 변환하는 유틸리티입니다.
+ * <p>
+ * 멱등성 키는 최대 100자의 문자열이지만, 유니크 인덱스와 중복 확인 조회는 이 16바이트 값({@code BINARY(16)})으로 처리합니다.
+ * 인덱스 항목이 작고 길이가 일정하므로 인덱스 크기와 탐색 비용이 줄어듭니다.
+ * </p>
+ * <ul>
+ *  <li>표준 표기(소문자, 하이픈 포함 36자)의 UUID는 128비트 값을 그대로 사용합니다.</li>
+ *  <li>그 외의 키는 UTF-8 바이트의 SHA-256 앞 16바이트를 사용합니다.</li>
+ * </ul>
+ * <p>
+ * 원본 문자열은 응답/조회용으로만 함께 저장하며 인덱스에는 포함하지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public final class IdempotencyKeyHash {
+
+	public static final int LENGTH = 16;
+
+	private static final int UUID_LENGTH = 36;
+
+	private IdempotencyKeyHash() {
+	}
+
+	/**
+	 * 멱등성 키의 16바이트 값을 반환합니다.
+	 *
+	 * @param idempotencyKey 정규화(trim)된 멱등성 키
+	 * @return 16바이트 값
+	 */
+	public static byte[] of(String idempotencyKey) {
+		Objects.requireNonNull(idempotencyKey, "idempotencyKey");
+
+		UUID uuid = parseCanonicalUuid(idempotencyKey);
+		if (uuid != null) {
+			return ByteBuffer.allocate(LENGTH)
+				.putLong(uuid.getMostSignificantBits())
+				.putLong(uuid.getLeastSignificantBits())
+				.array();
+		}
+
+		byte[] digest = sha256().digest(idempotencyKey.getBytes(StandardCharsets.UTF_8));
+		byte[] hash = new byte[LENGTH];
+		System.arraycopy(digest, 0, hash, 0, LENGTH);
+		return hash;
+	}
+
+	/**
+	 * 여러 멱등성 키의 16바이트 값을 순서대로 반환합니다(IN 조회용).
+	 */
+	public static List<byte[]> ofAll(Collection<String> idempotencyKeys) {
+		return idempotencyKeys.stream().map(IdempotencyKeyHash::of).toList();
+	}
+
+	/**
+	 * 표준 표기의 UUID만 UUID로 취급합니다.
+	 * 대문자/축약 표기까지 UUID로 해석하면 서로 다른 문자열이 같은 값이 되므로, 그런 키는 해시 경로로 보냅니다.
+	 */
+	private static UUID parseCanonicalUuid(String idempotencyKey) {
+		if (idempotencyKey.length() != UUID_LENGTH) {
+			return null;
+		}
+		try {
+			UUID uuid = UUID.fromString(idempotencyKey);
+			return uuid.toString().equals(idempotencyKey) ? uuid : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package org.example.develop_server_kcompany.common.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순으로 증가하는 64비트 식별자를 생성하는 Snowflake 방식 생성기입니다.
+ * <p>
+ * 비트 구성은 다음과 같습니다.
+ * <ul>
+ *   <li>1비트: 부호(항상 0)</li>
+ *   <li>41비트: 기준 시각({@link #EPOCH_MILLIS}) 이후 경과 밀리초(약 69년)</li>
+ *   <li>10비트: 노드 식별자(0 ~ 1023)</li>
+ *   <li>12비트: 같은 밀리초 내 순번(0 ~ 4095)</li>
+ * </ul>
+ * </p>
+ * <p>
+ * DB 왕복 없이 애플리케이션에서 식별자를 만들 수 있으므로, IDENTITY 전략과 달리 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있습니다.
+ * 노드 식별자는 시스템 프로퍼티 {@code app.id.node-id} 또는 환경 변수 {@code APP_ID_NODE_ID}로 지정하며,
+ * 인스턴스마다 다른 값을 지정해야 합니다. 지정하지 않으면 임의 값을 사용하지만,
+ * 임의 값은 인스턴스 간에 겹칠 수 있으므로 local/test 프로필이 아니면 기동 시 실패합니다({@code SnowflakeIdConfig}).
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public final class SnowflakeIdGenerator {
+
+	/** 2026-01-01T00:00:00Z */
+	static final long EPOCH_MILLIS = 1_767_225_600_000L;
+
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	public static final String NODE_ID_PROPERTY = "app.id.node-id";
+	public static final String NODE_ID_ENV = "APP_ID_NODE_ID";
+
+	private static final SnowflakeIdGenerator INSTANCE = create();
+
+	private final long nodeId;
+	private final boolean nodeIdConfigured;
+	private long lastTimestamp = -1L;
+	private long sequence = 0L;
+
+	SnowflakeIdGenerator(long nodeId) {
+		this(nodeId, true);
+	}
+
+	private SnowflakeIdGenerator(long nodeId, boolean nodeIdConfigured) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다. nodeId=" + nodeId);
+		}
+		this.nodeId = nodeId;
+		this.nodeIdConfigured = nodeIdConfigured;
+	}
+
+	/**
+	 * 애플리케이션 전역에서 공유하는 생성기를 반환합니다.
+	 */
+	public static SnowflakeIdGenerator getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * 식별자에 포함되는 노드 식별자를 반환합니다.
+	 */
+	public long getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * 노드 식별자가 시스템 프로퍼티/환경 변수로 지정되었는지 여부를 반환합니다(false면 임의 값).
+	 */
+	public boolean isNodeIdConfigured() {
+		return nodeIdConfigured;
+	}
+
+	/**
+	 * 다음 식별자를 생성합니다.
+	 * <p>
+	 * 시스템 시각이 뒤로 가거나 한 밀리초 안의 순번을 모두 소진한 경우,
+	 * 대기하지 않고 마지막 시각을 논리적으로 이어 사용하여 단조 증가를 보장합니다.
+	 * </p>
+	 *
+	 * @return 양수 64비트 식별자
+	 */
+	public synchronized long nextId() {
+		long now = System.currentTimeMillis() - EPOCH_MILLIS;
+
+		if (now > lastTimestamp) {
+			lastTimestamp = now;
+			sequence = 0L;
+		} else {
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			if (sequence == 0L) {
+				lastTimestamp++;
+			}
+		}
+
+		return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS))
+			| (nodeId << SEQUENCE_BITS)
+			| sequence;
+	}
+
+	private static SnowflakeIdGenerator create() {
+		String configured = System.getProperty(NODE_ID_PROPERTY, System.getenv(NODE_ID_ENV));
+		if (configured != null && !configured.isBlank()) {
+			return new SnowflakeIdGenerator(Long.parseLong(configured.trim()), true);
+		}
+		return new SnowflakeIdGenerator(ThreadLocalRandom.current().nextLong(MAX_NODE_ID + 1), false);
+	}
+}
@@ -0,0 +1,27 @@
+package org.example.develop_server_kcompany.common.id;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 식별자를 {@link SnowflakeIdGenerator}로 생성하도록 지정하는 애노테이션입니다.
+ * <p>
+ * {@code @GeneratedValue(strategy = GenerationType.IDENTITY)} 대신 사용하며,
+ * 식별자가 INSERT 이전에 정해지므로 {@code hibernate.jdbc.batch_size} 설정에 따라 INSERT가 배치로 전송됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TsidId {
+
+}
@@ -0,0 +1,19 @@
+package org.example.develop_server_kcompany.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link TsidId}가 붙은 식별자 필드에 대해 Hibernate가 호출하는 식별자 생성기입니다.
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object object) {
+		return SnowflakeIdGenerator.getInstance().nextId();
+	}
+}
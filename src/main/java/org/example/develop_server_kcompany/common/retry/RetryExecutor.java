@@ -0,0 +1,119 @@
+package org.example.develop_server_kcompany.common.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시성 충돌(낙관적 락 충돌, 락 대기 시간 초과, 데드락)을 재시도하는 실행기입니다.
+ * <p>
+ * 작업마다 {@link RetryProperties}의 정책(최대 시도 횟수, 지수 backoff, jitter, 최대 경과 시간)을 적용합니다.
+ * </p>
+ * <p>
+ * 재시도는 열린 트랜잭션이 없을 때만 수행합니다. 바깥 트랜잭션에 참여한 상태에서는 실패한 트랜잭션이 이미 rollback-only이므로
+ * 같은 트랜잭션 안에서 다시 시도해도 성공할 수 없고, 대기하는 동안 DB 커넥션만 점유하게 됩니다.
+ * 이 경우 한 번만 실행하고 원래 예외를 그대로 던져, 트랜잭션을 연 바깥 호출자가 트랜잭션 단위로 재시도하도록 합니다.
+ * </p>
+ *
+ * <ul>
+ *  <li>{@code app.retry.retries}: 재시도한 횟수(operation)</li>
+ *  <li>{@code app.retry.exhausted}: 재시도를 모두 소진하여 실패한 횟수(operation)</li>
+ *  <li>{@code app.retry.backoff}: 재시도 전 대기 시간(operation)</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Component
+@Slf4j
+public class RetryExecutor {
+
+	private static final String RETRIES = "app.retry.retries";
+	private static final String EXHAUSTED = "app.retry.exhausted";
+	private static final String BACKOFF = "app.retry.backoff";
+
+	private final RetryProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	public RetryExecutor(RetryProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 작업을 실행하고, 동시성 충돌 시 정책에 따라 재시도합니다.
+	 *
+	 * @param operation      정책/지표 구분용 작업 이름
+	 * @param exhaustedError 재시도를 모두 소진했을 때 던질 오류 코드
+	 * @param action         실행할 작업(트랜잭션 경계를 포함해야 재시도가 의미를 가집니다)
+	 * @return 작업 결과
+	 * @throws ConcurrencyFailureException 바깥 트랜잭션 안에서 호출되어 재시도하지 않은 경우
+	 */
+	public <T> T execute(String operation, ErrorCode exhaustedError, Supplier<T> action) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return action.get();
+		}
+
+		RetryProperties.Policy policy = properties.policyFor(operation);
+		long startedAt = System.nanoTime();
+		long maxElapsedNanos = policy.maxElapsed().toNanos();
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return action.get();
+			} catch (ConcurrencyFailureException e) {
+				long backoffMs = backoffMillis(policy, attempt);
+				long elapsedNanos = System.nanoTime() - startedAt;
+
+				if (attempt >= policy.maxAttempts()
+					|| elapsedNanos + TimeUnit.MILLISECONDS.toNanos(backoffMs) > maxElapsedNanos) {
+					meterRegistry.counter(EXHAUSTED, "operation", operation).increment();
+					log.error("[RETRY] 재시도 소진. operation={}, attempts={}, elapsedMs={}",
+						operation, attempt, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), e);
+					throw new CustomException(exhaustedError);
+				}
+
+				meterRegistry.counter(RETRIES, "operation", operation).increment();
+				meterRegistry.timer(BACKOFF, "operation", operation).record(backoffMs, TimeUnit.MILLISECONDS);
+				log.warn("[RETRY] 동시성 충돌 재시도. operation={}, attempt={}, backoffMs={}",
+					operation, attempt, backoffMs);
+
+				try {
+					sleep(backoffMs);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					log.error("[RETRY] BackOff 대기 중 인터럽트 발생. operation={}", operation, ie);
+					throw new CustomException(exhaustedError);
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@code attempt}번째 실패 이후의 대기 시간을 계산합니다.
+	 * 지수적으로 증가한 값을 상한으로 자른 뒤 ±jitter 비율만큼 무작위로 흔듭니다.
+	 */
+	static long backoffMillis(RetryProperties.Policy policy, int attempt) {
+		double base = policy.initialBackoff().toMillis() * Math.pow(policy.multiplier(), attempt - 1);
+		double capped = Math.min(base, policy.maxBackoff().toMillis());
+		double jitter = Math.max(0.0, Math.min(1.0, policy.jitter()));
+		double factor = 1.0 + jitter * (ThreadLocalRandom.current().nextDouble() * 2.0 - 1.0);
+		return Math.max(0L, Math.round(capped * factor));
+	}
+
+	void sleep(long millis) throws InterruptedException {
+		if (millis > 0) {
+			Thread.sleep(millis);
+		}
+	}
+}
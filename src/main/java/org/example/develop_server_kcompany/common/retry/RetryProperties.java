@@ -0,0 +1,69 @@
+package org.example.develop_server_kcompany.common.retry;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 재시도 정책 설정입니다.
+ * <p>
+ * {@code app.retry.defaults}에 공통 정책을 두고, {@code app.retry.operations.<operation>}으로 작업별 정책을 덮어씁니다.
+ * 작업별 정책에서 생략한 항목은 각 항목의 기본값을 사용합니다.
+ * </p>
+ *
+ * <pre>
+ * app:
+ *   retry:
+ *     defaults:
+ *       max-attempts: 3
+ *       initial-backoff: 100ms
+ *     operations:
+ *       order-place:
+ *         max-attempts: 2
+ * </pre>
+ *
+ * @param defaults   작업별 설정이 없을 때 사용하는 정책
+ * @param operations 작업 이름 → 정책
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@ConfigurationProperties(prefix = "app.retry")
+public record RetryProperties(
+	@DefaultValue Policy defaults,
+	Map<String, Policy> operations
+) {
+
+	public RetryProperties {
+		operations = operations == null ? Map.of() : Map.copyOf(operations);
+	}
+
+	/**
+	 * 작업 이름에 해당하는 정책을 반환합니다. 설정이 없으면 공통 정책을 반환합니다.
+	 */
+	public Policy policyFor(String operation) {
+		return operations.getOrDefault(operation, defaults);
+	}
+
+	/**
+	 * 재시도 정책입니다.
+	 *
+	 * @param maxAttempts    최초 시도를 포함한 최대 시도 횟수
+	 * @param initialBackoff 첫 재시도 전 대기 시간
+	 * @param multiplier     재시도마다 대기 시간에 곱하는 배수
+	 * @param maxBackoff     대기 시간 상한
+	 * @param jitter         대기 시간에 더하거나 빼는 무작위 비율(0.0 ~ 1.0)
+	 * @param maxElapsed     최초 시도부터 재시도를 포기하기까지의 최대 경과 시간
+	 */
+	public record Policy(
+		@DefaultValue("3") int maxAttempts,
+		@DefaultValue("100ms") Duration initialBackoff,
+		@DefaultValue("2.0") double multiplier,
+		@DefaultValue("1s") Duration maxBackoff,
+		@DefaultValue("0.2") double jitter,
+		@DefaultValue("3s") Duration maxElapsed
+	) {
+	}
+}
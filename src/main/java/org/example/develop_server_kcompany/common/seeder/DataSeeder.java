@@ -3,12 +3,14 @@ package org.example.develop_server_kcompany.common.seeder;
 import java.util.List;
 
 import org.example.develop_server_kcompany.menu.domain.Menu;
+import org.example.develop_server_kcompany.menu.event.MenuChangedEvent;
 import org.example.develop_server_kcompany.menu.repository.MenuRepository;
 import org.example.develop_server_kcompany.point.domain.PointWallet;
 import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
 import org.example.develop_server_kcompany.user.domain.User;
 import org.example.develop_server_kcompany.user.repository.UserRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +35,7 @@ public class DataSeeder implements CommandLineRunner {
 	private final MenuRepository menuRepository;
 	private final UserRepository userRepository;
 	private final PointWalletRepository pointWalletRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
 	@Transactional
@@ -48,6 +51,7 @@ public class DataSeeder implements CommandLineRunner {
 				new Menu("딸기스무디", 7000, true)
 			);
 			menuRepository.saveAll(menus);
+			eventPublisher.publishEvent(new MenuChangedEvent());
 		}
 
 		// 유저 + 지갑 더미 데이터
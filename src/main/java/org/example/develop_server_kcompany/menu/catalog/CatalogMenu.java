@@ -0,0 +1,24 @@
+package org.example.develop_server_kcompany.menu.catalog;
+
+import org.example.develop_server_kcompany.menu.domain.Menu;
+
+/**
+ * 메뉴 카탈로그 스냅샷에 담기는 불변 메뉴 정보입니다.
+ * <p>
+ * 영속성 컨텍스트와 분리된 값 객체이므로 여러 스레드에서 안전하게 공유할 수 있습니다.
+ * </p>
+ *
+ * @param id     메뉴 식별자
+ * @param name   메뉴 이름
+ * @param price  메뉴 가격
+ * @param active 판매 가능 여부
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public record CatalogMenu(Long id, String name, Integer price, boolean active) {
+
+	public static CatalogMenu from(Menu menu) {
+		return new CatalogMenu(menu.getId(), menu.getName(), menu.getPrice(), menu.isActive());
+	}
+}
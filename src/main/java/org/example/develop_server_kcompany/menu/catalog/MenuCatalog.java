@@ -0,0 +1,149 @@
+package org.example.develop_server_kcompany.menu.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.menu.domain.Menu;
+import org.example.develop_server_kcompany.menu.event.MenuChangedEvent;
+import org.example.develop_server_kcompany.menu.repository.MenuRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JVM 메모리에 보관하는 메뉴 카탈로그입니다.
+ * <p>
+ * 메뉴 테이블은 작고 거의 바뀌지 않으므로, 주문 가격 스냅샷/메뉴 목록/인기 메뉴 조회가
+ * 매 요청마다 MySQL을 조회하지 않도록 전체 메뉴를 불변 스냅샷({@link MenuCatalogSnapshot})으로 들고 있습니다.
+ * </p>
+ * <p>
+ * 스냅샷은 {@link AtomicReference}로 원자적으로 교체되며 다음 시점에 다시 적재됩니다.
+ * <ul>
+ *   <li>애플리케이션 기동 직후</li>
+ *   <li>{@code app.menu.catalog.refresh-interval-ms} 주기</li>
+ *   <li>{@link MenuChangedEvent} 발행 트랜잭션 커밋 이후</li>
+ *   <li>스냅샷에 없는 메뉴가 조회된 경우(최소 간격 제한)</li>
+ * </ul>
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCatalog {
+
+	private static final Duration MISS_REFRESH_MIN_INTERVAL = Duration.ofSeconds(1);
+
+	private final MenuRepository menuRepository;
+	private final Clock clock;
+
+	private final AtomicReference<MenuCatalogSnapshot> current = new AtomicReference<>(MenuCatalogSnapshot.EMPTY);
+	private final Object reloadLock = new Object();
+
+	/**
+	 * 현재 스냅샷을 반환합니다. 아직 적재 전이라면 즉시 적재합니다.
+	 *
+	 * @return 현재 메뉴 카탈로그 스냅샷
+	 */
+	public MenuCatalogSnapshot snapshot() {
+		MenuCatalogSnapshot snapshot = current.get();
+		if (!snapshot.isLoaded()) {
+			return refresh();
+		}
+		return snapshot;
+	}
+
+	/**
+	 * 주문 가능한(판매중인) 메뉴를 식별자 목록으로 조회합니다.
+	 * <p>
+	 * 스냅샷에 없는 식별자가 섞여 있으면 새로 등록된 메뉴일 수 있으므로 한 번 다시 적재한 뒤 확인합니다.
+	 * </p>
+	 *
+	 * @param menuIds 조회할 메뉴 식별자 목록(중복 제거된 값)
+	 * @return menuId → 메뉴
+	 * @throws CustomException 존재하지 않거나 판매중이 아닌 메뉴가 포함된 경우 {@link ErrorCode#MENU_NOT_FOUND}
+	 */
+	public Map<Long, CatalogMenu> resolveActive(Collection<Long> menuIds) {
+		MenuCatalogSnapshot snapshot = snapshot();
+		if (!snapshot.containsAll(menuIds) && isMissRefreshAllowed(snapshot)) {
+			snapshot = refresh();
+		}
+
+		Map<Long, CatalogMenu> result = new LinkedHashMap<>();
+		for (Long menuId : menuIds) {
+			CatalogMenu menu = snapshot.find(menuId);
+			if (menu == null || !menu.active()) {
+				throw new CustomException(ErrorCode.MENU_NOT_FOUND);
+			}
+			result.put(menuId, menu);
+		}
+		return result;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		refresh();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${app.menu.catalog.refresh-interval-ms:60000}",
+		initialDelayString = "${app.menu.catalog.refresh-interval-ms:60000}"
+	)
+	public void scheduledRefresh() {
+		refresh();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMenuChanged(MenuChangedEvent event) {
+		refresh();
+	}
+
+	/**
+	 * 메뉴 테이블 전체를 다시 읽어 스냅샷을 교체합니다.
+	 * <p>
+	 * 내용이 이전과 같다면 버전은 유지하고 적재 시각만 갱신합니다.
+	 * </p>
+	 *
+	 * @return 교체된(또는 유지된) 스냅샷
+	 */
+	public MenuCatalogSnapshot refresh() {
+		synchronized (reloadLock) {
+			Map<Long, CatalogMenu> loaded = new LinkedHashMap<>();
+			for (Menu menu : menuRepository.findAll(Sort.by("id"))) {
+				loaded.put(menu.getId(), CatalogMenu.from(menu));
+			}
+
+			Instant now = clock.instant();
+			MenuCatalogSnapshot previous = current.get();
+			MenuCatalogSnapshot next = previous.isLoaded() && previous.menus().equals(loaded)
+				? previous.reloadedAt(now)
+				: new MenuCatalogSnapshot(previous.version() + 1, loaded, now);
+
+			current.set(next);
+			if (next.version() != previous.version()) {
+				log.info("[MenuCatalog] 메뉴 카탈로그 교체 - version={}, count={}", next.version(), loaded.size());
+			}
+			return next;
+		}
+	}
+
+	private boolean isMissRefreshAllowed(MenuCatalogSnapshot snapshot) {
+		return snapshot.loadedAt().plus(MISS_REFRESH_MIN_INTERVAL).isBefore(clock.instant());
+	}
+}
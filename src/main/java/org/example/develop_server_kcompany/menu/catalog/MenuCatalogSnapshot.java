@@ -0,0 +1,76 @@
+package org.example.develop_server_kcompany.menu.catalog;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시점의 메뉴 테이블 전체를 담은 읽기 전용 스냅샷입니다.
+ * <p>
+ * 스냅샷은 생성 이후 변경되지 않으며, 메뉴가 바뀌면 {@link MenuCatalog}가 새 스냅샷으로 통째로 교체합니다.
+ * {@code version}은 내용이 실제로 바뀔 때마다 1씩 증가합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public final class MenuCatalogSnapshot {
+
+	static final MenuCatalogSnapshot EMPTY = new MenuCatalogSnapshot(0L, Map.of(), Instant.EPOCH);
+
+	private final long version;
+	private final Map<Long, CatalogMenu> menus;
+	private final List<CatalogMenu> activeMenus;
+	private final Instant loadedAt;
+
+	MenuCatalogSnapshot(long version, Map<Long, CatalogMenu> menus, Instant loadedAt) {
+		this.version = version;
+		this.menus = Collections.unmodifiableMap(new LinkedHashMap<>(menus));
+		this.activeMenus = this.menus.values().stream()
+			.filter(CatalogMenu::active)
+			.toList();
+		this.loadedAt = loadedAt;
+	}
+
+	/**
+	 * 내용은 그대로 두고 적재 시각만 갱신한 스냅샷을 반환합니다.
+	 */
+	MenuCatalogSnapshot reloadedAt(Instant loadedAt) {
+		return new MenuCatalogSnapshot(version, menus, loadedAt);
+	}
+
+	public long version() {
+		return version;
+	}
+
+	public Instant loadedAt() {
+		return loadedAt;
+	}
+
+	public boolean isLoaded() {
+		return version > 0;
+	}
+
+	public CatalogMenu find(Long menuId) {
+		return menus.get(menuId);
+	}
+
+	public boolean containsAll(Collection<Long> menuIds) {
+		return menus.keySet().containsAll(menuIds);
+	}
+
+	/**
+	 * @return 판매중인 메뉴 목록(식별자 오름차순)
+	 */
+	public List<CatalogMenu> activeMenus() {
+		return activeMenus;
+	}
+
+	Map<Long, CatalogMenu> menus() {
+		return menus;
+	}
+}
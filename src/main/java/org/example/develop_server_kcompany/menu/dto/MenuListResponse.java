@@ -2,6 +2,7 @@ package org.example.develop_server_kcompany.menu.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
 import org.example.develop_server_kcompany.menu.domain.Menu;
 
 /**
@@ -32,4 +33,14 @@ public class MenuListResponse {
 	public static MenuListResponse from(Menu menu) {
 		return new MenuListResponse(menu.getId(), menu.getName(), menu.getPrice());
 	}
+
+	/**
+	 * 메뉴 카탈로그 스냅샷의 메뉴를 메뉴 목록 조회 응답 DTO로 변환합니다.
+	 *
+	 * @param menu 변환 대상 카탈로그 메뉴
+	 * @return 메뉴 목록 조회 응답 DTO
+	 */
+	public static MenuListResponse from(CatalogMenu menu) {
+		return new MenuListResponse(menu.id(), menu.name(), menu.price());
+	}
 }
\ No newline at end of file
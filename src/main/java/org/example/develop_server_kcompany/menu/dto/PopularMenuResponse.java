@@ -1,5 +1,6 @@
 package org.example.develop_server_kcompany.menu.dto;
 
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
 import org.example.develop_server_kcompany.menu.domain.Menu;
 
 import lombok.AllArgsConstructor;
@@ -32,4 +33,13 @@ public class PopularMenuResponse {
 			orderCount
 		);
 	}
+
+	public static PopularMenuResponse from(CatalogMenu menu, long orderCount) {
+		return new PopularMenuResponse(
+			menu.id(),
+			menu.name(),
+			menu.price(),
+			orderCount
+		);
+	}
 }
\ No newline at end of file
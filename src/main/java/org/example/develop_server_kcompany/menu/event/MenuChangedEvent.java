@@ -0,0 +1,15 @@
+package org.example.develop_server_kcompany.menu.event;
+
+/**
+ * 메뉴 데이터가 변경되었음을 알리는 이벤트입니다.
+ * <p>
+ * 메뉴를 등록/수정하는 쪽에서 발행하면, 트랜잭션 커밋 이후 {@code MenuCatalog}가 스냅샷을 다시 적재합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public class MenuChangedEvent {
+
+}
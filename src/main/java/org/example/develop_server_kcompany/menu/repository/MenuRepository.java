@@ -1,7 +1,5 @@
 package org.example.develop_server_kcompany.menu.repository;
 
-import java.util.List;
-
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.example.develop_server_kcompany.menu.domain.Menu;
@@ -9,8 +7,8 @@ import org.example.develop_server_kcompany.menu.domain.Menu;
 /**
  * Menu 엔티티에 대한 데이터 접근(조회/저장)을 담당하는 Repository 인터페이스입니다.
  * <p>
- * 커피 메뉴 목록 조회 API에서 활성화된 메뉴만 조회하기 위해
- * {@link #findAllByIsActiveTrue()} 쿼리를 제공합니다.
+ * 메뉴 조회는 {@link org.example.develop_server_kcompany.menu.catalog.MenuCatalog}가 판매 중이 아닌 메뉴까지 포함한
+ * 전체 메뉴를 적재하여 처리하므로, 별도의 조회 쿼리 없이 {@link JpaRepository}의 기본 기능만 사용합니다.
  * </p>
  *
  * @author 재원
@@ -19,6 +17,4 @@ import org.example.develop_server_kcompany.menu.domain.Menu;
  */
 public interface MenuRepository extends JpaRepository<Menu, Long> {
 
-	List<Menu> findAllByIsActiveTrue();
-
 }
\ No newline at end of file
@@ -6,12 +6,10 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
-import org.example.develop_server_kcompany.menu.domain.Menu;
-import org.example.develop_server_kcompany.menu.repository.MenuRepository;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalogSnapshot;
 import org.example.develop_server_kcompany.menu.dto.PopularMenuResponse;
 import org.example.develop_server_kcompany.payment.messaging.PopularityRedisRepository;
 import org.example.develop_server_kcompany.payment.messaging.model.MenuScore;
@@ -26,7 +24,7 @@ import lombok.RequiredArgsConstructor;
  * </p>
  * <p>
  * Redis에 일자별로 누적된 ZSET(popular:menu:{yyyyMMdd})을 합산하여 TOP3를 조회합니다.
- * 조회된 menuId 목록으로 Menu를 조회한 뒤, 응답 DTO로 변환합니다.
+ * 조회된 menuId 목록은 {@link MenuCatalog} 스냅샷에서 메뉴 정보로 변환한 뒤, 응답 DTO로 만듭니다.
  * 날짜 계산은 Clock을 사용하여 테스트에서 시간을 고정할 수 있게 합니다.
  * </p>
  *
@@ -42,7 +40,7 @@ public class PopularMenuService {
 	private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
 
 	private final PopularityRedisRepository popularityRedisRepository;
-	private final MenuRepository menuRepository;
+	private final MenuCatalog menuCatalog;
 	private final Clock clock;
 
 	/**
@@ -58,19 +56,13 @@ public class PopularMenuService {
 			return List.of();
 		}
 
-		List<Long> menuIds = topMenus.stream()
-			.map(MenuScore::getMenuId)
-			.toList();
-
-		Map<Long, Menu> menuMap = menuRepository.findAllById(menuIds).stream()
-			.filter(Menu::isActive) // 판매중인 메뉴만
-			.collect(Collectors.toMap(Menu::getId, Function.identity()));
+		MenuCatalogSnapshot catalog = menuCatalog.snapshot();
 
 		// Redis 순위(판매량 내림차순) 그대로 유지해서 응답 생성
 		List<PopularMenuResponse> result = new ArrayList<>(3);
 		for (MenuScore ms : topMenus) {
-			Menu menu = menuMap.get(ms.getMenuId());
-			if (menu == null) {
+			CatalogMenu menu = catalog.find(ms.getMenuId());
+			if (menu == null || !menu.active()) { // 판매중인 메뉴만
 				continue;
 			}
 			result.add(PopularMenuResponse.from(menu, ms.getCount()));
@@ -5,14 +5,33 @@ import static org.example.develop_server_kcompany.payment.service.OrderService.*
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.example.develop_server_kcompany.payment.dto.OrderAcceptedResponse;
+import org.example.develop_server_kcompany.payment.dto.OrderBatchRequest;
+import org.example.develop_server_kcompany.payment.dto.OrderBatchResponse;
+import org.example.develop_server_kcompany.payment.dto.OrderHistoryResponse;
+import org.example.develop_server_kcompany.payment.dto.OrderItemRequest;
+import org.example.develop_server_kcompany.payment.dto.OrderQuoteRequest;
+import org.example.develop_server_kcompany.payment.dto.OrderQuoteResponse;
 import org.example.develop_server_kcompany.payment.dto.OrderRequest;
 import org.example.develop_server_kcompany.payment.dto.OrderResponse;
+import org.example.develop_server_kcompany.payment.dto.OrderStatusResponse;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderCommand;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderResult;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService;
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService;
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService.QuoteResult;
 import org.example.develop_server_kcompany.payment.service.OrderService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -21,7 +40,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * OrderController 클래스입니다.
  * <p>
- * 주문 생성 API를 제공하는 컨트롤러입니다.
+ * 주문 생성/견적/주문 내역 조회 API를 제공하는 컨트롤러입니다.
  * HTTP 요청(Request DTO)을 서비스 입력(Command)으로 변환하고,
  * 서비스 처리 결과를 응답(Response DTO)으로 반환합니다.
  * </p>
@@ -35,19 +54,42 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderController {
 
+	private static final String PREFER = "Prefer";
+	private static final String RESPOND_ASYNC = "respond-async";
+	private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
 	private final OrderService orderService;
+	private final OrderBatchService orderBatchService;
+	private final OrderQueryService orderQueryService;
+	private final OrderQuoteService orderQuoteService;
 
+	/**
+	 * 주문을 생성합니다.
+	 * <p>
+	 * 기본은 포인트 차감까지 완료한 뒤 201 Created를 반환합니다.
+	 * {@code Prefer: respond-async} 헤더를 보내면 주문 접수(CREATED)까지만 처리하고 202 Accepted를 반환하며,
+	 * 결제 결과는 {@code GET /api/orders/{orderId}/status}로 조회합니다.
+	 * </p>
+	 */
 	@PostMapping
-	public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody OrderRequest request) {
+	public ResponseEntity<?> createOrder(
+		@Valid @RequestBody OrderRequest request,
+		@RequestHeader(value = PREFER, required = false) String prefer
+	) {
 
 		Long userId = request.getUserId();
 
-		List<CreateOrderItemCommand> commands = request.getItems().stream()
-			.map(item -> new CreateOrderItemCommand(
-				item.getMenuId(),
-				item.getQuantity()
-			))
-			.collect(Collectors.toList());
+		List<CreateOrderItemCommand> commands = toItemCommands(request);
+
+		if (prefersAsync(prefer)) {
+			OrderAcceptResult accepted = orderService.acceptOrder(userId, request.getIdempotencyKey(), commands);
+			String statusUrl = "/api/orders/" + accepted.orderId() + "/status";
+
+			return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.header(HttpHeaders.LOCATION, statusUrl)
+				.header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+				.body(OrderAcceptedResponse.from(accepted, statusUrl));
+		}
 
 		CreateOrderResult result = orderService.createOrder(
 			userId,
@@ -57,4 +99,88 @@ public class OrderController {
 
 		return ResponseEntity.status(HttpStatus.CREATED).body(OrderResponse.from(result));
 	}
+
+	/**
+	 * 장바구니 견적을 계산합니다.
+	 * <p>
+	 * 주문을 만들지 않고 라인 금액/총액과 현재 잔액으로 결제 가능한지를 반환합니다.
+	 * </p>
+	 *
+	 * @param request 장바구니 견적 요청 DTO
+	 * @return 견적 결과
+	 */
+	@PostMapping("/quote")
+	public ResponseEntity<OrderQuoteResponse> quote(@Valid @RequestBody OrderQuoteRequest request) {
+		QuoteResult result = orderQuoteService.quote(request.getUserId(), toItemCommands(request.getItems()));
+		return ResponseEntity.ok(OrderQuoteResponse.from(result));
+	}
+
+	/**
+	 * 주문 처리 상태를 조회합니다.
+	 *
+	 * @param orderId 주문 식별자
+	 * @return 주문 상태
+	 */
+	@GetMapping("/{orderId}/status")
+	public ResponseEntity<OrderStatusResponse> getOrderStatus(@PathVariable Long orderId) {
+		return ResponseEntity.ok(OrderStatusResponse.from(orderQueryService.getOrderStatus(orderId)));
+	}
+
+	/**
+	 * 여러 건의 주문을 한 번에 생성합니다.
+	 * <p>
+	 * 주문별 성공/실패는 응답 본문의 결과 목록으로 전달하며, 일부 주문이 실패해도 200 OK를 반환합니다.
+	 * 각 주문은 단건 주문과 같은 멱등성 규칙을 따르므로 동기화 요청을 그대로 재전송해도 안전합니다.
+	 * </p>
+	 *
+	 * @param request 일괄 주문 요청 DTO
+	 * @return 요청 순서와 같은 순서의 주문별 처리 결과
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<OrderBatchResponse> createOrders(@Valid @RequestBody OrderBatchRequest request) {
+		List<BatchOrderCommand> commands = request.getOrders().stream()
+			.map(order -> new BatchOrderCommand(order.getUserId(), order.getIdempotencyKey(), toItemCommands(order)))
+			.collect(Collectors.toList());
+
+		List<BatchOrderResult> results = orderBatchService.createOrders(commands);
+
+		return ResponseEntity.ok(OrderBatchResponse.from(results));
+	}
+
+	/**
+	 * 사용자의 주문 내역을 최신순으로 조회합니다.
+	 * <p>
+	 * 첫 페이지는 {@code cursor} 없이 요청하고, 이후에는 응답의 {@code nextCursor}를 그대로 전달합니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @param cursor 이전 페이지의 마지막 주문 식별자
+	 * @param size   페이지 크기
+	 * @return 주문 내역 페이지
+	 */
+	@GetMapping
+	public ResponseEntity<OrderHistoryResponse> getOrderHistory(
+		@RequestParam Long userId,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "" + OrderQueryService.DEFAULT_PAGE_SIZE) int size
+	) {
+		return ResponseEntity.ok(OrderHistoryResponse.from(orderQueryService.getOrderHistory(userId, cursor, size)));
+	}
+
+	private static boolean prefersAsync(String prefer) {
+		return prefer != null && prefer.toLowerCase().contains(RESPOND_ASYNC);
+	}
+
+	private List<CreateOrderItemCommand> toItemCommands(OrderRequest request) {
+		return toItemCommands(request.getItems());
+	}
+
+	private List<CreateOrderItemCommand> toItemCommands(List<OrderItemRequest> items) {
+		return items.stream()
+			.map(item -> new CreateOrderItemCommand(
+				item.getMenuId(),
+				item.getQuantity()
+			))
+			.collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,85 @@
+package org.example.develop_server_kcompany.payment.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(archive)된 주문 엔티티 클래스입니다.
+ * <p>
+ * 결제 완료 후 보관 기간이 지난 주문은 {@code OrderArchiveJob}이 {@code orders}에서 {@code orders_archive}로 옮깁니다.
+ * 운영 테이블({@link Order})의 인덱스 크기와 INSERT 비용이 누적 주문 수에 비례해 커지지 않도록 하기 위함입니다.
+ * </p>
+ * <p>
+ * 행은 원본 값을 그대로 복사하므로 식별자는 생성하지 않고, 생성/수정 시각도 원본 값을 유지합니다.
+ * 보관된 주문은 변경되지 않으므로 조회 전용으로만 사용합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(name = "orders_archive",
+	indexes = {
+		@Index(name = "idx_orders_archive_user", columnList = "user_id, id DESC")
+	}
+	, uniqueConstraints = {
+	@UniqueConstraint(name = "uk_orders_archive_user_idem", columnNames = {"user_id", "idempotency_key_hash"})
+}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+	@Id
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private OrderStatus status;
+
+	@Column(name = "total_amount", nullable = false)
+	private Long totalAmount;
+
+	@Column(name = "idempotency_key", nullable = false, length = 100)
+	private String idempotencyKey;
+
+	/** 유니크 인덱스와 중복 확인에 사용하는 멱등성 키의 16바이트 값({@link IdempotencyKeyHash}) */
+	@Column(name = "idempotency_key_hash", nullable = false, columnDefinition = "binary(16)")
+	private byte[] idempotencyKeyHash;
+
+	@Column(name = "failure_code", length = 50)
+	private String failureCode;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "last_modified_at")
+	private LocalDateTime lastModifiedAt;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+
+	@OneToMany(mappedBy = "order")
+	private List<ArchivedOrderItem> items = new ArrayList<>();
+}
@@ -0,0 +1,55 @@
+package org.example.develop_server_kcompany.payment.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관(archive)된 주문 항목 엔티티입니다.
+ * <p>
+ * {@link OrderItem}과 같은 컬럼을 가지며, 소속 주문과 함께 {@code order_items_archive}로 옮겨집니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(name = "order_items_archive",
+	indexes = {
+	@Index(name = "idx_order_items_archive_order", columnList = "order_id")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrderItem {
+
+	@Id
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "order_id", nullable = false)
+	private ArchivedOrder order;
+
+	@Column(name = "menu_id", nullable = false)
+	private Long menuId;
+
+	@Column(name = "menu_name_snapshot", nullable = false, length = 500)
+	private String menuNameSnapshot;
+
+	@Column(name = "unit_price_snapshot", nullable = false)
+	private Long unitPriceSnapshot;
+
+	@Column(nullable = false)
+	private int quantity;
+
+	@Column(name = "line_amount", nullable = false)
+	private Long lineAmount;
+}
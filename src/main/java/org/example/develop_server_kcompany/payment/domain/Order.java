@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.example.develop_server_kcompany.common.entity.BaseTimeEntity;
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.common.id.TsidId;
 import org.example.develop_server_kcompany.payment.enums.OrderStatus;
 
 import jakarta.persistence.CascadeType;
@@ -11,8 +13,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
@@ -36,6 +36,11 @@ import lombok.NoArgsConstructor;
  * <p>
  * 멱등성 키(idempotencyKey)는 동일 사용자의 중복 주문 생성을 방지하기 위해 사용되며,
  * {@code (userId + idempotencyKey)} 조합은 DB 레벨에서 유니크 제약조건으로 보호됩니다.
+ * 유니크 인덱스는 원본 문자열 대신 16바이트 값({@link IdempotencyKeyHash})으로 구성합니다.
+ * </p>
+ *
+ * <p>
+ * 식별자는 {@link TsidId}(시간 순 64비트)로 애플리케이션에서 생성하여, 주문/주문 항목 INSERT가 JDBC 배치로 전송되도록 합니다.
  * </p>
  *
  * @author 재원
@@ -45,10 +50,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "orders",
 	indexes = {
-		@Index(name = "idx_orders_user", columnList = "user_id")
+		@Index(name = "idx_orders_user", columnList = "user_id, id DESC"),
+		@Index(name = "idx_orders_status_created", columnList = "status, created_at")
 	}
 	, uniqueConstraints = {
-	@UniqueConstraint(name = "uk_orders_user_idem", columnNames = {"user_id", "idempotency_key"})
+	@UniqueConstraint(name = "uk_orders_user_idem", columnNames = {"user_id", "idempotency_key_hash"})
 }
 )
 @Getter
@@ -56,7 +62,7 @@ import lombok.NoArgsConstructor;
 public class Order extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TsidId
 	private Long id;
 
 	@Column(name = "user_id", nullable = false)
@@ -72,6 +78,14 @@ public class Order extends BaseTimeEntity {
 	@Column(name = "idempotency_key", nullable = false, length = 100)
 	private String idempotencyKey;
 
+	/** 유니크 인덱스와 중복 확인에 사용하는 멱등성 키의 16바이트 값({@link IdempotencyKeyHash}) */
+	@Column(name = "idempotency_key_hash", nullable = false, columnDefinition = "binary(16)")
+	private byte[] idempotencyKeyHash;
+
+	/** 결제 실패로 취소된 경우의 오류 코드(ErrorCode#code) */
+	@Column(name = "failure_code", length = 50)
+	private String failureCode;
+
 	@OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<OrderItem> items = new ArrayList<>();
 
@@ -101,6 +115,7 @@ public class Order extends BaseTimeEntity {
 	private Order(Long userId, String idempotencyKey) {
 		this.userId = userId;
 		this.idempotencyKey = idempotencyKey;
+		this.idempotencyKeyHash = IdempotencyKeyHash.of(idempotencyKey);
 		this.status = OrderStatus.CREATED;
 		this.totalAmount = 0L;
 	}
@@ -138,4 +153,22 @@ public class Order extends BaseTimeEntity {
 		}
 		this.status = OrderStatus.PAID;
 	}
+
+	/**
+	 * 결제에 실패한 주문을 취소(CANCELED) 상태로 변경합니다.
+	 *
+	 * <p>
+	 * 비동기 접수 주문에서 포인트 차감이 확정적으로 실패한 경우(잔액 부족 등) 호출되며,
+	 * 상태 조회 API에서 실패 사유를 알 수 있도록 오류 코드를 함께 기록합니다.
+	 * </p>
+	 *
+	 * @param failureCode 실패 사유 오류 코드
+	 */
+	public void cancel(String failureCode) {
+		if (this.status != OrderStatus.CREATED) {
+			throw new IllegalStateException("주문 취소는 CREATED 상태에서만 가능합니다.");
+		}
+		this.status = OrderStatus.CANCELED;
+		this.failureCode = failureCode;
+	}
 }
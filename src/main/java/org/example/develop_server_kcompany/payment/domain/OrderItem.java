@@ -1,10 +1,10 @@
 package org.example.develop_server_kcompany.payment.domain;
 
+import org.example.develop_server_kcompany.common.id.TsidId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -35,7 +35,7 @@ import lombok.NoArgsConstructor;
 public class OrderItem {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TsidId
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,42 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.service.OrderService.OrderAcceptResult;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 주문 접수 응답 DTO입니다.
+ * <p>
+ * 주문이 접수(CREATED)된 시점에 반환되며, 결제 완료 여부는 {@code statusUrl}로 조회합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderAcceptedResponse {
+
+	private Long orderId;
+	private Long userId;
+	private OrderStatus status;
+	private long totalAmount;
+	private String idempotencyKey;
+	private boolean duplicate;
+	private String statusUrl;
+
+	public static OrderAcceptedResponse from(OrderAcceptResult result, String statusUrl) {
+		OrderAcceptedResponse response = new OrderAcceptedResponse();
+		response.orderId = result.orderId();
+		response.userId = result.userId();
+		response.status = result.status();
+		response.totalAmount = result.totalAmount();
+		response.idempotencyKey = result.idempotencyKey();
+		response.duplicate = result.duplicate();
+		response.statusUrl = statusUrl;
+		return response;
+	}
+}
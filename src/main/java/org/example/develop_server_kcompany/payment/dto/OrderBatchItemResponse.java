@@ -0,0 +1,41 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderResult;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 응답에 포함되는 주문 1건의 처리 결과 DTO입니다.
+ * <p>
+ * 성공 시 단건 주문 API와 같은 형식의 주문 정보({@link OrderResponse})를,
+ * 실패 시 오류 코드와 메시지를 반환합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderBatchItemResponse {
+
+	private int index;
+	private boolean success;
+	private OrderResponse order;
+	private String errorCode;
+	private String errorMessage;
+
+	public static OrderBatchItemResponse from(BatchOrderResult result) {
+		OrderBatchItemResponse response = new OrderBatchItemResponse();
+		response.index = result.index();
+		response.success = result.success();
+		if (result.success()) {
+			response.order = OrderResponse.from(result.order());
+		} else {
+			response.errorCode = result.errorCode().getCode();
+			response.errorMessage = result.errorCode().getMessage();
+		}
+		return response;
+	}
+}
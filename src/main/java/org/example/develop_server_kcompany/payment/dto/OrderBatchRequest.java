@@ -0,0 +1,31 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 생성 요청 DTO입니다.
+ * <p>
+ * 기업 주문, 키오스크 오프라인 주문 동기화 등 여러 건의 주문({@link OrderRequest})을 한 번에 전달합니다.
+ * 각 주문은 단건 주문 API와 같은 형식과 멱등성 규칙을 따릅니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderBatchRequest {
+
+	@NotEmpty
+	@Size(max = 500)
+	@Valid
+	private List<OrderRequest> orders;
+
+}
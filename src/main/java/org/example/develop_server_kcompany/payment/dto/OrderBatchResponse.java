@@ -0,0 +1,39 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import java.util.List;
+
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderResult;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 생성 응답 DTO입니다.
+ * <p>
+ * 요청 순서와 같은 순서로 주문별 처리 결과를 반환하며, 성공/실패 건수를 함께 제공합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderBatchResponse {
+
+	private int totalCount;
+	private int successCount;
+	private int failureCount;
+	private List<OrderBatchItemResponse> results;
+
+	public static OrderBatchResponse from(List<BatchOrderResult> results) {
+		OrderBatchResponse response = new OrderBatchResponse();
+		response.results = results.stream()
+			.map(OrderBatchItemResponse::from)
+			.toList();
+		response.totalCount = results.size();
+		response.successCount = (int) results.stream().filter(BatchOrderResult::success).count();
+		response.failureCount = response.totalCount - response.successCount;
+		return response;
+	}
+}
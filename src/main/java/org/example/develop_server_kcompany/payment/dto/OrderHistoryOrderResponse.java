@@ -0,0 +1,42 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryEntry;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 내역 응답에 포함되는 주문 1건의 DTO입니다.
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderHistoryOrderResponse {
+
+	private Long orderId;
+	private OrderStatus status;
+	private long totalAmount;
+	private String idempotencyKey;
+	private List<OrderItemResponse> items;
+	private LocalDateTime createdAt;
+
+	public static OrderHistoryOrderResponse from(OrderHistoryEntry entry) {
+		OrderHistoryOrderResponse response = new OrderHistoryOrderResponse();
+		response.orderId = entry.orderId();
+		response.status = entry.status();
+		response.totalAmount = entry.totalAmount();
+		response.idempotencyKey = entry.idempotencyKey();
+		response.items = entry.items().stream()
+			.map(OrderItemResponse::from)
+			.toList();
+		response.createdAt = entry.createdAt();
+		return response;
+	}
+}
@@ -1,5 +1,6 @@
 package org.example.develop_server_kcompany.payment.dto;
 
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryItem;
 import org.example.develop_server_kcompany.payment.service.OrderService.CreateOrderItemResult;
 
 import lombok.Getter;
@@ -8,7 +9,7 @@ import lombok.NoArgsConstructor;
 /**
  * OrderItemResponse 클래스입니다.
  * <p>
- * 주문 생성 응답에 포함되는 주문 항목 DTO입니다.
+ * 주문 생성/주문 내역 응답에 포함되는 주문 항목 DTO입니다.
  * 메뉴 스냅샷(이름/단가)과 수량, 라인 금액을 반환합니다.
  * </p>
  *
@@ -34,4 +35,14 @@ public class OrderItemResponse {
 		response.lineAmount = item.lineAmount();
 		return response;
 	}
+
+	public static OrderItemResponse from(OrderHistoryItem item) {
+		OrderItemResponse response = new OrderItemResponse();
+		response.menuId = item.menuId();
+		response.menuName = item.menuName();
+		response.unitPrice = item.unitPrice();
+		response.quantity = item.quantity();
+		response.lineAmount = item.lineAmount();
+		return response;
+	}
 }
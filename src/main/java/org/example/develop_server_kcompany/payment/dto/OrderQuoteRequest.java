@@ -0,0 +1,32 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 견적 요청 DTO입니다.
+ * <p>
+ * 주문 생성 요청과 같은 장바구니 형식이지만, 주문을 만들지 않으므로 멱등성 키는 받지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderQuoteRequest {
+
+	@NotNull
+	private Long userId;
+
+	@NotEmpty
+	@Valid
+	private List<OrderItemRequest> items;
+
+}
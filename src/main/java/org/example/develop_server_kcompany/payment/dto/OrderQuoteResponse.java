@@ -0,0 +1,46 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import java.util.List;
+
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService.QuoteResult;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장바구니 견적 응답 DTO입니다.
+ * <p>
+ * 라인 금액과 총액, 현재 잔액으로 결제 가능한지 여부를 반환합니다.
+ * 잔액은 짧게 캐시된 값이므로 실제 결제 결과는 주문 생성 시점에 확정됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderQuoteResponse {
+
+	private Long userId;
+	private List<OrderItemResponse> items;
+	private long totalAmount;
+	private long balance;
+	private boolean sufficient;
+	private long shortfall;
+	private long catalogVersion;
+
+	public static OrderQuoteResponse from(QuoteResult result) {
+		OrderQuoteResponse response = new OrderQuoteResponse();
+		response.userId = result.userId();
+		response.items = result.items().stream()
+			.map(OrderItemResponse::from)
+			.toList();
+		response.totalAmount = result.totalAmount();
+		response.balance = result.balance();
+		response.sufficient = result.sufficient();
+		response.shortfall = result.shortfall();
+		response.catalogVersion = result.catalogVersion();
+		return response;
+	}
+}
@@ -0,0 +1,43 @@
+package org.example.develop_server_kcompany.payment.dto;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderStatusView;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 상태 조회 응답 DTO입니다.
+ * <p>
+ * {@code CREATED}는 결제 처리 중, {@code PAID}는 결제 완료, {@code CANCELED}는 결제 실패를 의미하며
+ * 실패 시 {@code failureCode}에 사유(ErrorCode)를 담습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class OrderStatusResponse {
+
+	private Long orderId;
+	private Long userId;
+	private OrderStatus status;
+	private long totalAmount;
+	private String failureCode;
+	private LocalDateTime lastModifiedAt;
+
+	public static OrderStatusResponse from(OrderStatusView view) {
+		OrderStatusResponse response = new OrderStatusResponse();
+		response.orderId = view.orderId();
+		response.userId = view.userId();
+		response.status = view.status();
+		response.totalAmount = view.totalAmount();
+		response.failureCode = view.failureCode();
+		response.lastModifiedAt = view.lastModifiedAt();
+		return response;
+	}
+}
@@ -0,0 +1,35 @@
+package org.example.develop_server_kcompany.payment.event;
+
+/**
+ * OrderAcceptedEvent 클래스입니다.
+ * <p>
+ * 비동기 모드로 주문이 접수(CREATED 저장)되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 {@code OrderPaymentWorker}가 받아 포인트 차감과 결제 완료 처리를 이어서 수행합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public class OrderAcceptedEvent {
+
+	private final Long orderId;
+	private final Long userId;
+
+	/**
+	 * @param orderId 접수된 주문 식별자
+	 * @param userId  주문 사용자 식별자(사용자 단위 직렬 처리 기준)
+	 */
+	public OrderAcceptedEvent(Long orderId, Long userId) {
+		this.orderId = orderId;
+		this.userId = userId;
+	}
+
+	public Long getOrderId() {
+		return orderId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+}
@@ -1,10 +1,21 @@
 package org.example.develop_server_kcompany.payment.event;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.domain.OrderItem;
+
 /**
  * OrderCompletedDomainEvent 클래스입니다.
  * <p>
  * 주문이 결제 완료(결제 처리 성공) 상태로 확정되었음을 알리는 도메인 이벤트입니다.
  * </p>
+ * <p>
+ * 이벤트는 발행 시점의 주문 내용을 불변 스냅샷으로 담습니다.
+ * 커밋 이후 실행되는 리스너가 주문/주문 항목을 다시 조회하지 않고도 전송 메시지를 만들 수 있도록 하여,
+ * 결제 완료 주문마다 추가 쿼리와 커넥션 획득이 발생하지 않게 합니다.
+ * </p>
  *
  * @author 재원
  * @version 1.0
@@ -14,6 +25,10 @@ package org.example.develop_server_kcompany.payment.event;
 public class OrderCompletedDomainEvent {
 
 	private final Long orderId;
+	private final Long userId;
+	private final Long totalAmount;
+	private final LocalDateTime paidAt;
+	private final List<Item> items;
 
 	/**
 	 * 결제 완료가 확정되었음을 나타내는 도메인 이벤트를 생성합니다.
@@ -21,13 +36,65 @@ public class OrderCompletedDomainEvent {
 	 * 본 이벤트는 결제 트랜잭션 내부에서 발행되며, 실제 Kafka 전송은 AFTER_COMMIT 단계의 이벤트 리스너에서 처리됩니다.
 	 * </p>
 	 *
-	 * @param orderId 주문 식별자
+	 * @param orderId     주문 식별자
+	 * @param userId      주문 사용자 식별자
+	 * @param totalAmount 주문 총액
+	 * @param paidAt      결제 완료 시각
+	 * @param items       주문 항목 스냅샷
 	 */
-	public OrderCompletedDomainEvent(Long orderId) {
+	public OrderCompletedDomainEvent(Long orderId, Long userId, Long totalAmount, LocalDateTime paidAt, List<Item> items) {
 		this.orderId = orderId;
+		this.userId = userId;
+		this.totalAmount = totalAmount;
+		this.paidAt = paidAt;
+		this.items = List.copyOf(items);
+	}
+
+	/**
+	 * 결제 완료 처리({@link Order#markPaid()})된 주문으로 이벤트를 생성합니다.
+	 * <p>
+	 * 주문 항목은 이미 영속성 컨텍스트에 적재된 컬렉션에서 복사하므로 추가 조회가 발생하지 않습니다.
+	 * 결제 완료 시각은 호출자가 주입받은 Clock 기준으로 넘겨, 테스트에서 고정할 수 있게 합니다.
+	 * </p>
+	 *
+	 * @param order  결제 완료된 주문
+	 * @param paidAt 결제 완료 시각
+	 * @return 주문 스냅샷을 담은 이벤트
+	 */
+	public static OrderCompletedDomainEvent from(Order order, LocalDateTime paidAt) {
+		List<Item> items = order.getItems().stream()
+			.map(Item::from)
+			.toList();
+		return new OrderCompletedDomainEvent(
+			order.getId(), order.getUserId(), order.getTotalAmount(), paidAt, items);
 	}
 
 	public Long getOrderId() {
 		return orderId;
 	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public Long getTotalAmount() {
+		return totalAmount;
+	}
+
+	public LocalDateTime getPaidAt() {
+		return paidAt;
+	}
+
+	public List<Item> getItems() {
+		return items;
+	}
+
+	/**
+	 * 주문 항목 스냅샷입니다.
+	 */
+	public record Item(Long menuId, int quantity, Long unitPriceSnapshot, Long lineAmount) {
+		static Item from(OrderItem item) {
+			return new Item(item.getMenuId(), item.getQuantity(), item.getUnitPriceSnapshot(), item.getLineAmount());
+		}
+	}
 }
@@ -2,12 +2,9 @@ package org.example.develop_server_kcompany.payment.event;
 
 import java.util.List;
 
-import org.example.develop_server_kcompany.payment.domain.Order;
-import org.example.develop_server_kcompany.payment.domain.OrderItem;
 import org.example.develop_server_kcompany.payment.messaging.OrderEventProducer;
 import org.example.develop_server_kcompany.payment.messaging.dto.OrderPaidEventItemPayload;
 import org.example.develop_server_kcompany.payment.messaging.dto.OrderPaidEventPayload;
-import org.example.develop_server_kcompany.payment.repository.OrderRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -31,43 +28,38 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderCompletedEventListener {
 
-	private final OrderRepository orderRepository;
 	private final OrderEventProducer orderEventProducer;
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handle(OrderCompletedDomainEvent event) {
-		Long orderId = event.getOrderId();
-
-		Order order = orderRepository.findById(orderId)
-			.orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다. orderId=" + orderId));
-
-		OrderPaidEventPayload payload = toPayload(order);
+		// 이벤트에 담긴 주문 스냅샷만으로 메시지를 구성하므로 DB를 다시 조회하지 않습니다.
+		OrderPaidEventPayload payload = toPayload(event);
 		orderEventProducer.sendOrderCompletedEvent(payload);
 
 		log.info("[KAFKA] 주문 내역 전송 완료. orderId={}, userId={}, totalAmount={}",
 			payload.getOrderId(), payload.getUserId(), payload.getTotalAmount());
 	}
 
-	private OrderPaidEventPayload toPayload(Order order) {
-		List<OrderPaidEventItemPayload> items = order.getItems().stream()
+	private OrderPaidEventPayload toPayload(OrderCompletedDomainEvent event) {
+		List<OrderPaidEventItemPayload> items = event.getItems().stream()
 			.map(this::toItem)
 			.toList();
 
 		return OrderPaidEventPayload.builder()
-			.orderId(order.getId())
-			.userId(order.getUserId())
-			.totalAmount(order.getTotalAmount())
-			.paidAt(order.getLastModifiedAt() != null ? order.getLastModifiedAt().toString() : null)
+			.orderId(event.getOrderId())
+			.userId(event.getUserId())
+			.totalAmount(event.getTotalAmount())
+			.paidAt(event.getPaidAt() != null ? event.getPaidAt().toString() : null)
 			.items(items)
 			.build();
 	}
 
-	private OrderPaidEventItemPayload toItem(OrderItem item) {
+	private OrderPaidEventItemPayload toItem(OrderCompletedDomainEvent.Item item) {
 		return OrderPaidEventItemPayload.builder()
-			.menuId(item.getMenuId())
-			.quantity(item.getQuantity())
-			.unitPriceSnapshot(item.getUnitPriceSnapshot())
-			.lineAmount(item.getLineAmount())
+			.menuId(item.menuId())
+			.quantity(item.quantity())
+			.unitPriceSnapshot(item.unitPriceSnapshot())
+			.lineAmount(item.lineAmount())
 			.build();
 	}
 }
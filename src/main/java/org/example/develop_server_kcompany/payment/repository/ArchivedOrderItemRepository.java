@@ -0,0 +1,32 @@
+package org.example.develop_server_kcompany.payment.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.example.develop_server_kcompany.payment.domain.ArchivedOrderItem;
+import org.example.develop_server_kcompany.payment.repository.projection.OrderItemHistoryRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 보관된 주문 항목(ArchivedOrderItem)에 대한 조회를 담당하는 Repository 인터페이스입니다.
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface ArchivedOrderItemRepository extends JpaRepository<ArchivedOrderItem, Long> {
+
+	/**
+	 * 여러 보관 주문의 항목을 한 번에 프로젝션으로 조회합니다.
+	 */
+	@Query("""
+		select new org.example.develop_server_kcompany.payment.repository.projection.OrderItemHistoryRow(
+			i.order.id, i.menuId, i.menuNameSnapshot, i.unitPriceSnapshot, i.quantity, i.lineAmount)
+		from ArchivedOrderItem i
+		where i.order.id in :orderIds
+		order by i.id
+		""")
+	List<OrderItemHistoryRow> findHistoryRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,70 @@
+package org.example.develop_server_kcompany.payment.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.payment.domain.ArchivedOrder;
+import org.example.develop_server_kcompany.payment.repository.projection.OrderHistoryRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 보관된 주문(ArchivedOrder)에 대한 조회를 담당하는 Repository 인터페이스입니다.
+ * <p>
+ * 운영 테이블에서 찾지 못한 주문을 보관 테이블에서 이어서 찾을 때 사용합니다(멱등성 확인, 주문 내역, 주문 상태).
+ * 보관 테이블로의 이동은 {@code OrderArchiveJob}이 SQL로 직접 수행합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+	Optional<ArchivedOrder> findByUserIdAndIdempotencyKeyHash(Long userId, byte[] idempotencyKeyHash);
+
+	List<ArchivedOrder> findAllByUserIdInAndIdempotencyKeyHashIn(
+		Collection<Long> userIds, Collection<byte[]> idempotencyKeyHashes);
+
+	/**
+	 * 멱등성 키로 보관된 주문을 조회합니다. 조회는 {@code (user_id, idempotency_key_hash)} 유니크 인덱스로 처리됩니다.
+	 */
+	default Optional<ArchivedOrder> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey) {
+		return findByUserIdAndIdempotencyKeyHash(userId, IdempotencyKeyHash.of(idempotencyKey));
+	}
+
+	/**
+	 * 일괄 주문 처리 시 보관된 주문과 멱등성 키가 겹치는지 한 번에 확인합니다.
+	 * <p>
+	 * IN 조건의 조합이므로 호출자가 (userId, idempotencyKey) 쌍으로 다시 걸러야 합니다.
+	 * </p>
+	 */
+	default List<ArchivedOrder> findAllByUserIdInAndIdempotencyKeyIn(
+		Collection<Long> userIds, Collection<String> idempotencyKeys) {
+		return findAllByUserIdInAndIdempotencyKeyHashIn(userIds, IdempotencyKeyHash.ofAll(idempotencyKeys));
+	}
+
+	/**
+	 * 사용자의 보관된 주문을 식별자 범위 {@code (lowerBound, cursor)} 안에서 최신순으로 조회합니다.
+	 * <p>
+	 * 운영 테이블 페이지와 식별자 순서가 겹치는 보관 주문만 찾기 위해 하한을 함께 받습니다.
+	 * </p>
+	 */
+	@Query("""
+		select new org.example.develop_server_kcompany.payment.repository.projection.OrderHistoryRow(
+			o.id, o.status, o.totalAmount, o.idempotencyKey, o.createdAt)
+		from ArchivedOrder o
+		where o.userId = :userId and o.id < :cursor and o.id > :lowerBound
+		order by o.id desc
+		""")
+	List<OrderHistoryRow> findHistoryRows(
+		@Param("userId") Long userId,
+		@Param("cursor") Long cursor,
+		@Param("lowerBound") Long lowerBound,
+		Limit limit
+	);
+}
@@ -0,0 +1,163 @@
+package org.example.develop_server_kcompany.payment.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 생성 멱등성 결과를 Redis에 캐시하는 Repository 입니다.
+ * <p>
+ * (userId, idempotencyKey) 기준으로 완료된 주문 결과({@link CachedOrderResult})를 JSON으로 저장하여,
+ * 재시도 요청을 DB 조회/포인트 차감 경로를 거치지 않고 바로 응답할 수 있게 합니다.
+ * 처리 중인 요청에는 짧은 TTL의 in-flight 마커를 두어, 동시에 들어온 중복 요청이 DB 유니크 제약 충돌로 경쟁하지 않고
+ * 먼저 들어온 요청의 결과를 기다리도록 합니다.
+ * </p>
+ * <p>
+ * Redis는 캐시일 뿐이며 원본은 MySQL입니다. Redis 장애 시 모든 메서드는 "캐시 없음"으로 동작하고
+ * 기존 DB 기반 멱등성 처리로 넘어갑니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderIdempotencyRedisRepository {
+
+	private static final String RESULT_PREFIX = "order:idem:result:";
+	private static final String IN_FLIGHT_PREFIX = "order:idem:inflight:";
+	private static final Duration RESULT_TTL = Duration.ofHours(24);
+	private static final Duration IN_FLIGHT_TTL = Duration.ofSeconds(10);
+
+	/** 마커를 만든 요청만 삭제할 수 있도록 토큰이 일치할 때만 삭제합니다. */
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class
+	);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 캐시된 주문 결과를 조회합니다.
+	 *
+	 * @return 캐시된 결과(없거나 Redis 장애 시 empty)
+	 */
+	public Optional<CachedOrderResult> findResult(Long userId, String idempotencyKey) {
+		try {
+			String json = stringRedisTemplate.opsForValue().get(resultKey(userId, idempotencyKey));
+			if (json == null) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(json, CachedOrderResult.class));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[REDIS] 주문 멱등성 결과 조회 실패. userId={}, key={}", userId, idempotencyKey, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 완료된 주문 결과를 TTL과 함께 저장합니다.
+	 */
+	public void saveResult(Long userId, String idempotencyKey, CachedOrderResult result) {
+		try {
+			stringRedisTemplate.opsForValue()
+				.set(resultKey(userId, idempotencyKey), objectMapper.writeValueAsString(result), RESULT_TTL);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[REDIS] 주문 멱등성 결과 저장 실패. userId={}, key={}", userId, idempotencyKey, e);
+		}
+	}
+
+	/**
+	 * 처리 중(in-flight) 마커를 선점합니다.
+	 *
+	 * @return 선점에 성공한 경우 마커 토큰, 이미 다른 요청이 처리 중이면 empty
+	 */
+	public Optional<String> tryAcquireInFlight(Long userId, String idempotencyKey) {
+		String token = UUID.randomUUID().toString();
+		try {
+			Boolean acquired = stringRedisTemplate.opsForValue()
+				.setIfAbsent(inFlightKey(userId, idempotencyKey), token, IN_FLIGHT_TTL);
+			return Boolean.FALSE.equals(acquired) ? Optional.empty() : Optional.of(token);
+		} catch (RuntimeException e) {
+			// Redis 장애 시에는 선점한 것으로 보고 DB 유니크 제약에 맡깁니다.
+			log.warn("[REDIS] 주문 in-flight 마커 선점 실패. userId={}, key={}", userId, idempotencyKey, e);
+			return Optional.of(token);
+		}
+	}
+
+	/**
+	 * 선점한 처리 중 마커를 해제합니다.
+	 */
+	public void releaseInFlight(Long userId, String idempotencyKey, String token) {
+		try {
+			stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(inFlightKey(userId, idempotencyKey)), token);
+		} catch (RuntimeException e) {
+			log.warn("[REDIS] 주문 in-flight 마커 해제 실패. userId={}, key={}", userId, idempotencyKey, e);
+		}
+	}
+
+	/**
+	 * 다른 요청이 처리 중 마커를 들고 있는지 확인합니다.
+	 */
+	public boolean isInFlight(Long userId, String idempotencyKey) {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.hasKey(inFlightKey(userId, idempotencyKey)));
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private String resultKey(Long userId, String idempotencyKey) {
+		return RESULT_PREFIX + userId + ":" + idempotencyKey;
+	}
+
+	private String inFlightKey(Long userId, String idempotencyKey) {
+		return IN_FLIGHT_PREFIX + userId + ":" + idempotencyKey;
+	}
+
+	/**
+	 * 캐시에 저장하는 주문 결과입니다.
+	 * <p>
+	 * 서비스 반환 타입과 분리하여, 서비스 응답 구조가 바뀌어도 캐시 형식은 이 레코드로만 결정되게 합니다.
+	 * 캐시에서 읽은 결과는 항상 중복 요청에 대한 응답이므로 중복 여부는 저장하지 않습니다.
+	 * </p>
+	 */
+	public record CachedOrderResult(
+		Long orderId,
+		Long userId,
+		long totalAmount,
+		long balanceAfter,
+		List<CachedOrderItem> items,
+		String idempotencyKey,
+		LocalDateTime createdAt
+	) {
+	}
+
+	/**
+	 * 캐시에 저장하는 주문 항목입니다.
+	 */
+	public record CachedOrderItem(
+		Long menuId,
+		String menuName,
+		Long unitPrice,
+		int quantity,
+		long lineAmount
+	) {
+	}
+}
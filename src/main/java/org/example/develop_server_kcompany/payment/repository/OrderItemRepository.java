@@ -0,0 +1,38 @@
+package org.example.develop_server_kcompany.payment.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.example.develop_server_kcompany.payment.domain.OrderItem;
+import org.example.develop_server_kcompany.payment.repository.projection.OrderItemHistoryRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 주문 항목(OrderItem) 엔티티에 대한 조회를 담당하는 Repository 인터페이스입니다.
+ * <p>
+ * 주문 항목은 주문({@code Order})의 cascade로 저장되므로, 이 Repository는 조회 전용으로 사용합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+	/**
+	 * 여러 주문의 항목을 한 번에 프로젝션으로 조회합니다.
+	 * <p>
+	 * {@code i.order.id}는 외래 키 컬럼을 그대로 사용하므로 orders 테이블과 조인하지 않습니다.
+	 * </p>
+	 */
+	@Query("""
+		select new org.example.develop_server_kcompany.payment.repository.projection.OrderItemHistoryRow(
+			i.order.id, i.menuId, i.menuNameSnapshot, i.unitPriceSnapshot, i.quantity, i.lineAmount)
+		from OrderItem i
+		where i.order.id in :orderIds
+		order by i.id
+		""")
+	List<OrderItemHistoryRow> findHistoryRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+}
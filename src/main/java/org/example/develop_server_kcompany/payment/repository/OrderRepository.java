@@ -1,9 +1,18 @@
 package org.example.develop_server_kcompany.payment.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
 import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.repository.projection.OrderHistoryRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 주문(Order) 엔티티에 대한 영속성 처리를 담당하는 Repository 인터페이스입니다.
@@ -19,5 +28,54 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-	Optional<Order> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
-}
\ No newline at end of file
+	Optional<Order> findByUserIdAndIdempotencyKeyHash(Long userId, byte[] idempotencyKeyHash);
+
+	List<Order> findAllByUserIdInAndIdempotencyKeyHashIn(
+		Collection<Long> userIds, Collection<byte[]> idempotencyKeyHashes);
+
+	/**
+	 * 멱등성 키로 주문을 조회합니다. 조회는 {@code (user_id, idempotency_key_hash)} 유니크 인덱스로 처리됩니다.
+	 */
+	default Optional<Order> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey) {
+		return findByUserIdAndIdempotencyKeyHash(userId, IdempotencyKeyHash.of(idempotencyKey));
+	}
+
+	/**
+	 * 일괄 주문 처리 시 여러 (userId, idempotencyKey) 조합의 기존 주문을 한 번에 조회합니다.
+	 * <p>
+	 * IN 조건의 조합이므로 요청하지 않은 조합이 섞일 수 있어, 호출자가 (userId, idempotencyKey) 쌍으로 다시 걸러야 합니다.
+	 * </p>
+	 */
+	default List<Order> findAllByUserIdInAndIdempotencyKeyIn(
+		Collection<Long> userIds, Collection<String> idempotencyKeys) {
+		return findAllByUserIdInAndIdempotencyKeyHashIn(userIds, IdempotencyKeyHash.ofAll(idempotencyKeys));
+	}
+
+	/**
+	 * 사용자의 주문 내역을 식별자 역순(최신순)으로 커서 이후부터 조회합니다.
+	 * <p>
+	 * OFFSET 없이 {@code id < cursor} 조건으로 다음 페이지를 찾으므로,
+	 * {@code (user_id, id desc)} 인덱스 범위 스캔만으로 페이지 깊이와 무관하게 일정한 비용이 듭니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @param cursor 이전 페이지의 마지막 주문 식별자(첫 페이지는 {@link Long#MAX_VALUE})
+	 * @param limit  조회 건수
+	 */
+	@Query("""
+		select new org.example.develop_server_kcompany.payment.repository.projection.OrderHistoryRow(
+			o.id, o.status, o.totalAmount, o.idempotencyKey, o.createdAt)
+		from Order o
+		where o.userId = :userId and o.id < :cursor
+		order by o.id desc
+		""")
+	List<OrderHistoryRow> findHistoryRows(@Param("userId") Long userId, @Param("cursor") Long cursor, Limit limit);
+
+	/**
+	 * 일정 시간 이상 결제 처리되지 않은(CREATED) 주문을 오래된 순으로 조회합니다.
+	 * <p>
+	 * 비동기 결제 워커가 처리하지 못한 주문(서버 재시작, 일시 장애 등)을 복구할 때 사용합니다.
+	 * </p>
+	 */
+	List<Order> findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(OrderStatus status, LocalDateTime createdBefore);
+}
@@ -0,0 +1,24 @@
+package org.example.develop_server_kcompany.payment.repository.projection;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+
+/**
+ * 주문 내역 조회용 주문 프로젝션입니다.
+ * <p>
+ * 엔티티를 영속성 컨텍스트에 올리지 않고, 목록 응답에 필요한 컬럼만 조회합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public record OrderHistoryRow(
+	Long orderId,
+	OrderStatus status,
+	Long totalAmount,
+	String idempotencyKey,
+	LocalDateTime createdAt
+) {
+}
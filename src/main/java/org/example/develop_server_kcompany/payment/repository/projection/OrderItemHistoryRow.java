@@ -0,0 +1,22 @@
+package org.example.develop_server_kcompany.payment.repository.projection;
+
+/**
+ * 주문 내역 조회용 주문 항목 프로젝션입니다.
+ * <p>
+ * 한 페이지에 포함된 주문들의 항목을 IN 조건 한 번으로 조회할 때 사용하며,
+ * 소속 주문 식별자({@code orderId})로 다시 묶습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public record OrderItemHistoryRow(
+	Long orderId,
+	Long menuId,
+	String menuName,
+	Long unitPrice,
+	int quantity,
+	Long lineAmount
+) {
+}
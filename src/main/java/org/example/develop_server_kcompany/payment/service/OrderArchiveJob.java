@@ -0,0 +1,125 @@
+package org.example.develop_server_kcompany.payment.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 결제 완료 주문을 보관 테이블로 옮기는 배치 작업입니다.
+ * <p>
+ * {@code orders}/{@code order_items}는 주문이 쌓일수록 인덱스(특히 (user_id, idempotency_key_hash) 유니크 키)가 계속 커지고,
+ * 그만큼 신규 주문 INSERT 비용도 늘어납니다.
+ * 결제 완료(PAID) 후 보관 기간이 지난 주문은 더 이상 변경되지 않으므로,
+ * 주기적으로 {@code orders_archive}/{@code order_items_archive}로 옮겨 운영 테이블 크기를 일정하게 유지합니다.
+ * </p>
+ *
+ * <h3>처리 방식</h3>
+ * <ul>
+ *  <li>식별자 순으로 {@code chunk-size}건씩 나누어, 청크마다 하나의 트랜잭션에서 복사 후 삭제합니다.</li>
+ *  <li>엔티티를 로딩하지 않고 {@code INSERT ... SELECT} / {@code DELETE ... IN}으로 처리합니다.</li>
+ *  <li>청크 단위로 커밋하므로 락 유지 시간이 짧고, 중간에 중단되어도 다음 실행에서 이어서 처리합니다.</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveJob {
+
+	private static final String SELECT_ARCHIVABLE_IDS = """
+		SELECT id FROM orders
+		WHERE status = :status AND created_at < :createdBefore
+		ORDER BY id
+		LIMIT :limit
+		""";
+
+	private static final String COPY_ORDERS = """
+		INSERT INTO orders_archive
+			(id, user_id, status, total_amount, idempotency_key, idempotency_key_hash, failure_code,
+			created_at, last_modified_at, archived_at)
+		SELECT id, user_id, status, total_amount, idempotency_key, idempotency_key_hash, failure_code,
+			created_at, last_modified_at, :archivedAt
+		FROM orders
+		WHERE id IN (:ids)
+		""";
+
+	private static final String COPY_ORDER_ITEMS = """
+		INSERT INTO order_items_archive
+			(id, order_id, menu_id, menu_name_snapshot, unit_price_snapshot, quantity, line_amount)
+		SELECT id, order_id, menu_id, menu_name_snapshot, unit_price_snapshot, quantity, line_amount
+		FROM order_items
+		WHERE order_id IN (:ids)
+		""";
+
+	private static final String DELETE_ORDER_ITEMS = "DELETE FROM order_items WHERE order_id IN (:ids)";
+	private static final String DELETE_ORDERS = "DELETE FROM orders WHERE id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${app.order.archive.retention-days:90}")
+	private long retentionDays;
+
+	@Value("${app.order.archive.chunk-size:500}")
+	private int chunkSize;
+
+	@Scheduled(cron = "${app.order.archive.cron:0 30 3 * * *}")
+	public void run() {
+		archive(LocalDateTime.now(clock).minusDays(retentionDays));
+	}
+
+	/**
+	 * 기준 시각 이전에 생성된 결제 완료 주문을 모두 보관 테이블로 옮깁니다.
+	 *
+	 * @param createdBefore 이 시각 이전에 생성된 주문이 대상
+	 * @return 옮긴 주문 수
+	 */
+	public int archive(LocalDateTime createdBefore) {
+		int total = 0;
+		while (true) {
+			Integer moved = transactionTemplate.execute(status -> archiveChunk(createdBefore));
+			total += moved == null ? 0 : moved;
+			if (moved == null || moved < chunkSize) {
+				break;
+			}
+		}
+
+		if (total > 0) {
+			log.info("[ORDER] 주문 보관 완료. archived={}, createdBefore={}", total, createdBefore);
+		}
+		return total;
+	}
+
+	private int archiveChunk(LocalDateTime createdBefore) {
+		List<Long> ids = jdbcTemplate.queryForList(SELECT_ARCHIVABLE_IDS, Map.of(
+			"status", OrderStatus.PAID.name(),
+			"createdBefore", createdBefore,
+			"limit", chunkSize
+		), Long.class);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		Map<String, Object> params = Map.of("ids", ids, "archivedAt", LocalDateTime.now(clock));
+		jdbcTemplate.update(COPY_ORDERS, params);
+		jdbcTemplate.update(COPY_ORDER_ITEMS, params);
+		jdbcTemplate.update(DELETE_ORDER_ITEMS, params);
+		jdbcTemplate.update(DELETE_ORDERS, params);
+		return ids.size();
+	}
+}
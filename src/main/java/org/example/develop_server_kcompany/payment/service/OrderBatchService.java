@@ -0,0 +1,288 @@
+package org.example.develop_server_kcompany.payment.service;
+
+import static org.example.develop_server_kcompany.payment.service.OrderService.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.event.OrderCompletedDomainEvent;
+import org.example.develop_server_kcompany.payment.repository.ArchivedOrderRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.point.service.PointService;
+import org.example.develop_server_kcompany.point.service.PointService.SpendCommand;
+import org.example.develop_server_kcompany.point.service.PointService.SpendOutcome;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 건의 주문을 한 번에 처리하는 일괄 주문 서비스입니다.
+ * <p>
+ * 기업 주문이나 오프라인 키오스크 동기화처럼 주문이 대량으로 모여 들어오는 경우를 위해,
+ * 요청을 청크 단위로 나누어 청크마다 하나의 트랜잭션으로 처리합니다.
+ * </p>
+ *
+ * <h3>청크 처리 방식</h3>
+ * <ul>
+ *  <li>메뉴 정보는 {@link MenuCatalog} 스냅샷을 공유합니다.</li>
+ *  <li>기존 주문(멱등성) 조회는 IN 쿼리 1회로 처리합니다.</li>
+ *  <li>신규 주문/주문 항목은 한 번에 저장하여 JDBC 배치로 전송합니다.</li>
+ *  <li>포인트 차감은 사용자별로 묶어 {@link PointService#spendAll(Long, List)}로 처리합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 주문별 결과는 {@link OrderService#createOrder}와 같은 멱등성 규칙을 따릅니다.
+ * 청크 트랜잭션이 동시성 충돌 등으로 실패하면, 해당 청크는 주문 단위로 {@link OrderService#placeOrder}를 호출하여 다시 처리합니다(키는 이미 정규화되어 있으므로 다시 정규화하지 않습니다).
+ * 같은 키로 단건 주문이 포인트를 가점유한 채 진행 중이면 그 주문은 {@link ErrorCode#HOLD_IN_PROGRESS}로 실패하고
+ * 일괄 경로에서 만든 주문은 삭제되므로, 단건 주문이 가점유를 확정하고 주문을 저장합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBatchService {
+
+	private final OrderService orderService;
+	private final OrderRepository orderRepository;
+	private final ArchivedOrderRepository archivedOrderRepository;
+	private final PointService pointService;
+	private final MenuCatalog menuCatalog;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${app.order.batch.chunk-size:50}")
+	private int chunkSize;
+
+	/**
+	 * 주문 목록을 청크 단위로 처리합니다.
+	 *
+	 * @param commands 주문 요청 목록
+	 * @return 요청 순서와 같은 순서의 주문별 처리 결과
+	 */
+	public List<BatchOrderResult> createOrders(List<BatchOrderCommand> commands) {
+		BatchOrderResult[] results = new BatchOrderResult[commands.size()];
+
+		for (int from = 0; from < commands.size(); from += chunkSize) {
+			int to = Math.min(from + chunkSize, commands.size());
+			processChunk(commands, from, to, results);
+		}
+
+		long failed = Arrays.stream(results).filter(r -> !r.success()).count();
+		log.info("[ORDER] 일괄 주문 처리 완료. total={}, failed={}", results.length, failed);
+		return Arrays.asList(results);
+	}
+
+	private void processChunk(List<BatchOrderCommand> commands, int from, int to, BatchOrderResult[] results) {
+		List<PendingOrder> pendings = new ArrayList<>();
+		Map<OrderKey, PendingOrder> firstByKey = new HashMap<>();
+		Map<Integer, PendingOrder> sameAs = new HashMap<>();
+
+		for (int index = from; index < to; index++) {
+			BatchOrderCommand command = commands.get(index);
+			try {
+				PendingOrder pending = prepare(index, command);
+				PendingOrder first = firstByKey.putIfAbsent(pending.key(), pending);
+				if (first != null) {
+					// 같은 요청 안에서 멱등성 키가 겹치면 먼저 나온 주문의 중복 요청으로 취급합니다.
+					sameAs.put(index, first);
+					continue;
+				}
+				pendings.add(pending);
+			} catch (CustomException e) {
+				results[index] = BatchOrderResult.failure(index, e.getErrorCode());
+			} catch (IllegalArgumentException e) {
+				results[index] = BatchOrderResult.failure(index, ErrorCode.INVALID_REQUEST);
+			} catch (ArithmeticException e) {
+				// 항목 금액 또는 주문 총액이 long 범위를 넘으면 해당 주문만 실패로 처리합니다.
+				results[index] = BatchOrderResult.failure(index, ErrorCode.INVALID_AMOUNT);
+			}
+		}
+
+		// 보관 테이블로 옮겨진 주문과 키가 겹치는 건은 단건 경로(보관 주문 조회 포함)로 처리합니다.
+		List<PendingOrder> archived = findArchived(pendings);
+		if (!archived.isEmpty()) {
+			pendings.removeAll(archived);
+			archived.forEach(pending -> results[pending.index()] = createOne(pending));
+		}
+
+		if (!pendings.isEmpty()) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> applyChunk(pendings, results));
+			} catch (RuntimeException e) {
+				log.warn("[ORDER] 일괄 주문 청크 처리 실패, 주문 단위로 재처리합니다. from={}, to={}", from, to, e);
+				pendings.forEach(pending -> results[pending.index()] = createOne(pending));
+			}
+		}
+
+		sameAs.forEach((index, first) -> results[index] = results[first.index()].asDuplicateOf(index));
+	}
+
+	private List<PendingOrder> findArchived(List<PendingOrder> pendings) {
+		if (pendings.isEmpty()) {
+			return List.of();
+		}
+		Set<Long> userIds = pendings.stream().map(p -> p.key().userId()).collect(Collectors.toSet());
+		Set<String> keys = pendings.stream().map(p -> p.key().idempotencyKey()).collect(Collectors.toSet());
+
+		Set<OrderKey> archivedKeys = archivedOrderRepository.findAllByUserIdInAndIdempotencyKeyIn(userIds, keys).stream()
+			.map(order -> new OrderKey(order.getUserId(), order.getIdempotencyKey()))
+			.collect(Collectors.toSet());
+		if (archivedKeys.isEmpty()) {
+			return List.of();
+		}
+		return pendings.stream().filter(p -> archivedKeys.contains(p.key())).toList();
+	}
+
+	private PendingOrder prepare(int index, BatchOrderCommand command) {
+		if (command == null || command.userId() == null || command.userId() <= 0) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		validateCreateOrderRequest(command.items());
+		command.items().forEach(OrderService::validateCreateOrderItem);
+
+		String normalizedKey = normalizeIdempotencyKey(command.idempotencyKey());
+		Order draft = assembleOrder(
+			command.userId(), normalizedKey, command.items(), menuCatalog.resolveActive(collectMenuIds(command.items())));
+
+		return new PendingOrder(index, new OrderKey(command.userId(), normalizedKey), command, draft);
+	}
+
+	private void applyChunk(List<PendingOrder> pendings, BatchOrderResult[] results) {
+		Set<Long> userIds = pendings.stream().map(p -> p.key().userId()).collect(Collectors.toSet());
+		Set<String> keys = pendings.stream().map(p -> p.key().idempotencyKey()).collect(Collectors.toSet());
+
+		Map<OrderKey, Order> existing = new HashMap<>();
+		orderRepository.findAllByUserIdInAndIdempotencyKeyIn(userIds, keys)
+			.forEach(order -> existing.put(new OrderKey(order.getUserId(), order.getIdempotencyKey()), order));
+
+		List<Order> newOrders = new ArrayList<>();
+		Map<Integer, Order> targets = new HashMap<>();
+		for (PendingOrder pending : pendings) {
+			Order order = existing.get(pending.key());
+			if (order == null) {
+				order = pending.draft();
+				newOrders.add(order);
+			}
+			targets.put(pending.index(), order);
+		}
+		orderRepository.saveAll(newOrders);
+		orderRepository.flush();
+
+		Map<Long, List<PendingOrder>> byUser = pendings.stream()
+			.collect(Collectors.groupingBy(p -> p.key().userId(), LinkedHashMap::new, Collectors.toList()));
+
+		for (Map.Entry<Long, List<PendingOrder>> entry : byUser.entrySet()) {
+			List<PendingOrder> userOrders = entry.getValue();
+			List<SpendCommand> spendCommands = userOrders.stream()
+				.map(p -> {
+					Order order = targets.get(p.index());
+					return new SpendCommand(order.getTotalAmount(), p.key().idempotencyKey(), order.getId());
+				})
+				.toList();
+
+			List<SpendOutcome> outcomes = pointService.spendAll(entry.getKey(), spendCommands);
+
+			for (int i = 0; i < userOrders.size(); i++) {
+				PendingOrder pending = userOrders.get(i);
+				Order order = targets.get(pending.index());
+				SpendOutcome outcome = outcomes.get(i);
+				boolean requestDuplicate = existing.containsKey(pending.key());
+
+				if (!outcome.isSuccess()) {
+					if (!requestDuplicate) {
+						// 단건 주문과 마찬가지로 결제되지 않은 신규 주문은 남기지 않습니다.
+						orderRepository.delete(order);
+					}
+					results[pending.index()] = BatchOrderResult.failure(pending.index(), outcome.errorCode());
+					continue;
+				}
+
+				if (order.getStatus() == OrderStatus.CREATED) {
+					order.markPaid();
+					eventPublisher.publishEvent(OrderCompletedDomainEvent.from(order, LocalDateTime.now(clock)));
+				}
+				results[pending.index()] = BatchOrderResult.success(pending.index(),
+					CreateOrderResult.from(order, outcome.result(), requestDuplicate || outcome.result().duplicate()));
+			}
+		}
+	}
+
+	private BatchOrderResult createOne(PendingOrder pending) {
+		BatchOrderCommand command = pending.command();
+		try {
+			return BatchOrderResult.success(pending.index(),
+				orderService.placeOrder(command.userId(), pending.key().idempotencyKey(), command.items()));
+		} catch (CustomException e) {
+			return BatchOrderResult.failure(pending.index(), e.getErrorCode());
+		} catch (IllegalArgumentException e) {
+			return BatchOrderResult.failure(pending.index(), ErrorCode.INVALID_REQUEST);
+		} catch (RuntimeException e) {
+			log.error("[ORDER] 일괄 주문 단건 재처리 실패. userId={}, key={}",
+				command.userId(), pending.key().idempotencyKey(), e);
+			return BatchOrderResult.failure(pending.index(), ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private record OrderKey(Long userId, String idempotencyKey) {
+	}
+
+	private record PendingOrder(int index, OrderKey key, BatchOrderCommand command, Order draft) {
+	}
+
+	/**
+	 * 일괄 주문 요청 1건(서비스 내부 입력 커맨드)입니다.
+	 */
+	public record BatchOrderCommand(Long userId, String idempotencyKey, List<CreateOrderItemCommand> items) {
+	}
+
+	/**
+	 * 일괄 주문 요청 1건의 처리 결과입니다.
+	 *
+	 * @param index     요청 목록에서의 위치(0부터 시작)
+	 * @param order     성공 시 주문 생성 결과(실패 시 null)
+	 * @param errorCode 실패 시 오류 코드(성공 시 null)
+	 */
+	public record BatchOrderResult(int index, CreateOrderResult order, ErrorCode errorCode) {
+
+		public static BatchOrderResult success(int index, CreateOrderResult order) {
+			return new BatchOrderResult(index, order, null);
+		}
+
+		public static BatchOrderResult failure(int index, ErrorCode errorCode) {
+			return new BatchOrderResult(index, null, errorCode);
+		}
+
+		public boolean success() {
+			return errorCode == null;
+		}
+
+		BatchOrderResult asDuplicateOf(int duplicateIndex) {
+			if (!success()) {
+				return failure(duplicateIndex, errorCode);
+			}
+			return success(duplicateIndex, order.asDuplicate());
+		}
+	}
+}
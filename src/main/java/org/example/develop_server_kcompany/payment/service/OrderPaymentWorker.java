@@ -0,0 +1,119 @@
+package org.example.develop_server_kcompany.payment.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.event.OrderAcceptedEvent;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 접수 주문의 결제를 처리하는 워커입니다.
+ * <p>
+ * 포인트 차감은 지갑 행 락 대기와, 락 대기 시간 초과 시 재시도/대기(backoff)를 포함하므로 요청 스레드 대신 가상 스레드에서 수행합니다.
+ * 같은 사용자의 주문은 지갑(PointWallet) 한 행의 조건부 UPDATE를 두고 행 락을 기다리므로, 사용자별로 작업을 이어 붙여(CompletableFuture 체인) 순서대로 처리하고
+ * 서로 다른 사용자의 주문만 병렬로 처리합니다.
+ * </p>
+ *
+ * <h3>복구</h3>
+ * <p>
+ * 작업 큐는 메모리에만 존재하므로, 서버 재시작이나 일시 장애로 처리되지 못한 주문은 CREATED 상태로 남습니다.
+ * 주기적으로 일정 시간 이상 CREATED 상태인 주문을 다시 제출하며, 결제 처리는 멱등하므로 중복 제출되어도 안전합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPaymentWorker {
+
+	private final OrderService orderService;
+	private final OrderRepository orderRepository;
+	private final Clock clock;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	/** userId → 해당 사용자의 마지막 작업(다음 작업은 이 작업이 끝난 뒤 실행) */
+	private final ConcurrentHashMap<Long, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+	@Value("${app.order.async.stuck-after-seconds:30}")
+	private long stuckAfterSeconds;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onOrderAccepted(OrderAcceptedEvent event) {
+		submit(event.getUserId(), event.getOrderId());
+	}
+
+	/**
+	 * 주문 결제 작업을 사용자별 작업 체인 뒤에 추가합니다.
+	 *
+	 * @param userId  주문 사용자 식별자
+	 * @param orderId 주문 식별자
+	 * @return 해당 주문의 처리 완료 시점에 완료되는 Future(실패해도 예외로 완료되지 않음)
+	 */
+	public CompletableFuture<Void> submit(Long userId, Long orderId) {
+		CompletableFuture<Void> next = tails.compute(userId, (id, tail) -> {
+			CompletableFuture<Void> previous = tail == null ? CompletableFuture.completedFuture(null) : tail;
+			return previous.thenRunAsync(() -> process(userId, orderId), executor);
+		});
+		// 체인의 마지막 작업이 끝나면 맵에서 제거하여, 주문이 없는 사용자의 항목이 남지 않도록 합니다.
+		next.whenComplete((result, e) -> tails.remove(userId, next));
+		return next;
+	}
+
+	private void process(Long userId, Long orderId) {
+		try {
+			orderService.completePayment(userId, orderId);
+		} catch (RuntimeException e) {
+			// 체인의 다음 작업이 계속 실행되도록 예외를 전파하지 않습니다. 주문은 CREATED로 남아 복구 대상이 됩니다.
+			log.warn("[ORDER] 비동기 결제 처리 실패, 복구 스케줄러가 재시도합니다. orderId={}", orderId, e);
+		}
+	}
+
+	/**
+	 * 일정 시간 이상 CREATED 상태로 남은 주문을 다시 제출합니다.
+	 */
+	@Scheduled(
+		fixedDelayString = "${app.order.async.recovery-interval-ms:30000}",
+		initialDelayString = "${app.order.async.recovery-interval-ms:30000}"
+	)
+	public void recoverStuckOrders() {
+		LocalDateTime createdBefore = LocalDateTime.now(clock).minusSeconds(stuckAfterSeconds);
+		List<Order> stuckOrders = orderRepository
+			.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(OrderStatus.CREATED, createdBefore);
+		if (stuckOrders.isEmpty()) {
+			return;
+		}
+
+		log.info("[ORDER] 미처리 주문 재제출. count={}, createdBefore={}", stuckOrders.size(), createdBefore);
+		stuckOrders.forEach(order -> submit(order.getUserId(), order.getId()));
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+			log.warn("[ORDER] 비동기 결제 워커 종료 대기 시간 초과. 남은 주문은 재시작 후 복구됩니다.");
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package org.example.develop_server_kcompany.payment.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.payment.domain.ArchivedOrder;
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.repository.ArchivedOrderItemRepository;
+import org.example.develop_server_kcompany.payment.repository.ArchivedOrderRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderItemRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.payment.repository.projection.OrderHistoryRow;
+import org.example.develop_server_kcompany.payment.repository.projection.OrderItemHistoryRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 내역/주문 상태 조회를 담당하는 서비스 클래스입니다.
+ * <p>
+ * 주문 내역은 커서(마지막으로 받은 주문 식별자) 기반으로 페이지를 나눕니다.
+ * 주문 식별자는 시간 순으로 증가하므로 식별자 역순이 곧 최신순이며,
+ * OFFSET 페이징과 달리 사용자의 주문 수가 많아도 뒤쪽 페이지 조회 비용이 늘어나지 않습니다.
+ * </p>
+ *
+ * <h3>조회 방식</h3>
+ * <ul>
+ *  <li>주문: {@code (user_id, id desc)} 인덱스로 한 페이지(size + 1건)를 프로젝션 조회</li>
+ *  <li>보관 주문: 운영 테이블 페이지와 식별자 범위가 겹치는 보관 주문만 같은 방식으로 조회 후 병합</li>
+ *  <li>주문 항목: 페이지에 포함된 주문 식별자로 테이블별 IN 조회 1회</li>
+ * </ul>
+ * 페이지 크기와 무관하게 쿼리 수는 일정하며(최대 4번), 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderQueryService {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private final OrderRepository orderRepository;
+	private final OrderItemRepository orderItemRepository;
+	private final ArchivedOrderRepository archivedOrderRepository;
+	private final ArchivedOrderItemRepository archivedOrderItemRepository;
+
+	/**
+	 * 사용자의 주문 내역을 최신순으로 조회합니다.
+	 *
+	 * @param userId 사용자 식별자
+	 * @param cursor 이전 페이지 응답의 {@code nextCursor}(첫 페이지는 null)
+	 * @param size   페이지 크기(1 ~ {@value #MAX_PAGE_SIZE})
+	 * @return 주문 내역 페이지
+	 */
+	public OrderHistoryPage getOrderHistory(Long userId, Long cursor, int size) {
+		if (userId == null || userId <= 0) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		if (size <= 0 || size > MAX_PAGE_SIZE) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+
+		long effectiveCursor = cursor == null ? Long.MAX_VALUE : cursor;
+
+		// 다음 페이지 존재 여부를 별도 COUNT 없이 판단하기 위해 1건 더 조회합니다.
+		List<OrderHistoryRow> hotRows = orderRepository.findHistoryRows(userId, effectiveCursor, Limit.of(size + 1));
+
+		// 보관 주문은 운영 테이블 페이지의 식별자 범위와 겹치는 것만 조회합니다.
+		// 운영 테이블에서 size + 1건을 채웠다면 그보다 오래된 보관 주문은 이번 페이지에 들어올 수 없습니다.
+		long lowerBound = hotRows.size() > size ? hotRows.get(size).orderId() : 0L;
+		List<OrderHistoryRow> archivedRows = archivedOrderRepository
+			.findHistoryRows(userId, effectiveCursor, lowerBound, Limit.of(size + 1));
+
+		List<OrderHistoryRow> rows = mergeNewestFirst(hotRows, archivedRows, size + 1);
+		boolean hasNext = rows.size() > size;
+		List<OrderHistoryRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+		if (pageRows.isEmpty()) {
+			return new OrderHistoryPage(List.of(), null, false);
+		}
+
+		Set<Long> archivedIds = archivedRows.stream().map(OrderHistoryRow::orderId).collect(Collectors.toSet());
+		Map<Boolean, List<Long>> idsByArchived = pageRows.stream()
+			.map(OrderHistoryRow::orderId)
+			.collect(Collectors.partitioningBy(archivedIds::contains));
+
+		Map<Long, List<OrderHistoryItem>> itemsByOrderId = new HashMap<>();
+		if (!idsByArchived.get(false).isEmpty()) {
+			groupItems(orderItemRepository.findHistoryRowsByOrderIdIn(idsByArchived.get(false)), itemsByOrderId);
+		}
+		if (!idsByArchived.get(true).isEmpty()) {
+			groupItems(archivedOrderItemRepository.findHistoryRowsByOrderIdIn(idsByArchived.get(true)), itemsByOrderId);
+		}
+
+		List<OrderHistoryEntry> orders = pageRows.stream()
+			.map(row -> OrderHistoryEntry.from(row, itemsByOrderId.getOrDefault(row.orderId(), List.of())))
+			.toList();
+
+		Long nextCursor = hasNext ? pageRows.get(pageRows.size() - 1).orderId() : null;
+		return new OrderHistoryPage(orders, nextCursor, hasNext);
+	}
+
+	private static List<OrderHistoryRow> mergeNewestFirst(
+		List<OrderHistoryRow> hotRows, List<OrderHistoryRow> archivedRows, int limit) {
+		if (archivedRows.isEmpty()) {
+			return hotRows;
+		}
+		return Stream.concat(hotRows.stream(), archivedRows.stream())
+			.sorted(Comparator.comparing(OrderHistoryRow::orderId).reversed())
+			.limit(limit)
+			.toList();
+	}
+
+	private static void groupItems(List<OrderItemHistoryRow> rows, Map<Long, List<OrderHistoryItem>> itemsByOrderId) {
+		rows.forEach(row -> itemsByOrderId.computeIfAbsent(row.orderId(), id -> new ArrayList<>())
+			.add(OrderHistoryItem.from(row)));
+	}
+
+	/**
+	 * 주문의 처리 상태를 조회합니다.
+	 * <p>
+	 * 비동기 모드로 접수한 주문의 결제 완료 여부를 확인(polling)하는 용도입니다.
+	 * </p>
+	 *
+	 * @param orderId 주문 식별자
+	 * @return 주문 상태(취소된 경우 실패 사유 포함)
+	 */
+	public OrderStatusView getOrderStatus(Long orderId) {
+		return orderRepository.findById(orderId)
+			.map(OrderStatusView::from)
+			.or(() -> archivedOrderRepository.findById(orderId).map(OrderStatusView::from))
+			.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+	}
+
+	/**
+	 * 주문 처리 상태입니다.
+	 */
+	public record OrderStatusView(
+		Long orderId,
+		Long userId,
+		OrderStatus status,
+		long totalAmount,
+		String failureCode,
+		LocalDateTime lastModifiedAt
+	) {
+		static OrderStatusView from(Order order) {
+			return new OrderStatusView(
+				order.getId(),
+				order.getUserId(),
+				order.getStatus(),
+				order.getTotalAmount(),
+				order.getFailureCode(),
+				order.getLastModifiedAt()
+			);
+		}
+
+		static OrderStatusView from(ArchivedOrder order) {
+			return new OrderStatusView(
+				order.getId(),
+				order.getUserId(),
+				order.getStatus(),
+				order.getTotalAmount(),
+				order.getFailureCode(),
+				order.getLastModifiedAt()
+			);
+		}
+	}
+
+	/**
+	 * 주문 내역 한 페이지입니다.
+	 *
+	 * @param orders     최신순 주문 목록
+	 * @param nextCursor 다음 페이지 요청 시 전달할 커서(마지막 페이지면 null)
+	 * @param hasNext    다음 페이지 존재 여부
+	 */
+	public record OrderHistoryPage(List<OrderHistoryEntry> orders, Long nextCursor, boolean hasNext) {
+	}
+
+	public record OrderHistoryEntry(
+		Long orderId,
+		OrderStatus status,
+		long totalAmount,
+		String idempotencyKey,
+		List<OrderHistoryItem> items,
+		LocalDateTime createdAt
+	) {
+		static OrderHistoryEntry from(OrderHistoryRow row, List<OrderHistoryItem> items) {
+			return new OrderHistoryEntry(
+				row.orderId(),
+				row.status(),
+				row.totalAmount(),
+				row.idempotencyKey(),
+				items,
+				row.createdAt()
+			);
+		}
+	}
+
+	public record OrderHistoryItem(
+		Long menuId,
+		String menuName,
+		Long unitPrice,
+		int quantity,
+		long lineAmount
+	) {
+		static OrderHistoryItem from(OrderItemHistoryRow row) {
+			return new OrderHistoryItem(
+				row.menuId(),
+				row.menuName(),
+				row.unitPrice(),
+				row.quantity(),
+				row.lineAmount()
+			);
+		}
+	}
+}
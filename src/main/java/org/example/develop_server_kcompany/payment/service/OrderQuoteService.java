@@ -0,0 +1,100 @@
+package org.example.develop_server_kcompany.payment.service;
+
+import static org.example.develop_server_kcompany.payment.service.OrderService.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.point.service.PointQueryService;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장바구니 견적(가격 계산)을 담당하는 서비스 클래스입니다.
+ * <p>
+ * 주문을 만들지 않고 장바구니의 라인 금액과 총액, 현재 잔액으로 결제 가능한지를 계산합니다.
+ * 가격 규칙은 주문 생성과 같은 {@link OrderService#assembleOrder}를 그대로 사용하므로 견적과 실제 주문 금액이 달라지지 않습니다.
+ * </p>
+ * <p>
+ * 장바구니를 편집하는 동안 반복 호출되는 API이므로 DB 쓰기나 쓰기 트랜잭션 없이,
+ * 메뉴 가격은 {@link MenuCatalog} 스냅샷에서, 잔액은 {@link PointQueryService}의 짧은 TTL 캐시에서 읽습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderQuoteService {
+
+	/** 견적용 주문은 저장되지 않으므로 멱등성 키는 의미가 없습니다. */
+	private static final String QUOTE_KEY = "quote";
+
+	private final MenuCatalog menuCatalog;
+	private final PointQueryService pointQueryService;
+
+	/**
+	 * 장바구니 견적을 계산합니다.
+	 *
+	 * @param userId 사용자 식별자
+	 * @param items  장바구니 항목
+	 * @return 라인 금액, 총액, 잔액 충분 여부
+	 */
+	public QuoteResult quote(Long userId, List<CreateOrderItemCommand> items) {
+		if (userId == null || userId <= 0) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		validateCreateOrderRequest(items);
+		items.forEach(OrderService::validateCreateOrderItem);
+
+		long catalogVersion = menuCatalog.snapshot().version();
+		Map<Long, CatalogMenu> menuMap = menuCatalog.resolveActive(collectMenuIds(items));
+		Order draft = assembleOrder(userId, QUOTE_KEY, items, menuMap);
+
+		long totalAmount = draft.getTotalAmount();
+		long balance = pointQueryService.getBalance(userId);
+
+		List<CreateOrderItemResult> lines = draft.getItems().stream()
+			.map(CreateOrderItemResult::from)
+			.toList();
+
+		return new QuoteResult(
+			userId,
+			lines,
+			totalAmount,
+			balance,
+			balance >= totalAmount,
+			Math.max(0L, totalAmount - balance),
+			catalogVersion
+		);
+	}
+
+	/**
+	 * 장바구니 견적 결과입니다.
+	 *
+	 * @param userId         사용자 식별자
+	 * @param items          라인별 단가/수량/금액
+	 * @param totalAmount    총액
+	 * @param balance        조회 시점 잔액(짧게 캐시된 값)
+	 * @param sufficient     잔액으로 총액을 결제할 수 있는지 여부
+	 * @param shortfall      부족 금액(충분하면 0)
+	 * @param catalogVersion 가격을 계산한 메뉴 카탈로그 버전
+	 */
+	public record QuoteResult(
+		Long userId,
+		List<CreateOrderItemResult> items,
+		long totalAmount,
+		long balance,
+		boolean sufficient,
+		long shortfall,
+		long catalogVersion
+	) {
+	}
+}
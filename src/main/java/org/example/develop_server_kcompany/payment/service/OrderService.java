@@ -1,25 +1,39 @@
 package org.example.develop_server_kcompany.payment.service;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.example.develop_server_kcompany.payment.domain.ArchivedOrder;
+import org.example.develop_server_kcompany.payment.domain.ArchivedOrderItem;
 import org.example.develop_server_kcompany.payment.domain.Order;
 import org.example.develop_server_kcompany.payment.domain.OrderItem;
 import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.event.OrderAcceptedEvent;
 import org.example.develop_server_kcompany.payment.event.OrderCompletedDomainEvent;
+import org.example.develop_server_kcompany.payment.repository.ArchivedOrderRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderIdempotencyRedisRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderIdempotencyRedisRepository.CachedOrderItem;
+import org.example.develop_server_kcompany.payment.repository.OrderIdempotencyRedisRepository.CachedOrderResult;
 import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.point.lock.UserWalletLock;
 import org.example.develop_server_kcompany.point.service.PointService;
+import org.example.develop_server_kcompany.point.service.PointService.HoldResult;
 import org.example.develop_server_kcompany.point.service.PointService.SpendResult;
 import org.example.develop_server_kcompany.common.exception.CustomException;
 import org.example.develop_server_kcompany.common.exception.ErrorCode;
-import org.example.develop_server_kcompany.menu.domain.Menu;
-import org.example.develop_server_kcompany.menu.repository.MenuRepository;
+import org.example.develop_server_kcompany.common.retry.RetryExecutor;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,8 +49,10 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  * 	<li>멱등성 키를 이용한 중복 주문 방지</li>
  *  <li>주문 금액 계산 및 주문 데이터 저장</li>
- *  <li>사용자 포인트 차감 처리</li>
+ *  <li>사용자 포인트 차감 처리(가점유 후 주문 저장과 함께 확정)</li>
  *  <li>주문 생성 완료 후, 주문 내역을 외부 데이터 수집 플랫폼으로 전송</li>
+ *  <li>완료된 주문 결과를 Redis에 캐시하여 재시도 요청에 즉시 응답</li>
+ *  <li>비동기 모드: 주문 접수 후 워커에서 포인트 차감/결제 완료 처리</li>
  * </ul>
  *
  * @author 재원
@@ -49,101 +65,411 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderService {
 
 	private final OrderRepository orderRepository;
+	private final ArchivedOrderRepository archivedOrderRepository;
 	private final PointService pointService;
-	private final MenuRepository menuRepository;
+	private final MenuCatalog menuCatalog;
 	private final ApplicationEventPublisher eventPublisher;
+	private final OrderIdempotencyRedisRepository idempotencyRedisRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final UserWalletLock userWalletLock;
+	private final RetryExecutor retryExecutor;
+	private final Clock clock;
 
-	@Transactional
+	private static final String PAYMENT_OPERATION = "order-payment";
+
+	/** 다른 요청이 같은 멱등성 키를 처리 중일 때, 그 결과를 기다리는 최대 시간 */
+	private static final Duration IN_FLIGHT_WAIT = Duration.ofSeconds(3);
+	private static final long IN_FLIGHT_POLL_INTERVAL_MS = 50L;
+
+	/**
+	 * 주문을 생성하고 포인트를 차감합니다.
+	 * <p>
+	 * 클라이언트가 멱등성 키를 보낸 경우, 완료된 결과를 Redis에서 먼저 조회하여 재시도 요청은 DB를 거치지 않고 응답합니다.
+	 * 같은 키가 동시에 들어오면 먼저 in-flight 마커를 선점한 요청만 주문을 처리하고, 나머지는 그 결과를 기다립니다.
+	 * Redis에 결과가 없거나 Redis를 사용할 수 없으면 기존과 동일하게 MySQL 유니크 제약으로 멱등성을 보장합니다.
+	 * </p>
+	 */
 	public CreateOrderResult createOrder(Long userId, String idempotencyKey, List<CreateOrderItemCommand> items) {
 
+		boolean clientKey = idempotencyKey != null && !idempotencyKey.isBlank();
 		String normalizedKey = normalizeIdempotencyKey(idempotencyKey);
 		validateCreateOrderRequest(items);
 
-		Optional<Order> existing = orderRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey);
+		// 서버가 생성한 키는 재시도될 수 없으므로 캐시를 거치지 않습니다.
+		if (!clientKey) {
+			return placeOrder(userId, normalizedKey, items);
+		}
+
+		Optional<CreateOrderResult> cached = idempotencyRedisRepository.findResult(userId, normalizedKey)
+			.map(CreateOrderResult::fromCache);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		Optional<String> inFlightToken = idempotencyRedisRepository.tryAcquireInFlight(userId, normalizedKey);
+		if (inFlightToken.isEmpty()) {
+			Optional<CreateOrderResult> awaited = awaitInFlightResult(userId, normalizedKey);
+			if (awaited.isPresent()) {
+				return awaited.get();
+			}
+			log.info("진행 중인 동일 요청의 결과를 받지 못해 DB 경로로 처리합니다. userId={}, key={}", userId, normalizedKey);
+		}
+
+		try {
+			CreateOrderResult result = placeOrder(userId, normalizedKey, items);
+			// 트랜잭션 커밋 이후에만 저장하므로, 캐시에는 MySQL에 확정된 결과만 남습니다.
+			idempotencyRedisRepository.saveResult(userId, normalizedKey, result.toCache());
+			return result;
+		} finally {
+			inFlightToken.ifPresent(token -> idempotencyRedisRepository.releaseInFlight(userId, normalizedKey, token));
+		}
+	}
+
+	/**
+	 * DB 기준으로 주문을 처리합니다.
+	 * <p>
+	 * 포인트는 먼저 짧은 트랜잭션에서 가점유({@link PointService#hold})하고, 주문 저장과 가점유 확정은 다음 트랜잭션에서 수행합니다.
+	 * 지갑 행은 가점유 트랜잭션에서만 잠기므로, 주문/항목 INSERT와 재시도 대기 동안 같은 사용자의 다른 차감을 막지 않습니다.
+	 * 주문 저장에 실패하면 이번 요청이 만든 가점유를 해제하며, 해제하지 못한 가점유는 만료 작업이 정리합니다.
+	 * </p>
+	 * <p>
+	 * 유니크 제약 위반(가점유의 멱등성 키, 주문의 멱등성 키)은 트랜잭션 밖에서 처리합니다.
+	 * 위반이 발생한 트랜잭션은 rollback-only 상태이고 먼저 커밋된 요청이 보이지 않는 스냅샷이므로,
+	 * 기존 주문 조회는 새 트랜잭션에서 수행하고, 결제 재개는 그 트랜잭션이 끝난 뒤에 수행합니다.
+	 * </p>
+	 * <p>
+	 * 멱등성 키 정규화와 요청 검증, Redis 결과 캐시는 거치지 않으므로,
+	 * 일괄 주문처럼 이미 키를 정규화하고 요청을 검증한 호출자만 직접 사용합니다.
+	 * </p>
+	 *
+	 * @param userId        사용자 식별자
+	 * @param normalizedKey 정규화된 멱등성 키({@link #normalizeIdempotencyKey} 결과)
+	 * @param items         검증된 주문 항목
+	 * @return 주문 생성 결과
+	 */
+	public CreateOrderResult placeOrder(Long userId, String normalizedKey, List<CreateOrderItemCommand> items) {
+		Optional<CreateOrderResult> existing = resolveExistingOrder(userId, normalizedKey);
 		if (existing.isPresent()) {
-			Order existingOrder = existing.get();
-			return resumeIfNeeded(existingOrder, userId, normalizedKey, true);
+			return existing.get();
 		}
 
-		Order order = Order.create(userId, normalizedKey);
-		for (CreateOrderItemCommand item : items) {
-			validateCreateOrderItem(item);
+		items.forEach(OrderService::validateCreateOrderItem);
+		Map<Long, CatalogMenu> menuMap = menuCatalog.resolveActive(collectMenuIds(items));
+		Order order = assembleOrder(userId, normalizedKey, items, menuMap);
 
-			Menu menu = menuRepository.findById(item.menuId())
-				.orElseThrow(() -> new CustomException(ErrorCode.MENU_NOT_FOUND));
-			if (!menu.isActive()) {
-				throw new CustomException(ErrorCode.MENU_NOT_FOUND);
+		HoldResult hold;
+		try {
+			hold = pointService.hold(userId, order.getTotalAmount(), normalizedKey);
+		} catch (DataIntegrityViolationException e) {
+			// 같은 키의 동시 요청이 먼저 가점유했습니다. 가점유 트랜잭션의 스냅샷에서는 그 커밋이 보이지 않으므로 새 트랜잭션에서 처리합니다.
+			log.info("동시 요청 감지(가점유), 기존 주문 조회: userId={}, key={}", userId, normalizedKey);
+			Optional<CreateOrderResult> conflict = resolveExistingOrder(userId, normalizedKey);
+			if (conflict.isPresent()) {
+				return conflict.get();
 			}
+			// 먼저 가점유한 요청이 아직 주문을 저장하지 않았다면, 다시 가점유를 요청해 그 가점유를 중복 결과로 이어받습니다.
+			hold = pointService.hold(userId, order.getTotalAmount(), normalizedKey);
+		}
+		return saveAndCapture(userId, normalizedKey, order, hold);
+	}
 
-			Long unitPriceSnapshot;
-			if (menu.getPrice() == null)
-				unitPriceSnapshot = null;
-			else
-				unitPriceSnapshot = menu.getPrice().longValue();
-			if (unitPriceSnapshot == null || unitPriceSnapshot <= 0) {
-				throw new CustomException(ErrorCode.MENU_NOT_FOUND);
+	/**
+	 * 주문을 저장하고 가점유를 확정합니다. 저장에 실패하면 가점유를 해제합니다.
+	 */
+	private CreateOrderResult saveAndCapture(Long userId, String normalizedKey, Order order, HoldResult hold) {
+		try {
+			return transactionTemplate.execute(status -> {
+				// 식별자를 애플리케이션에서 생성하므로 INSERT가 flush 시점까지 지연됩니다.
+				// 유니크 제약 위반을 이 지점에서 감지하기 위해 즉시 flush 합니다(주문 + 항목이 배치로 전송됨).
+				Order saved = orderRepository.saveAndFlush(order);
+
+				SpendResult spendResult = pointService.capture(hold.holdId(), saved.getId());
+				saved.markPaid();
+				eventPublisher.publishEvent(OrderCompletedDomainEvent.from(saved, LocalDateTime.now(clock)));
+
+				return CreateOrderResult.from(saved, spendResult, false);
+			});
+		} catch (DataIntegrityViolationException e) {
+			log.info("동시 요청 감지, 기존 주문 조회: userId={}, key={}", userId, normalizedKey);
+			// 같은 키의 주문이 먼저 커밋되었습니다. 그 요청이 가점유를 확정했다면 해제는 아무것도 하지 않으며,
+			// 확정되지 않은 가점유가 남아 있는 동안 같은 키의 차감은 HOLD_IN_PROGRESS로 실패하므로,
+			// 해제하여 키를 비워야 기존 주문(비동기 접수 주문 등)의 결제를 이어갈 수 있습니다.
+			pointService.release(hold.holdId());
+			return resolveExistingOrder(userId, normalizedKey).orElseThrow(() -> e);
+		} catch (RuntimeException e) {
+			// 다른 요청과 공유하는 가점유(중복)는 그 요청이 확정할 수 있으므로 만료 작업에 맡깁니다.
+			if (!hold.duplicate()) {
+				pointService.release(hold.holdId());
 			}
+			throw e;
+		}
+	}
 
-			order.addItem(
-				OrderItem.create(menu.getId(), menu.getName(), unitPriceSnapshot, item.quantity())
-			);
+	/**
+	 * 같은 키로 이미 저장된 주문이 있으면 그 결과를 반환합니다.
+	 * <p>
+	 * 조회는 짧은 트랜잭션에서 하고, 결제가 끝나지 않은 주문의 포인트 차감은 조회 트랜잭션이 끝난 뒤에 이어갑니다.
+	 * {@link PointService#spend}는 사용자 락을 트랜잭션 밖에서 잡고 트랜잭션 단위로 재시도해야 하기 때문입니다.
+	 * </p>
+	 */
+	private Optional<CreateOrderResult> resolveExistingOrder(Long userId, String normalizedKey) {
+		Optional<ExistingOrder> existing =
+			transactionTemplate.execute(status -> findExistingOrder(userId, normalizedKey));
+		return existing.map(found -> found.result() != null
+			? found.result()
+			: resumePayment(userId, normalizedKey, found.orderId(), found.totalAmount()));
+	}
+
+	private Optional<ExistingOrder> findExistingOrder(Long userId, String normalizedKey) {
+		Optional<Order> existing = orderRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey);
+		if (existing.isPresent()) {
+			return Optional.of(inspectExisting(existing.get(), userId));
 		}
 
-		long totalAmount = order.getTotalAmount();
-		if (totalAmount <= 0) {
-			throw new IllegalArgumentException("상품 총 가격은 양수여야 합니다.");
+		// 보관 기간이 지난 주문은 보관 테이블로 옮겨지므로, 운영 테이블에 없으면 보관 테이블에서도 확인합니다.
+		return archivedOrderRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+			.map(archivedOrder -> {
+				// 보관 대상은 결제 완료 주문뿐이며 포인트 멱등성 키는 만료되었을 수 있으므로,
+				// 다시 차감하지 않고 주문의 차감 원장으로 당시 결과(잔액)만 조회합니다.
+				SpendResult spendResult = pointService.findOrderSpend(userId, archivedOrder.getId())
+					.orElseThrow(() -> new IllegalStateException(
+						"보관된 주문의 차감 원장이 없습니다. orderId: " + archivedOrder.getId()));
+				return ExistingOrder.completed(CreateOrderResult.from(archivedOrder, spendResult));
+			});
+	}
+
+	/**
+	 * 다른 요청이 처리 중인 동일 키의 결과가 캐시에 저장될 때까지 기다립니다.
+	 *
+	 * @return 캐시된 결과(마커가 사라졌거나 대기 시간이 지나도 결과가 없으면 empty)
+	 */
+	private Optional<CreateOrderResult> awaitInFlightResult(Long userId, String normalizedKey) {
+		long deadline = System.nanoTime() + IN_FLIGHT_WAIT.toNanos();
+		while (System.nanoTime() < deadline) {
+			Optional<CachedOrderResult> cached = idempotencyRedisRepository.findResult(userId, normalizedKey);
+			if (cached.isPresent()) {
+				return cached.map(CreateOrderResult::fromCache);
+			}
+			if (!idempotencyRedisRepository.isInFlight(userId, normalizedKey)) {
+				// 마커 해제와 결과 저장 사이의 틈을 고려해 한 번 더 조회합니다.
+				return idempotencyRedisRepository.findResult(userId, normalizedKey).map(CreateOrderResult::fromCache);
+			}
+			try {
+				Thread.sleep(IN_FLIGHT_POLL_INTERVAL_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
 		}
+		return Optional.empty();
+	}
+
+	/**
+	 * 주문을 비동기 모드로 접수합니다.
+	 * <p>
+	 * 요청 검증과 주문 저장(CREATED)까지만 요청 스레드에서 처리하고 즉시 반환합니다.
+	 * 포인트 차감과 결제 완료 처리는 커밋 이후 발행되는 {@link OrderAcceptedEvent}를 받은 워커가 {@link #completePayment(Long, Long)}로 수행합니다.
+	 * 이미 접수된 멱등성 키라면 기존 주문의 현재 상태를 반환하며, 아직 CREATED 상태이면 워커에 다시 전달합니다.
+	 * </p>
+	 */
+	public OrderAcceptResult acceptOrder(Long userId, String idempotencyKey, List<CreateOrderItemCommand> items) {
+
+		String normalizedKey = normalizeIdempotencyKey(idempotencyKey);
+		validateCreateOrderRequest(items);
 
-		Order saved;
 		try {
-			saved = orderRepository.save(order);
+			return transactionTemplate.execute(status -> orderRepository
+				.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+				.map(this::acceptExisting)
+				.or(() -> archivedOrderRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+					.map(OrderAcceptResult::from))
+				.orElseGet(() -> {
+					items.forEach(OrderService::validateCreateOrderItem);
+					Map<Long, CatalogMenu> menuMap = menuCatalog.resolveActive(collectMenuIds(items));
+
+					Order saved = orderRepository.saveAndFlush(assembleOrder(userId, normalizedKey, items, menuMap));
+					eventPublisher.publishEvent(new OrderAcceptedEvent(saved.getId(), userId));
+					return OrderAcceptResult.from(saved, false);
+				}));
 		} catch (DataIntegrityViolationException e) {
-			log.info("동시 요청 감지, 기존 주문 조회: userId={}, key={}", userId, normalizedKey);
-			Order conflictOrder = orderRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey)
-				.orElseThrow(() -> e);
+			log.info("동시 접수 요청 감지, 기존 주문 조회: userId={}, key={}", userId, normalizedKey);
+			return transactionTemplate.execute(status -> orderRepository
+				.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+				.map(this::acceptExisting)
+				.orElseThrow(() -> e));
+		}
+	}
 
-			return resumeIfNeeded(conflictOrder, userId, normalizedKey, true);
+	private OrderAcceptResult acceptExisting(Order existing) {
+		if (existing.getStatus() == OrderStatus.CREATED) {
+			eventPublisher.publishEvent(new OrderAcceptedEvent(existing.getId(), existing.getUserId()));
 		}
+		return OrderAcceptResult.from(existing, true);
+	}
 
-		SpendResult spendResult = pointService.spend(userId, totalAmount, normalizedKey, saved.getId());
-		saved.markPaid();
-		eventPublisher.publishEvent(new OrderCompletedDomainEvent(saved.getId()));
+	/**
+	 * 접수된(CREATED) 주문의 포인트 차감과 결제 완료 처리를 수행합니다.
+	 * <p>
+	 * 비동기 워커에서 호출하며, 이미 처리된 주문이면 아무것도 하지 않습니다.
+	 * 포인트 차감은 주문의 멱등성 키를 그대로 사용하므로 같은 주문을 여러 번 처리해도 한 번만 차감됩니다.
+	 * 잔액 부족 등 재시도해도 성공할 수 없는 실패는 주문을 취소(CANCELED)하고 사유를 기록하며,
+	 * 그 외 실패는 예외를 그대로 던져 주문을 CREATED로 남깁니다(복구 스케줄러가 다시 처리).
+	 * </p>
+	 *
+	 * @param userId  주문 사용자 식별자(지갑 락 기준)
+	 * @param orderId 주문 식별자
+	 */
+	public void completePayment(Long userId, Long orderId) {
+		try {
+			// 사용자 락은 시도마다 트랜잭션 밖에서 잡아, 재시도 대기(backoff) 동안 같은 사용자의 다른 요청을 막지 않습니다.
+			retryExecutor.execute(PAYMENT_OPERATION, ErrorCode.SPEND_FAIL,
+				() -> userWalletLock.withLock(userId, ErrorCode.SPEND_FAIL, () -> {
+					transactionTemplate.executeWithoutResult(status -> orderRepository.findById(orderId)
+						.filter(order -> order.getStatus() == OrderStatus.CREATED)
+						.ifPresent(order -> {
+							pointService.spend(order.getUserId(), order.getTotalAmount(), order.getIdempotencyKey(), orderId);
+							order.markPaid();
+							eventPublisher.publishEvent(OrderCompletedDomainEvent.from(order, LocalDateTime.now(clock)));
+						}));
+					return null;
+				}));
+		} catch (CustomException e) {
+			if (!isTerminalPaymentFailure(e.getErrorCode())) {
+				throw e;
+			}
+			log.info("[ORDER] 비동기 결제 실패로 주문 취소. orderId={}, reason={}", orderId, e.getErrorCode().getCode());
+			transactionTemplate.executeWithoutResult(status -> orderRepository.findById(orderId)
+				.filter(order -> order.getStatus() == OrderStatus.CREATED)
+				.ifPresent(order -> order.cancel(e.getErrorCode().getCode())));
+		}
+	}
 
-		return CreateOrderResult.from(saved, spendResult, false);
+	private static boolean isTerminalPaymentFailure(ErrorCode errorCode) {
+		return switch (errorCode) {
+			case INSUFFICIENT_BALANCE, WALLET_NOT_FOUND, USER_NOT_FOUND, INVALID_AMOUNT -> true;
+			default -> false;
+		};
 	}
 
-	private CreateOrderResult resumeIfNeeded(
-		Order order, Long userId, String normalizedKey, boolean requestDuplicate) {
+	private ExistingOrder inspectExisting(Order order, Long userId) {
+		// 비동기 결제에 실패해 취소된 주문은 같은 키로 다시 결제하지 않습니다.
+		if (order.getStatus() == OrderStatus.CANCELED) {
+			throw new CustomException(ErrorCode.ORDER_CANCELED);
+		}
 
 		long totalAmount = order.getTotalAmount();
 		if (totalAmount <= 0) {
 			throw new IllegalStateException("주문 totalAmount가 유효하지 않습니다. orderId: " + order.getId());
 		}
 
-		SpendResult spendResult = pointService.spend(userId, totalAmount, normalizedKey, order.getId());
+		// 결제 완료 주문은 포인트 멱등성 키가 만료되었어도 다시 차감되지 않도록 차감 원장을 먼저 확인합니다.
+		if (order.getStatus() == OrderStatus.PAID) {
+			Optional<SpendResult> paidSpend = pointService.findOrderSpend(userId, order.getId());
+			if (paidSpend.isPresent()) {
+				return ExistingOrder.completed(CreateOrderResult.from(order, paidSpend.get(), true));
+			}
+		}
+		return ExistingOrder.pending(order.getId(), totalAmount);
+	}
+
+	/**
+	 * 결제가 끝나지 않은 기존 주문의 포인트를 차감하고 결제 완료로 처리합니다.
+	 * <p>
+	 * 차감은 트랜잭션 밖에서 호출하여 {@link PointService#spend}가 사용자 락과 재시도를 적용하게 하며,
+	 * 주문 상태 변경은 차감 이후 새 트랜잭션에서 수행합니다. 차감은 주문의 멱등성 키를 사용하므로 여러 번 호출되어도 한 번만 차감됩니다.
+	 * </p>
+	 */
+	private CreateOrderResult resumePayment(Long userId, String normalizedKey, Long orderId, long totalAmount) {
+		SpendResult spendResult = pointService.spend(userId, totalAmount, normalizedKey, orderId);
+		return transactionTemplate.execute(status -> {
+			Order order = orderRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+				.orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+			if (order.getStatus() == OrderStatus.CREATED) {
+				order.markPaid();
+				eventPublisher.publishEvent(OrderCompletedDomainEvent.from(order, LocalDateTime.now(clock)));
+			}
+			return CreateOrderResult.from(order, spendResult, true);
+		});
+	}
 
-		if (order.getStatus() == OrderStatus.CREATED) {
-			order.markPaid();
-			eventPublisher.publishEvent(new OrderCompletedDomainEvent(order.getId()));
+	/**
+	 * 같은 키의 기존 주문 조회 결과입니다. 결제가 끝났으면 {@code result}를, 아니면 결제를 이어갈 주문 정보를 담습니다.
+	 */
+	private record ExistingOrder(CreateOrderResult result, Long orderId, long totalAmount) {
+		static ExistingOrder completed(CreateOrderResult result) {
+			return new ExistingOrder(result, null, 0L);
 		}
 
-		return CreateOrderResult.from(order, spendResult, requestDuplicate || spendResult.duplicate());
+		static ExistingOrder pending(Long orderId, long totalAmount) {
+			return new ExistingOrder(null, orderId, totalAmount);
+		}
+	}
+
+	/**
+	 * 카탈로그 메뉴 정보로 주문과 주문 항목(메뉴 이름/단가 스냅샷)을 구성합니다.
+	 * <p>
+	 * 구성만 하고 영속화하지 않으므로, 단건 주문과 일괄 주문이 같은 가격 규칙을 공유할 수 있습니다.
+	 * </p>
+	 *
+	 * @param userId        주문 사용자 식별자
+	 * @param normalizedKey 정규화된 멱등성 키
+	 * @param items         검증된 주문 항목 목록
+	 * @param menuMap       menuId → 판매중 메뉴
+	 * @return 저장 전 주문 엔티티(CREATED)
+	 */
+	static Order assembleOrder(
+		Long userId, String normalizedKey, List<CreateOrderItemCommand> items, Map<Long, CatalogMenu> menuMap) {
+
+		Order order = Order.create(userId, normalizedKey);
+		for (CreateOrderItemCommand item : items) {
+			CatalogMenu menu = menuMap.get(item.menuId());
+
+			Long unitPriceSnapshot;
+			if (menu.price() == null)
+				unitPriceSnapshot = null;
+			else
+				unitPriceSnapshot = menu.price().longValue();
+			if (unitPriceSnapshot == null || unitPriceSnapshot <= 0) {
+				throw new CustomException(ErrorCode.MENU_NOT_FOUND);
+			}
+
+			order.addItem(
+				OrderItem.create(menu.id(), menu.name(), unitPriceSnapshot, item.quantity())
+			);
+		}
+
+		if (order.getTotalAmount() <= 0) {
+			throw new IllegalArgumentException("상품 총 가격은 양수여야 합니다.");
+		}
+		return order;
 	}
 
-	private void validateCreateOrderRequest(List<CreateOrderItemCommand> items) {
+	/**
+	 * 주문 항목의 메뉴 식별자를 중복 제거하여 반환합니다.
+	 * <p>
+	 * 동일 메뉴가 여러 줄에 담긴 경우에도 메뉴 조회는 식별자당 한 번만 수행합니다.
+	 * </p>
+	 */
+	static Set<Long> collectMenuIds(List<CreateOrderItemCommand> items) {
+		return items.stream()
+			.map(CreateOrderItemCommand::menuId)
+			.collect(Collectors.toSet());
+	}
+
+	static void validateCreateOrderRequest(List<CreateOrderItemCommand> items) {
 		if (items == null || items.isEmpty()) {
 			throw new IllegalArgumentException("장바구니는 비어있을 수 없습니다.");
 		}
 	}
 
-	private String normalizeIdempotencyKey(String idempotencyKey) {
+	static String normalizeIdempotencyKey(String idempotencyKey) {
 		if (idempotencyKey == null || idempotencyKey.isBlank()) {
 			return java.util.UUID.randomUUID().toString();
 		}
 		return idempotencyKey.trim();
 	}
 
-	private void validateCreateOrderItem(CreateOrderItemCommand item) {
+	static void validateCreateOrderItem(CreateOrderItemCommand item) {
 		if (item == null) {
 			throw new IllegalArgumentException("최소 1개 이상의 상품이 담겨야 합니다.");
 		}
@@ -191,6 +517,105 @@ public class OrderService {
 				order.getCreatedAt()
 			);
 		}
+
+		/**
+		 * 보관된 주문으로 중복 요청 응답(duplicate=true)을 구성합니다.
+		 */
+		public static CreateOrderResult from(ArchivedOrder order, SpendResult spendResult) {
+			List<CreateOrderItemResult> itemResults = order.getItems().stream()
+				.map(CreateOrderItemResult::from)
+				.collect(Collectors.toList());
+
+			return new CreateOrderResult(
+				order.getId(),
+				order.getUserId(),
+				order.getTotalAmount(),
+				spendResult.balanceAfter(),
+				itemResults,
+				spendResult.idempotencyKey(),
+				true,
+				order.getCreatedAt()
+			);
+		}
+
+		/**
+		 * 캐시된 결과로 중복 요청 응답(duplicate=true)을 구성합니다.
+		 */
+		public static CreateOrderResult fromCache(CachedOrderResult cached) {
+			List<CreateOrderItemResult> itemResults = cached.items().stream()
+				.map(item -> new CreateOrderItemResult(
+					item.menuId(), item.menuName(), item.unitPrice(), item.quantity(), item.lineAmount()))
+				.collect(Collectors.toList());
+
+			return new CreateOrderResult(
+				cached.orderId(),
+				cached.userId(),
+				cached.totalAmount(),
+				cached.balanceAfter(),
+				itemResults,
+				cached.idempotencyKey(),
+				true,
+				cached.createdAt()
+			);
+		}
+
+		/**
+		 * 동일 결과를 중복 요청 응답(duplicate=true)으로 반환합니다.
+		 */
+		public CreateOrderResult asDuplicate() {
+			if (duplicate) {
+				return this;
+			}
+			return new CreateOrderResult(
+				orderId, userId, totalAmount, balanceAfter, items, idempotencyKey, true, createdAt);
+		}
+
+		/**
+		 * 멱등성 결과 캐시에 저장할 형태로 변환합니다.
+		 */
+		public CachedOrderResult toCache() {
+			List<CachedOrderItem> cachedItems = items.stream()
+				.map(item -> new CachedOrderItem(
+					item.menuId(), item.menuName(), item.unitPrice(), item.quantity(), item.lineAmount()))
+				.collect(Collectors.toList());
+
+			return new CachedOrderResult(
+				orderId, userId, totalAmount, balanceAfter, cachedItems, idempotencyKey, createdAt);
+		}
+	}
+
+	/**
+	 * 비동기 주문 접수 결과입니다.
+	 */
+	public record OrderAcceptResult(
+		Long orderId,
+		Long userId,
+		OrderStatus status,
+		long totalAmount,
+		String idempotencyKey,
+		boolean duplicate
+	) {
+		public static OrderAcceptResult from(Order order, boolean duplicate) {
+			return new OrderAcceptResult(
+				order.getId(),
+				order.getUserId(),
+				order.getStatus(),
+				order.getTotalAmount(),
+				order.getIdempotencyKey(),
+				duplicate
+			);
+		}
+
+		public static OrderAcceptResult from(ArchivedOrder order) {
+			return new OrderAcceptResult(
+				order.getId(),
+				order.getUserId(),
+				order.getStatus(),
+				order.getTotalAmount(),
+				order.getIdempotencyKey(),
+				true
+			);
+		}
 	}
 
 	public record CreateOrderItemResult(
@@ -209,5 +634,15 @@ public class OrderService {
 				item.getLineAmount()
 			);
 		}
+
+		public static CreateOrderItemResult from(ArchivedOrderItem item) {
+			return new CreateOrderItemResult(
+				item.getMenuId(),
+				item.getMenuNameSnapshot(),
+				item.getUnitPriceSnapshot(),
+				item.getQuantity(),
+				item.getLineAmount()
+			);
+		}
 	}
 }
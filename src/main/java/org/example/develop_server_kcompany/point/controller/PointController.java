@@ -1,13 +1,39 @@
 package org.example.develop_server_kcompany.point.controller;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.point.dto.PointBalanceResponse;
+import org.example.develop_server_kcompany.point.dto.PointBulkGrantResponse;
+import org.example.develop_server_kcompany.point.dto.PointChargeAcceptedResponse;
 import org.example.develop_server_kcompany.point.dto.PointChargeRequest;
-import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.dto.PointChargeStatusResponse;
+import org.example.develop_server_kcompany.point.dto.PointLedgerResponse;
+import org.example.develop_server_kcompany.point.dto.PointWalletShardRequest;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob.GrantProgress;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService.ChargeAcceptResult;
+import org.example.develop_server_kcompany.point.service.PointLedgerQueryService;
+import org.example.develop_server_kcompany.point.service.PointQueryService;
 import org.example.develop_server_kcompany.point.service.PointService;
+import org.example.develop_server_kcompany.point.service.PointWalletShardService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +41,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * 포인트 관련 API 요청을 처리하는 컨트롤러입니다.
  * <p>
- * 현재는 포인트 충전 엔드포인트를 제공하며, 요청 DTO는 {@link jakarta.validation.Valid}를 통해
+ * 포인트 충전(동기/비동기)/일괄 지급, 충전 상태/잔액/원장 내역 조회, 지갑 분할 모드 전환 엔드포인트를 제공하며, 요청 DTO는 {@link jakarta.validation.Valid}를 통해
  * 입력값을 검증한 뒤 {@link PointService}에 위임합니다.
  * </p>
  *
@@ -28,7 +54,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PointController {
 
+	private static final String PREFER = "Prefer";
+	private static final String RESPOND_ASYNC = "respond-async";
+	private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
 	private final PointService pointService;
+	private final PointWalletShardService pointWalletShardService;
+	private final PointQueryService pointQueryService;
+	private final PointLedgerQueryService pointLedgerQueryService;
+	private final PointBulkGrantJob pointBulkGrantJob;
+	private final PointChargeCommandService pointChargeCommandService;
 
 	/**
 	 * 포인트를 충전합니다.
@@ -36,12 +71,148 @@ public class PointController {
 	 * 요청 본문({@link PointChargeRequest})은 {@code @Valid}로 검증되며,
 	 * 검증 실패 시 전역 예외 처리기에 의해 400 응답이 반환될 수 있습니다.
 	 * </p>
+	 * <p>
+	 * 기본은 충전까지 완료한 뒤 200 OK를 반환합니다.
+	 * {@code Prefer: respond-async} 헤더를 보내면 충전 명령을 Kafka에 접수만 하고 202 Accepted를 반환하며,
+	 * 충전 결과는 {@code GET /api/point/{userId}/charges/{idempotencyKey}/status}로 조회합니다.
+	 * </p>
 	 *
 	 * @param request 포인트 충전 요청 DTO
-	 * @return 충전 결과(중복 여부, 충전 금액, 충전 후 잔액, 멱등성 키 등)
+	 * @param prefer  {@code respond-async}이면 비동기 접수
+	 * @return 충전 결과(중복 여부, 충전 금액, 충전 후 잔액, 멱등성 키 등) 또는 접수 결과
 	 */
 	@PostMapping("/charge")
-	public ResponseEntity<PointChargeResponse> chargePoint(@Valid @RequestBody PointChargeRequest request) {
+	public ResponseEntity<?> chargePoint(
+		@Valid @RequestBody PointChargeRequest request,
+		@RequestHeader(value = PREFER, required = false) String prefer
+	) {
+		if (prefersAsync(prefer)) {
+			ChargeAcceptResult accepted = pointChargeCommandService.accept(request);
+			String statusUrl = "/api/point/" + accepted.userId() + "/charges/"
+				+ UriUtils.encodePathSegment(accepted.idempotencyKey(), StandardCharsets.UTF_8) + "/status";
+
+			return ResponseEntity.status(HttpStatus.ACCEPTED)
+				.header(HttpHeaders.LOCATION, statusUrl)
+				.header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+				.body(PointChargeAcceptedResponse.from(accepted, statusUrl));
+		}
 		return ResponseEntity.ok(pointService.charge(request));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 비동기로 접수된 포인트 충전 요청의 처리 상태를 조회합니다.
+	 *
+	 * @param userId         사용자 식별자
+	 * @param idempotencyKey 접수 응답의 멱등성 키
+	 * @return 충전 상태
+	 */
+	@GetMapping("/{userId}/charges/{idempotencyKey}/status")
+	public ResponseEntity<PointChargeStatusResponse> getChargeStatus(
+		@PathVariable Long userId,
+		@PathVariable String idempotencyKey
+	) {
+		return ResponseEntity.ok(PointChargeStatusResponse.from(
+			pointChargeCommandService.getStatus(userId, idempotencyKey)));
+	}
+
+	/**
+	 * 사용자의 포인트 잔액을 조회합니다.
+	 * <p>
+	 * 잔액은 로컬/Redis 캐시에서 읽으며 충전/차감 커밋 이후 갱신되므로, 반복 조회가 DB에 부하를 주지 않습니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @return 현재 잔액
+	 */
+	@GetMapping("/{userId}/balance")
+	public ResponseEntity<PointBalanceResponse> getBalance(@PathVariable Long userId) {
+		return ResponseEntity.ok(new PointBalanceResponse(userId, pointQueryService.getBalance(userId)));
+	}
+
+	/**
+	 * 사용자의 포인트 원장(충전/사용 내역)을 최신순으로 조회합니다.
+	 * <p>
+	 * 첫 페이지는 {@code cursor} 없이 요청하고, 이후에는 응답의 {@code nextCursor}를 그대로 전달합니다.
+	 * 유형({@code type})과 기간({@code from} 이상, {@code to} 미만)으로 거를 수 있습니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @param cursor 이전 페이지의 마지막 원장 식별자
+	 * @param size   페이지 크기
+	 * @param type   원장 유형({@link PointTransactionType}: CHARGE, SPEND, EXPIRE, HOLD, RELEASE)
+	 * @param from   조회 시작 시각(ISO-8601)
+	 * @param to     조회 종료 시각(ISO-8601)
+	 * @return 원장 내역 페이지
+	 */
+	@GetMapping("/{userId}/transactions")
+	public ResponseEntity<PointLedgerResponse> getLedger(
+		@PathVariable Long userId,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "" + PointLedgerQueryService.DEFAULT_PAGE_SIZE) int size,
+		@RequestParam(required = false) PointTransactionType type,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+	) {
+		return ResponseEntity.ok(PointLedgerResponse.from(
+			pointLedgerQueryService.getLedger(userId, cursor, size, type, from, to)));
+	}
+
+	/**
+	 * 사용자 지갑을 분할 모드로 전환합니다.
+	 * <p>
+	 * 동시 차감이 많은 계정(법인/공용 지갑 등)에 사용하며, 전환 이후에도 충전/차감/잔액 조회 API는 그대로 사용합니다.
+	 * </p>
+	 *
+	 * @param userId  사용자 식별자
+	 * @param request 하위 잔액 행 개수
+	 * @return 204 No Content
+	 */
+	@PutMapping("/{userId}/shards")
+	public ResponseEntity<Void> enableWalletSharding(
+		@PathVariable Long userId,
+		@Valid @RequestBody PointWalletShardRequest request
+	) {
+		pointWalletShardService.enableSharding(userId, request.getShardCount());
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * CSV({@code userId,amount,key})로 전달된 포인트 일괄 지급을 접수합니다.
+	 * <p>
+	 * 요청 본문은 메모리에 모두 올리지 않고 임시 파일로 옮겨 담은 뒤 202 Accepted를 반환하며, 지급은 백그라운드에서 실행됩니다.
+	 * 진행 상태는 {@code GET /api/point/bulk-grants/{jobId}}로 조회합니다.
+	 * 작업이 실패한 경우 같은 {@code jobId}로 다시 요청하면 체크포인트 이후부터 이어서 처리합니다.
+	 * </p>
+	 *
+	 * @param jobId 작업 식별자
+	 * @param body  CSV 요청 본문
+	 * @return 접수 시점의 진행 상태
+	 */
+	@PostMapping(value = "/bulk-grants/{jobId}", consumes = "text/csv")
+	public ResponseEntity<PointBulkGrantResponse> bulkGrant(
+		@PathVariable String jobId,
+		InputStream body
+	) {
+		GrantProgress accepted = pointBulkGrantJob.submitCsv(jobId, body);
+		String statusUrl = "/api/point/bulk-grants/" + UriUtils.encodePathSegment(jobId, StandardCharsets.UTF_8);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED)
+			.header(HttpHeaders.LOCATION, statusUrl)
+			.body(PointBulkGrantResponse.from(accepted));
+	}
+
+	/**
+	 * 포인트 일괄 지급 작업의 진행 상태(체크포인트, 누적 건수)를 조회합니다.
+	 *
+	 * @param jobId 작업 식별자
+	 * @return 진행 상태
+	 */
+	@GetMapping("/bulk-grants/{jobId}")
+	public ResponseEntity<PointBulkGrantResponse> getBulkGrant(@PathVariable String jobId) {
+		return ResponseEntity.ok(PointBulkGrantResponse.from(pointBulkGrantJob.getProgress(jobId)));
+	}
+
+	private static boolean prefersAsync(String prefer) {
+		return prefer != null && prefer.toLowerCase().contains(RESPOND_ASYNC);
+	}
+}
@@ -0,0 +1,68 @@
+package org.example.develop_server_kcompany.point.domain;
+
+import org.example.develop_server_kcompany.common.entity.BaseTimeEntity;
+import org.example.develop_server_kcompany.point.enums.PointBulkGrantStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 일괄 지급 작업의 진행 위치(체크포인트)를 보관하는 엔티티입니다.
+ * <p>
+ * {@code lastLine}은 앞에서부터 빠짐없이 처리가 끝난 마지막 입력 행 번호이며,
+ * 같은 작업 식별자로 다시 실행하면 이 행 이후부터 이어서 처리합니다.
+ * 병렬로 처리된 청크 중 이 위치 뒤에서 이미 커밋된 행은 멱등성 키로 중복 지급이 걸러집니다.
+ * </p>
+ * <p>
+ * 작업은 요청 스레드가 아닌 백그라운드에서 실행되므로, 진행 상태({@code status})와 누적 건수를 함께 보관하여 별도로 조회할 수 있게 합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(name = "point_bulk_grant_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBulkGrantCheckpoint extends BaseTimeEntity {
+
+	@Id
+	@Column(name = "job_id", nullable = false, length = 100)
+	private String jobId;
+
+	@Column(name = "last_line", nullable = false)
+	private long lastLine;
+
+	@Column(nullable = false)
+	private long granted;
+
+	@Column(nullable = false)
+	private long duplicated;
+
+	@Column(nullable = false)
+	private long rejected;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private PointBulkGrantStatus status;
+
+	public PointBulkGrantCheckpoint(String jobId) {
+		this.jobId = jobId;
+		this.status = PointBulkGrantStatus.RUNNING;
+	}
+
+	/**
+	 * 작업을 (다시) 시작합니다. 체크포인트와 누적 건수는 그대로 두고 상태만 바꿉니다.
+	 */
+	public void start() {
+		this.status = PointBulkGrantStatus.RUNNING;
+	}
+}
@@ -0,0 +1,86 @@
+package org.example.develop_server_kcompany.point.domain;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.common.entity.BaseTimeEntity;
+import org.example.develop_server_kcompany.common.id.TsidId;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 가점유(hold) 엔티티입니다.
+ * <p>
+ * 가점유 시 지갑 잔액은 바로 차감되고 HOLD 원장이 기록되며, 이 행은 그 원장의 확정/해제 상태를 관리합니다.
+ * 확정(CAPTURED)은 지갑을 건드리지 않고 이 행과 원장만 갱신하며, 해제(RELEASED/EXPIRED)는 잔액을 되돌리고 RELEASE 원장을 남깁니다.
+ * 상태 전이는 {@code status = HELD} 조건부 UPDATE로만 수행하므로, 확정과 만료 해제가 동시에 일어나도 한쪽만 반영됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(
+	name = "point_holds",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_point_hold_transaction", columnNames = "transaction_id")
+	},
+	indexes = {
+		// 만료 대기열: 가점유 중인 행만 만료 시각 순으로 읽습니다.
+		@Index(name = "idx_point_hold_status_expires_at", columnList = "status, expires_at"),
+		// lot 만료 작업이 열린 가점유가 있는 사용자를 건너뛸 때 사용합니다.
+		@Index(name = "idx_point_hold_user_status", columnList = "user_id, status")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointHold extends BaseTimeEntity {
+
+	@Id
+	@TsidId
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	/** 가점유 시 기록한 HOLD 원장 식별자 */
+	@Column(name = "transaction_id", nullable = false)
+	private Long transactionId;
+
+	@Column(nullable = false)
+	private Long amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private PointHoldStatus status;
+
+	/** 확정된 주문 식별자(확정 전에는 null) */
+	@Column(name = "order_id")
+	private Long orderId;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	/**
+	 *
+	 * @param transaction HOLD 원장
+	 * @param expiresAt   확정되지 않으면 해제되는 시각
+	 */
+	public PointHold(PointTransaction transaction, LocalDateTime expiresAt) {
+		this.userId = transaction.getUserId();
+		this.transactionId = transaction.getId();
+		this.amount = transaction.getAmount();
+		this.status = PointHoldStatus.HELD;
+		this.expiresAt = expiresAt;
+	}
+}
@@ -0,0 +1,79 @@
+package org.example.develop_server_kcompany.point.domain;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.common.id.TsidId;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 멱등성 키 저장소 엔티티입니다.
+ * <p>
+ * 중복 확인은 원장({@code point_transactions}) 대신 이 테이블의 (user_id, key_hash) 유니크 인덱스로 처리합니다.
+ * 원장은 계속 쌓이지만 이 테이블은 만료({@code expires_at})된 키가 주기적으로 삭제되므로,
+ * 인덱스 크기가 보존 기간 동안의 요청 수로 유지되어 중복 확인과 키 등록 비용이 일정합니다.
+ * </p>
+ * <p>
+ * 만료된 키로 다시 요청하면 새 요청으로 처리되므로, 보존 기간은 클라이언트 재시도 기간과
+ * 주문 보관 기간보다 길게 설정해야 합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(
+	name = "point_idempotency_keys",
+	indexes = {
+		@Index(name = "idx_point_idempotency_expires_at", columnList = "expires_at")
+	},
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "uk_point_idempotency_user_key",
+			columnNames = {"user_id", "key_hash"}
+		)
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointIdempotencyKey {
+
+	@Id
+	@TsidId
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	/** 멱등성 키의 16바이트 값({@link IdempotencyKeyHash}) */
+	@Column(name = "key_hash", nullable = false, columnDefinition = "binary(16)")
+	private byte[] keyHash;
+
+	/** 이 키로 기록된 원장 식별자 */
+	@Column(name = "transaction_id", nullable = false)
+	private Long transactionId;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	/**
+	 *
+	 * @param transaction 멱등성 키로 기록된 원장
+	 * @param expiresAt   키 만료 시각
+	 */
+	public PointIdempotencyKey(PointTransaction transaction, LocalDateTime expiresAt) {
+		this.userId = transaction.getUserId();
+		this.keyHash = IdempotencyKeyHash.of(transaction.getIdempotencyKey());
+		this.transactionId = transaction.getId();
+		this.expiresAt = expiresAt;
+	}
+}
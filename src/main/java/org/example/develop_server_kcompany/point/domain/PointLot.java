@@ -0,0 +1,104 @@
+package org.example.develop_server_kcompany.point.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.example.develop_server_kcompany.common.id.TsidId;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유효기간이 있는 충전 포인트 묶음(lot) 엔티티입니다.
+ * <p>
+ * 충전 1건마다 lot 1개가 생기며, 사용자의 lot들은 충전 순서대로 누적 구간
+ * {@code (cumulativeEnd - amount, cumulativeEnd]}을 차지합니다.
+ * 지갑의 {@code lotTotal - balance}가 지금까지 소진된 양(워터마크)이므로, 차감은 lot 행을 읽거나 갱신하지 않고도
+ * 가장 오래된 lot부터(FIFO) 소진됩니다. lot의 남은 양은 {@link #remaining(long)}으로 계산합니다.
+ * </p>
+ * <p>
+ * 유효기간은 충전 시각 + 고정 기간이므로 충전 순서와 만료 순서가 같습니다.
+ * 만료 작업은 {@code expireBucket}(만료 시각의 시간 단위 버킷) 순으로 만료된 lot만 인덱스로 읽으며, 처리한 lot은 삭제합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(
+	name = "point_lots",
+	indexes = {
+		// 만료 대기열: 버킷 순으로 읽고, 같은 버킷 안에서는 사용자별로 모아 지갑을 한 번만 잠급니다.
+		@Index(name = "idx_point_lot_expiry", columnList = "expire_bucket, user_id, cumulative_end, expires_at")
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLot {
+
+	/** 만료 버킷 크기(시간 단위) */
+	public static final long BUCKET_SECONDS = TimeUnit.HOURS.toSeconds(1);
+
+	@Id
+	@TsidId
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	/** lot을 만든 충전 원장 식별자 */
+	@Column(name = "transaction_id", nullable = false)
+	private Long transactionId;
+
+	@Column(nullable = false)
+	private Long amount;
+
+	/** 사용자의 누적 충전량 중 이 lot이 끝나는 위치(지갑 lotTotal 기준) */
+	@Column(name = "cumulative_end", nullable = false)
+	private Long cumulativeEnd;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(name = "expire_bucket", nullable = false)
+	private Long expireBucket;
+
+	/**
+	 *
+	 * @param transaction   충전 원장
+	 * @param cumulativeEnd 충전 이후 지갑의 누적 충전량
+	 * @param expiresAt     만료 시각
+	 */
+	public PointLot(PointTransaction transaction, long cumulativeEnd, LocalDateTime expiresAt) {
+		this.userId = transaction.getUserId();
+		this.transactionId = transaction.getId();
+		this.amount = transaction.getAmount();
+		this.cumulativeEnd = cumulativeEnd;
+		this.expiresAt = expiresAt;
+		this.expireBucket = bucketOf(expiresAt);
+	}
+
+	/**
+	 * 소진 워터마크 기준으로 이 lot의 남은 양을 계산합니다.
+	 *
+	 * @param consumed 지갑의 {@code lotTotal - balance}
+	 * @return 남은 양(0 ~ amount)
+	 */
+	public long remaining(long consumed) {
+		return Math.max(0L, Math.min(amount, cumulativeEnd - consumed));
+	}
+
+	/**
+	 * 시각이 속한 만료 버킷을 계산합니다.
+	 */
+	public static long bucketOf(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) / BUCKET_SECONDS;
+	}
+}
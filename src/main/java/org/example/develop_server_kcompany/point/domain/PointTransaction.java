@@ -1,17 +1,16 @@
 package org.example.develop_server_kcompany.point.domain;
 
 import org.example.develop_server_kcompany.common.entity.BaseTimeEntity;
+import org.example.develop_server_kcompany.common.id.TsidId;
 import org.example.develop_server_kcompany.point.enums.PointTransactionType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,7 +20,11 @@ import lombok.NoArgsConstructor;
  * <p>
  * 포인트 충전/사용과 같은 모든 변경 내역은 이 테이블에 기록되며,
  * 잔액(balanceAfter)은 해당 트랜잭션 처리 이후의 스냅샷 값을 의미합니다.
- * 멱등성 처리를 위해 idempotencyKey를 사용합니다.
+ * 멱등성 처리를 위해 idempotencyKey를 사용하며, 키 중복 확인은 만료 시각이 있는 별도 저장소({@link PointIdempotencyKey})에서 처리합니다.
+ * 따라서 원장에는 키 유니크 인덱스를 두지 않아, 원장이 쌓여도 INSERT 시 유지할 인덱스가 늘어나지 않습니다.
+ * </p>
+ * <p>
+ * 식별자는 {@link TsidId}로 애플리케이션에서 생성하여, 그룹 충전/일괄 차감의 원장 INSERT가 JDBC 배치로 전송되도록 합니다.
  * </p>
  *
  * @author 재원
@@ -31,10 +34,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
 	name = "point_transactions",
-	uniqueConstraints = {
-		@UniqueConstraint(
-			name = "uk_point_tx_user_idempotency",
-			columnNames = {"user_id", "idempotency_key"}
+	indexes = {
+		// 원장 내역 조회가 테이블 행을 읽지 않도록 조회/필터 컬럼을 모두 포함하는 커버링 인덱스입니다.
+		@Index(
+			name = "idx_point_tx_user_history",
+			columnList = "user_id, id DESC, type, created_at, amount, balance_after, order_id"
 		)
 	})
 @Getter
@@ -42,7 +46,7 @@ import lombok.NoArgsConstructor;
 public class PointTransaction extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TsidId
 	private Long id;
 
 	@Column(name = "user_id", nullable = false)
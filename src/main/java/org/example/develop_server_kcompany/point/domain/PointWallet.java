@@ -1,8 +1,6 @@
 package org.example.develop_server_kcompany.point.domain;
 
 import org.example.develop_server_kcompany.common.entity.BaseTimeEntity;
-import org.example.develop_server_kcompany.common.exception.CustomException;
-import org.example.develop_server_kcompany.common.exception.ErrorCode;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -17,7 +15,19 @@ import lombok.NoArgsConstructor;
  * 사용자의 현재 포인트 잔액을 보관하는 지갑(월렛) 엔티티입니다.
  * <p>
  * 사용자 1명당 1개의 지갑을 가지며, 잔액(balance)은 현재 보유 포인트를 의미합니다.
- * 동시성 제어를 위해 낙관적 락(@Version)을 사용합니다.
+ * </p>
+ * <p>
+ * 잔액은 엔티티를 읽어 수정하지 않고 {@code PointWalletRepository}의 UPDATE 한 번으로만 변경합니다.
+ * 차감은 {@code balance >= :amount} 조건부 UPDATE로 잔액 검증과 차감을 원자적으로 처리하며,
+ * 같은 지갑의 동시 요청은 행 락 순서대로 처리됩니다.
+ * {@code version}은 이 UPDATE들도 함께 올리므로, 엔티티를 읽어 수정하는 분할 모드 전환만 낙관적 락으로 동시 갱신을 감지합니다.
+ * </p>
+ * <p>
+ * 분할 모드({@code shardCount > 0})에서는 잔액이 {@link PointWalletShard} 행에 나뉘어 있고 이 행의 잔액은 0으로 유지됩니다.
+ * </p>
+ * <p>
+ * {@code lotTotal}은 지금까지 충전된 포인트의 누적량이며, {@code lotTotal - 잔액}이 {@link PointLot}의 소진 워터마크입니다.
+ * 분할 모드에서도 이 값은 지갑 행에서 관리합니다.
  * </p>
  *
  * @author 재원
@@ -30,7 +40,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointWallet extends BaseTimeEntity {
 
-	private static final long MAX_BALANCE = 100_000_000L;
+	/** 지갑당 최대 보유 가능 포인트 */
+	public static final long MAX_BALANCE = 100_000_000L;
 
 	@Id
 	@Column(name = "user_id", nullable = false)
@@ -43,51 +54,33 @@ public class PointWallet extends BaseTimeEntity {
 	@Column(nullable = false)
 	private Long version;
 
+	/** 분할 모드의 하위 잔액 행 개수(0이면 분할하지 않은 단일 지갑) */
+	@Column(name = "shard_count", nullable = false)
+	private int shardCount;
+
+	/** 누적 충전량(lot 소진 워터마크 계산 기준) */
+	@Column(name = "lot_total", nullable = false)
+	private long lotTotal;
+
 	public PointWallet(Long userId) {
 		this.userId = userId;
 		this.balance = 0L;
 	}
 
-	/**
-	 * 포인트를 충전합니다.
-	 *
-	 * @param amount 충전 금액(양수)
-	 * @return 충전 이후 잔액(balanceAfter)
-	 */
-	public long charge(long amount) {
-		if (amount <= 0) {
-			throw new CustomException(ErrorCode.INVALID_AMOUNT);
-		}
-		this.balance += amount;
-		return this.balance;
-	}
-
-	/**
-	 * 포인트를 사용(차감)합니다.
-	 *
-	 * @param amount 사용 금액(양수)
-	 * @return 사용 이후 잔액(balanceAfter)
-	 */
-	public long spend(long amount) {
-		if (amount <= 0) {
-			throw new CustomException(ErrorCode.INVALID_AMOUNT);
-		}
-		if (this.balance < amount) {
-			throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
-		}
-		this.balance -= amount;
-		return this.balance;
+	public boolean isSharded() {
+		return shardCount > 0;
 	}
 
 	/**
-	 * 충전 후 잔액이 최대치를 초과하지 않는지 검증합니다.
+	 * 분할 모드로 전환합니다. 현재 잔액은 하위 행으로 옮겨지므로 이 행의 잔액은 0이 됩니다.
 	 *
-	 * @param amount 충전할 금액
-	 * @throws CustomException 충전 후 잔액이 최대치를 초과하는 경우
+	 * @param shardCount 하위 행 개수
+	 * @return 하위 행으로 옮길 잔액
 	 */
-	private void validateBalanceOverflow(long amount) {
-		if (this.balance > MAX_BALANCE - amount) {
-			throw new CustomException(ErrorCode.BALANCE_OVERFLOW);
-		}
+	public long enableSharding(int shardCount) {
+		long moved = this.balance;
+		this.balance = 0L;
+		this.shardCount = shardCount;
+		return moved;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package org.example.develop_server_kcompany.point.domain;
+
+import org.example.develop_server_kcompany.common.entity.BaseTimeEntity;
+import org.example.develop_server_kcompany.common.id.TsidId;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 지갑(sharded wallet)의 하위 잔액 행 엔티티입니다.
+ * <p>
+ * 동시 차감이 많은 계정(법인/공용 지갑 등)은 잔액을 여러 하위 행으로 나누어 보관하여,
+ * 하나의 {@code point_wallet} 행에 모든 차감이 직렬화되지 않도록 합니다.
+ * 사용자의 전체 잔액은 {@link PointWallet#getBalance()}와 하위 행 잔액의 합입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Entity
+@Table(name = "point_wallet_shard",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_wallet_shard_user_no", columnNames = {"user_id", "shard_no"})
+	})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointWalletShard extends BaseTimeEntity {
+
+	@Id
+	@TsidId
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "shard_no", nullable = false)
+	private int shardNo;
+
+	@Column(nullable = false)
+	private Long balance;
+
+	@Version
+	@Column(nullable = false)
+	private Long version;
+
+	public PointWalletShard(Long userId, int shardNo, long balance) {
+		this.userId = userId;
+		this.shardNo = shardNo;
+		this.balance = balance;
+	}
+
+	/**
+	 * 요청 금액 중 이 행에서 차감 가능한 만큼만 차감합니다.
+	 *
+	 * @param amount 남은 차감 금액
+	 * @return 실제로 차감한 금액
+	 */
+	public long withdrawUpTo(long amount) {
+		long taken = Math.min(this.balance, amount);
+		this.balance -= taken;
+		return taken;
+	}
+}
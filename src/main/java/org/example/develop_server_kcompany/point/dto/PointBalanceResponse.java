@@ -0,0 +1,22 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 포인트 잔액 조회 응답 DTO입니다.
+ * <p>
+ * 잔액은 캐시에서 읽으므로 직전 충전/차감이 반영되기까지 짧은 지연이 있을 수 있습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@AllArgsConstructor
+public class PointBalanceResponse {
+
+	private Long userId;
+	private long balance;
+}
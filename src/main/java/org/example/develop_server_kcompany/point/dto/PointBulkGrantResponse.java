@@ -0,0 +1,41 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import org.example.develop_server_kcompany.point.enums.PointBulkGrantStatus;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob.GrantProgress;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 일괄 지급 진행 상태 응답 DTO입니다.
+ * <p>
+ * 건수는 체크포인트까지 반영된 누적 값입니다. {@code status}가 FAILED이면 실패한 청크가 있다는 의미이며,
+ * 같은 작업 식별자로 다시 요청하면 {@code lastLine} 다음 행부터 이어서 처리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class PointBulkGrantResponse {
+
+	private String jobId;
+	private PointBulkGrantStatus status;
+	private long lastLine;
+	private long granted;
+	private long duplicated;
+	private long rejected;
+
+	public static PointBulkGrantResponse from(GrantProgress progress) {
+		PointBulkGrantResponse response = new PointBulkGrantResponse();
+		response.jobId = progress.jobId();
+		response.status = progress.status();
+		response.lastLine = progress.lastLine();
+		response.granted = progress.granted();
+		response.duplicated = progress.duplicated();
+		response.rejected = progress.rejected();
+		return response;
+	}
+}
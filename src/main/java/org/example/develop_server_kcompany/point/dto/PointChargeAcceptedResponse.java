@@ -0,0 +1,38 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import org.example.develop_server_kcompany.point.enums.PointChargeStatus;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService.ChargeAcceptResult;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 포인트 충전 접수 응답 DTO입니다.
+ * <p>
+ * 충전 명령이 접수(PENDING)된 시점에 반환되며, 충전 완료 여부는 {@code statusUrl}로 조회합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class PointChargeAcceptedResponse {
+
+	private Long userId;
+	private Long amount;
+	private String idempotencyKey;
+	private PointChargeStatus status;
+	private String statusUrl;
+
+	public static PointChargeAcceptedResponse from(ChargeAcceptResult result, String statusUrl) {
+		PointChargeAcceptedResponse response = new PointChargeAcceptedResponse();
+		response.userId = result.userId();
+		response.amount = result.amount();
+		response.idempotencyKey = result.idempotencyKey();
+		response.status = result.status();
+		response.statusUrl = statusUrl;
+		return response;
+	}
+}
@@ -0,0 +1,41 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import org.example.develop_server_kcompany.point.enums.PointChargeStatus;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService.ChargeStatusView;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 충전 상태 조회 응답 DTO입니다.
+ * <p>
+ * {@code PENDING}은 처리 중, {@code COMPLETED}는 충전 완료, {@code FAILED}는 충전 실패를 의미하며
+ * 완료 시 {@code chargedAmount}/{@code balanceAfter}를, 실패 시 {@code failureCode}에 사유(ErrorCode)를 담습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class PointChargeStatusResponse {
+
+	private Long userId;
+	private String idempotencyKey;
+	private PointChargeStatus status;
+	private Long chargedAmount;
+	private Long balanceAfter;
+	private String failureCode;
+
+	public static PointChargeStatusResponse from(ChargeStatusView view) {
+		PointChargeStatusResponse response = new PointChargeStatusResponse();
+		response.userId = view.userId();
+		response.idempotencyKey = view.idempotencyKey();
+		response.status = view.status();
+		response.chargedAmount = view.chargedAmount();
+		response.balanceAfter = view.balanceAfter();
+		response.failureCode = view.failureCode();
+		return response;
+	}
+}
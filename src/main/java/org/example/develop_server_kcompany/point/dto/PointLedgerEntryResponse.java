@@ -0,0 +1,39 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.projection.PointLedgerRow;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 원장 내역 응답에 포함되는 원장 1건의 DTO입니다.
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class PointLedgerEntryResponse {
+
+	private Long transactionId;
+	private PointTransactionType type;
+	private long amount;
+	private long balanceAfter;
+	private Long orderId;
+	private LocalDateTime createdAt;
+
+	public static PointLedgerEntryResponse from(PointLedgerRow row) {
+		PointLedgerEntryResponse response = new PointLedgerEntryResponse();
+		response.transactionId = row.id();
+		response.type = row.type();
+		response.amount = row.amount();
+		response.balanceAfter = row.balanceAfter();
+		response.orderId = row.orderId();
+		response.createdAt = row.createdAt();
+		return response;
+	}
+}
@@ -0,0 +1,38 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import java.util.List;
+
+import org.example.develop_server_kcompany.point.service.PointLedgerQueryService.PointLedgerPage;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 원장 내역 조회 응답 DTO입니다.
+ * <p>
+ * 최신순 원장 목록과 다음 페이지 커서를 반환합니다.
+ * 다음 페이지는 {@code nextCursor}를 {@code cursor} 파라미터로 전달하여 조회합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class PointLedgerResponse {
+
+	private List<PointLedgerEntryResponse> transactions;
+	private Long nextCursor;
+	private boolean hasNext;
+
+	public static PointLedgerResponse from(PointLedgerPage page) {
+		PointLedgerResponse response = new PointLedgerResponse();
+		response.transactions = page.entries().stream()
+			.map(PointLedgerEntryResponse::from)
+			.toList();
+		response.nextCursor = page.nextCursor();
+		response.hasNext = page.hasNext();
+		return response;
+	}
+}
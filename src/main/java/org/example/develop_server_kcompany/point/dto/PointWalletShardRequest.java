@@ -0,0 +1,29 @@
+package org.example.develop_server_kcompany.point.dto;
+
+import org.example.develop_server_kcompany.point.service.PointWalletShardService;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PointWalletShardRequest 클래스입니다.
+ * <p>
+ * 사용자 지갑을 분할 모드로 전환할 때 하위 잔액 행 개수를 전달합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@NoArgsConstructor
+public class PointWalletShardRequest {
+
+	@NotNull
+	@Min(PointWalletShardService.MIN_SHARDS)
+	@Max(PointWalletShardService.MAX_SHARDS)
+	private Integer shardCount;
+}
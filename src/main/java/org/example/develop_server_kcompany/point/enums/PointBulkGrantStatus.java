@@ -0,0 +1,18 @@
+package org.example.develop_server_kcompany.point.enums;
+
+/**
+ * PointBulkGrantStatus enum입니다.
+ * <p>
+ * 포인트 일괄 지급 작업의 상태(처리 중, 완료, 실패)를 다루는 상수 클래스입니다.
+ * {@code FAILED}인 작업은 같은 작업 식별자로 다시 요청하면 체크포인트 이후부터 이어서 처리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public enum PointBulkGrantStatus {
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
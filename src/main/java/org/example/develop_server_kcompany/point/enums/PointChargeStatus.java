@@ -0,0 +1,17 @@
+package org.example.develop_server_kcompany.point.enums;
+
+/**
+ * PointChargeStatus enum입니다.
+ * <p>
+ * 비동기로 접수된 포인트 충전 요청의 처리 상태(처리 중, 완료, 실패)를 다루는 상수 클래스입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public enum PointChargeStatus {
+	PENDING,
+	COMPLETED,
+	FAILED
+}
@@ -0,0 +1,19 @@
+package org.example.develop_server_kcompany.point.enums;
+
+/**
+ * PointHoldStatus enum입니다.
+ * <p>
+ * 포인트 가점유의 상태(가점유 중, 확정, 해제, 만료 해제)를 다루는 상수 클래스입니다.
+ * {@code HELD}에서만 다른 상태로 바뀔 수 있습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public enum PointHoldStatus {
+	HELD,
+	CAPTURED,
+	RELEASED,
+	EXPIRED
+}
@@ -3,7 +3,8 @@ package org.example.develop_server_kcompany.point.enums;
 /**
  * PointTransactionType enum입니다.
  * <p>
- * 포인트 충전, 차감 타입을 다루는 상수 클래스입니다.
+ * 포인트 충전, 차감, 유효기간 만료(소멸), 가점유(HOLD)와 가점유 해제(RELEASE) 타입을 다루는 상수 클래스입니다.
+ * 가점유 원장은 확정(capture) 시 SPEND로 바뀌고, 해제되면 같은 금액의 RELEASE 원장이 추가됩니다.
  * </p>
  *
  * @author 재원
@@ -12,5 +13,8 @@ package org.example.develop_server_kcompany.point.enums;
  */
 public enum PointTransactionType {
 	CHARGE,
-	SPEND
-}
\ No newline at end of file
+	SPEND,
+	EXPIRE,
+	HOLD,
+	RELEASE
+}
@@ -0,0 +1,31 @@
+package org.example.develop_server_kcompany.point.event;
+
+import org.example.develop_server_kcompany.point.service.PointQueryService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointBalanceCacheListener 클래스입니다.
+ * <p>
+ * 원장을 기록한 트랜잭션이 커밋된 이후에만 잔액 캐시를 갱신하여,
+ * 롤백된 충전/차감의 잔액이 캐시에 남지 않도록 합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointBalanceCacheListener {
+
+	private final PointQueryService pointQueryService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(PointBalanceChangedEvent event) {
+		pointQueryService.refresh(event.getUserId(), event.getLedgerId(), event.getBalance());
+	}
+}
@@ -0,0 +1,42 @@
+package org.example.develop_server_kcompany.point.event;
+
+/**
+ * PointBalanceChangedEvent 클래스입니다.
+ * <p>
+ * 포인트 원장(point_transactions)이 기록되어 사용자 잔액이 바뀌었음을 알리는 이벤트입니다.
+ * 원장을 기록한 트랜잭션 안에서 발행되며, 커밋 이후 잔액 캐시를 갱신하는 데 사용됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public class PointBalanceChangedEvent {
+
+	private final Long userId;
+	private final Long ledgerId;
+	private final long balance;
+
+	/**
+	 * @param userId   사용자 식별자
+	 * @param ledgerId 마지막으로 기록된 원장 식별자(시간 순 TSID, 캐시 갱신 순서 판단 기준)
+	 * @param balance  원장 기록 이후 잔액
+	 */
+	public PointBalanceChangedEvent(Long userId, Long ledgerId, long balance) {
+		this.userId = userId;
+		this.ledgerId = ledgerId;
+		this.balance = balance;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public Long getLedgerId() {
+		return ledgerId;
+	}
+
+	public long getBalance() {
+		return balance;
+	}
+}
@@ -0,0 +1,97 @@
+package org.example.develop_server_kcompany.point.lock;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 단위로 지갑 변경 작업을 직렬화하는 스트라이프 락입니다.
+ * <p>
+ * 같은 사용자의 충전/차감은 PointWallet 한 행에 대한 조건부 UPDATE이므로, 동시에 들어오면 DB 안에서 그 행의 락을 기다립니다.
+ * 기다리는 동안 요청마다 커넥션을 붙잡고 있어, 요청이 몰리면 커넥션 풀이 소진되거나 락 대기 시간 초과로 실패할 수 있습니다.
+ * 단일 노드 안에서는 같은 사용자의 작업을 이 락으로 차례대로 실행하여, 행 락을 기다리는 커넥션이 사용자당 하나를 넘지 않게 합니다.
+ * 여러 노드 간 경쟁은 DB 행 락 대기로 직렬화되며, 락 대기 시간 초과나 교착 상태는 {@code RetryExecutor}가 재시도합니다.
+ * </p>
+ *
+ * <h3>사용 규칙</h3>
+ * <ul>
+ *  <li>트랜잭션 밖에서 획득해야 합니다. 커밋까지 락 안에서 끝나야 다음 작업이 지갑 행 락을 기다리지 않습니다.</li>
+ *  <li>재진입 가능하므로, 락을 잡은 호출자가 내부에서 다시 획득해도 됩니다.</li>
+ *  <li>사용자 수만큼 락을 만들지 않도록 고정 개수의 락에 사용자를 나누어 담습니다(다른 사용자가 같은 락을 공유할 수 있음).</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+public class UserWalletLock {
+
+	private final ReentrantLock[] stripes;
+	private final long timeoutMs;
+	private final PointMetrics pointMetrics;
+
+	public UserWalletLock(
+		PointMetrics pointMetrics,
+		@Value("${app.point.lock.stripes:1024}") int stripeCount,
+		@Value("${app.point.lock.timeout-ms:3000}") long timeoutMs
+	) {
+		int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+		this.timeoutMs = timeoutMs;
+		this.pointMetrics = pointMetrics;
+	}
+
+	/**
+	 * 사용자 락을 획득한 상태에서 작업을 실행합니다.
+	 *
+	 * @param userId       사용자 식별자
+	 * @param timeoutError 제한 시간 안에 락을 얻지 못했을 때 던질 오류 코드
+	 * @param action       실행할 작업
+	 * @return 작업 결과
+	 */
+	public <T> T withLock(Long userId, ErrorCode timeoutError, Supplier<T> action) {
+		ReentrantLock lock = stripeFor(userId);
+
+		long startedAt = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(timeoutError);
+		}
+		pointMetrics.recordLockWait(System.nanoTime() - startedAt);
+
+		if (!acquired) {
+			pointMetrics.lockTimeout();
+			log.warn("[POINT] 사용자 지갑 락 획득 시간 초과. userId={}, timeoutMs={}", userId, timeoutMs);
+			throw new CustomException(timeoutError);
+		}
+
+		try {
+			return action.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private ReentrantLock stripeFor(Long userId) {
+		int hash = Objects.hashCode(userId);
+		hash ^= (hash >>> 16);
+		return stripes[hash & (stripes.length - 1)];
+	}
+}
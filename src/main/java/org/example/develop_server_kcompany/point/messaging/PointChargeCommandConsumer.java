@@ -0,0 +1,46 @@
+package org.example.develop_server_kcompany.point.messaging;
+
+import java.util.List;
+
+import org.example.develop_server_kcompany.point.messaging.dto.PointChargeCommandPayload;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointChargeCommandConsumer 클래스입니다.
+ * <p>
+ * Kafka의 포인트 충전 명령을 배치로 소비하여 {@link PointChargeCommandService}에 전달합니다.
+ * 파티션은 한 번에 한 소비자 스레드만 처리하므로 같은 사용자의 명령은 접수 순서대로 반영됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointChargeCommandConsumer {
+
+	private final PointChargeCommandService pointChargeCommandService;
+
+	/**
+	 * Kafka로부터 포인트 충전 명령을 배치로 소비합니다.
+	 * <p>
+	 * 처리 중 예외가 발생하면 실패한 명령 이전까지만 오프셋을 커밋하고, 실패한 명령부터 백오프 후 다시 전달받습니다.
+	 * 재시도 횟수를 넘긴 명령은 DLT({@code <토픽>.DLT})로 보내 유실 없이 보관합니다.
+	 * </p>
+	 *
+	 * @param payloads 포인트 충전 명령 목록
+	 */
+	@KafkaListener(
+		topics = "${app.kafka.topic.point-charge}",
+		groupId = "point-charge-command",
+		containerFactory = "pointChargeCommandKafkaListenerContainerFactory"
+	)
+	public void consume(List<PointChargeCommandPayload> payloads) {
+		pointChargeCommandService.apply(payloads);
+	}
+}
@@ -0,0 +1,60 @@
+package org.example.develop_server_kcompany.point.messaging;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.messaging.dto.PointChargeCommandPayload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PointChargeCommandProducer 클래스입니다.
+ * <p>
+ * 포인트 충전 명령을 {@code userId}를 키로 Kafka 토픽에 전송합니다.
+ * 접수 응답(202) 이후 명령이 유실되지 않도록 브로커의 확인(ack)을 받은 뒤 반환합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointChargeCommandProducer {
+
+	private final KafkaTemplate<String, Object> kafkaTemplate;
+
+	@Value("${app.kafka.topic.point-charge}")
+	private String pointChargeTopic;
+
+	@Value("${app.point.charge-command.send-timeout-ms:3000}")
+	private long sendTimeoutMs;
+
+	/**
+	 * 포인트 충전 명령을 Kafka로 전송합니다.
+	 *
+	 * @param payload 포인트 충전 명령 Payload
+	 * @throws CustomException 브로커 확인을 받지 못한 경우({@link ErrorCode#CHARGE_FAIL})
+	 */
+	public void send(PointChargeCommandPayload payload) {
+		String key = String.valueOf(payload.getUserId());
+		try {
+			kafkaTemplate.send(pointChargeTopic, key, payload).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.CHARGE_FAIL);
+		} catch (ExecutionException | TimeoutException e) {
+			log.error("[KAFKA] 포인트 충전 명령 전송 실패. userId={}, key={}",
+				payload.getUserId(), payload.getIdempotencyKey(), e);
+			throw new CustomException(ErrorCode.CHARGE_FAIL);
+		}
+	}
+}
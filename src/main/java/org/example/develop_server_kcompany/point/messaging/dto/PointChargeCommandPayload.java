@@ -0,0 +1,29 @@
+package org.example.develop_server_kcompany.point.messaging.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 충전 명령을 Kafka로 전송하기 위한 Payload DTO 입니다.
+ * <p>
+ * 레코드 키는 {@code userId}이므로 같은 사용자의 명령은 같은 파티션에 접수 순서대로 쌓입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointChargeCommandPayload {
+
+	private Long userId;
+	private Long amount;
+	private String idempotencyKey;
+	private String requestedAt;
+
+}
@@ -0,0 +1,60 @@
+package org.example.develop_server_kcompany.point.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 포인트 지갑 동시성 제어 관련 지표를 기록하는 컴포넌트입니다.
+ * <p>
+ * 사용자 단위 직렬화({@link org.example.develop_server_kcompany.point.lock.UserWalletLock})의
+ * 락 대기 시간과 시간 초과 건수를 Micrometer 지표로 노출합니다.
+ * 동시성 충돌 재시도 지표는 {@link org.example.develop_server_kcompany.common.retry.RetryExecutor}가 작업별로 기록합니다.
+ * </p>
+ *
+ * <ul>
+ *  <li>{@code point.wallet.lock.wait}: 사용자 락 획득 대기 시간</li>
+ *  <li>{@code point.wallet.lock.timeouts}: 사용자 락 획득 시간 초과 횟수</li>
+ *  <li>{@code point.charge.group.size}: 한 번에 처리한 충전 그룹 크기</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Component
+public class PointMetrics {
+
+	private final Timer lockWait;
+	private final Counter lockTimeouts;
+	private final DistributionSummary chargeGroupSize;
+
+	public PointMetrics(MeterRegistry meterRegistry) {
+		this.lockWait = Timer.builder("point.wallet.lock.wait")
+			.description("사용자 지갑 락 획득 대기 시간")
+			.register(meterRegistry);
+		this.lockTimeouts = Counter.builder("point.wallet.lock.timeouts")
+			.description("사용자 지갑 락 획득 시간 초과 횟수")
+			.register(meterRegistry);
+		this.chargeGroupSize = DistributionSummary.builder("point.charge.group.size")
+			.description("한 번에 처리한 충전 그룹 크기")
+			.register(meterRegistry);
+	}
+
+	public void recordLockWait(long waitNanos) {
+		lockWait.record(waitNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void lockTimeout() {
+		lockTimeouts.increment();
+	}
+
+	public void recordChargeGroupSize(int size) {
+		chargeGroupSize.record(size);
+	}
+}
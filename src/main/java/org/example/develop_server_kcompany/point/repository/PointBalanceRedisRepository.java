@@ -0,0 +1,88 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 포인트 잔액을 Redis에 캐시하는 Repository 입니다.
+ * <p>
+ * 값은 {@code "<원장 식별자 19자리>:<잔액>"} 형식으로 저장하며, 저장된 원장 식별자보다 큰 값으로만 덮어씁니다.
+ * 커밋 순서와 캐시 갱신 순서가 뒤바뀌거나, DB에서 읽은 오래된 잔액(원장 식별자 0)이 늦게 도착해도
+ * 최신 잔액이 오래된 값으로 덮이지 않습니다.
+ * </p>
+ * <p>
+ * Redis는 캐시일 뿐이며 원본은 MySQL입니다. Redis 장애 시 조회는 "캐시 없음", 저장은 무시로 동작합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceRedisRepository {
+
+	private static final String PREFIX = "point:balance:";
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	/**
+	 * 저장된 원장 식별자보다 새 원장 식별자가 클 때만 저장합니다.
+	 * 식별자는 Lua 숫자(double) 정밀도를 넘으므로 19자리로 맞춘 문자열끼리 비교합니다.
+	 */
+	private static final RedisScript<Long> SET_IF_NEWER_SCRIPT = new DefaultRedisScript<>(
+		"local cur = redis.call('get', KEYS[1]) "
+			+ "if cur and string.sub(cur, 1, 19) >= ARGV[1] then return 0 end "
+			+ "redis.call('set', KEYS[1], ARGV[1] .. ':' .. ARGV[2], 'PX', ARGV[3]) "
+			+ "return 1",
+		Long.class
+	);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 캐시된 잔액을 조회합니다.
+	 *
+	 * @return 캐시된 잔액(없거나 Redis 장애 시 empty)
+	 */
+	public Optional<Long> find(Long userId) {
+		try {
+			String value = stringRedisTemplate.opsForValue().get(key(userId));
+			if (value == null) {
+				return Optional.empty();
+			}
+			return Optional.of(Long.parseLong(value.substring(value.indexOf(':') + 1)));
+		} catch (RuntimeException e) {
+			log.warn("[REDIS] 포인트 잔액 조회 실패. userId={}", userId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 원장 식별자가 저장된 값보다 새로운 경우에만 잔액을 저장합니다.
+	 *
+	 * @param ledgerId 잔액을 만든 마지막 원장 식별자(DB에서 직접 읽은 값이면 null)
+	 */
+	public void saveIfNewer(Long userId, Long ledgerId, long balance) {
+		String version = String.format("%019d", ledgerId == null ? 0L : ledgerId);
+		try {
+			stringRedisTemplate.execute(SET_IF_NEWER_SCRIPT, List.of(key(userId)),
+				version, String.valueOf(balance), String.valueOf(TTL.toMillis()));
+		} catch (RuntimeException e) {
+			log.warn("[REDIS] 포인트 잔액 저장 실패. userId={}", userId, e);
+		}
+	}
+
+	private String key(Long userId) {
+		return PREFIX + userId;
+	}
+}
@@ -0,0 +1,55 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import org.example.develop_server_kcompany.point.domain.PointBulkGrantCheckpoint;
+import org.example.develop_server_kcompany.point.enums.PointBulkGrantStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 포인트 일괄 지급 체크포인트 Repository 입니다.
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface PointBulkGrantCheckpointRepository extends JpaRepository<PointBulkGrantCheckpoint, String> {
+
+	/**
+	 * 체크포인트를 앞으로만 옮기고 처리 건수를 누적합니다.
+	 *
+	 * @return 갱신된 행 수(이미 더 뒤까지 기록되어 있으면 0)
+	 */
+	@Modifying
+	@Query("""
+		update PointBulkGrantCheckpoint c
+		   set c.lastLine = :lastLine,
+		       c.granted = c.granted + :granted,
+		       c.duplicated = c.duplicated + :duplicated,
+		       c.rejected = c.rejected + :rejected,
+		       c.lastModifiedAt = local datetime
+		 where c.jobId = :jobId
+		   and c.lastLine < :lastLine
+		""")
+	int advance(
+		@Param("jobId") String jobId,
+		@Param("lastLine") long lastLine,
+		@Param("granted") long granted,
+		@Param("duplicated") long duplicated,
+		@Param("rejected") long rejected);
+
+	/**
+	 * 작업 상태를 변경합니다.
+	 *
+	 * @return 갱신된 행 수
+	 */
+	@Modifying
+	@Query("""
+		update PointBulkGrantCheckpoint c
+		   set c.status = :status,
+		       c.lastModifiedAt = local datetime
+		 where c.jobId = :jobId
+		""")
+	int updateStatus(@Param("jobId") String jobId, @Param("status") PointBulkGrantStatus status);
+}
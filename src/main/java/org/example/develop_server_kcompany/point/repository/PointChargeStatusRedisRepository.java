@@ -0,0 +1,89 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 포인트 충전 요청의 처리 상태를 Redis에 저장하는 Repository 입니다.
+ * <p>
+ * (userId, idempotencyKey) 기준으로 접수 시 {@code PENDING}을, 실패 시 {@code FAILED:오류코드}를 저장합니다.
+ * 완료 여부의 원본은 원장(point_transactions)이므로, 성공한 요청은 상태를 지우고 조회 시 원장으로 판단합니다.
+ * </p>
+ * <p>
+ * Redis 장애 시 모든 메서드는 "상태 없음"으로 동작하며, 충전 처리 자체에는 영향을 주지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PointChargeStatusRedisRepository {
+
+	public static final String PENDING = "PENDING";
+	public static final String FAILED_PREFIX = "FAILED:";
+
+	private static final String KEY_PREFIX = "point:charge:status:";
+	private static final Duration STATUS_TTL = Duration.ofHours(24);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 처리 상태를 조회합니다.
+	 *
+	 * @return {@code PENDING} 또는 {@code FAILED:오류코드}(없거나 Redis 장애 시 empty)
+	 */
+	public Optional<String> find(Long userId, String idempotencyKey) {
+		try {
+			return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key(userId, idempotencyKey)));
+		} catch (RuntimeException e) {
+			log.warn("[REDIS] 포인트 충전 상태 조회 실패. userId={}, key={}", userId, idempotencyKey, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 접수된 요청을 처리 중으로 표시합니다.
+	 */
+	public void markPending(Long userId, String idempotencyKey) {
+		set(userId, idempotencyKey, PENDING);
+	}
+
+	/**
+	 * 처리에 실패한 요청을 오류 코드와 함께 표시합니다.
+	 */
+	public void markFailed(Long userId, String idempotencyKey, String errorCode) {
+		set(userId, idempotencyKey, FAILED_PREFIX + errorCode);
+	}
+
+	/**
+	 * 상태를 삭제합니다. 완료된 요청은 원장으로 조회합니다.
+	 */
+	public void clear(Long userId, String idempotencyKey) {
+		try {
+			stringRedisTemplate.delete(key(userId, idempotencyKey));
+		} catch (RuntimeException e) {
+			log.warn("[REDIS] 포인트 충전 상태 삭제 실패. userId={}, key={}", userId, idempotencyKey, e);
+		}
+	}
+
+	private void set(Long userId, String idempotencyKey, String value) {
+		try {
+			stringRedisTemplate.opsForValue().set(key(userId, idempotencyKey), value, STATUS_TTL);
+		} catch (RuntimeException e) {
+			log.warn("[REDIS] 포인트 충전 상태 저장 실패. userId={}, key={}, value={}", userId, idempotencyKey, value, e);
+		}
+	}
+
+	private String key(Long userId, String idempotencyKey) {
+		return KEY_PREFIX + userId + ":" + idempotencyKey;
+	}
+}
@@ -0,0 +1,59 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import java.util.Optional;
+
+import org.example.develop_server_kcompany.point.domain.PointHold;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 포인트 가점유 Repository 입니다.
+ * <p>
+ * 상태 전이는 엔티티를 수정하지 않고 {@code status = HELD} 조건부 UPDATE로 처리하며,
+ * 갱신된 행 수로 이번 요청이 전이에 성공했는지 판단합니다.
+ * 만료된 가점유 정리는 {@code PointHoldExpiryJob}이 만료 인덱스로 직접 조회/갱신합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface PointHoldRepository extends JpaRepository<PointHold, Long> {
+
+	Optional<PointHold> findByTransactionId(Long transactionId);
+
+	/**
+	 * 가점유 중인 행을 주문에 확정합니다.
+	 *
+	 * @return 갱신된 행 수(0이면 이미 확정/해제된 가점유)
+	 */
+	@Modifying
+	@Query("""
+		update PointHold h
+		   set h.status = org.example.develop_server_kcompany.point.enums.PointHoldStatus.CAPTURED,
+		       h.orderId = :orderId,
+		       h.lastModifiedAt = local datetime
+		 where h.id = :id
+		   and h.status = org.example.develop_server_kcompany.point.enums.PointHoldStatus.HELD
+		""")
+	int capture(@Param("id") Long id, @Param("orderId") Long orderId);
+
+	/**
+	 * 가점유 중인 행을 해제 상태로 바꿉니다.
+	 *
+	 * @param status 해제 상태(RELEASED 또는 EXPIRED)
+	 * @return 갱신된 행 수(0이면 이미 확정/해제된 가점유)
+	 */
+	@Modifying
+	@Query("""
+		update PointHold h
+		   set h.status = :status,
+		       h.lastModifiedAt = local datetime
+		 where h.id = :id
+		   and h.status = org.example.develop_server_kcompany.point.enums.PointHoldStatus.HELD
+		""")
+	int release(@Param("id") Long id, @Param("status") PointHoldStatus status);
+}
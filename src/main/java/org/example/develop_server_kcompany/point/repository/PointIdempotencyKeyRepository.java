@@ -0,0 +1,38 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import org.example.develop_server_kcompany.point.domain.PointIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 포인트 멱등성 키 저장소 Repository 입니다.
+ * <p>
+ * 키로 원장을 찾는 조회는 {@link PointTransactionRepository}가 이 테이블과 조인하여 처리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface PointIdempotencyKeyRepository extends JpaRepository<PointIdempotencyKey, Long> {
+
+	/**
+	 * 원장에 등록된 키를 삭제합니다. 해제된 가점유의 키를 다시 사용할 수 있게 할 때 사용합니다.
+	 * <p>
+	 * (user_id, key_hash) 유니크 인덱스로 찾고, 같은 키가 다른 원장에 다시 등록된 경우는 지우지 않도록 원장 식별자도 함께 비교합니다.
+	 * </p>
+	 *
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("""
+		delete from PointIdempotencyKey k
+		 where k.userId = :userId
+		   and k.keyHash = :keyHash
+		   and k.transactionId = :transactionId
+		""")
+	int deleteRegistration(
+		@Param("userId") Long userId, @Param("keyHash") byte[] keyHash, @Param("transactionId") Long transactionId);
+}
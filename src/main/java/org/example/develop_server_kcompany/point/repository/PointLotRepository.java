@@ -0,0 +1,17 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import org.example.develop_server_kcompany.point.domain.PointLot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 포인트 lot Repository 입니다.
+ * <p>
+ * 만료 처리는 {@code PointLotExpiryJob}이 만료 버킷 인덱스로 직접 조회/삭제합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface PointLotRepository extends JpaRepository<PointLot, Long> {
+}
@@ -1,9 +1,19 @@
 package org.example.develop_server_kcompany.point.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
 import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.projection.PointLedgerRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PointTransaction 엔티티에 대한 데이터 접근을 담당하는 Repository 인터페이스입니다.
@@ -20,6 +30,99 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
 
-	Optional<PointTransaction> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+	/**
+	 * 멱등성 키 저장소({@code point_idempotency_keys})의 (user_id, key_hash) 유니크 인덱스로 키를 찾고, 연결된 원장을 조회합니다.
+	 * 만료되어 삭제된 키는 조회되지 않습니다.
+	 */
+	@Query("""
+		select t from PointTransaction t
+		  join PointIdempotencyKey k on k.transactionId = t.id
+		 where k.userId = :userId and k.keyHash = :keyHash
+		""")
+	Optional<PointTransaction> findByUserIdAndIdempotencyKeyHash(
+		@Param("userId") Long userId, @Param("keyHash") byte[] keyHash);
 
-}
\ No newline at end of file
+	@Query("""
+		select t from PointTransaction t
+		  join PointIdempotencyKey k on k.transactionId = t.id
+		 where k.userId = :userId and k.keyHash in :keyHashes
+		""")
+	List<PointTransaction> findAllByUserIdAndIdempotencyKeyHashIn(
+		@Param("userId") Long userId, @Param("keyHashes") Collection<byte[]> keyHashes);
+
+	/**
+	 * 멱등성 키로 원장을 조회합니다.
+	 */
+	default Optional<PointTransaction> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey) {
+		return findByUserIdAndIdempotencyKeyHash(userId, IdempotencyKeyHash.of(idempotencyKey));
+	}
+
+	/**
+	 * 여러 멱등성 키의 원장을 IN 쿼리 1회로 조회합니다.
+	 */
+	default List<PointTransaction> findAllByUserIdAndIdempotencyKeyIn(
+		Long userId, Collection<String> idempotencyKeys) {
+		return findAllByUserIdAndIdempotencyKeyHashIn(userId, IdempotencyKeyHash.ofAll(idempotencyKeys));
+	}
+
+	/**
+	 * 주문의 차감 원장을 조회합니다.
+	 * <p>
+	 * 멱등성 키는 보존 기간이 지나면 삭제되므로, 오래된 주문의 결제 여부는 키 대신 주문 식별자로 확인합니다.
+	 * </p>
+	 */
+	Optional<PointTransaction> findFirstByUserIdAndOrderIdAndTypeOrderByIdDesc(
+		Long userId, Long orderId, PointTransactionType type);
+
+	/**
+	 * 가점유(HOLD) 원장을 주문의 차감(SPEND) 원장으로 확정합니다.
+	 * <p>
+	 * 금액과 잔액 스냅샷은 가점유 시점에 이미 기록되어 있으므로 유형과 주문 식별자만 바꿉니다.
+	 * </p>
+	 *
+	 * @return 갱신된 행 수(0이면 HOLD 원장이 아님)
+	 */
+	@Modifying
+	@Query("""
+		update PointTransaction t
+		   set t.type = org.example.develop_server_kcompany.point.enums.PointTransactionType.SPEND,
+		       t.orderId = :orderId,
+		       t.lastModifiedAt = local datetime
+		 where t.id = :id
+		   and t.type = org.example.develop_server_kcompany.point.enums.PointTransactionType.HOLD
+		""")
+	int captureHold(@Param("id") Long id, @Param("orderId") Long orderId);
+
+	/**
+	 * 사용자의 원장을 식별자 역순(최신순)으로 커서 이전부터 조회합니다.
+	 * <p>
+	 * {@code idx_point_tx_user_history} 커버링 인덱스의 컬럼만 프로젝션하므로 테이블 행을 읽지 않으며,
+	 * 유형/기간 필터도 인덱스 안에서 평가됩니다. 필터 값이 null이면 해당 조건을 적용하지 않습니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @param cursor 이전 페이지의 마지막 원장 식별자(첫 페이지는 {@link Long#MAX_VALUE})
+	 * @param type   원장 유형(선택)
+	 * @param from   조회 시작 시각(포함, 선택)
+	 * @param to     조회 종료 시각(미포함, 선택)
+	 * @param limit  조회 건수
+	 */
+	@Query("""
+		select new org.example.develop_server_kcompany.point.repository.projection.PointLedgerRow(
+			t.id, t.type, t.amount, t.balanceAfter, t.orderId, t.createdAt)
+		from PointTransaction t
+		where t.userId = :userId and t.id < :cursor
+		  and (:type is null or t.type = :type)
+		  and (:from is null or t.createdAt >= :from)
+		  and (:to is null or t.createdAt < :to)
+		order by t.id desc
+		""")
+	List<PointLedgerRow> findLedgerRows(
+		@Param("userId") Long userId,
+		@Param("cursor") Long cursor,
+		@Param("type") PointTransactionType type,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to,
+		Limit limit
+	);
+}
@@ -1,7 +1,13 @@
 package org.example.develop_server_kcompany.point.repository;
 
+import java.util.Optional;
+
 import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.repository.projection.PointWalletTotals;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PointWalletRepository 인터페이스입니다.
@@ -10,6 +16,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * 기본적인 CRUD 기능은 {@link JpaRepository}를 통해 제공받습니다.
  * 본 Repository는 포인트 충전/사용 시 현재 잔액 상태를 조회하거나, 사용자의 포인트 지갑이 존재하지 않는 경우 신규 생성하는 용도로 사용됩니다.
  * </p>
+ * <p>
+ * 충전/차감/가점유는 엔티티를 읽어 수정하지 않고 UPDATE 한 번으로 잔액을 원자적으로 갱신합니다.
+ * 차감은 {@code balance >= :amount}, 충전은 최대 보유 포인트 조건을 UPDATE에 포함하여 잔액 검증과 갱신을 한 문장으로 처리하며,
+ * 같은 지갑의 동시 UPDATE는 행 락을 기다려 순서대로 반영되므로 충돌로 실패하지 않습니다.
+ * UPDATE 시 version도 함께 올려, 엔티티를 읽어 수정하는 분할 모드 전환이 그 사이의 잔액 변경을 덮어쓰지 않게 합니다.
+ * </p>
  *
  * @author 재원
  * @version 1.0
@@ -17,4 +29,134 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface PointWalletRepository extends JpaRepository<PointWallet, Long> {
 
-}
\ No newline at end of file
+	/**
+	 * 지갑 엔티티를 영속성 컨텍스트에 올리지 않고 잔액만 조회합니다.
+	 * <p>
+	 * 분할 지갑이면 하위 행 잔액을 합산합니다(분할 모드에서 지갑 행의 잔액은 0).
+	 * </p>
+	 */
+	@Query("""
+		select w.balance + coalesce((select sum(s.balance) from PointWalletShard s where s.userId = w.userId), 0L)
+		  from PointWallet w
+		 where w.userId = :userId
+		""")
+	Optional<Long> findBalanceByUserId(@Param("userId") Long userId);
+
+	/**
+	 * 잔액과 누적 충전량을 함께 조회합니다. 충전 직후 lot의 누적 위치를 정할 때 사용합니다.
+	 */
+	@Query("""
+		select new org.example.develop_server_kcompany.point.repository.projection.PointWalletTotals(
+			w.balance + coalesce((select sum(s.balance) from PointWalletShard s where s.userId = w.userId), 0L),
+			w.lotTotal)
+		  from PointWallet w
+		 where w.userId = :userId
+		""")
+	Optional<PointWalletTotals> findTotalsByUserId(@Param("userId") Long userId);
+
+	/**
+	 * 지갑의 분할 행 개수만 조회합니다(0이면 단일 지갑).
+	 */
+	@Query("select w.shardCount from PointWallet w where w.userId = :userId")
+	Optional<Integer> findShardCountByUserId(@Param("userId") Long userId);
+
+	/**
+	 * 잔액이 충분한 경우에만 차감합니다.
+	 * <p>
+	 * {@code balance >= :amount} 조건을 UPDATE에 포함하므로 잔액 검증과 차감이 하나의 문장으로 원자적으로 처리됩니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @param amount 차감 금액(양수)
+	 * @return 갱신된 행 수(0이면 지갑이 없거나, 잔액 부족이거나, 분할 지갑)
+	 */
+	@Modifying
+	@Query("""
+		update PointWallet w
+		   set w.balance = w.balance - :amount,
+		       w.version = w.version + 1,
+		       w.lastModifiedAt = local datetime
+		 where w.userId = :userId
+		   and w.shardCount = 0
+		   and w.balance >= :amount
+		""")
+	int decreaseBalance(@Param("userId") Long userId, @Param("amount") long amount);
+
+	/**
+	 * 충전 후 잔액이 최대 보유 포인트({@link PointWallet#MAX_BALANCE}) 이하인 경우에만 잔액과 누적 충전량을 증가시킵니다.
+	 *
+	 * @param userId 사용자 식별자
+	 * @param amount 충전 금액(양수)
+	 * @return 갱신된 행 수(0이면 지갑이 없거나, 최대 보유 포인트 초과이거나, 분할 지갑)
+	 */
+	default int increaseBalance(Long userId, long amount) {
+		return increaseBalanceWithin(userId, amount, PointWallet.MAX_BALANCE);
+	}
+
+	/**
+	 * 충전 후 잔액이 {@code maxBalance} 이하인 경우에만 잔액과 누적 충전량을 증가시킵니다.
+	 * <p>
+	 * 차감과 마찬가지로 한도 검증과 증가를 한 문장으로 처리하므로, 동시 충전이 함께 한도를 넘길 수 없습니다.
+	 * </p>
+	 */
+	@Modifying
+	@Query("""
+		update PointWallet w
+		   set w.balance = w.balance + :amount,
+		       w.lotTotal = w.lotTotal + :amount,
+		       w.version = w.version + 1,
+		       w.lastModifiedAt = local datetime
+		 where w.userId = :userId
+		   and w.shardCount = 0
+		   and w.balance <= :maxBalance - :amount
+		""")
+	int increaseBalanceWithin(
+		@Param("userId") Long userId, @Param("amount") long amount, @Param("maxBalance") long maxBalance);
+
+	/**
+	 * 가점유 해제 등으로 잔액만 되돌립니다. 새 충전이 아니므로 누적 충전량은 바꾸지 않습니다.
+	 * 이미 보유했던 잔액을 되돌리는 것이므로 최대 보유 포인트는 검사하지 않습니다.
+	 *
+	 * @param userId 사용자 식별자
+	 * @param amount 되돌릴 금액(양수)
+	 * @return 갱신된 행 수(0이면 지갑이 없거나 분할 지갑)
+	 */
+	@Modifying
+	@Query("""
+		update PointWallet w
+		   set w.balance = w.balance + :amount,
+		       w.version = w.version + 1,
+		       w.lastModifiedAt = local datetime
+		 where w.userId = :userId
+		   and w.shardCount = 0
+		""")
+	int restoreBalance(@Param("userId") Long userId, @Param("amount") long amount);
+
+	/**
+	 * 분할 지갑의 누적 충전량만 증가시킵니다. 잔액은 하위 행에 충전합니다.
+	 * <p>
+	 * 하위 행 잔액을 합산한 전체 잔액이 충전 후 최대 보유 포인트({@link PointWallet#MAX_BALANCE}) 이하인 경우에만 갱신합니다.
+	 * 같은 지갑의 충전은 이 UPDATE의 지갑 행 락을 기다리므로, 한도 검증과 하위 행 충전 사이에 다른 충전이 끼어들지 않습니다.
+	 * </p>
+	 *
+	 * @param userId 사용자 식별자
+	 * @param amount 충전 금액(양수)
+	 * @return 갱신된 행 수(0이면 지갑이 없거나 최대 보유 포인트 초과)
+	 */
+	default int increaseLotTotal(Long userId, long amount) {
+		return increaseLotTotalWithin(userId, amount, PointWallet.MAX_BALANCE);
+	}
+
+	@Modifying
+	@Query("""
+		update PointWallet w
+		   set w.lotTotal = w.lotTotal + :amount,
+		       w.version = w.version + 1,
+		       w.lastModifiedAt = local datetime
+		 where w.userId = :userId
+		   and w.balance + coalesce((select sum(s.balance) from PointWalletShard s where s.userId = :userId), 0L)
+		       <= :maxBalance - :amount
+		""")
+	int increaseLotTotalWithin(
+		@Param("userId") Long userId, @Param("amount") long amount, @Param("maxBalance") long maxBalance);
+}
@@ -0,0 +1,72 @@
+package org.example.develop_server_kcompany.point.repository;
+
+import java.util.List;
+
+import org.example.develop_server_kcompany.point.domain.PointWalletShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * PointWalletShardRepository 인터페이스입니다.
+ * <p>
+ * 분할 지갑의 하위 잔액 행({@link PointWalletShard})을 갱신/조회합니다.
+ * 단일 지갑과 마찬가지로 하위 행의 충전/차감도 조건부 UPDATE 한 번으로 처리합니다.
+ * 같은 영속성 컨텍스트에서 하위 행 엔티티를 잠가 조회하는 경로와 섞여 쓰이므로,
+ * 조건부 UPDATE 전후로 컨텍스트를 flush/clear 하여 이전에 읽은 잔액이 재사용되지 않게 합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public interface PointWalletShardRepository extends JpaRepository<PointWalletShard, Long> {
+
+	/**
+	 * 하위 행의 잔액이 충분한 경우에만 차감합니다.
+	 *
+	 * @return 갱신된 행 수(0이면 해당 하위 행의 잔액 부족)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		update PointWalletShard s
+		   set s.balance = s.balance - :amount,
+		       s.version = s.version + 1,
+		       s.lastModifiedAt = local datetime
+		 where s.userId = :userId
+		   and s.shardNo = :shardNo
+		   and s.balance >= :amount
+		""")
+	int decreaseBalance(@Param("userId") Long userId, @Param("shardNo") int shardNo, @Param("amount") long amount);
+
+	/**
+	 * 하위 행의 잔액을 증가시킵니다.
+	 *
+	 * @return 갱신된 행 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		update PointWalletShard s
+		   set s.balance = s.balance + :amount,
+		       s.version = s.version + 1,
+		       s.lastModifiedAt = local datetime
+		 where s.userId = :userId
+		   and s.shardNo = :shardNo
+		""")
+	int increaseBalance(@Param("userId") Long userId, @Param("shardNo") int shardNo, @Param("amount") long amount);
+
+	/**
+	 * 사용자의 모든 하위 행을 shardNo 순서로 잠그고 조회합니다.
+	 * <p>
+	 * 어느 한 행으로도 차감할 수 없어 여러 행에 나누어 차감해야 할 때 사용하며,
+	 * 항상 같은 순서로 잠가 교착 상태를 피합니다.
+	 * </p>
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from PointWalletShard s where s.userId = :userId order by s.shardNo")
+	List<PointWalletShard> findAllByUserIdForUpdate(@Param("userId") Long userId);
+}
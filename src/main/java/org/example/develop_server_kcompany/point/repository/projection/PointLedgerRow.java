@@ -0,0 +1,25 @@
+package org.example.develop_server_kcompany.point.repository.projection;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+
+/**
+ * 포인트 원장 내역 조회용 프로젝션입니다.
+ * <p>
+ * 엔티티를 영속성 컨텍스트에 올리지 않고, 커버링 인덱스에 포함된 컬럼만 조회합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public record PointLedgerRow(
+	Long id,
+	PointTransactionType type,
+	Long amount,
+	Long balanceAfter,
+	Long orderId,
+	LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.develop_server_kcompany.point.repository.projection;
+
+/**
+ * 지갑 잔액과 누적 충전량 조회용 프로젝션입니다.
+ *
+ * @param balance  현재 잔액(분할 지갑은 하위 행 합계)
+ * @param lotTotal 누적 충전량
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+public record PointWalletTotals(long balance, long lotTotal) {
+}
@@ -0,0 +1,653 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.common.id.SnowflakeIdGenerator;
+import org.example.develop_server_kcompany.common.retry.RetryExecutor;
+import org.example.develop_server_kcompany.point.domain.PointBulkGrantCheckpoint;
+import org.example.develop_server_kcompany.point.domain.PointLot;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.enums.PointBulkGrantStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.event.PointBalanceChangedEvent;
+import org.example.develop_server_kcompany.point.repository.PointBulkGrantCheckpointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량의 (userId, amount, key) 입력을 스트리밍으로 읽어 포인트를 일괄 지급하는 배치 작업입니다.
+ * <p>
+ * 프로모션처럼 수십만~수백만 명에게 포인트를 지급할 때 단건 충전 API를 반복 호출하면
+ * 건마다 트랜잭션/지갑 UPDATE/원장 INSERT가 따로 실행되어 처리량이 나오지 않습니다.
+ * 이 작업은 입력을 {@code chunk-size}건씩 나누어 청크마다 하나의 트랜잭션에서 처리합니다.
+ * </p>
+ *
+ * <h3>청크 처리 방식</h3>
+ * <ul>
+ *  <li>멱등성 확인은 IN 쿼리 1회로 처리하며, 이미 지급된 (userId, key)는 중복으로 집계합니다.</li>
+ *  <li>지갑은 사용자 식별자 순으로 한 번에 잠근 뒤(교착 방지), 새 잔액을 JDBC 배치 UPDATE로 반영합니다.</li>
+ *  <li>원장(point_transactions), 멱등성 키(point_idempotency_keys), 유효기간 lot(point_lots)은 JDBC 배치 INSERT로 저장합니다.</li>
+ *  <li>분할 지갑은 {@link PointWalletShardService}로 하위 행 하나에 사용자별 합계를 충전합니다.</li>
+ * </ul>
+ *
+ * <h3>병렬 처리와 재시작</h3>
+ * <ul>
+ *  <li>입력은 한 번에 메모리에 올리지 않고, 동시에 처리 중인 청크 수만큼만 읽어 둡니다.</li>
+ *  <li>동시 청크 수는 {@code parallelism}이며, 온라인 요청용 커넥션을 남기도록 커넥션 풀 크기 - 1을 넘지 않습니다.</li>
+ *  <li>앞에서부터 빠짐없이 커밋된 청크까지를 {@link PointBulkGrantCheckpoint}에 기록하고,
+ *  같은 작업 식별자로 다시 실행하면 그 다음 행부터 이어서 처리합니다.</li>
+ * </ul>
+ *
+ * <h3>백그라운드 실행</h3>
+ * <ul>
+ *  <li>API 요청은 {@link #submitCsv}로 접수하며, 본문을 임시 파일에 옮겨 담은 뒤 바로 반환하고 지급은 백그라운드에서 실행합니다.</li>
+ *  <li>진행 상태와 누적 건수는 체크포인트에 기록되므로 {@link #getProgress}로 따로 조회합니다.</li>
+ *  <li>같은 노드에서 같은 작업 식별자는 동시에 하나만 실행하며, 다른 노드에서 겹쳐 실행되어도 멱등성 키로 중복 지급이 걸러집니다.</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBulkGrantJob {
+
+	private static final String GRANT_OPERATION = "point-bulk-grant";
+
+	private static final String SELECT_PROCESSED_KEYS = """
+		SELECT t.user_id, t.idempotency_key
+		FROM point_idempotency_keys k
+		JOIN point_transactions t ON t.id = k.transaction_id
+		WHERE k.user_id IN (:userIds) AND k.key_hash IN (:keyHashes)
+		""";
+
+	private static final String LOCK_WALLETS = """
+		SELECT user_id, balance, shard_count, lot_total FROM point_wallet
+		WHERE user_id IN (:userIds)
+		ORDER BY user_id
+		FOR UPDATE
+		""";
+
+	private static final String SUM_SHARDS = """
+		SELECT user_id, COALESCE(SUM(balance), 0) AS balance FROM point_wallet_shard
+		WHERE user_id IN (:userIds)
+		GROUP BY user_id
+		""";
+
+	private static final String UPDATE_WALLET = """
+		UPDATE point_wallet
+		SET balance = CASE WHEN shard_count = 0 THEN :balance ELSE balance END,
+			lot_total = :lotTotal, version = version + 1, last_modified_at = :now
+		WHERE user_id = :userId
+		""";
+
+	private static final String INSERT_TRANSACTION = """
+		INSERT INTO point_transactions
+			(id, user_id, type, amount, balance_after, order_id, idempotency_key, created_at, last_modified_at)
+		VALUES (:id, :userId, :type, :amount, :balanceAfter, NULL, :idempotencyKey, :now, :now)
+		""";
+
+	private static final String INSERT_IDEMPOTENCY_KEY = """
+		INSERT INTO point_idempotency_keys (id, user_id, key_hash, transaction_id, expires_at)
+		VALUES (:keyId, :userId, :keyHash, :id, :expiresAt)
+		""";
+
+	private static final String INSERT_LOT = """
+		INSERT INTO point_lots (id, user_id, transaction_id, amount, cumulative_end, expires_at, expire_bucket)
+		VALUES (:lotId, :userId, :id, :amount, :cumulativeEnd, :lotExpiresAt, :lotExpireBucket)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final RetryExecutor retryExecutor;
+	private final PointWalletShardService pointWalletShardService;
+	private final PointBulkGrantCheckpointRepository checkpointRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	private final ExecutorService jobExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	/** 이 노드에서 실행 중인 작업 식별자 */
+	private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+	@Value("${app.point.bulk-grant.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${app.point.bulk-grant.parallelism:4}")
+	private int parallelism;
+
+	@Value("${app.point.idempotency.retention-days:120}")
+	private long idempotencyRetentionDays;
+
+	@Value("${app.point.lot.expire-days:365}")
+	private long lotExpireDays;
+
+	@Value("${spring.datasource.hikari.maximum-pool-size:10}")
+	private int connectionPoolSize;
+
+	/**
+	 * CSV 입력을 접수하고 백그라운드에서 지급합니다.
+	 * <p>
+	 * 요청 본문은 요청이 끝나면 더 읽을 수 없으므로, 메모리에 올리지 않고 임시 파일로 옮겨 담은 뒤 반환합니다.
+	 * 체크포인트는 반환 전에 처리 중 상태로 기록하므로, 반환 직후부터 {@link #getProgress}로 조회할 수 있습니다.
+	 * </p>
+	 *
+	 * @param jobId 작업 식별자(재시작 시 같은 값을 사용)
+	 * @param csv   CSV 입력
+	 * @return 접수 시점의 진행 상태
+	 * @throws CustomException 같은 작업이 이 노드에서 실행 중이면 {@link ErrorCode#BULK_GRANT_IN_PROGRESS}
+	 */
+	public GrantProgress submitCsv(String jobId, InputStream csv) {
+		validateJobId(jobId);
+		if (!runningJobs.add(jobId)) {
+			throw new CustomException(ErrorCode.BULK_GRANT_IN_PROGRESS);
+		}
+
+		Path spooled = null;
+		try {
+			spooled = Files.createTempFile("point-bulk-grant-", ".csv");
+			Files.copy(csv, spooled, StandardCopyOption.REPLACE_EXISTING);
+			GrantProgress accepted = GrantProgress.from(startCheckpoint(jobId));
+
+			Path input = spooled;
+			jobExecutor.execute(() -> runSpooled(jobId, input));
+			return accepted;
+		} catch (IOException e) {
+			log.error("[POINT] 일괄 지급 입력을 저장하지 못했습니다. jobId={}", jobId, e);
+			runningJobs.remove(jobId);
+			deleteSpooled(spooled);
+			throw new CustomException(ErrorCode.CHARGE_FAIL);
+		} catch (RuntimeException e) {
+			runningJobs.remove(jobId);
+			deleteSpooled(spooled);
+			throw e;
+		}
+	}
+
+	/**
+	 * 일괄 지급 작업의 진행 상태를 조회합니다.
+	 *
+	 * @param jobId 작업 식별자
+	 * @return 진행 상태(건수는 체크포인트까지 반영된 누적 값)
+	 */
+	public GrantProgress getProgress(String jobId) {
+		return checkpointRepository.findById(jobId)
+			.map(GrantProgress::from)
+			.orElseThrow(() -> new CustomException(ErrorCode.BULK_GRANT_NOT_FOUND));
+	}
+
+	/**
+	 * CSV 입력을 읽어 포인트를 지급합니다.
+	 * <p>
+	 * 한 행은 {@code userId,amount,key} 형식이며, 첫 행이 숫자로 시작하지 않으면 헤더로 보고 건너뜁니다.
+	 * 형식이 잘못된 행은 거부 건수로 집계하고 나머지 행은 계속 처리합니다.
+	 * </p>
+	 *
+	 * @param jobId 작업 식별자(재시작 시 같은 값을 사용)
+	 * @param csv   CSV 입력
+	 * @return 작업 결과
+	 */
+	public GrantResult grantFromCsv(String jobId, Reader csv) {
+		BufferedReader reader = csv instanceof BufferedReader buffered ? buffered : new BufferedReader(csv);
+		AtomicLong lineNo = new AtomicLong();
+		try (Stream<GrantLine> lines = reader.lines()
+			.map(line -> parseCsvLine(lineNo.incrementAndGet(), line))
+			.filter(Objects::nonNull)) {
+			return grant(jobId, lines);
+		} catch (UncheckedIOException e) {
+			log.error("[POINT] 일괄 지급 입력을 읽지 못했습니다. jobId={}", jobId, e);
+			throw new CustomException(ErrorCode.CHARGE_FAIL);
+		}
+	}
+
+	/**
+	 * 지급 행 스트림을 청크 단위로 병렬 처리합니다.
+	 * <p>
+	 * DB 조회 결과를 입력으로 쓰는 경우 {@code JdbcTemplate#queryForStream}처럼 결과를 지연 로딩하는 스트림을 전달합니다.
+	 * 행 번호는 입력 순서대로 증가해야 하며, 체크포인트 이하의 행은 건너뜁니다.
+	 * </p>
+	 *
+	 * @param jobId 작업 식별자(재시작 시 같은 값을 사용)
+	 * @param lines 지급 행 스트림
+	 * @return 작업 결과
+	 */
+	public GrantResult grant(String jobId, Stream<GrantLine> lines) {
+		validateJobId(jobId);
+
+		long resumeAfter = startCheckpoint(jobId).getLastLine();
+		GrantResult result;
+		try {
+			result = grantAfter(jobId, resumeAfter, lines);
+		} catch (RuntimeException e) {
+			updateStatus(jobId, PointBulkGrantStatus.FAILED);
+			throw e;
+		}
+		updateStatus(jobId, result.completed() ? PointBulkGrantStatus.COMPLETED : PointBulkGrantStatus.FAILED);
+		return result;
+	}
+
+	private GrantResult grantAfter(String jobId, long resumeAfter, Stream<GrantLine> lines) {
+		int workers = Math.max(1, Math.min(parallelism, connectionPoolSize - 1));
+		Progress progress = new Progress(jobId, resumeAfter);
+		Semaphore permits = new Semaphore(workers);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Iterator<GrantLine> iterator = lines.iterator();
+			long seq = 0;
+			List<GrantLine> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext()) {
+				GrantLine line = iterator.next();
+				if (line.lineNo() <= resumeAfter) {
+					continue;
+				}
+				chunk.add(line);
+				if (chunk.size() == chunkSize) {
+					submit(executor, permits, progress, seq++, chunk);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				submit(executor, permits, progress, seq, chunk);
+			}
+		}
+
+		GrantResult result = progress.result();
+		log.info("[POINT] 포인트 일괄 지급 종료. jobId={}, resumedAfter={}, lastLine={}, granted={}, duplicated={}, "
+				+ "rejected={}, completed={}", jobId, resumeAfter, result.lastLine(), result.granted(),
+			result.duplicated(), result.rejected(), result.completed());
+		return result;
+	}
+
+	private void runSpooled(String jobId, Path spooled) {
+		try (Reader reader = Files.newBufferedReader(spooled, StandardCharsets.UTF_8)) {
+			grantFromCsv(jobId, reader);
+		} catch (IOException | RuntimeException e) {
+			log.error("[POINT] 포인트 일괄 지급 실패. 같은 작업 식별자로 다시 요청하면 체크포인트 이후부터 처리합니다. jobId={}", jobId, e);
+			updateStatus(jobId, PointBulkGrantStatus.FAILED);
+		} finally {
+			runningJobs.remove(jobId);
+			deleteSpooled(spooled);
+		}
+	}
+
+	private void deleteSpooled(Path spooled) {
+		if (spooled == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(spooled);
+		} catch (IOException e) {
+			log.warn("[POINT] 일괄 지급 임시 파일을 삭제하지 못했습니다. path={}", spooled, e);
+		}
+	}
+
+	private static void validateJobId(String jobId) {
+		if (jobId == null || jobId.isBlank() || jobId.length() > 100) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+	}
+
+	private PointBulkGrantCheckpoint startCheckpoint(String jobId) {
+		return transactionTemplate.execute(status -> {
+			PointBulkGrantCheckpoint checkpoint = checkpointRepository.findById(jobId)
+				.orElseGet(() -> checkpointRepository.save(new PointBulkGrantCheckpoint(jobId)));
+			checkpoint.start();
+			return checkpoint;
+		});
+	}
+
+	private void updateStatus(String jobId, PointBulkGrantStatus status) {
+		transactionTemplate.executeWithoutResult(tx -> checkpointRepository.updateStatus(jobId, status));
+	}
+
+	private void submit(ExecutorService executor, Semaphore permits, Progress progress, long seq, List<GrantLine> chunk) {
+		permits.acquireUninterruptibly();
+		executor.execute(() -> {
+			try {
+				progress.complete(seq, chunk.get(chunk.size() - 1).lineNo(), applyChunkWithRetry(chunk));
+			} catch (RuntimeException e) {
+				log.error("[POINT] 일괄 지급 청크 처리 실패. jobId={}, fromLine={}, toLine={}",
+					progress.jobId, chunk.get(0).lineNo(), chunk.get(chunk.size() - 1).lineNo(), e);
+				progress.complete(seq, chunk.get(chunk.size() - 1).lineNo(), null);
+			} finally {
+				permits.release();
+			}
+		});
+	}
+
+	/**
+	 * 청크 트랜잭션을 실행합니다.
+	 * <p>
+	 * 멱등성 확인 이후 같은 키의 단건 충전이 먼저 커밋되면 유니크 제약 위반이 발생하므로,
+	 * 이 경우 한 번 더 실행하여 해당 키를 중복으로 집계합니다.
+	 * </p>
+	 */
+	private ChunkResult applyChunkWithRetry(List<GrantLine> chunk) {
+		try {
+			return retryExecutor.execute(GRANT_OPERATION, ErrorCode.CHARGE_FAIL,
+				() -> transactionTemplate.execute(status -> applyChunk(chunk)));
+		} catch (DataIntegrityViolationException e) {
+			log.info("[POINT] 일괄 지급 중 멱등성 키 충돌, 청크를 다시 처리합니다. fromLine={}", chunk.get(0).lineNo());
+			return retryExecutor.execute(GRANT_OPERATION, ErrorCode.CHARGE_FAIL,
+				() -> transactionTemplate.execute(status -> applyChunk(chunk)));
+		}
+	}
+
+	private ChunkResult applyChunk(List<GrantLine> chunk) {
+		long rejected = 0;
+		long duplicated = 0;
+
+		Set<GrantKey> seen = new HashSet<>();
+		List<GrantLine> candidates = new ArrayList<>(chunk.size());
+		for (GrantLine line : chunk) {
+			if (!line.isValid()) {
+				rejected++;
+			} else if (!seen.add(line.key())) {
+				// 같은 입력 안에서 반복된 (userId, key)는 먼저 나온 행만 지급합니다.
+				duplicated++;
+			} else {
+				candidates.add(line);
+			}
+		}
+		if (candidates.isEmpty()) {
+			return new ChunkResult(0, duplicated, rejected);
+		}
+
+		Set<Long> userIds = new HashSet<>();
+		Set<String> keys = new HashSet<>();
+		candidates.forEach(line -> {
+			userIds.add(line.userId());
+			keys.add(line.idempotencyKey().trim());
+		});
+
+		Set<GrantKey> processed = new HashSet<>();
+		jdbcTemplate.query(SELECT_PROCESSED_KEYS,
+			Map.of("userIds", userIds, "keyHashes", IdempotencyKeyHash.ofAll(keys)),
+			rs -> {
+				processed.add(new GrantKey(rs.getLong("user_id"), rs.getString("idempotency_key")));
+			});
+
+		Map<Long, Long> balances = new HashMap<>();
+		Map<Long, Integer> shardCounts = new HashMap<>();
+		Map<Long, Long> lotTotals = new HashMap<>();
+		jdbcTemplate.query(LOCK_WALLETS, Map.of("userIds", userIds), rs -> {
+			balances.put(rs.getLong("user_id"), rs.getLong("balance"));
+			shardCounts.put(rs.getLong("user_id"), rs.getInt("shard_count"));
+			lotTotals.put(rs.getLong("user_id"), rs.getLong("lot_total"));
+		});
+		List<Long> shardedUserIds = shardCounts.entrySet().stream()
+			.filter(entry -> entry.getValue() > 0)
+			.map(Map.Entry::getKey)
+			.toList();
+		if (!shardedUserIds.isEmpty()) {
+			jdbcTemplate.query(SUM_SHARDS, Map.of("userIds", shardedUserIds),
+				rs -> {
+					balances.merge(rs.getLong("user_id"), rs.getLong("balance"), Long::sum);
+				});
+		}
+
+		LocalDateTime nowDateTime = LocalDateTime.now(clock);
+		Timestamp now = Timestamp.valueOf(nowDateTime);
+		Timestamp expiresAt = Timestamp.valueOf(nowDateTime.plusDays(idempotencyRetentionDays));
+		LocalDateTime lotExpiresAt = nowDateTime.plusDays(lotExpireDays);
+		List<SqlParameterSource> inserts = new ArrayList<>();
+		Map<Long, Long> shardTotals = new HashMap<>();
+		Map<Long, PointBalanceChangedEvent> lastEvents = new LinkedHashMap<>();
+
+		for (GrantLine line : candidates) {
+			Long userId = line.userId();
+			if (processed.contains(line.key())) {
+				duplicated++;
+				continue;
+			}
+			Long balance = balances.get(userId);
+			if (balance == null || balance > PointWallet.MAX_BALANCE - line.amount()) {
+				// 지갑이 없거나 최대 보유 포인트를 넘는 행은 지급하지 않습니다.
+				rejected++;
+				continue;
+			}
+
+			long balanceAfter = balance + line.amount();
+			balances.put(userId, balanceAfter);
+			long cumulativeEnd = lotTotals.merge(userId, line.amount(), Long::sum);
+			if (shardCounts.get(userId) > 0) {
+				shardTotals.merge(userId, line.amount(), Long::sum);
+			}
+
+			long id = SnowflakeIdGenerator.getInstance().nextId();
+			inserts.add(new MapSqlParameterSource()
+				.addValue("id", id)
+				.addValue("userId", userId)
+				.addValue("type", PointTransactionType.CHARGE.name())
+				.addValue("amount", line.amount())
+				.addValue("balanceAfter", balanceAfter)
+				.addValue("idempotencyKey", line.idempotencyKey().trim())
+				.addValue("keyId", SnowflakeIdGenerator.getInstance().nextId())
+				.addValue("keyHash", IdempotencyKeyHash.of(line.idempotencyKey().trim()))
+				.addValue("expiresAt", expiresAt)
+				.addValue("lotId", SnowflakeIdGenerator.getInstance().nextId())
+				.addValue("cumulativeEnd", cumulativeEnd)
+				.addValue("lotExpiresAt", Timestamp.valueOf(lotExpiresAt))
+				.addValue("lotExpireBucket", PointLot.bucketOf(lotExpiresAt))
+				.addValue("now", now));
+			lastEvents.put(userId, new PointBalanceChangedEvent(userId, id, balanceAfter));
+		}
+		if (inserts.isEmpty()) {
+			return new ChunkResult(0, duplicated, rejected);
+		}
+
+		// 분할 지갑은 지갑 행의 누적 충전량만 갱신하고, 잔액은 하위 행에 충전합니다.
+		List<SqlParameterSource> walletUpdates = lastEvents.keySet().stream()
+			.map(userId -> (SqlParameterSource)new MapSqlParameterSource()
+				.addValue("userId", userId)
+				.addValue("balance", balances.get(userId))
+				.addValue("lotTotal", lotTotals.get(userId))
+				.addValue("now", now))
+			.toList();
+		jdbcTemplate.batchUpdate(UPDATE_WALLET, walletUpdates.toArray(SqlParameterSource[]::new));
+		shardTotals.forEach((userId, total) -> pointWalletShardService.charge(userId, shardCounts.get(userId), total));
+		SqlParameterSource[] insertBatch = inserts.toArray(SqlParameterSource[]::new);
+		jdbcTemplate.batchUpdate(INSERT_TRANSACTION, insertBatch);
+		jdbcTemplate.batchUpdate(INSERT_IDEMPOTENCY_KEY, insertBatch);
+		jdbcTemplate.batchUpdate(INSERT_LOT, insertBatch);
+
+		lastEvents.values().forEach(eventPublisher::publishEvent);
+		return new ChunkResult(inserts.size(), duplicated, rejected);
+	}
+
+	private GrantLine parseCsvLine(long lineNo, String line) {
+		if (line.isBlank()) {
+			return null;
+		}
+		String[] columns = line.split(",", -1);
+		String first = columns[0].trim();
+		if (lineNo == 1 && !first.isEmpty() && !Character.isDigit(first.charAt(0))) {
+			// 헤더 행
+			return null;
+		}
+		if (columns.length != 3) {
+			return new GrantLine(lineNo, null, null, null);
+		}
+		try {
+			return new GrantLine(lineNo, Long.parseLong(columns[0].trim()), Long.parseLong(columns[1].trim()),
+				columns[2].trim());
+		} catch (NumberFormatException e) {
+			return new GrantLine(lineNo, null, null, null);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		jobExecutor.shutdown();
+		if (!jobExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+			log.warn("[POINT] 일괄 지급 작업 종료 대기 시간 초과. 남은 행은 같은 작업 식별자로 다시 요청하면 이어서 처리됩니다.");
+			jobExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 청크 완료 순서와 관계없이, 앞에서부터 빠짐없이 완료된 청크까지만 체크포인트를 옮깁니다.
+	 * 실패한 청크가 있으면 그 앞에서 멈추므로, 다시 실행하면 실패한 청크부터 처리합니다.
+	 */
+	private final class Progress {
+
+		private final String jobId;
+		/** seq → 완료된 청크(실패한 청크는 result가 null) */
+		private final TreeMap<Long, CompletedChunk> completed = new TreeMap<>();
+		private long nextSeq;
+		private long lastLine;
+		private boolean blocked;
+		private ChunkResult total = ChunkResult.EMPTY;
+
+		private Progress(String jobId, long lastLine) {
+			this.jobId = jobId;
+			this.lastLine = lastLine;
+		}
+
+		synchronized void complete(long seq, long chunkLastLine, ChunkResult result) {
+			if (result != null) {
+				total = total.plus(result);
+			}
+			completed.put(seq, new CompletedChunk(chunkLastLine, result));
+
+			long advancedTo = lastLine;
+			ChunkResult advanced = ChunkResult.EMPTY;
+			while (!blocked && completed.containsKey(nextSeq)) {
+				CompletedChunk chunk = completed.remove(nextSeq);
+				if (chunk.result() == null) {
+					blocked = true;
+					break;
+				}
+				advancedTo = chunk.lastLine();
+				advanced = advanced.plus(chunk.result());
+				nextSeq++;
+			}
+			if (advancedTo > lastLine) {
+				lastLine = advancedTo;
+				saveCheckpoint(advancedTo, advanced);
+			}
+		}
+
+		private void saveCheckpoint(long to, ChunkResult advanced) {
+			transactionTemplate.executeWithoutResult(status -> checkpointRepository.advance(
+				jobId, to, advanced.granted(), advanced.duplicated(), advanced.rejected()));
+		}
+
+		synchronized GrantResult result() {
+			return new GrantResult(jobId, lastLine, total.granted(), total.duplicated(), total.rejected(),
+				!blocked && completed.isEmpty());
+		}
+	}
+
+	/**
+	 * 지급 입력 1행입니다.
+	 *
+	 * @param lineNo         입력 행 번호(1부터 증가, 체크포인트 기준)
+	 * @param userId         지급 대상 사용자 식별자
+	 * @param amount         지급 금액(양수)
+	 * @param idempotencyKey 멱등성 키(같은 사용자에게 같은 키로 두 번 지급되지 않음)
+	 */
+	public record GrantLine(long lineNo, Long userId, Long amount, String idempotencyKey) {
+
+		boolean isValid() {
+			return userId != null && userId > 0
+				&& amount != null && amount > 0
+				&& idempotencyKey != null && !idempotencyKey.isBlank() && idempotencyKey.trim().length() <= 100;
+		}
+
+		GrantKey key() {
+			return new GrantKey(userId, idempotencyKey.trim());
+		}
+	}
+
+	/**
+	 * 일괄 지급 결과입니다. 건수는 이번 실행에서 처리한 행 기준입니다.
+	 *
+	 * @param jobId      작업 식별자
+	 * @param lastLine   체크포인트로 기록된 마지막 행 번호
+	 * @param granted    지급 건수
+	 * @param duplicated 이미 지급되어 건너뛴 건수
+	 * @param rejected   형식 오류/지갑 없음/최대 보유 포인트 초과로 지급하지 않은 건수
+	 * @param completed  모든 청크가 성공했는지 여부(false면 같은 작업 식별자로 다시 실행)
+	 */
+	public record GrantResult(
+		String jobId, long lastLine, long granted, long duplicated, long rejected, boolean completed) {
+	}
+
+	/**
+	 * 일괄 지급 작업의 진행 상태입니다. 건수는 체크포인트까지 반영된, 모든 실행의 누적 값입니다.
+	 *
+	 * @param jobId      작업 식별자
+	 * @param status     작업 상태
+	 * @param lastLine   체크포인트로 기록된 마지막 행 번호
+	 * @param granted    지급 건수
+	 * @param duplicated 이미 지급되어 건너뛴 건수
+	 * @param rejected   형식 오류/지갑 없음/최대 보유 포인트 초과로 지급하지 않은 건수
+	 */
+	public record GrantProgress(
+		String jobId, PointBulkGrantStatus status, long lastLine, long granted, long duplicated, long rejected) {
+
+		static GrantProgress from(PointBulkGrantCheckpoint checkpoint) {
+			return new GrantProgress(checkpoint.getJobId(), checkpoint.getStatus(), checkpoint.getLastLine(),
+				checkpoint.getGranted(), checkpoint.getDuplicated(), checkpoint.getRejected());
+		}
+	}
+
+	private record GrantKey(Long userId, String idempotencyKey) {
+	}
+
+	private record ChunkResult(long granted, long duplicated, long rejected) {
+		static final ChunkResult EMPTY = new ChunkResult(0, 0, 0);
+
+		ChunkResult plus(ChunkResult other) {
+			return new ChunkResult(
+				granted + other.granted, duplicated + other.duplicated, rejected + other.rejected);
+		}
+	}
+
+	private record CompletedChunk(long lastLine, ChunkResult result) {
+	}
+}
@@ -0,0 +1,206 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.dto.PointChargeRequest;
+import org.example.develop_server_kcompany.point.enums.PointChargeStatus;
+import org.example.develop_server_kcompany.point.messaging.PointChargeCommandProducer;
+import org.example.develop_server_kcompany.point.messaging.dto.PointChargeCommandPayload;
+import org.example.develop_server_kcompany.point.repository.PointChargeStatusRedisRepository;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.service.PointService.ChargeCommand;
+import org.example.develop_server_kcompany.point.service.PointService.ChargeOutcome;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포인트 충전 요청을 Kafka 명령으로 접수하고 처리하는 서비스입니다.
+ * <p>
+ * 접수 시에는 상태를 {@code PENDING}으로 표시하고 {@code userId}를 키로 명령을 전송한 뒤 바로 반환합니다.
+ * 같은 사용자의 명령은 같은 파티션에 쌓이고 파티션은 한 소비자만 순서대로 처리하므로,
+ * 소비 측에서는 사용자 락 없이도 지갑 행을 두고 경쟁하지 않으며 처리량은 파티션 수에 비례해 늘어납니다.
+ * </p>
+ * <p>
+ * 소비자가 한 번에 가져온 명령은 사용자별로 묶어 {@link PointService#chargeAll}로 처리하므로,
+ * 사용자마다 지갑 UPDATE 1회와 원장 배치 INSERT로 반영됩니다.
+ * Kafka 재전달로 같은 명령이 다시 들어와도 멱등성 키로 중복 충전되지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointChargeCommandService {
+
+	private final PointService pointService;
+	private final PointChargeCommandProducer pointChargeCommandProducer;
+	private final PointChargeStatusRedisRepository pointChargeStatusRedisRepository;
+	private final PointTransactionRepository pointTransactionRepository;
+	private final Clock clock;
+
+	/**
+	 * 포인트 충전 요청을 접수합니다.
+	 * <p>
+	 * 멱등성 키가 비어 있으면 서버에서 생성하며, 처리 상태는 이 키로 조회합니다.
+	 * </p>
+	 *
+	 * @param request 포인트 충전 요청 DTO
+	 * @return 접수 결과
+	 * @throws CustomException 명령 전송에 실패한 경우({@link ErrorCode#CHARGE_FAIL})
+	 */
+	public ChargeAcceptResult accept(PointChargeRequest request) {
+		if (request == null) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+
+		Long userId = request.getUserId();
+		String idempotencyKey = PointService.normalizeIdempotencyKey(request.getIdempotencyKey());
+
+		pointChargeStatusRedisRepository.markPending(userId, idempotencyKey);
+		try {
+			pointChargeCommandProducer.send(PointChargeCommandPayload.builder()
+				.userId(userId)
+				.amount(request.getAmount())
+				.idempotencyKey(idempotencyKey)
+				.requestedAt(LocalDateTime.now(clock).toString())
+				.build());
+		} catch (CustomException e) {
+			// 전송 여부가 불확실하므로 상태만 지웁니다. 실제로 전송되어 처리되었다면 원장으로 완료가 조회됩니다.
+			pointChargeStatusRedisRepository.clear(userId, idempotencyKey);
+			throw e;
+		}
+
+		log.info("[POINT] 포인트 충전 요청 접수. userId={}, amount={}, key={}", userId, request.getAmount(), idempotencyKey);
+		return new ChargeAcceptResult(userId, request.getAmount(), idempotencyKey, PointChargeStatus.PENDING);
+	}
+
+	/**
+	 * 접수된 포인트 충전 요청의 처리 상태를 조회합니다.
+	 * <p>
+	 * 처리 중 표시를 먼저 읽고 원장을 나중에 확인하므로, 그 사이 처리가 끝나 표시가 지워져도 완료로 조회됩니다.
+	 * </p>
+	 *
+	 * @param userId         사용자 식별자
+	 * @param idempotencyKey 접수 시 반환된 멱등성 키
+	 * @return 처리 상태
+	 * @throws CustomException 접수 기록과 원장이 모두 없는 경우({@link ErrorCode#CHARGE_COMMAND_NOT_FOUND})
+	 */
+	public ChargeStatusView getStatus(Long userId, String idempotencyKey) {
+		Optional<String> marker = pointChargeStatusRedisRepository.find(userId, idempotencyKey);
+
+		return pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+			.map(tx -> new ChargeStatusView(userId, idempotencyKey, PointChargeStatus.COMPLETED,
+				tx.getAmount(), tx.getBalanceAfter(), null))
+			.orElseGet(() -> marker
+				.map(value -> toStatusView(userId, idempotencyKey, value))
+				.orElseThrow(() -> new CustomException(ErrorCode.CHARGE_COMMAND_NOT_FOUND)));
+	}
+
+	/**
+	 * 소비자가 가져온 충전 명령을 처리합니다.
+	 * <p>
+	 * 명령은 사용자별로 묶되 사용자 안에서는 수신 순서를 유지합니다.
+	 * 성공한 명령은 처리 중 표시를 지우고, 실패한 명령은 오류 코드를 기록합니다.
+	 * </p>
+	 * <p>
+	 * 그 외 예외(DB 장애 등)는 {@link BatchListenerFailedException}으로 실패한 사용자의 첫 명령 위치를 알려 전파합니다.
+	 * 사용자는 배치 안에서 처음 등장한 순서대로 처리하므로 그 위치 이전의 명령은 모두 반영된 상태이며,
+	 * 에러 핸들러는 그 이전까지만 커밋하고 나머지를 다시 전달받습니다.
+	 * 이미 반영된 명령이 그 뒤에 섞여 다시 들어와도 멱등성 키로 중복 충전되지 않습니다.
+	 * </p>
+	 *
+	 * @param payloads 한 번에 수신한 충전 명령 목록
+	 * @throws BatchListenerFailedException 충전 처리 중 예상하지 못한 예외가 발생한 경우
+	 */
+	public void apply(List<PointChargeCommandPayload> payloads) {
+		Map<Long, List<PointChargeCommandPayload>> byUser = new LinkedHashMap<>();
+		Map<Long, Integer> firstIndexByUser = new HashMap<>();
+		for (int i = 0; i < payloads.size(); i++) {
+			PointChargeCommandPayload payload = payloads.get(i);
+			if (payload == null || payload.getUserId() == null || payload.getIdempotencyKey() == null) {
+				log.warn("[KAFKA] 포인트 충전 명령 userId/key 누락. payload={}", payload);
+				continue;
+			}
+			byUser.computeIfAbsent(payload.getUserId(), userId -> new ArrayList<>()).add(payload);
+			firstIndexByUser.putIfAbsent(payload.getUserId(), i);
+		}
+
+		byUser.forEach((userId, commands) -> {
+			List<ChargeOutcome> outcomes;
+			try {
+				outcomes = pointService.chargeAll(userId, commands.stream()
+					.map(payload -> new ChargeCommand(payload.getAmount(), payload.getIdempotencyKey()))
+					.toList());
+			} catch (RuntimeException e) {
+				throw new BatchListenerFailedException(
+					"포인트 충전 명령 처리 실패. userId=" + userId, e, firstIndexByUser.get(userId));
+			}
+
+			for (int i = 0; i < commands.size(); i++) {
+				String key = commands.get(i).getIdempotencyKey();
+				ChargeOutcome outcome = outcomes.get(i);
+				if (outcome.isSuccess()) {
+					pointChargeStatusRedisRepository.clear(userId, key);
+				} else {
+					log.warn("[POINT] 포인트 충전 명령 처리 실패. userId={}, key={}, errorCode={}",
+						userId, key, outcome.errorCode());
+					pointChargeStatusRedisRepository.markFailed(userId, key, outcome.errorCode().getCode());
+				}
+			}
+		});
+	}
+
+	private ChargeStatusView toStatusView(Long userId, String idempotencyKey, String marker) {
+		if (marker.startsWith(PointChargeStatusRedisRepository.FAILED_PREFIX)) {
+			String failureCode = marker.substring(PointChargeStatusRedisRepository.FAILED_PREFIX.length());
+			return new ChargeStatusView(userId, idempotencyKey, PointChargeStatus.FAILED, null, null, failureCode);
+		}
+		return new ChargeStatusView(userId, idempotencyKey, PointChargeStatus.PENDING, null, null, null);
+	}
+
+	/**
+	 * 충전 요청 접수 결과입니다.
+	 *
+	 * @param userId         사용자 식별자
+	 * @param amount         충전 요청 금액
+	 * @param idempotencyKey 최종 사용된 멱등성 키(요청이 비어 있었던 경우 서버에서 생성)
+	 * @param status         접수 직후 상태(PENDING)
+	 */
+	public record ChargeAcceptResult(Long userId, Long amount, String idempotencyKey, PointChargeStatus status) {
+	}
+
+	/**
+	 * 충전 요청 처리 상태입니다.
+	 *
+	 * @param userId         사용자 식별자
+	 * @param idempotencyKey 멱등성 키
+	 * @param status         처리 상태
+	 * @param chargedAmount  완료 시 충전 금액(그 외 null)
+	 * @param balanceAfter   완료 시 충전 직후 잔액(그 외 null)
+	 * @param failureCode    실패 시 오류 코드(그 외 null)
+	 */
+	public record ChargeStatusView(
+		Long userId,
+		String idempotencyKey,
+		PointChargeStatus status,
+		Long chargedAmount,
+		Long balanceAfter,
+		String failureCode
+	) {
+	}
+}
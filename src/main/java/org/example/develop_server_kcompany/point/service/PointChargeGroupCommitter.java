@@ -0,0 +1,185 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.metrics.PointMetrics;
+import org.example.develop_server_kcompany.point.service.PointService.ChargeCommand;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 사용자의 포인트 충전 요청을 짧은 시간 동안 모아 한 번에 처리(group commit)하는 컴포넌트입니다.
+ * <p>
+ * 사용자별 대기열에 처음 들어온 요청(리더)이 {@code window-ms}만큼 기다린 뒤 그동안 쌓인 요청을 꺼내
+ * 최대 {@code max-size}건씩 flush 함수로 넘깁니다. 나머지 요청(팔로워)은 자신의 결과가 채워질 때까지 기다립니다.
+ * 프로모션 웹훅처럼 같은 사용자의 충전이 몰리는 경우, 지갑 UPDATE와 원장 INSERT가 그룹당 한 번으로 줄어듭니다.
+ * </p>
+ * <p>
+ * 별도 스레드를 두지 않고 요청 스레드 중 하나가 처리합니다. 리더 혼자 대기열에 있고 같은 사용자의
+ * 그룹이 처리 중이지 않으면 모을 요청이 없으므로 기다리지 않고 바로 처리하여, 몰리지 않는 요청에는 지연이 없습니다.
+ * </p>
+ * <p>
+ * 팔로워는 {@code await-timeout-ms}까지만 결과를 기다리고, 리더의 처리가 끝나지 않으면
+ * {@link ErrorCode#CHARGE_FAIL}로 실패합니다. 이 경우에도 충전은 나중에 커밋될 수 있으므로,
+ * 호출자는 같은 멱등성 키로 재시도하여 결과를 확인합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Component
+@Slf4j
+public class PointChargeGroupCommitter {
+
+	private final PointMetrics pointMetrics;
+	private final long windowMs;
+	private final int maxGroupSize;
+	private final long awaitTimeoutMs;
+	private final ConcurrentHashMap<Long, List<Entry>> queues = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Integer> flushing = new ConcurrentHashMap<>();
+
+	public PointChargeGroupCommitter(
+		PointMetrics pointMetrics,
+		@Value("${app.point.charge-group.window-ms:2}") long windowMs,
+		@Value("${app.point.charge-group.max-size:100}") int maxGroupSize,
+		@Value("${app.point.charge-group.await-timeout-ms:5000}") long awaitTimeoutMs
+	) {
+		this.pointMetrics = pointMetrics;
+		this.windowMs = windowMs;
+		this.maxGroupSize = maxGroupSize;
+		this.awaitTimeoutMs = awaitTimeoutMs;
+	}
+
+	/**
+	 * 충전 요청을 사용자 대기열에 넣고, 그룹 처리 결과 중 이 요청의 결과를 반환합니다.
+	 *
+	 * @param userId  사용자 식별자
+	 * @param command 충전 요청
+	 * @param flusher 그룹을 처리하고 각 {@link Entry}의 결과를 채우는 함수(커밋 이후에 결과를 채워야 합니다)
+	 * @return 이 요청의 충전 결과
+	 */
+	public PointChargeResponse submit(Long userId, ChargeCommand command, Consumer<List<Entry>> flusher) {
+		Entry entry = new Entry(command);
+		boolean[] leader = {false};
+		queues.compute(userId, (id, queue) -> {
+			if (queue == null) {
+				queue = new ArrayList<>();
+				leader[0] = true;
+			}
+			queue.add(entry);
+			return queue;
+		});
+
+		if (leader[0]) {
+			if (hasCompany(userId)) {
+				awaitWindow();
+			}
+			// 꺼낸 이후에 들어온 요청은 새 대기열을 만들고 그 요청이 다음 리더가 됩니다.
+			List<Entry> group = queues.remove(userId);
+			flushing.merge(userId, 1, Integer::sum);
+			try {
+				for (int from = 0; from < group.size(); from += maxGroupSize) {
+					flush(group.subList(from, Math.min(from + maxGroupSize, group.size())), flusher);
+				}
+			} finally {
+				flushing.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+			}
+		}
+		return entry.await(awaitTimeoutMs);
+	}
+
+	/**
+	 * 리더 외에 대기열에 다른 요청이 있거나 같은 사용자의 그룹이 처리 중이면(요청이 몰리는 중이면) true를 반환합니다.
+	 */
+	private boolean hasCompany(Long userId) {
+		if (flushing.containsKey(userId)) {
+			return true;
+		}
+		int[] size = {0};
+		queues.computeIfPresent(userId, (id, queue) -> {
+			size[0] = queue.size();
+			return queue;
+		});
+		return size[0] > 1;
+	}
+
+	private void flush(List<Entry> group, Consumer<List<Entry>> flusher) {
+		pointMetrics.recordChargeGroupSize(group.size());
+		try {
+			flusher.accept(group);
+		} catch (RuntimeException e) {
+			group.forEach(entry -> entry.fail(e));
+		} finally {
+			// flush 함수가 결과를 채우지 않은 요청이 무한정 기다리지 않도록 합니다.
+			group.forEach(entry -> entry.fail(new CustomException(ErrorCode.CHARGE_FAIL)));
+		}
+	}
+
+	private void awaitWindow() {
+		if (windowMs <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(windowMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("[POINT] 충전 그룹 대기 중 인터럽트 발생, 즉시 처리합니다.");
+		}
+	}
+
+	/**
+	 * 그룹에 포함된 충전 요청 1건과 그 결과입니다.
+	 */
+	public static final class Entry {
+
+		private final ChargeCommand command;
+		private final CompletableFuture<PointChargeResponse> result = new CompletableFuture<>();
+
+		private Entry(ChargeCommand command) {
+			this.command = command;
+		}
+
+		public ChargeCommand command() {
+			return command;
+		}
+
+		public void complete(PointChargeResponse response) {
+			result.complete(response);
+		}
+
+		public void fail(RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+
+		private PointChargeResponse await(long timeoutMs) {
+			try {
+				return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw new CompletionException(e.getCause());
+			} catch (TimeoutException e) {
+				log.warn("[POINT] 충전 그룹 결과 대기 시간 초과. idempotencyKey={}", command.idempotencyKey());
+				throw new CustomException(ErrorCode.CHARGE_FAIL);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CustomException(ErrorCode.CHARGE_FAIL);
+			}
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.common.id.SnowflakeIdGenerator;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.event.PointBalanceChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 시각까지 확정되지 않은 포인트 가점유를 해제하는 배치 작업입니다.
+ * <p>
+ * 주문 저장 전에 프로세스가 중단되는 등으로 확정도 해제도 되지 않은 가점유의 잔액을 되돌리고(EXPIRED),
+ * 되돌린 금액은 RELEASE 원장으로 기록합니다. 가점유의 멱등성 키는 삭제하여 같은 키로 다시 결제할 수 있게 합니다.
+ * </p>
+ *
+ * <h3>처리 방식</h3>
+ * <ul>
+ *  <li>만료 인덱스({@code status, expires_at})로 만료된 가점유만 {@code chunk-size}건씩 잠그며 읽습니다.</li>
+ *  <li>가점유 행을 먼저 잠그고 지갑(과 분할 지갑 하위 행)을 사용자 식별자 순으로 잠가,
+ *  가점유 행 → 지갑 순서로 잠그는 단건 해제와 교착되지 않습니다.</li>
+ *  <li>지갑 UPDATE, 원장 INSERT, 키 DELETE는 JDBC 배치로 전송합니다.</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointHoldExpiryJob {
+
+	private static final String LOCK_DUE_HOLDS = """
+		SELECT id, user_id, transaction_id, amount FROM point_holds
+		WHERE status = :status AND expires_at <= :now
+		ORDER BY expires_at, id
+		LIMIT :limit
+		FOR UPDATE
+		""";
+
+	private static final String EXPIRE_HOLDS = """
+		UPDATE point_holds SET status = :status, last_modified_at = :now
+		WHERE id IN (:ids)
+		""";
+
+	private static final String SELECT_HOLD_KEYS =
+		"SELECT id, idempotency_key FROM point_transactions WHERE id IN (:ids)";
+
+	private static final String LOCK_WALLETS = """
+		SELECT user_id, balance, shard_count FROM point_wallet
+		WHERE user_id IN (:userIds)
+		ORDER BY user_id
+		FOR UPDATE
+		""";
+
+	private static final String LOCK_SHARDS = """
+		SELECT user_id, balance FROM point_wallet_shard
+		WHERE user_id IN (:userIds)
+		ORDER BY user_id, shard_no
+		FOR UPDATE
+		""";
+
+	private static final String UPDATE_WALLET = """
+		UPDATE point_wallet
+		SET balance = balance + :released, version = version + 1, last_modified_at = :now
+		WHERE user_id = :userId
+		""";
+
+	private static final String INSERT_TRANSACTION = """
+		INSERT INTO point_transactions
+			(id, user_id, type, amount, balance_after, order_id, idempotency_key, created_at, last_modified_at)
+		VALUES (:id, :userId, :type, :amount, :balanceAfter, NULL, :idempotencyKey, :now, :now)
+		""";
+
+	private static final String DELETE_KEY = """
+		DELETE FROM point_idempotency_keys
+		WHERE user_id = :userId AND key_hash = :keyHash AND transaction_id = :transactionId
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final PointWalletShardService pointWalletShardService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	@Value("${app.point.hold.expiry-chunk-size:500}")
+	private int chunkSize;
+
+	@Scheduled(
+		fixedDelayString = "${app.point.hold.expiry-interval-ms:10000}",
+		initialDelayString = "${app.point.hold.expiry-interval-ms:10000}"
+	)
+	public void run() {
+		expire(LocalDateTime.now(clock));
+	}
+
+	/**
+	 * 기준 시각까지 만료된 가점유를 모두 해제합니다.
+	 *
+	 * @param now 이 시각까지 만료된 가점유가 대상
+	 * @return 해제한 가점유 수
+	 */
+	public int expire(LocalDateTime now) {
+		int total = 0;
+		while (true) {
+			Integer processed = transactionTemplate.execute(status -> expireChunk(now));
+			total += processed == null ? 0 : processed;
+			if (processed == null || processed < chunkSize) {
+				break;
+			}
+		}
+
+		if (total > 0) {
+			log.info("[POINT] 만료된 포인트 가점유 해제 완료. holds={}, now={}", total, now);
+		}
+		return total;
+	}
+
+	private int expireChunk(LocalDateTime now) {
+		List<DueHold> holds = jdbcTemplate.query(LOCK_DUE_HOLDS, Map.of(
+			"status", PointHoldStatus.HELD.name(),
+			"now", Timestamp.valueOf(now),
+			"limit", chunkSize
+		), (rs, rowNum) -> new DueHold(
+			rs.getLong("id"), rs.getLong("user_id"), rs.getLong("transaction_id"), rs.getLong("amount")));
+		if (holds.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now(clock));
+		jdbcTemplate.update(EXPIRE_HOLDS, Map.of(
+			"status", PointHoldStatus.EXPIRED.name(),
+			"now", timestamp,
+			"ids", holds.stream().map(DueHold::id).toList()
+		));
+
+		Map<Long, String> keysByTransaction = new HashMap<>();
+		jdbcTemplate.query(SELECT_HOLD_KEYS, Map.of("ids", holds.stream().map(DueHold::transactionId).toList()),
+			rs -> {
+				keysByTransaction.put(rs.getLong("id"), rs.getString("idempotency_key"));
+			});
+
+		Map<Long, List<DueHold>> holdsByUser = new LinkedHashMap<>();
+		holds.forEach(hold -> holdsByUser.computeIfAbsent(hold.userId(), userId -> new ArrayList<>()).add(hold));
+
+		Map<String, Object> userParams = Map.of("userIds", holdsByUser.keySet());
+		Map<Long, Long> balances = new HashMap<>();
+		Map<Long, Integer> shardCounts = new HashMap<>();
+		jdbcTemplate.query(LOCK_WALLETS, userParams, rs -> {
+			balances.put(rs.getLong("user_id"), rs.getLong("balance"));
+			shardCounts.put(rs.getLong("user_id"), rs.getInt("shard_count"));
+		});
+		if (shardCounts.values().stream().anyMatch(shardCount -> shardCount > 0)) {
+			jdbcTemplate.query(LOCK_SHARDS, userParams, rs -> {
+				balances.merge(rs.getLong("user_id"), rs.getLong("balance"), Long::sum);
+			});
+		}
+
+		List<SqlParameterSource> walletUpdates = new ArrayList<>();
+		List<SqlParameterSource> inserts = new ArrayList<>();
+		List<SqlParameterSource> keyDeletes = new ArrayList<>();
+		List<PointBalanceChangedEvent> events = new ArrayList<>();
+
+		for (Map.Entry<Long, List<DueHold>> entry : holdsByUser.entrySet()) {
+			Long userId = entry.getKey();
+			Long balance = balances.get(userId);
+			if (balance == null) {
+				// 가점유는 지갑 잔액을 차감해 만들어지므로 지갑이 없을 수 없습니다. 상태만 정리합니다.
+				log.warn("[POINT] 지갑 없는 가점유 만료. userId={}, holds={}", userId, entry.getValue().size());
+				continue;
+			}
+
+			long released = 0;
+			long lastId = 0;
+			for (DueHold hold : entry.getValue()) {
+				released += hold.amount();
+				lastId = SnowflakeIdGenerator.getInstance().nextId();
+				inserts.add(new MapSqlParameterSource()
+					.addValue("id", lastId)
+					.addValue("userId", userId)
+					.addValue("type", PointTransactionType.RELEASE.name())
+					.addValue("amount", hold.amount())
+					.addValue("balanceAfter", balance + released)
+					.addValue("idempotencyKey", "hold-release-" + hold.id())
+					.addValue("now", timestamp));
+
+				String key = keysByTransaction.get(hold.transactionId());
+				if (key != null) {
+					keyDeletes.add(new MapSqlParameterSource()
+						.addValue("userId", userId)
+						.addValue("keyHash", IdempotencyKeyHash.of(key))
+						.addValue("transactionId", hold.transactionId()));
+				}
+			}
+
+			if (shardCounts.get(userId) > 0) {
+				pointWalletShardService.charge(userId, shardCounts.get(userId), released);
+			} else {
+				walletUpdates.add(new MapSqlParameterSource()
+					.addValue("userId", userId)
+					.addValue("released", released)
+					.addValue("now", timestamp));
+			}
+			events.add(new PointBalanceChangedEvent(userId, lastId, balance + released));
+		}
+
+		if (!walletUpdates.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPDATE_WALLET, walletUpdates.toArray(SqlParameterSource[]::new));
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_TRANSACTION, inserts.toArray(SqlParameterSource[]::new));
+		}
+		if (!keyDeletes.isEmpty()) {
+			jdbcTemplate.batchUpdate(DELETE_KEY, keyDeletes.toArray(SqlParameterSource[]::new));
+		}
+		events.forEach(eventPublisher::publishEvent);
+		return holds.size();
+	}
+
+	private record DueHold(long id, long userId, long transactionId, long amount) {
+	}
+}
@@ -0,0 +1,93 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 포인트 멱등성 키를 삭제하는 배치 작업입니다.
+ * <p>
+ * 멱등성 키 저장소({@code point_idempotency_keys})는 보존 기간 동안의 키만 유지해야
+ * (user_id, key_hash) 유니크 인덱스가 작게 유지되고 키 등록/중복 확인 비용이 일정합니다.
+ * 원장({@code point_transactions})은 삭제하지 않습니다.
+ * </p>
+ *
+ * <h3>처리 방식</h3>
+ * <ul>
+ *  <li>{@code expires_at} 인덱스 순으로 {@code purge-chunk-size}건씩 나누어, 청크마다 짧은 트랜잭션으로 삭제합니다.</li>
+ *  <li>엔티티를 로딩하지 않고 {@code DELETE ... IN}으로 처리하여, 온라인 요청의 키 등록과 락 경합을 줄입니다.</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointIdempotencyKeyPurgeJob {
+
+	private static final String SELECT_EXPIRED_IDS = """
+		SELECT id FROM point_idempotency_keys
+		WHERE expires_at < :now
+		ORDER BY expires_at
+		LIMIT :limit
+		""";
+
+	private static final String DELETE_KEYS = "DELETE FROM point_idempotency_keys WHERE id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${app.point.idempotency.purge-chunk-size:1000}")
+	private int chunkSize;
+
+	@Scheduled(cron = "${app.point.idempotency.purge-cron:0 0 4 * * *}")
+	public void run() {
+		purge(LocalDateTime.now(clock));
+	}
+
+	/**
+	 * 기준 시각 이전에 만료된 멱등성 키를 모두 삭제합니다.
+	 *
+	 * @param now 이 시각 이전에 만료된 키가 대상
+	 * @return 삭제한 키 수
+	 */
+	public int purge(LocalDateTime now) {
+		int total = 0;
+		while (true) {
+			Integer deleted = transactionTemplate.execute(status -> purgeChunk(now));
+			total += deleted == null ? 0 : deleted;
+			if (deleted == null || deleted < chunkSize) {
+				break;
+			}
+		}
+
+		if (total > 0) {
+			log.info("[POINT] 만료된 멱등성 키 삭제 완료. purged={}, expiredBefore={}", total, now);
+		}
+		return total;
+	}
+
+	private int purgeChunk(LocalDateTime now) {
+		List<Long> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_IDS, Map.of(
+			"now", now,
+			"limit", chunkSize
+		), Long.class);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return jdbcTemplate.update(DELETE_KEYS, Map.of("ids", ids));
+	}
+}
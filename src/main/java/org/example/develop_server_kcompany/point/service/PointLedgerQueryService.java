@@ -0,0 +1,84 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.repository.projection.PointLedgerRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 원장(point_transactions) 내역 조회를 담당하는 서비스 클래스입니다.
+ * <p>
+ * 주문 내역과 같은 방식으로 커서(마지막으로 받은 원장 식별자) 기반으로 페이지를 나눕니다.
+ * 원장 식별자는 시간 순으로 증가하므로 식별자 역순이 곧 최신순이며,
+ * 원장이 수만 건인 사용자도 뒤쪽 페이지 조회 비용이 늘어나지 않습니다.
+ * 페이지당 커버링 인덱스 범위 조회 1회만 실행합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointLedgerQueryService {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private final PointTransactionRepository pointTransactionRepository;
+
+	/**
+	 * 사용자의 포인트 원장을 최신순으로 조회합니다.
+	 *
+	 * @param userId 사용자 식별자
+	 * @param cursor 이전 페이지 응답의 {@code nextCursor}(첫 페이지는 null)
+	 * @param size   페이지 크기(1 ~ {@value #MAX_PAGE_SIZE})
+	 * @param type   원장 유형 필터(선택)
+	 * @param from   조회 시작 시각(포함, 선택)
+	 * @param to     조회 종료 시각(미포함, 선택)
+	 * @return 원장 내역 페이지
+	 */
+	public PointLedgerPage getLedger(
+		Long userId, Long cursor, int size, PointTransactionType type, LocalDateTime from, LocalDateTime to) {
+		if (userId == null || userId <= 0) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		if (size <= 0 || size > MAX_PAGE_SIZE) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		if (from != null && to != null && !from.isBefore(to)) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+
+		long effectiveCursor = cursor == null ? Long.MAX_VALUE : cursor;
+
+		// 다음 페이지 존재 여부를 별도 COUNT 없이 판단하기 위해 1건 더 조회합니다.
+		List<PointLedgerRow> rows = pointTransactionRepository
+			.findLedgerRows(userId, effectiveCursor, type, from, to, Limit.of(size + 1));
+
+		boolean hasNext = rows.size() > size;
+		List<PointLedgerRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+		Long nextCursor = hasNext ? pageRows.get(pageRows.size() - 1).id() : null;
+		return new PointLedgerPage(pageRows, nextCursor, hasNext);
+	}
+
+	/**
+	 * 원장 내역 한 페이지입니다.
+	 *
+	 * @param entries    최신순 원장 목록
+	 * @param nextCursor 다음 페이지 조회용 커서(마지막 페이지면 null)
+	 * @param hasNext    다음 페이지 존재 여부
+	 */
+	public record PointLedgerPage(List<PointLedgerRow> entries, Long nextCursor, boolean hasNext) {
+	}
+}
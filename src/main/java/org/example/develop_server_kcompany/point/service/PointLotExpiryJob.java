@@ -0,0 +1,250 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.develop_server_kcompany.common.id.SnowflakeIdGenerator;
+import org.example.develop_server_kcompany.point.domain.PointLot;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.event.PointBalanceChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유효기간이 지난 포인트 lot을 소멸시키는 배치 작업입니다.
+ * <p>
+ * lot의 남은 양은 지갑의 소진 워터마크({@code lotTotal - 잔액})로 계산하므로,
+ * 사용자의 만료된 lot 중 누적 위치가 가장 뒤인 lot까지 워터마크를 끌어올리면(그만큼 잔액 차감) 앞선 lot들도 함께 소멸됩니다.
+ * 충전 순서와 만료 순서가 같으므로 앞선 lot은 항상 먼저(또는 같이) 만료됩니다.
+ * 소멸된 양은 EXPIRE 원장으로 기록하고, 처리한 lot 행은 삭제하여 대기열을 작게 유지합니다.
+ * </p>
+ * <p>
+ * 가점유(HELD) 금액은 잔액에서 빠져 있어 워터마크로는 사용된 것처럼 보이지만, 해제되면 잔액으로 돌아옵니다.
+ * 그대로 소멸시키면 해제 시 만료된 포인트가 되살아나므로, 열린 가점유가 있는 사용자는 가점유가 확정/해제될 때까지 건너뜁니다.
+ * 가점유는 지갑 행을 잠근 트랜잭션에서만 생기므로, 지갑을 잠근 뒤 READ COMMITTED로 다시 확인하면 그 사이 생긴 가점유도 빠지지 않습니다.
+ * </p>
+ *
+ * <h3>처리 방식</h3>
+ * <ul>
+ *  <li>만료 버킷 인덱스({@code expire_bucket, user_id, ...})로 만료된 lot만 {@code chunk-size}건씩 읽으며, 테이블 전체를 읽지 않습니다.</li>
+ *  <li>청크마다 하나의 트랜잭션에서 지갑(과 분할 지갑 하위 행)을 사용자 식별자 순으로 잠근 뒤(교착 방지) 잔액을 차감합니다.</li>
+ *  <li>지갑 UPDATE, 원장 INSERT, lot DELETE는 JDBC 배치로 전송합니다.</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+public class PointLotExpiryJob {
+
+	private static final String SELECT_DUE_LOTS = """
+		SELECT id, user_id, cumulative_end FROM point_lots l
+		WHERE expire_bucket <= :bucket AND expires_at <= :now
+		  AND NOT EXISTS (SELECT 1 FROM point_holds h WHERE h.user_id = l.user_id AND h.status = :held)
+		ORDER BY expire_bucket, user_id, cumulative_end
+		LIMIT :limit
+		""";
+
+	private static final String LOCK_WALLETS = """
+		SELECT user_id, balance, shard_count, lot_total FROM point_wallet
+		WHERE user_id IN (:userIds)
+		ORDER BY user_id
+		FOR UPDATE
+		""";
+
+	private static final String SELECT_USERS_WITH_OPEN_HOLDS =
+		"SELECT DISTINCT user_id FROM point_holds WHERE user_id IN (:userIds) AND status = :held";
+
+	private static final String LOCK_SHARDS = """
+		SELECT user_id, balance FROM point_wallet_shard
+		WHERE user_id IN (:userIds)
+		ORDER BY user_id, shard_no
+		FOR UPDATE
+		""";
+
+	private static final String UPDATE_WALLET = """
+		UPDATE point_wallet
+		SET balance = balance - :expired, version = version + 1, last_modified_at = :now
+		WHERE user_id = :userId
+		""";
+
+	private static final String INSERT_TRANSACTION = """
+		INSERT INTO point_transactions
+			(id, user_id, type, amount, balance_after, order_id, idempotency_key, created_at, last_modified_at)
+		VALUES (:id, :userId, :type, :expired, :balanceAfter, NULL, :idempotencyKey, :now, :now)
+		""";
+
+	private static final String DELETE_LOTS = "DELETE FROM point_lots WHERE id IN (:ids)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final PointWalletShardService pointWalletShardService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	@Value("${app.point.lot.expiry-chunk-size:500}")
+	private int chunkSize;
+
+	public PointLotExpiryJob(
+		NamedParameterJdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		PointWalletShardService pointWalletShardService,
+		ApplicationEventPublisher eventPublisher,
+		Clock clock
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		// 지갑을 잠근 뒤의 가점유 확인이 잠금 이전 스냅샷이 아니라 최신 커밋을 읽도록 READ COMMITTED로 실행합니다.
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+		this.pointWalletShardService = pointWalletShardService;
+		this.eventPublisher = eventPublisher;
+		this.clock = clock;
+	}
+
+	@Scheduled(cron = "${app.point.lot.expiry-cron:0 5 * * * *}")
+	public void run() {
+		expire(LocalDateTime.now(clock));
+	}
+
+	/**
+	 * 기준 시각까지 만료된 lot을 모두 소멸시킵니다.
+	 *
+	 * @param now 이 시각까지 만료된 lot이 대상
+	 * @return 처리한 lot 수
+	 */
+	public int expire(LocalDateTime now) {
+		int total = 0;
+		while (true) {
+			Integer processed = transactionTemplate.execute(status -> expireChunk(now));
+			total += processed == null ? 0 : processed;
+			if (processed == null || processed < chunkSize) {
+				break;
+			}
+		}
+
+		if (total > 0) {
+			log.info("[POINT] 포인트 유효기간 만료 처리 완료. lots={}, now={}", total, now);
+		}
+		return total;
+	}
+
+	private int expireChunk(LocalDateTime now) {
+		List<Long> lotIds = new ArrayList<>();
+		Map<Long, List<Long>> lotIdsByUser = new HashMap<>();
+		// 사용자별로 만료된 lot 중 누적 위치가 가장 뒤인 lot
+		Map<Long, DueLot> dueByUser = new LinkedHashMap<>();
+		jdbcTemplate.query(SELECT_DUE_LOTS, Map.of(
+			"bucket", PointLot.bucketOf(now),
+			"now", Timestamp.valueOf(now),
+			"limit", chunkSize,
+			"held", PointHoldStatus.HELD.name()
+		), rs -> {
+			DueLot lot = new DueLot(rs.getLong("id"), rs.getLong("cumulative_end"));
+			lotIds.add(lot.id());
+			lotIdsByUser.computeIfAbsent(rs.getLong("user_id"), userId -> new ArrayList<>()).add(lot.id());
+			dueByUser.merge(rs.getLong("user_id"), lot,
+				(current, candidate) -> candidate.cumulativeEnd() > current.cumulativeEnd() ? candidate : current);
+		});
+		if (lotIds.isEmpty()) {
+			return 0;
+		}
+
+		Map<String, Object> userParams = Map.of("userIds", dueByUser.keySet());
+		Map<Long, Long> balances = new HashMap<>();
+		Map<Long, Integer> shardCounts = new HashMap<>();
+		Map<Long, Long> lotTotals = new HashMap<>();
+		jdbcTemplate.query(LOCK_WALLETS, userParams, rs -> {
+			balances.put(rs.getLong("user_id"), rs.getLong("balance"));
+			shardCounts.put(rs.getLong("user_id"), rs.getInt("shard_count"));
+			lotTotals.put(rs.getLong("user_id"), rs.getLong("lot_total"));
+		});
+		if (shardCounts.values().stream().anyMatch(shardCount -> shardCount > 0)) {
+			jdbcTemplate.query(LOCK_SHARDS, userParams, rs -> {
+				balances.merge(rs.getLong("user_id"), rs.getLong("balance"), Long::sum);
+			});
+		}
+		// 조회 이후 지갑을 잠그기 전에 가점유가 생긴 사용자는 lot을 남겨 두고 다음 실행에서 처리합니다.
+		Map<String, Object> holdParams = Map.of("userIds", List.copyOf(dueByUser.keySet()), "held", PointHoldStatus.HELD.name());
+		jdbcTemplate.query(SELECT_USERS_WITH_OPEN_HOLDS, holdParams, rs -> {
+			dueByUser.remove(rs.getLong("user_id"));
+			lotIdsByUser.remove(rs.getLong("user_id"));
+		});
+
+		Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now(clock));
+		List<SqlParameterSource> walletUpdates = new ArrayList<>();
+		List<SqlParameterSource> inserts = new ArrayList<>();
+		List<PointBalanceChangedEvent> events = new ArrayList<>();
+
+		for (Map.Entry<Long, DueLot> entry : dueByUser.entrySet()) {
+			Long userId = entry.getKey();
+			Long balance = balances.get(userId);
+			if (balance == null) {
+				// 지갑이 없으면 소멸시킬 잔액도 없으므로 lot만 정리합니다.
+				continue;
+			}
+
+			long consumed = lotTotals.get(userId) - balance;
+			long expired = Math.min(balance, Math.max(0L, entry.getValue().cumulativeEnd() - consumed));
+			if (expired == 0) {
+				// 이미 모두 사용된 lot입니다.
+				continue;
+			}
+
+			long balanceAfter = balance - expired;
+			if (shardCounts.get(userId) > 0) {
+				pointWalletShardService.spend(userId, shardCounts.get(userId), expired);
+			} else {
+				walletUpdates.add(new MapSqlParameterSource()
+					.addValue("userId", userId)
+					.addValue("expired", expired)
+					.addValue("now", timestamp));
+			}
+
+			long id = SnowflakeIdGenerator.getInstance().nextId();
+			inserts.add(new MapSqlParameterSource()
+				.addValue("id", id)
+				.addValue("userId", userId)
+				.addValue("type", PointTransactionType.EXPIRE.name())
+				.addValue("expired", expired)
+				.addValue("balanceAfter", balanceAfter)
+				.addValue("idempotencyKey", "lot-expire-" + entry.getValue().id())
+				.addValue("now", timestamp));
+			events.add(new PointBalanceChangedEvent(userId, id, balanceAfter));
+		}
+
+		if (!walletUpdates.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPDATE_WALLET, walletUpdates.toArray(SqlParameterSource[]::new));
+		}
+		if (!inserts.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_TRANSACTION, inserts.toArray(SqlParameterSource[]::new));
+		}
+		List<Long> processedLotIds = lotIdsByUser.values().stream().flatMap(List::stream).toList();
+		if (!processedLotIds.isEmpty()) {
+			jdbcTemplate.update(DELETE_LOTS, Map.of("ids", processedLotIds));
+		}
+		events.forEach(eventPublisher::publishEvent);
+		return lotIds.size();
+	}
+
+	private record DueLot(long id, long cumulativeEnd) {
+	}
+}
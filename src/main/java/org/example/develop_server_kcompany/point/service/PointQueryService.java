@@ -0,0 +1,108 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.repository.PointBalanceRedisRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 포인트 잔액 조회를 담당하는 서비스 클래스입니다.
+ * <p>
+ * 장바구니 견적처럼 같은 사용자의 잔액을 짧은 간격으로 반복 조회하는 경로를 위해,
+ * 조회 결과를 노드 로컬 메모리에 짧은 TTL 동안 보관합니다.
+ * 캐시된 잔액은 최대 TTL만큼 오래된 값일 수 있으므로 "안내용"으로만 사용하며,
+ * 실제 차감 가능 여부는 {@link PointService}가 지갑 행 기준으로 판단합니다.
+ * </p>
+ * <p>
+ * 로컬 캐시에 없으면 Redis({@link PointBalanceRedisRepository})를 거쳐 조회하고, Redis에도 없을 때만 DB를 조회합니다.
+ * Redis 값은 원장이 기록된 트랜잭션의 커밋 이후 {@link #refresh(Long, Long, long)}로 갱신되므로,
+ * 잔액 조회 API처럼 자주 호출되는 경로가 DB에 부하를 주지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Service
+public class PointQueryService {
+
+	/** 캐시 항목이 이 개수를 넘으면 비워서, 조회한 사용자 수만큼 메모리가 늘어나지 않도록 합니다. */
+	private static final int MAX_CACHED_USERS = 10_000;
+
+	private final PointWalletRepository pointWalletRepository;
+	private final PointBalanceRedisRepository pointBalanceRedisRepository;
+	private final Clock clock;
+	private final long ttlMs;
+	private final ConcurrentHashMap<Long, CachedBalance> cache = new ConcurrentHashMap<>();
+
+	public PointQueryService(
+		PointWalletRepository pointWalletRepository,
+		PointBalanceRedisRepository pointBalanceRedisRepository,
+		Clock clock,
+		@Value("${app.point.balance-cache.ttl-ms:1000}") long ttlMs
+	) {
+		this.pointWalletRepository = pointWalletRepository;
+		this.pointBalanceRedisRepository = pointBalanceRedisRepository;
+		this.clock = clock;
+		this.ttlMs = ttlMs;
+	}
+
+	/**
+	 * 사용자의 현재 잔액을 조회합니다(최대 TTL만큼 지연될 수 있음).
+	 *
+	 * @param userId 사용자 식별자
+	 * @return 잔액
+	 * @throws CustomException 지갑이 없는 경우 {@link ErrorCode#WALLET_NOT_FOUND}
+	 */
+	public long getBalance(Long userId) {
+		long now = clock.millis();
+		CachedBalance cached = cache.get(userId);
+		if (cached != null && cached.expiresAtMillis() > now) {
+			return cached.balance();
+		}
+
+		long balance = pointBalanceRedisRepository.find(userId)
+			.orElseGet(() -> loadFromDatabase(userId));
+
+		if (cache.size() >= MAX_CACHED_USERS) {
+			cache.clear();
+		}
+		cache.put(userId, new CachedBalance(balance, now + ttlMs));
+		return balance;
+	}
+
+	/**
+	 * 원장 기록 이후의 잔액으로 캐시를 갱신합니다. 커밋 이후에만 호출해야 합니다.
+	 *
+	 * @param userId   사용자 식별자
+	 * @param ledgerId 마지막으로 기록된 원장 식별자
+	 * @param balance  원장 기록 이후 잔액
+	 */
+	public void refresh(Long userId, Long ledgerId, long balance) {
+		pointBalanceRedisRepository.saveIfNewer(userId, ledgerId, balance);
+		cache.remove(userId);
+	}
+
+	private long loadFromDatabase(Long userId) {
+		long balance = pointWalletRepository.findBalanceByUserId(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
+		// DB에서 읽은 값은 원장 식별자를 알 수 없으므로, 커밋 이후 갱신된 값을 덮어쓰지 않도록 가장 낮은 순서로 저장합니다.
+		pointBalanceRedisRepository.saveIfNewer(userId, null, balance);
+		return balance;
+	}
+
+	/**
+	 * 사용자의 캐시된 잔액을 제거합니다.
+	 */
+	public void evict(Long userId) {
+		cache.remove(userId);
+	}
+
+	private record CachedBalance(long balance, long expiresAtMillis) {
+	}
+}
@@ -0,0 +1,324 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.sql.DataSource;
+
+import org.example.develop_server_kcompany.common.config.ReconciliationDataSourceConfig;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지갑 잔액과 원장을 대조하는 정합성 점검 배치 작업입니다.
+ * <p>
+ * 사용자마다 지갑 잔액이 마지막 원장의 {@code balanceAfter}, 그리고 원장 합계(CHARGE + RELEASE - SPEND - EXPIRE - HOLD)와 같은지 확인하고,
+ * 다른 사용자를 불일치(drift)로 보고합니다. 지갑만 있고 원장이 없으면 잔액이 0이어야 하며, 원장만 있고 지갑이 없어도 불일치입니다.
+ * 분할 지갑은 하위 행이 동시에 갱신되어 {@code balanceAfter}가 원장 순서와 어긋날 수 있으므로 원장 합계만 비교합니다.
+ * </p>
+ *
+ * <h3>처리 방식</h3>
+ * <ul>
+ *  <li>사용자 식별자를 {@code range-size} 단위 구간으로 나누고, 구간들을 전용 {@link ForkJoinPool}에서 병렬로 점검합니다.
+ *  동시 구간 수는 {@code parallelism}이며, 커넥션 풀 크기 - 1을 넘지 않습니다.</li>
+ *  <li>구간마다 읽기 전용 REPEATABLE READ 트랜잭션 하나에서 지갑과 원장을 같은 스냅샷으로 읽습니다.</li>
+ *  <li>원장은 {@code fetch-size} 단위 서버 커서로 스트리밍하며,
+ *  (user_id, id DESC) 커버링 인덱스 순으로 읽어 사용자별 첫 행이 마지막 원장이 됩니다. 구간 전체를 메모리에 올리지 않습니다.</li>
+ *  <li>서버 커서({@code useCursorFetch})를 켠 전용 커넥션 풀({@link ReconciliationDataSourceConfig})이 있으면 그 풀에서만 읽으며,
+ *  온라인 요청의 커넥션은 클라이언트 측 prepared statement를 그대로 사용합니다. 전용 풀이 없으면 기본 DataSource를 사용합니다.</li>
+ *  <li>한 구간이 실패해도 나머지 구간은 계속 점검하며, 실패한 구간 수를 결과에 포함합니다.</li>
+ * </ul>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Slf4j
+@Component
+public class PointReconciliationJob {
+
+	private static final String SELECT_WALLET_USER_ID_BOUNDS =
+		"SELECT MIN(user_id) AS min_id, MAX(user_id) AS max_id FROM point_wallet";
+
+	private static final String SELECT_LEDGER_USER_ID_BOUNDS =
+		"SELECT MIN(user_id) AS min_id, MAX(user_id) AS max_id FROM point_transactions";
+
+	private static final String SELECT_WALLETS = """
+		SELECT w.user_id, w.shard_count,
+			w.balance + COALESCE((SELECT SUM(s.balance) FROM point_wallet_shard s WHERE s.user_id = w.user_id), 0)
+				AS balance
+		FROM point_wallet w
+		WHERE w.user_id BETWEEN :fromUserId AND :toUserId
+		""";
+
+	private static final String STREAM_LEDGER = """
+		SELECT user_id, type, amount, balance_after FROM point_transactions
+		WHERE user_id BETWEEN :fromUserId AND :toUserId
+		ORDER BY user_id, id DESC
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+	private final TransactionTemplate snapshotTransactionTemplate;
+	private final int rangeSize;
+	private final int workers;
+	private final int maxReportedDrifts;
+
+	public PointReconciliationJob(
+		NamedParameterJdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Qualifier(ReconciliationDataSourceConfig.RECONCILIATION_DATA_SOURCE)
+		ObjectProvider<DataSource> reconciliationDataSource,
+		@Value("${app.point.reconciliation.range-size:1000}") int rangeSize,
+		@Value("${app.point.reconciliation.fetch-size:1000}") int fetchSize,
+		@Value("${app.point.reconciliation.parallelism:4}") int parallelism,
+		@Value("${app.point.reconciliation.max-reported-drifts:100}") int maxReportedDrifts,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+	) {
+		DataSource dedicated = reconciliationDataSource.getIfAvailable();
+		int poolSize = connectionPoolSize;
+		if (dedicated != null) {
+			// 구간 트랜잭션이 지갑 조회와 원장 스트리밍을 같은 커넥션(스냅샷)에서 수행하도록 트랜잭션 매니저도 전용 풀에 맞춥니다.
+			jdbcTemplate = new NamedParameterJdbcTemplate(dedicated);
+			transactionManager = new DataSourceTransactionManager(dedicated);
+			if (dedicated instanceof HikariDataSource hikari) {
+				// 전용 풀은 온라인 요청과 공유하지 않으므로 풀 전체를 사용합니다.
+				poolSize = hikari.getMaximumPoolSize() + 1;
+			}
+		}
+		this.jdbcTemplate = jdbcTemplate;
+
+		JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+		streaming.setFetchSize(fetchSize);
+		this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+
+		this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+		snapshotTransactionTemplate.setReadOnly(true);
+		snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+		this.rangeSize = Math.max(1, rangeSize);
+		this.workers = Math.max(1, Math.min(parallelism, poolSize - 1));
+		this.maxReportedDrifts = maxReportedDrifts;
+	}
+
+	@Scheduled(cron = "${app.point.reconciliation.cron:0 0 5 * * SUN}")
+	public void run() {
+		reconcile();
+	}
+
+	/**
+	 * 전체 사용자의 지갑과 원장을 대조합니다.
+	 *
+	 * @return 점검 결과(불일치 목록은 {@code max-reported-drifts}건까지만 포함)
+	 */
+	public ReconciliationReport reconcile() {
+		List<UserIdRange> ranges = splitRanges();
+		if (ranges.isEmpty()) {
+			return new ReconciliationReport(0, 0, 0, 0, List.of());
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(workers);
+		RangeResult total;
+		try {
+			total = pool.submit(() -> ranges.parallelStream()
+				.map(this::reconcileRangeSafely)
+				.reduce(RangeResult.EMPTY, this::merge)).join();
+		} finally {
+			pool.shutdown();
+		}
+
+		ReconciliationReport report = new ReconciliationReport(
+			ranges.size(), total.failedRanges(), total.checkedUsers(), total.driftedUsers(), total.drifts());
+		log.info("[POINT] 지갑/원장 정합성 점검 종료. ranges={}, failedRanges={}, checkedUsers={}, driftedUsers={}",
+			report.ranges(), report.failedRanges(), report.checkedUsers(), report.driftedUsers());
+		return report;
+	}
+
+	/**
+	 * 점검 결과입니다.
+	 *
+	 * @param ranges       점검한 사용자 구간 수
+	 * @param failedRanges 오류로 점검하지 못한 구간 수
+	 * @param checkedUsers 점검한 사용자 수
+	 * @param driftedUsers 불일치 사용자 수
+	 * @param drifts       불일치 상세(최대 {@code max-reported-drifts}건)
+	 */
+	public record ReconciliationReport(
+		int ranges, int failedRanges, long checkedUsers, long driftedUsers, List<Drift> drifts) {
+	}
+
+	/**
+	 * 사용자 1명의 불일치 내역입니다.
+	 *
+	 * @param userId           사용자 식별자
+	 * @param walletBalance    지갑 잔액(지갑이 없으면 null)
+	 * @param lastBalanceAfter 마지막 원장의 처리 이후 잔액(원장이 없으면 null)
+	 * @param ledgerSum        원장 합계(CHARGE + RELEASE - SPEND - EXPIRE - HOLD)
+	 */
+	public record Drift(Long userId, Long walletBalance, Long lastBalanceAfter, long ledgerSum) {
+	}
+
+	// ===== private helpers =====
+	private List<UserIdRange> splitRanges() {
+		Long minUserId = null;
+		Long maxUserId = null;
+		for (String sql : List.of(SELECT_WALLET_USER_ID_BOUNDS, SELECT_LEDGER_USER_ID_BOUNDS)) {
+			UserIdRange bounds = jdbcTemplate.queryForObject(sql, Map.of(), (rs, rowNum) -> new UserIdRange(
+				rs.getObject("min_id", Long.class), rs.getObject("max_id", Long.class)));
+			if (bounds == null || bounds.from() == null) {
+				continue;
+			}
+			minUserId = minUserId == null ? bounds.from() : Math.min(minUserId, bounds.from());
+			maxUserId = maxUserId == null ? bounds.to() : Math.max(maxUserId, bounds.to());
+		}
+		if (minUserId == null) {
+			return List.of();
+		}
+
+		List<UserIdRange> ranges = new ArrayList<>();
+		for (long from = minUserId; from <= maxUserId; from += rangeSize) {
+			ranges.add(new UserIdRange(from, Math.min(maxUserId, from + rangeSize - 1)));
+			if (from > Long.MAX_VALUE - rangeSize) {
+				break;
+			}
+		}
+		return ranges;
+	}
+
+	private RangeResult reconcileRangeSafely(UserIdRange range) {
+		try {
+			return snapshotTransactionTemplate.execute(status -> reconcileRange(range));
+		} catch (RuntimeException e) {
+			log.error("[POINT] 정합성 점검 구간 처리 실패. fromUserId={}, toUserId={}", range.from(), range.to(), e);
+			return new RangeResult(1, 0, 0, List.of());
+		}
+	}
+
+	private RangeResult reconcileRange(UserIdRange range) {
+		Map<String, Object> params = Map.of("fromUserId", range.from(), "toUserId", range.to());
+
+		Map<Long, WalletRow> wallets = new HashMap<>();
+		jdbcTemplate.query(SELECT_WALLETS, params, rs -> {
+			wallets.put(rs.getLong("user_id"), new WalletRow(rs.getLong("balance"), rs.getInt("shard_count") > 0));
+		});
+
+		LedgerScanner scanner = new LedgerScanner(wallets);
+		streamingJdbcTemplate.query(STREAM_LEDGER, params, scanner);
+		scanner.finish();
+		return scanner.result();
+	}
+
+	private RangeResult merge(RangeResult left, RangeResult right) {
+		List<Drift> drifts = left.drifts();
+		if (drifts.size() < maxReportedDrifts && !right.drifts().isEmpty()) {
+			drifts = new ArrayList<>(left.drifts());
+			drifts.addAll(right.drifts().subList(0, Math.min(right.drifts().size(), maxReportedDrifts - drifts.size())));
+		}
+		return new RangeResult(
+			left.failedRanges() + right.failedRanges(),
+			left.checkedUsers() + right.checkedUsers(),
+			left.driftedUsers() + right.driftedUsers(),
+			drifts);
+	}
+
+	/**
+	 * 사용자 순으로 정렬된 원장을 한 행씩 읽으며 사용자별 합계와 마지막 잔액을 구하고 지갑과 대조합니다.
+	 */
+	private final class LedgerScanner implements RowCallbackHandler {
+
+		private final Map<Long, WalletRow> wallets;
+		private final List<Drift> drifts = new ArrayList<>();
+		private long checkedUsers;
+		private long driftedUsers;
+
+		private Long userId;
+		private long lastBalanceAfter;
+		private long ledgerSum;
+
+		private LedgerScanner(Map<Long, WalletRow> wallets) {
+			this.wallets = wallets;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			long rowUserId = rs.getLong("user_id");
+			if (userId == null || userId != rowUserId) {
+				flushUser();
+				userId = rowUserId;
+				// id 역순으로 읽으므로 사용자의 첫 행이 마지막 원장입니다.
+				lastBalanceAfter = rs.getLong("balance_after");
+				ledgerSum = 0;
+			}
+			long amount = rs.getLong("amount");
+			ledgerSum += switch (PointTransactionType.valueOf(rs.getString("type"))) {
+				case CHARGE, RELEASE -> amount;
+				case SPEND, EXPIRE, HOLD -> -amount;
+			};
+		}
+
+		private void finish() {
+			flushUser();
+			// 원장이 없는 지갑은 잔액이 0이어야 합니다.
+			wallets.forEach((walletUserId, wallet) -> check(walletUserId, wallet, null, 0));
+			wallets.clear();
+		}
+
+		private void flushUser() {
+			if (userId != null) {
+				check(userId, wallets.remove(userId), lastBalanceAfter, ledgerSum);
+			}
+		}
+
+		private void check(Long checkedUserId, WalletRow wallet, Long lastBalance, long sum) {
+			checkedUsers++;
+			boolean drifted = wallet == null
+				|| wallet.balance() != sum
+				|| (lastBalance != null && !wallet.sharded() && wallet.balance() != lastBalance);
+			if (!drifted) {
+				return;
+			}
+
+			driftedUsers++;
+			Drift drift = new Drift(checkedUserId, wallet == null ? null : wallet.balance(), lastBalance, sum);
+			if (drifts.size() < maxReportedDrifts) {
+				drifts.add(drift);
+			}
+			log.warn("[POINT] 지갑/원장 불일치. userId={}, walletBalance={}, lastBalanceAfter={}, ledgerSum={}",
+				drift.userId(), drift.walletBalance(), drift.lastBalanceAfter(), drift.ledgerSum());
+		}
+
+		private RangeResult result() {
+			return new RangeResult(0, checkedUsers, driftedUsers, drifts);
+		}
+	}
+
+	private record UserIdRange(Long from, Long to) {
+	}
+
+	private record WalletRow(long balance, boolean sharded) {
+	}
+
+	private record RangeResult(int failedRanges, long checkedUsers, long driftedUsers, List<Drift> drifts) {
+		static final RangeResult EMPTY = new RangeResult(0, 0, 0, List.of());
+	}
+}
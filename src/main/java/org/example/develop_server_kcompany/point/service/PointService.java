@@ -1,20 +1,43 @@
 package org.example.develop_server_kcompany.point.service;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.example.develop_server_kcompany.common.exception.CustomException;
 import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.common.id.IdempotencyKeyHash;
+import org.example.develop_server_kcompany.common.retry.RetryExecutor;
+import org.example.develop_server_kcompany.point.domain.PointHold;
+import org.example.develop_server_kcompany.point.domain.PointIdempotencyKey;
+import org.example.develop_server_kcompany.point.domain.PointLot;
 import org.example.develop_server_kcompany.point.domain.PointTransaction;
 import org.example.develop_server_kcompany.point.domain.PointWallet;
 import org.example.develop_server_kcompany.point.dto.PointChargeRequest;
 import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
 import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.event.PointBalanceChangedEvent;
+import org.example.develop_server_kcompany.point.lock.UserWalletLock;
+import org.example.develop_server_kcompany.point.repository.PointHoldRepository;
+import org.example.develop_server_kcompany.point.repository.PointIdempotencyKeyRepository;
+import org.example.develop_server_kcompany.point.repository.PointLotRepository;
 import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
 import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.repository.projection.PointWalletTotals;
 import org.example.develop_server_kcompany.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +49,29 @@ import lombok.extern.slf4j.Slf4j;
  * 포인트 충전과 같은 포인트 유스케이스를 처리하는 서비스 클래스입니다.
  * 멱등성 키를 기준으로 중복 요청을 방지하고, 잔액 갱신과 원장 기록을 트랜잭션으로 처리합니다.
  * </p>
+ * <p>
+ * 같은 사용자의 충전/차감은 {@link UserWalletLock}으로 직렬화하여 같은 지갑 행의 락 대기를 노드 안에서 줄입니다.
+ * 락 대기 시간 초과나 교착 상태 같은 일시적인 동시성 실패는 {@link RetryExecutor}가 트랜잭션 단위로 재시도합니다.
+ * </p>
+ * <p>
+ * 단건 충전/차감은 지갑 엔티티를 읽지 않고 조건부 UPDATE로 잔액을 갱신하므로,
+ * 동시 요청이 몰려도 version 충돌로 실패하지 않고 행 락 순서대로 처리됩니다.
+ * 분할 모드가 켜진 지갑은 {@link PointWalletShardService}가 하위 행에 나누어 반영하며, 호출자는 차이를 알 필요가 없습니다.
+ * </p>
+ * <p>
+ * 멱등성 키는 원장과 같은 트랜잭션에서 {@link PointIdempotencyKey} 저장소에 만료 시각과 함께 등록하며,
+ * 중복 확인은 이 저장소의 유니크 인덱스로 처리합니다. 만료된 키는 {@link PointIdempotencyKeyPurgeJob}이 삭제합니다.
+ * </p>
+ * <p>
+ * 충전 1건마다 유효기간이 있는 {@link PointLot}을 만들고, 차감은 지갑의 소진 워터마크({@code lotTotal - 잔액})로
+ * 가장 오래된 lot부터 소진합니다. 따라서 차감은 lot 수와 관계없이 lot 행을 읽거나 갱신하지 않으며,
+ * 만료된 lot의 남은 포인트는 {@link PointLotExpiryJob}이 소멸시킵니다.
+ * </p>
+ * <p>
+ * 주문 결제는 가점유({@link #hold}) 후 확정({@link #capture}) 또는 해제({@link #release})의 2단계로 처리합니다.
+ * 지갑 행은 짧은 가점유/해제 트랜잭션에서만 잠그고, 주문 저장과 함께 실행되는 확정은 가점유 행과 원장만 갱신합니다.
+ * 확정되지 않은 가점유는 {@link PointHoldExpiryJob}이 만료 시각 이후 해제합니다.
+ * </p>
  *
  * @author 재원
  * @version 1.0
@@ -39,11 +85,38 @@ public class PointService {
 	private final UserRepository userRepository;
 	private final PointWalletRepository pointWalletRepository;
 	private final PointTransactionRepository pointTransactionRepository;
+	private final PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+	private final PointLotRepository pointLotRepository;
+	private final PointHoldRepository pointHoldRepository;
+	private final PointWalletShardService pointWalletShardService;
 	private final TransactionTemplate transactionTemplate;
+	private final UserWalletLock userWalletLock;
+	private final RetryExecutor retryExecutor;
+	private final PointChargeGroupCommitter pointChargeGroupCommitter;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	private static final String CHARGE_OPERATION = "point-charge";
+	private static final String SPEND_OPERATION = "point-spend";
+	private static final String HOLD_OPERATION = "point-hold";
+	private static final String RELEASE_OPERATION = "point-hold-release";
+
+	@Value("${app.point.idempotency.retention-days:120}")
+	private long idempotencyRetentionDays;
+
+	@Value("${app.point.lot.expire-days:365}")
+	private long lotExpireDays;
+
+	@Value("${app.point.hold.ttl-seconds:60}")
+	private long holdTtlSeconds;
 
 	/**
 	 * 포인트 충전 유스케이스입니다.
 	 * 멱등성 키 기준으로 중복 충전을 방지합니다.
+	 * <p>
+	 * 같은 사용자의 충전이 짧은 시간 안에 몰리면 {@link PointChargeGroupCommitter}가 모아서
+	 * 지갑 UPDATE 1회와 원장 배치 INSERT로 처리하며, 요청마다 자신의 결과를 받습니다.
+	 * </p>
 	 */
 	public PointChargeResponse charge(PointChargeRequest request) {
 		validateChargeUseCase(request);
@@ -52,68 +125,39 @@ public class PointService {
 		Long amount = request.getAmount();
 		String idempotencyKey = normalizeIdempotencyKey(request.getIdempotencyKey());
 
-		for (int attempt = 1; attempt <= 3; attempt++) {
-			try {
-				return transactionTemplate.execute(status -> pointTransactionRepository
-					.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
-					.map(tx -> {
-						log.info("[POINT] 이미 처리된 요청입니다. userId={}, amount={}, key={}",
-							userId, tx.getAmount(), idempotencyKey);
-						return PointChargeResponse.of(
-							true, userId, tx.getAmount(), tx.getBalanceAfter(), idempotencyKey);
-					})
-					.orElseGet(() -> {
-						validateUserExists(userId);
-
-						PointWallet pointWallet = pointWalletRepository.findById(userId)
-							.orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
-
-						long balanceAfter = pointWallet.charge(amount);
-
-						PointTransaction tx = new PointTransaction(
-							userId,
-							PointTransactionType.CHARGE,
-							amount,
-							balanceAfter,
-							null,
-							idempotencyKey
-						);
-
-						try {
-							pointTransactionRepository.save(tx);
-						} catch (DataIntegrityViolationException e) {
-							return pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
-								.map(dupTx -> {
-									log.info("[POINT] 중복 요청 처리 감지. userId={}, key={}", userId, idempotencyKey);
-									return PointChargeResponse.of(true, userId, dupTx.getAmount(),
-										dupTx.getBalanceAfter(), idempotencyKey);
-								})
-								.orElseThrow(() -> e);
-						}
-
-						log.info("[POINT] 포인트 충전 성공. userId={}, amount={}, balanceAfter={}, key={}",
-							userId, amount, balanceAfter, idempotencyKey);
-						return PointChargeResponse.of(false, userId, amount, balanceAfter, idempotencyKey);
-					}));
-			} catch (ObjectOptimisticLockingFailureException e) {
-				log.warn("[POINT] 낙관적 락 충돌 재시도. attempt={}, userId={}, key={}", attempt, userId, idempotencyKey);
-				if (attempt == 3) {
-					log.error("[POINT] 포인트 충전 실패(낙관적 락 충돌). userId={}, amount={}, key={}, attempts={}",
-						userId, amount, idempotencyKey, attempt, e);
-					throw new CustomException(ErrorCode.CHARGE_FAIL);
-				}
+		return pointChargeGroupCommitter.submit(userId, new ChargeCommand(amount, idempotencyKey),
+			group -> chargeGroup(userId, group));
+	}
 
-				long delayMs = 100L * (1L << (attempt - 1));
-				try {
-					Thread.sleep(delayMs);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
-					log.error("[POINT] BackOff 대기 중 인터럽트 발생. userId={}, key={}", userId, idempotencyKey, ie);
-					throw new CustomException(ErrorCode.CHARGE_FAIL);
-				}
+	/**
+	 * 한 사용자의 여러 충전 요청을 하나의 트랜잭션으로 처리합니다.
+	 * <p>
+	 * Kafka 충전 명령 소비자처럼 사용자 단위로 이미 직렬화된 호출자가 사용하며, 사용자 락과 그룹 커밋을 거치지 않습니다.
+	 * 지갑 UPDATE는 합계 금액으로 1회, 원장/멱등성 키/lot은 배치 INSERT로 저장합니다.
+	 * 다른 경로의 동시 요청과 멱등성 키가 충돌하면 요청 단위로 다시 처리하며,
+	 * 합계 금액이 최대 보유 포인트를 넘으면 요청 단위로 다시 처리하여 넘치는 요청만 실패시키며,
+	 * 지갑 없음 등으로 실패한 건은 예외 대신 실패 결과로 반환합니다.
+	 * </p>
+	 *
+	 * @param userId   사용자 식별자
+	 * @param commands 충전 요청 목록(멱등성 키는 정규화된 값)
+	 * @return 요청 순서와 같은 순서의 처리 결과 목록
+	 */
+	public List<ChargeOutcome> chargeAll(Long userId, List<ChargeCommand> commands) {
+		try {
+			return retryExecutor.execute(CHARGE_OPERATION, ErrorCode.CHARGE_FAIL,
+				() -> transactionTemplate.execute(status -> chargeGroupInTransaction(userId, commands)));
+		} catch (DataIntegrityViolationException e) {
+			log.info("[POINT] 일괄 충전 중 멱등성 키 충돌, 요청 단위로 재처리합니다. userId={}, size={}", userId, commands.size());
+			return commands.stream().map(command -> chargeOne(userId, command)).toList();
+		} catch (CustomException e) {
+			if (isGroupOverflow(e, commands.size())) {
+				log.info("[POINT] 일괄 충전 합계가 최대 보유 포인트를 넘어 요청 단위로 재처리합니다. userId={}, size={}",
+					userId, commands.size());
+				return commands.stream().map(command -> chargeOne(userId, command)).toList();
 			}
+			return commands.stream().map(command -> ChargeOutcome.failure(e.getErrorCode())).toList();
 		}
-		throw new CustomException(ErrorCode.CHARGE_FAIL);
 	}
 
 	/**
@@ -121,6 +165,7 @@ public class PointService {
 	 * <p>
 	 * 주문 결제 흐름에서 사용하며, 차감 원장(point_transactions)에 {@code orderId}를 함께 저장합니다.
 	 * 멱등성 키 기준으로 중복 차감을 방지합니다.
+	 * 같은 키가 아직 확정되지 않은 가점유에 쓰이고 있으면 차감하지 않고 {@link ErrorCode#HOLD_IN_PROGRESS}로 실패합니다.
 	 * </p>
 	 *
 	 * @param userId 사용자 식별자
@@ -134,76 +179,235 @@ public class PointService {
 
 		String normalizedKey = normalizeIdempotencyKey(idempotencyKey);
 
-		for (int attempt = 1; attempt <= 3; attempt++) {
-			try {
-				SpendResult result = transactionTemplate.execute(status -> pointTransactionRepository
-					.findByUserIdAndIdempotencyKey(userId, normalizedKey)
-					.map(tx -> {
-						log.info("[POINT] 이미 처리된 사용(차감) 요청입니다. userId={}, amount={}, key={}",
-							userId, amount, normalizedKey);
-						return SpendResult.of(true, tx.getBalanceAfter(), normalizedKey);
-					})
-					.orElseGet(() -> {
-						validateUserExists(userId);
-
-						PointWallet pointWallet = pointWalletRepository.findById(userId)
-							.orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
-
-						long balanceAfter = pointWallet.spend(amount);
-
-						PointTransaction tx = new PointTransaction(
-							userId,
-							PointTransactionType.SPEND,
-							amount,
-							balanceAfter,
-							orderId,
-							normalizedKey
-						);
-
-						try {
-							pointTransactionRepository.save(tx);
-						} catch (DataIntegrityViolationException e) {
-							// 동시 요청으로 동일 키 트랜잭션이 이미 저장된 경우:
-							// 지갑 차감만 남지 않도록 현재 트랜잭션을 롤백시키고, 기존 기록을 조회하여 결과로 반환한다.
-							status.setRollbackOnly();
-
-							return pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey)
-								.map(dupTx -> {
-									log.info("[POINT] 중복 사용(차감) 요청 처리 감지. userId={}, key={}",
-										userId, normalizedKey);
-									return SpendResult.of(true, dupTx.getBalanceAfter(), normalizedKey);
-								})
-								.orElseThrow(() -> e);
-						}
-
-						log.info("[POINT] 포인트 사용(차감) 성공. userId={}, amount={}, balanceAfter={}, key={}, orderId={}",
-							userId, amount, balanceAfter, normalizedKey, orderId);
-						return SpendResult.of(false, balanceAfter, normalizedKey);
-					}));
-
-				return result;
-			} catch (ObjectOptimisticLockingFailureException e) {
-				log.warn("[POINT] 낙관적 락 충돌 재시도(사용/차감). attempt={}, userId={}, key={}",
-					attempt, userId, normalizedKey);
-
-				if (attempt == 3) {
-					log.error("[POINT] 포인트 사용(차감) 실패(낙관적 락 충돌). userId={}, amount={}, key={}, attempts={}",
-						userId, amount, normalizedKey, attempt, e);
-					throw new CustomException(ErrorCode.SPEND_FAIL);
-				}
+		return userWalletLock.withLock(userId, ErrorCode.SPEND_FAIL,
+			() -> spendWithRetry(userId, amount, normalizedKey, orderId));
+	}
+
+	/**
+	 * 포인트를 가점유(hold)합니다.
+	 * <p>
+	 * 짧은 트랜잭션에서 {@code balance >= amount} 조건부 UPDATE로 잔액을 차감하고 HOLD 원장과 가점유 행을 저장합니다.
+	 * 지갑 행 락은 이 트랜잭션이 끝나면 풀리며, 이후 주문 저장과 확정은 지갑 행을 잠그지 않습니다.
+	 * 같은 멱등성 키로 다시 요청하면 기존 가점유를 중복 결과로 반환합니다.
+	 * </p>
+	 *
+	 * @param userId         사용자 식별자
+	 * @param amount         가점유 금액(양수)
+	 * @param idempotencyKey 멱등성 키(선택, 주문 결제 시 주문의 멱등성 키)
+	 * @return 가점유 결과
+	 */
+	public HoldResult hold(Long userId, long amount, String idempotencyKey) {
+		validateSpendUseCase(userId, amount);
+
+		String normalizedKey = normalizeIdempotencyKey(idempotencyKey);
+
+		return userWalletLock.withLock(userId, ErrorCode.SPEND_FAIL,
+			() -> retryExecutor.execute(HOLD_OPERATION, ErrorCode.SPEND_FAIL,
+				() -> transactionTemplate.execute(status -> holdInTransaction(status, userId, amount, normalizedKey))));
+	}
+
+	/**
+	 * 가점유를 주문의 차감으로 확정합니다.
+	 * <p>
+	 * 주문 저장과 같은 트랜잭션에서 호출하며, 가점유 행과 원장만 조건부 UPDATE로 갱신하고 지갑 행은 잠그지 않습니다.
+	 * 이미 해제/만료된 가점유는 확정할 수 없습니다.
+	 * </p>
+	 *
+	 * @param holdId  가점유 식별자
+	 * @param orderId 주문 식별자
+	 * @return 차감 처리 결과(잔액은 가점유 시점의 값)
+	 * @throws CustomException 확정할 수 없는 가점유인 경우({@link ErrorCode#HOLD_NOT_AVAILABLE})
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public SpendResult capture(Long holdId, Long orderId) {
+		if (pointHoldRepository.capture(holdId, orderId) == 0) {
+			throw new CustomException(ErrorCode.HOLD_NOT_AVAILABLE);
+		}
+		// 조건부 UPDATE 이후에 읽으므로 영속성 컨텍스트에 이전 상태가 남지 않습니다.
+		PointHold hold = pointHoldRepository.findById(holdId)
+			.orElseThrow(() -> new CustomException(ErrorCode.HOLD_NOT_AVAILABLE));
+		pointTransactionRepository.captureHold(hold.getTransactionId(), orderId);
+		PointTransaction tx = pointTransactionRepository.findById(hold.getTransactionId())
+			.orElseThrow(() -> new IllegalStateException("가점유 원장이 없습니다. holdId: " + holdId));
+
+		log.info("[POINT] 포인트 가점유 확정. userId={}, holdId={}, orderId={}, amount={}",
+			hold.getUserId(), holdId, orderId, hold.getAmount());
+		return SpendResult.of(false, tx.getBalanceAfter(), tx.getIdempotencyKey());
+	}
+
+	/**
+	 * 가점유를 해제하고 잔액을 되돌립니다.
+	 * <p>
+	 * 이미 확정/해제된 가점유면 아무것도 하지 않습니다. 해제된 가점유의 멱등성 키는 삭제하여 같은 키로 다시 가점유할 수 있게 합니다.
+	 * </p>
+	 *
+	 * @param holdId 가점유 식별자
+	 */
+	public void release(Long holdId) {
+		pointHoldRepository.findById(holdId)
+			.filter(hold -> hold.getStatus() == PointHoldStatus.HELD)
+			.ifPresent(hold -> userWalletLock.withLock(hold.getUserId(), ErrorCode.SPEND_FAIL,
+				() -> retryExecutor.execute(RELEASE_OPERATION, ErrorCode.SPEND_FAIL,
+					() -> transactionTemplate.execute(status -> releaseInTransaction(hold)))));
+	}
+
+	/**
+	 * 한 사용자의 여러 차감 요청을 한 번에 처리합니다.
+	 * <p>
+	 * 일괄 주문처럼 같은 사용자의 차감이 여러 건 모인 경우에 사용합니다.
+	 * 멱등성 조회는 IN 쿼리 1회로 처리하고 원장은 한 번에 저장합니다.
+	 * 요청 순서대로 단건 차감과 같은 조건부 UPDATE로 차감하며, 잔액 부족 등으로 실패한 건은 예외 대신 실패 결과로 반환하여 나머지 건은 계속 처리합니다.
+	 * </p>
+	 * <p>
+	 * 단건 주문은 가점유/확정으로 결제하므로 같은 멱등성 키를 공유합니다. 키가 확정되지 않은 가점유에 쓰이고 있으면
+	 * 그 결제가 끝나지 않았으므로 차감된 것으로 보지 않고 {@link ErrorCode#HOLD_IN_PROGRESS} 실패 결과를 반환합니다.
+	 * </p>
+	 * <p>
+	 * 호출자의 트랜잭션 안에서만 동작하며 {@link RetryExecutor} 재시도를 하지 않습니다.
+	 * 락 대기 시간 초과 같은 동시성 실패는 예외로 호출자에게 전파되고, 호출자가 트랜잭션 단위로 다시 처리합니다.
+	 * </p>
+	 *
+	 * @param userId   사용자 식별자
+	 * @param commands 차감 요청 목록(멱등성 키는 정규화된 값)
+	 * @return 요청 순서와 같은 순서의 처리 결과 목록
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public List<SpendOutcome> spendAll(Long userId, List<SpendCommand> commands) {
+		if (userId == null || userId <= 0) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
 
-				long delayMs = 100L * (1L << (attempt - 1));
+		List<String> keys = commands.stream().map(SpendCommand::idempotencyKey).toList();
+		Map<String, PointTransaction> processed = new HashMap<>();
+		pointTransactionRepository.findAllByUserIdAndIdempotencyKeyIn(userId, keys)
+			.forEach(tx -> processed.put(tx.getIdempotencyKey(), tx));
+
+		List<PointTransaction> newTransactions = new ArrayList<>();
+		List<SpendOutcome> outcomes = new ArrayList<>(commands.size());
+
+		for (SpendCommand command : commands) {
+			String key = command.idempotencyKey();
+
+			PointTransaction done = processed.get(key);
+			if (done != null) {
 				try {
-					Thread.sleep(delayMs);
-				} catch (InterruptedException ie) {
-					Thread.currentThread().interrupt();
-					log.error("[POINT] BackOff 대기 중 인터럽트 발생(사용/차감). userId={}, key={}", userId, normalizedKey, ie);
-					throw new CustomException(ErrorCode.SPEND_FAIL);
+					outcomes.add(SpendOutcome.success(spendDuplicateOf(done, key)));
+				} catch (CustomException e) {
+					outcomes.add(SpendOutcome.failure(e.getErrorCode()));
 				}
+				continue;
+			}
+			if (command.amount() <= 0) {
+				outcomes.add(SpendOutcome.failure(ErrorCode.INVALID_REQUEST));
+				continue;
 			}
+
+			long balanceAfter;
+			try {
+				balanceAfter = decreaseBalance(userId, command.amount());
+			} catch (CustomException e) {
+				outcomes.add(SpendOutcome.failure(e.getErrorCode()));
+				continue;
+			}
+
+			PointTransaction tx = new PointTransaction(
+				userId,
+				PointTransactionType.SPEND,
+				command.amount(),
+				balanceAfter,
+				command.orderId(),
+				key
+			);
+			newTransactions.add(tx);
+			processed.put(key, tx);
+			outcomes.add(SpendOutcome.success(SpendResult.of(false, balanceAfter, key)));
+		}
+
+		pointTransactionRepository.saveAll(newTransactions);
+		registerIdempotencyKeys(newTransactions);
+		if (!newTransactions.isEmpty()) {
+			publishBalanceChanged(newTransactions.get(newTransactions.size() - 1));
+		}
+		log.info("[POINT] 포인트 일괄 사용(차감) 처리. userId={}, requested={}, spent={}",
+			userId, commands.size(), newTransactions.size());
+		return outcomes;
+	}
+
+	/**
+	 * 주문의 포인트 차감 결과를 조회합니다.
+	 * <p>
+	 * 멱등성 키는 보존 기간이 지나면 삭제되어 키로는 중복 차감을 막을 수 없으므로,
+	 * 이미 결제된 주문을 다시 처리할 때는 차감하지 않고 이 메서드로 기존 결과를 확인합니다.
+	 * </p>
+	 *
+	 * @param userId  사용자 식별자
+	 * @param orderId 주문 식별자
+	 * @return 차감 원장이 있으면 중복 처리 결과
+	 */
+	@Transactional(readOnly = true)
+	public Optional<SpendResult> findOrderSpend(Long userId, Long orderId) {
+		return pointTransactionRepository
+			.findFirstByUserIdAndOrderIdAndTypeOrderByIdDesc(userId, orderId, PointTransactionType.SPEND)
+			.map(tx -> SpendResult.of(true, tx.getBalanceAfter(), tx.getIdempotencyKey()));
+	}
+
+	/**
+	 * 충전 요청 1건입니다.
+	 *
+	 * @param amount         충전 금액(양수)
+	 * @param idempotencyKey 정규화된 멱등성 키
+	 */
+	public record ChargeCommand(Long amount, String idempotencyKey) {
+	}
+
+	/**
+	 * 충전 요청 1건의 처리 결과입니다.
+	 *
+	 * @param response  성공 시 충전 결과(실패 시 null)
+	 * @param errorCode 실패 시 오류 코드(성공 시 null)
+	 */
+	public record ChargeOutcome(PointChargeResponse response, ErrorCode errorCode) {
+		public static ChargeOutcome success(PointChargeResponse response) {
+			return new ChargeOutcome(response, null);
 		}
 
-		throw new CustomException(ErrorCode.SPEND_FAIL);
+		public static ChargeOutcome failure(ErrorCode errorCode) {
+			return new ChargeOutcome(null, errorCode);
+		}
+
+		public boolean isSuccess() {
+			return errorCode == null;
+		}
+	}
+
+	/**
+	 * 일괄 차감 요청 1건입니다.
+	 *
+	 * @param amount         차감 금액(양수)
+	 * @param idempotencyKey 정규화된 멱등성 키
+	 * @param orderId        주문 식별자
+	 */
+	public record SpendCommand(long amount, String idempotencyKey, Long orderId) {
+	}
+
+	/**
+	 * 일괄 차감 요청 1건의 처리 결과입니다.
+	 *
+	 * @param result    성공 시 차감 결과(실패 시 null)
+	 * @param errorCode 실패 시 오류 코드(성공 시 null)
+	 */
+	public record SpendOutcome(SpendResult result, ErrorCode errorCode) {
+		public static SpendOutcome success(SpendResult result) {
+			return new SpendOutcome(result, null);
+		}
+
+		public static SpendOutcome failure(ErrorCode errorCode) {
+			return new SpendOutcome(null, errorCode);
+		}
+
+		public boolean isSuccess() {
+			return errorCode == null;
+		}
 	}
 
 	/**
@@ -219,7 +423,462 @@ public class PointService {
 		}
 	}
 
+	/**
+	 * 포인트 가점유 결과입니다.
+	 *
+	 * @param holdId         가점유 식별자
+	 * @param duplicate      동일 멱등성 키로 이미 가점유된 요청인지 여부
+	 * @param balanceAfter   가점유 직후 잔액
+	 * @param idempotencyKey 최종 사용된 멱등성 키(요청이 비어 있었던 경우 서버에서 생성)
+	 */
+	public record HoldResult(Long holdId, boolean duplicate, long balanceAfter, String idempotencyKey) {
+		public static HoldResult of(Long holdId, boolean duplicate, long balanceAfter, String idempotencyKey) {
+			return new HoldResult(holdId, duplicate, balanceAfter, idempotencyKey);
+		}
+	}
+
 	// ===== private helpers =====
+	/**
+	 * 충전 그룹을 처리합니다.
+	 * <p>
+	 * 1건이면 기존 단건 경로로 처리합니다. 여러 건이면 한 트랜잭션에서 합계 금액으로 지갑을 한 번 갱신하고 원장을 배치로 저장합니다.
+	 * 다른 노드의 동시 요청과 멱등성 키가 충돌하면(유니크 제약 위반) 그룹 전체를 롤백하고 요청 단위로 다시 처리합니다.
+	 * 결과는 트랜잭션이 커밋된 이후에만 채웁니다.
+	 * </p>
+	 */
+	private void chargeGroup(Long userId, List<PointChargeGroupCommitter.Entry> group) {
+		if (group.size() == 1) {
+			chargeIndividually(userId, group.get(0));
+			return;
+		}
+
+		List<ChargeCommand> commands = group.stream().map(PointChargeGroupCommitter.Entry::command).toList();
+		List<ChargeOutcome> outcomes;
+		try {
+			outcomes = userWalletLock.withLock(userId, ErrorCode.CHARGE_FAIL,
+				() -> retryExecutor.execute(CHARGE_OPERATION, ErrorCode.CHARGE_FAIL,
+					() -> transactionTemplate.execute(status -> chargeGroupInTransaction(userId, commands))));
+		} catch (DataIntegrityViolationException e) {
+			log.info("[POINT] 그룹 충전 중 멱등성 키 충돌, 요청 단위로 재처리합니다. userId={}, size={}", userId, group.size());
+			group.forEach(entry -> chargeIndividually(userId, entry));
+			return;
+		} catch (CustomException e) {
+			if (!isGroupOverflow(e, group.size())) {
+				throw e;
+			}
+			log.info("[POINT] 그룹 충전 합계가 최대 보유 포인트를 넘어 요청 단위로 재처리합니다. userId={}, size={}",
+				userId, group.size());
+			group.forEach(entry -> chargeIndividually(userId, entry));
+			return;
+		}
+
+		for (int i = 0; i < group.size(); i++) {
+			ChargeOutcome outcome = outcomes.get(i);
+			if (outcome.isSuccess()) {
+				group.get(i).complete(outcome.response());
+			} else {
+				group.get(i).fail(new CustomException(outcome.errorCode()));
+			}
+		}
+	}
+
+	/**
+	 * 여러 요청의 합계 충전이 최대 보유 포인트에 걸렸는지 확인합니다.
+	 * 합계로는 한도를 넘어도 일부 요청은 충전할 수 있으므로, 이 경우 요청 단위로 다시 처리하여 넘치는 요청만 실패시킵니다.
+	 */
+	private static boolean isGroupOverflow(CustomException e, int size) {
+		return e.getErrorCode() == ErrorCode.BALANCE_OVERFLOW && size > 1;
+	}
+
+	private void chargeIndividually(Long userId, PointChargeGroupCommitter.Entry entry) {
+		ChargeCommand command = entry.command();
+		try {
+			entry.complete(userWalletLock.withLock(userId, ErrorCode.CHARGE_FAIL,
+				() -> chargeWithRetry(userId, command.amount(), command.idempotencyKey())));
+		} catch (RuntimeException e) {
+			entry.fail(e);
+		}
+	}
+
+	private ChargeOutcome chargeOne(Long userId, ChargeCommand command) {
+		try {
+			return ChargeOutcome.success(chargeWithRetry(userId, command.amount(), command.idempotencyKey()));
+		} catch (CustomException e) {
+			return ChargeOutcome.failure(e.getErrorCode());
+		}
+	}
+
+	private List<ChargeOutcome> chargeGroupInTransaction(Long userId, List<ChargeCommand> commands) {
+		Map<String, PointTransaction> processed = new HashMap<>();
+		pointTransactionRepository.findAllByUserIdAndIdempotencyKeyIn(
+				userId, commands.stream().map(ChargeCommand::idempotencyKey).toList())
+			.forEach(tx -> processed.put(tx.getIdempotencyKey(), tx));
+
+		ChargeOutcome[] outcomes = new ChargeOutcome[commands.size()];
+		Map<String, Integer> firstIndexByKey = new HashMap<>();
+		List<Integer> fresh = new ArrayList<>();
+		long total = 0;
+
+		for (int i = 0; i < commands.size(); i++) {
+			ChargeCommand command = commands.get(i);
+			String key = command.idempotencyKey();
+
+			PointTransaction done = processed.get(key);
+			if (done != null) {
+				outcomes[i] = ChargeOutcome.success(
+					PointChargeResponse.of(true, userId, done.getAmount(), done.getBalanceAfter(), key));
+			} else if (command.amount() == null || command.amount() <= 0) {
+				outcomes[i] = ChargeOutcome.failure(ErrorCode.INVALID_AMOUNT);
+			} else if (!firstIndexByKey.containsKey(key)) {
+				try {
+					total = Math.addExact(total, command.amount());
+				} catch (ArithmeticException e) {
+					// 합계가 long 범위를 넘는 요청은 어떤 지갑에도 반영할 수 없으므로, 배치 전체가 아니라 이 요청만 실패시킵니다.
+					outcomes[i] = ChargeOutcome.failure(ErrorCode.BALANCE_OVERFLOW);
+					continue;
+				}
+				firstIndexByKey.put(key, i);
+				fresh.add(i);
+			}
+		}
+
+		if (!fresh.isEmpty()) {
+			PointWalletTotals totals = increaseBalance(userId, total);
+			long balance = totals.balance() - total;
+			List<PointTransaction> transactions = new ArrayList<>(fresh.size());
+			for (int i : fresh) {
+				ChargeCommand command = commands.get(i);
+				balance += command.amount();
+				transactions.add(new PointTransaction(
+					userId, PointTransactionType.CHARGE, command.amount(), balance, null, command.idempotencyKey()));
+				outcomes[i] = ChargeOutcome.success(
+					PointChargeResponse.of(false, userId, command.amount(), balance, command.idempotencyKey()));
+			}
+			pointTransactionRepository.saveAll(transactions);
+			registerIdempotencyKeys(transactions);
+			registerLots(transactions, totals.lotTotal() - total);
+			// 키 유니크 제약 위반을 트랜잭션 안에서 감지하도록 즉시 flush 합니다(원장/키 INSERT가 배치로 전송됨).
+			pointTransactionRepository.flush();
+			publishBalanceChanged(transactions.get(transactions.size() - 1));
+
+			log.info("[POINT] 포인트 그룹 충전 성공. userId={}, requested={}, charged={}, amount={}, balanceAfter={}",
+				userId, commands.size(), fresh.size(), total, balance);
+		}
+
+		// 같은 그룹 안에서 반복된 키는 먼저 들어온 요청의 결과를 중복 응답으로 돌려줍니다.
+		for (int i = 0; i < commands.size(); i++) {
+			if (outcomes[i] == null) {
+				ChargeOutcome first = outcomes[firstIndexByKey.get(commands.get(i).idempotencyKey())];
+				PointChargeResponse firstResponse = first.response();
+				outcomes[i] = ChargeOutcome.success(PointChargeResponse.of(true, userId,
+					firstResponse.getChargedAmount(), firstResponse.getBalanceAfter(), firstResponse.getIdempotencyKey()));
+			}
+		}
+		return List.of(outcomes);
+	}
+
+	/**
+	 * 충전 트랜잭션을 실행합니다. 동시성 충돌 재시도는 {@link RetryExecutor}가 트랜잭션 밖에서 수행합니다.
+	 */
+	private PointChargeResponse chargeWithRetry(Long userId, Long amount, String idempotencyKey) {
+		return retryExecutor.execute(CHARGE_OPERATION, ErrorCode.CHARGE_FAIL,
+			() -> transactionTemplate.execute(status -> chargeInTransaction(status, userId, amount, idempotencyKey)));
+	}
+
+	private PointChargeResponse chargeInTransaction(
+		TransactionStatus status, Long userId, Long amount, String idempotencyKey) {
+		return pointTransactionRepository
+			.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+			.map(tx -> {
+				log.info("[POINT] 이미 처리된 요청입니다. userId={}, amount={}, key={}",
+					userId, tx.getAmount(), idempotencyKey);
+				return PointChargeResponse.of(
+					true, userId, tx.getAmount(), tx.getBalanceAfter(), idempotencyKey);
+			})
+			.orElseGet(() -> {
+				PointWalletTotals totals = increaseBalance(userId, amount);
+				long balanceAfter = totals.balance();
+
+				PointTransaction tx = new PointTransaction(
+					userId,
+					PointTransactionType.CHARGE,
+					amount,
+					balanceAfter,
+					null,
+					idempotencyKey
+				);
+
+				try {
+					// 식별자를 애플리케이션에서 생성하므로, 키 유니크 제약 위반을 이 지점에서 감지하기 위해 즉시 flush 합니다.
+					pointTransactionRepository.saveAndFlush(tx);
+					pointIdempotencyKeyRepository.saveAndFlush(new PointIdempotencyKey(tx, idempotencyExpiresAt()));
+				} catch (DataIntegrityViolationException e) {
+					// 잔액 UPDATE가 이미 실행되었으므로, 충전만 남지 않도록 현재 트랜잭션을 롤백시킨다.
+					status.setRollbackOnly();
+
+					return pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+						.map(dupTx -> {
+							log.info("[POINT] 중복 요청 처리 감지. userId={}, key={}", userId, idempotencyKey);
+							return PointChargeResponse.of(true, userId, dupTx.getAmount(),
+								dupTx.getBalanceAfter(), idempotencyKey);
+						})
+						.orElseThrow(() -> e);
+				}
+
+				registerLots(List.of(tx), totals.lotTotal() - amount);
+				publishBalanceChanged(tx);
+				log.info("[POINT] 포인트 충전 성공. userId={}, amount={}, balanceAfter={}, key={}",
+					userId, amount, balanceAfter, idempotencyKey);
+				return PointChargeResponse.of(false, userId, amount, balanceAfter, idempotencyKey);
+			});
+	}
+
+	/**
+	 * 차감 트랜잭션을 실행합니다. 동시성 충돌 재시도는 {@link RetryExecutor}가 트랜잭션 밖에서 수행합니다.
+	 * <p>
+	 * 주문 결제처럼 바깥 트랜잭션 안에서 호출되면 재시도하지 않고 충돌 예외를 그대로 던지며, 바깥 호출자가 트랜잭션 단위로 재시도합니다.
+	 * </p>
+	 */
+	private SpendResult spendWithRetry(Long userId, long amount, String normalizedKey, Long orderId) {
+		return retryExecutor.execute(SPEND_OPERATION, ErrorCode.SPEND_FAIL,
+			() -> transactionTemplate.execute(status -> spendInTransaction(status, userId, amount, normalizedKey, orderId)));
+	}
+
+	private SpendResult spendInTransaction(
+		TransactionStatus status, Long userId, long amount, String normalizedKey, Long orderId) {
+		return pointTransactionRepository
+			.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+			.map(tx -> {
+				log.info("[POINT] 이미 처리된 사용(차감) 요청입니다. userId={}, amount={}, key={}, type={}",
+					userId, amount, normalizedKey, tx.getType());
+				return spendDuplicateOf(tx, normalizedKey);
+			})
+			.orElseGet(() -> {
+				long balanceAfter = decreaseBalance(userId, amount);
+
+				PointTransaction tx = new PointTransaction(
+					userId,
+					PointTransactionType.SPEND,
+					amount,
+					balanceAfter,
+					orderId,
+					normalizedKey
+				);
+
+				try {
+					// 식별자를 애플리케이션에서 생성하므로, 키 유니크 제약 위반을 이 지점에서 감지하기 위해 즉시 flush 합니다.
+					pointTransactionRepository.saveAndFlush(tx);
+					pointIdempotencyKeyRepository.saveAndFlush(new PointIdempotencyKey(tx, idempotencyExpiresAt()));
+				} catch (DataIntegrityViolationException e) {
+					// 동시 요청으로 동일 키 트랜잭션이 이미 저장된 경우:
+					// 지갑 차감만 남지 않도록 현재 트랜잭션을 롤백시키고, 기존 기록을 조회하여 결과로 반환한다.
+					status.setRollbackOnly();
+
+					return pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, normalizedKey)
+						.map(dupTx -> {
+							log.info("[POINT] 중복 사용(차감) 요청 처리 감지. userId={}, key={}",
+								userId, normalizedKey);
+							return spendDuplicateOf(dupTx, normalizedKey);
+						})
+						.orElseThrow(() -> e);
+				}
+
+				publishBalanceChanged(tx);
+				log.info("[POINT] 포인트 사용(차감) 성공. userId={}, amount={}, balanceAfter={}, key={}, orderId={}",
+					userId, amount, balanceAfter, normalizedKey, orderId);
+				return SpendResult.of(false, balanceAfter, normalizedKey);
+			});
+	}
+
+	/**
+	 * 멱등성 키로 찾은 원장을 차감 요청의 중복 결과로 해석합니다.
+	 * <p>
+	 * 차감(SPEND) 원장만 중복으로 인정하며, 확정된 가점유는 원장 유형이 SPEND로 바뀌므로 함께 포함됩니다.
+	 * 아직 확정되지 않은 가점유(HOLD)는 같은 키의 다른 결제가 진행 중이라는 뜻이므로, 차감된 것으로 보지 않고 실패시킵니다.
+	 * 가점유가 해제/만료되면 키가 삭제되므로 이후 요청은 새로 차감합니다.
+	 * </p>
+	 *
+	 * @throws CustomException 확정되지 않은 가점유인 경우 {@link ErrorCode#HOLD_IN_PROGRESS},
+	 *                         충전 등 다른 유형의 원장인 경우 {@link ErrorCode#INVALID_REQUEST}
+	 */
+	private static SpendResult spendDuplicateOf(PointTransaction tx, String idempotencyKey) {
+		return switch (tx.getType()) {
+			case SPEND -> SpendResult.of(true, tx.getBalanceAfter(), idempotencyKey);
+			case HOLD -> throw new CustomException(ErrorCode.HOLD_IN_PROGRESS);
+			default -> throw new CustomException(ErrorCode.INVALID_REQUEST);
+		};
+	}
+
+	/**
+	 * 최대 보유 포인트 조건부 UPDATE로 잔액과 누적 충전량을 증가시키고 갱신된 값을 반환합니다.
+	 * <p>
+	 * 분할 지갑이면 지갑 행의 누적 충전량만 올리고 잔액은 하위 행 하나에 충전합니다.
+	 * 지갑 행 UPDATE로 행 락을 잡으므로, 반환된 누적 충전량은 트랜잭션이 끝날 때까지 다른 충전과 겹치지 않습니다.
+	 * </p>
+	 *
+	 * @throws CustomException 충전 후 잔액이 {@link PointWallet#MAX_BALANCE}를 넘으면 {@link ErrorCode#BALANCE_OVERFLOW}
+	 */
+	private PointWalletTotals increaseBalance(Long userId, long amount) {
+		if (amount <= 0) {
+			throw new CustomException(ErrorCode.INVALID_AMOUNT);
+		}
+		if (pointWalletRepository.increaseBalance(userId, amount) == 0) {
+			// 지갑이 있는 단일 지갑에서 0건이면 최대 보유 포인트 조건에 걸린 것입니다.
+			int shardCount = findShardCount(userId);
+			if (shardCount == 0 || pointWalletRepository.increaseLotTotal(userId, amount) == 0) {
+				throw new CustomException(ErrorCode.BALANCE_OVERFLOW);
+			}
+			pointWalletShardService.charge(userId, shardCount, amount);
+		}
+		return pointWalletRepository.findTotalsByUserId(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
+	}
+
+	private HoldResult holdInTransaction(TransactionStatus status, Long userId, long amount, String idempotencyKey) {
+		Optional<HoldResult> existing = findHold(userId, idempotencyKey);
+		if (existing.isPresent()) {
+			log.info("[POINT] 이미 가점유된 요청입니다. userId={}, key={}", userId, idempotencyKey);
+			return existing.get();
+		}
+
+		long balanceAfter = decreaseBalance(userId, amount);
+		PointTransaction tx = new PointTransaction(
+			userId, PointTransactionType.HOLD, amount, balanceAfter, null, idempotencyKey);
+		try {
+			pointTransactionRepository.saveAndFlush(tx);
+			pointIdempotencyKeyRepository.saveAndFlush(new PointIdempotencyKey(tx, idempotencyExpiresAt()));
+		} catch (DataIntegrityViolationException e) {
+			// 잔액 UPDATE가 이미 실행되었으므로, 차감만 남지 않도록 현재 트랜잭션을 롤백시킨다.
+			status.setRollbackOnly();
+			return findHold(userId, idempotencyKey).orElseThrow(() -> e);
+		}
+
+		PointHold hold = pointHoldRepository.save(
+			new PointHold(tx, LocalDateTime.now(clock).plusSeconds(holdTtlSeconds)));
+		publishBalanceChanged(tx);
+		log.info("[POINT] 포인트 가점유 성공. userId={}, holdId={}, amount={}, balanceAfter={}, key={}",
+			userId, hold.getId(), amount, balanceAfter, idempotencyKey);
+		return HoldResult.of(hold.getId(), false, balanceAfter, idempotencyKey);
+	}
+
+	/**
+	 * 멱등성 키로 기존 가점유를 찾습니다. 키가 가점유가 아닌 원장(충전/직접 차감)에 쓰였다면 잘못된 요청입니다.
+	 */
+	private Optional<HoldResult> findHold(Long userId, String idempotencyKey) {
+		return pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+			.map(tx -> pointHoldRepository.findByTransactionId(tx.getId())
+				.map(hold -> HoldResult.of(hold.getId(), true, tx.getBalanceAfter(), idempotencyKey))
+				.orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST)));
+	}
+
+	private Void releaseInTransaction(PointHold hold) {
+		if (pointHoldRepository.release(hold.getId(), PointHoldStatus.RELEASED) == 0) {
+			return null;
+		}
+
+		long balanceAfter = restoreBalance(hold.getUserId(), hold.getAmount());
+		PointTransaction tx = new PointTransaction(hold.getUserId(), PointTransactionType.RELEASE, hold.getAmount(),
+			balanceAfter, null, "hold-release-" + hold.getId());
+		pointTransactionRepository.save(tx);
+		pointTransactionRepository.findById(hold.getTransactionId())
+			.ifPresent(holdTx -> pointIdempotencyKeyRepository.deleteRegistration(
+				hold.getUserId(), IdempotencyKeyHash.of(holdTx.getIdempotencyKey()), holdTx.getId()));
+		publishBalanceChanged(tx);
+
+		log.info("[POINT] 포인트 가점유 해제. userId={}, holdId={}, amount={}, balanceAfter={}",
+			hold.getUserId(), hold.getId(), hold.getAmount(), balanceAfter);
+		return null;
+	}
+
+	/**
+	 * {@code balance >= amount} 조건부 UPDATE로 잔액을 차감하고 갱신된 잔액을 반환합니다.
+	 * <p>
+	 * 갱신된 행이 없으면 지갑 상태로 지갑 없음/잔액 부족/분할 지갑을 구분하며, 분할 지갑이면 하위 행에서 차감합니다.
+	 * </p>
+	 */
+	private long decreaseBalance(Long userId, long amount) {
+		if (amount <= 0) {
+			throw new CustomException(ErrorCode.INVALID_AMOUNT);
+		}
+		if (pointWalletRepository.decreaseBalance(userId, amount) == 0) {
+			int shardCount = findShardCount(userId);
+			if (shardCount == 0) {
+				throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+			}
+			pointWalletShardService.spend(userId, shardCount, amount);
+		}
+		return currentBalance(userId);
+	}
+
+	/**
+	 * 누적 충전량은 그대로 두고 잔액만 되돌린 뒤 갱신된 잔액을 반환합니다. 분할 지갑이면 하위 행 하나에 되돌립니다.
+	 */
+	private long restoreBalance(Long userId, long amount) {
+		if (pointWalletRepository.restoreBalance(userId, amount) == 0) {
+			int shardCount = findShardCount(userId);
+			if (shardCount == 0) {
+				throw new CustomException(ErrorCode.WALLET_NOT_FOUND);
+			}
+			pointWalletShardService.charge(userId, shardCount, amount);
+		}
+		return currentBalance(userId);
+	}
+
+	private int findShardCount(Long userId) {
+		return pointWalletRepository.findShardCountByUserId(userId)
+			.orElseThrow(() -> new CustomException(missingWalletError(userId)));
+	}
+
+	/**
+	 * 지갑이 없을 때 사용자 자체가 없는지 구분합니다.
+	 * <p>
+	 * 지갑은 사용자와 함께 생성되므로 지갑 조회/UPDATE가 성공하면 사용자가 존재합니다.
+	 * 따라서 사용자 존재 여부는 매 요청마다 확인하지 않고, 지갑이 없는 실패 경로에서만 조회합니다.
+	 * </p>
+	 */
+	private ErrorCode missingWalletError(Long userId) {
+		return userRepository.existsById(userId) ? ErrorCode.WALLET_NOT_FOUND : ErrorCode.USER_NOT_FOUND;
+	}
+
+	/**
+	 * 현재 잔액을 조회합니다. UPDATE 직후 호출되면 같은 트랜잭션이 행 락을 보유한 상태이므로 갱신된 값을 읽습니다.
+	 * 분할 지갑은 하위 행 합계이며, 다른 하위 행의 동시 갱신이 반영된 시점의 값일 수 있습니다.
+	 */
+	private long currentBalance(Long userId) {
+		return pointWalletRepository.findBalanceByUserId(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
+	}
+
+	private void registerIdempotencyKeys(List<PointTransaction> transactions) {
+		LocalDateTime expiresAt = idempotencyExpiresAt();
+		pointIdempotencyKeyRepository.saveAll(
+			transactions.stream().map(tx -> new PointIdempotencyKey(tx, expiresAt)).toList());
+	}
+
+	/**
+	 * 충전 원장마다 lot을 저장합니다. lot의 누적 위치는 충전 이전 누적 충전량부터 원장 순서대로 이어집니다.
+	 */
+	private void registerLots(List<PointTransaction> charges, long lotTotalBefore) {
+		LocalDateTime expiresAt = LocalDateTime.now(clock).plusDays(lotExpireDays);
+		long cumulativeEnd = lotTotalBefore;
+		List<PointLot> lots = new ArrayList<>(charges.size());
+		for (PointTransaction tx : charges) {
+			cumulativeEnd += tx.getAmount();
+			lots.add(new PointLot(tx, cumulativeEnd, expiresAt));
+		}
+		pointLotRepository.saveAll(lots);
+	}
+
+	private LocalDateTime idempotencyExpiresAt() {
+		return LocalDateTime.now(clock).plusDays(idempotencyRetentionDays);
+	}
+
+	/**
+	 * 원장 기록 이후 잔액을 알리는 이벤트를 발행합니다. 잔액 캐시는 커밋 이후에만 갱신됩니다.
+	 */
+	private void publishBalanceChanged(PointTransaction tx) {
+		eventPublisher.publishEvent(new PointBalanceChangedEvent(tx.getUserId(), tx.getId(), tx.getBalanceAfter()));
+	}
 
 	private void validateChargeUseCase(PointChargeRequest request) {
 		if (request == null) {
@@ -227,19 +886,16 @@ public class PointService {
 		}
 	}
 
-	private String normalizeIdempotencyKey(String idempotencyKey) {
+	/**
+	 * 비어 있는 멱등성 키는 서버에서 생성하고, 그 외에는 앞뒤 공백을 제거합니다.
+	 */
+	public static String normalizeIdempotencyKey(String idempotencyKey) {
 		if (idempotencyKey == null || idempotencyKey.isBlank()) {
 			return UUID.randomUUID().toString();
 		}
 		return idempotencyKey.trim();
 	}
 
-	private void validateUserExists(Long userId) {
-		if (!userRepository.existsById(userId)) {
-			throw new CustomException(ErrorCode.USER_NOT_FOUND);
-		}
-	}
-
 	private void validateSpendUseCase(Long userId, long amount) {
 		if (userId == null || userId <= 0) {
 			throw new CustomException(ErrorCode.INVALID_REQUEST);
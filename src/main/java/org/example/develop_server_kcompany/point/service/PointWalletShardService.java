@@ -0,0 +1,132 @@
+package org.example.develop_server_kcompany.point.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.domain.PointWalletShard;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletShardRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분할 지갑(sharded wallet)의 잔액 갱신을 담당하는 서비스 클래스입니다.
+ * <p>
+ * 분할 모드가 켜진 사용자는 잔액이 N개의 하위 행({@link PointWalletShard})에 나뉘어 있으며,
+ * 충전은 임의의 하위 행 하나에, 차감은 잔액이 충분한 하위 행 하나에 조건부 UPDATE로 반영합니다.
+ * 충전이 여러 행으로 흩어지므로 하나의 지갑 행에서 행 락을 기다리지 않으며,
+ * 차감은 교착 상태를 피하도록 항상 shardNo 오름차순으로 하위 행을 잠급니다.
+ * </p>
+ * <p>
+ * 호출자는 {@link PointService}이며, 분할 여부는 지갑 행의 {@code shard_count}로 판단하므로
+ * {@link PointService#spend(Long, long, String, Long)} 호출자는 분할 여부를 알 필요가 없습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 1. 15.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointWalletShardService {
+
+	public static final int MIN_SHARDS = 2;
+	public static final int MAX_SHARDS = 64;
+
+	private final PointWalletRepository pointWalletRepository;
+	private final PointWalletShardRepository pointWalletShardRepository;
+
+	/**
+	 * 사용자의 지갑을 분할 모드로 전환합니다.
+	 * <p>
+	 * 현재 잔액을 하위 행에 고르게 나누어 옮기고(나머지는 0번 행), 지갑 행의 잔액은 0으로 둡니다.
+	 * 충전/차감은 지갑 행의 조건부 UPDATE로 처리되며 그때마다 version도 함께 올라갑니다.
+	 * 전환은 지갑 엔티티를 읽어 수정하는 유일한 경로이므로, 읽은 뒤 다른 요청이 잔액을 바꿨다면
+	 * 전환의 UPDATE가 적용되지 않고 실패하여 그 변경을 덮어쓰지 않습니다(다시 요청하면 됩니다).
+	 * </p>
+	 *
+	 * @param userId     사용자 식별자
+	 * @param shardCount 하위 행 개수({@value #MIN_SHARDS} ~ {@value #MAX_SHARDS})
+	 */
+	@Transactional
+	public void enableSharding(Long userId, int shardCount) {
+		if (shardCount < MIN_SHARDS || shardCount > MAX_SHARDS) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+		PointWallet wallet = pointWalletRepository.findById(userId)
+			.orElseThrow(() -> new CustomException(ErrorCode.WALLET_NOT_FOUND));
+		if (wallet.isSharded()) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+
+		long total = wallet.enableSharding(shardCount);
+		long share = total / shardCount;
+
+		List<PointWalletShard> shards = new ArrayList<>(shardCount);
+		for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+			long balance = shardNo == 0 ? share + total % shardCount : share;
+			shards.add(new PointWalletShard(userId, shardNo, balance));
+		}
+		pointWalletShardRepository.saveAll(shards);
+
+		log.info("[POINT] 지갑 분할 모드 전환. userId={}, shardCount={}, balance={}", userId, shardCount, total);
+	}
+
+	/**
+	 * 임의의 하위 행 하나에 충전합니다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void charge(Long userId, int shardCount, long amount) {
+		int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+		if (pointWalletShardRepository.increaseBalance(userId, shardNo, amount) == 0) {
+			throw new CustomException(ErrorCode.WALLET_NOT_FOUND);
+		}
+	}
+
+	/**
+	 * 잔액이 충분한 하위 행 하나에서 차감합니다.
+	 * <p>
+	 * 0번 행부터 shardNo 오름차순으로 조건부 UPDATE를 시도합니다. 잔액이 부족해 실패한 UPDATE도
+	 * 트랜잭션이 끝날 때까지 행 락을 유지하므로, 임의의 행부터 시도하면 shardNo 순서로 잠그는
+	 * 다른 차감이나 만료 작업과 교착 상태가 생길 수 있습니다.
+	 * 어느 한 행으로도 차감할 수 없으면 모든 행을 같은 순서로 잠그고 합계를 확인한 뒤 여러 행에 나누어 차감합니다.
+	 * </p>
+	 *
+	 * @throws CustomException 하위 행 잔액 합계가 부족한 경우 {@link ErrorCode#INSUFFICIENT_BALANCE}
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void spend(Long userId, int shardCount, long amount) {
+		for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+			if (pointWalletShardRepository.decreaseBalance(userId, shardNo, amount) == 1) {
+				return;
+			}
+		}
+		spendAcrossShards(userId, amount);
+	}
+
+	private void spendAcrossShards(Long userId, long amount) {
+		List<PointWalletShard> shards = pointWalletShardRepository.findAllByUserIdForUpdate(userId);
+		long total = shards.stream().mapToLong(PointWalletShard::getBalance).sum();
+		if (total < amount) {
+			throw new CustomException(ErrorCode.INSUFFICIENT_BALANCE);
+		}
+
+		long remaining = amount;
+		for (PointWalletShard shard : shards) {
+			if (remaining == 0) {
+				break;
+			}
+			remaining -= shard.withdrawUpTo(remaining);
+		}
+		log.info("[POINT] 분할 지갑 여러 행에서 차감. userId={}, amount={}", userId, amount);
+	}
+}
@@ -0,0 +1,45 @@
+package org.example.develop_server_kcompany.common.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IdempotencyKeyHashTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link IdempotencyKeyHash}
+ * 표준 UUID는 128비트 값 그대로, 그 외 키는 해시로 16바이트 값이 만들어지는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+public class IdempotencyKeyHashTest {
+
+	@Test
+	@DisplayName("표준 표기 UUID는 128비트 값을 그대로 사용한다")
+	void of_canonicalUuid_usesUuidBits() {
+		UUID uuid = UUID.randomUUID();
+
+		ByteBuffer hash = ByteBuffer.wrap(IdempotencyKeyHash.of(uuid.toString()));
+
+		assertThat(hash.capacity()).isEqualTo(IdempotencyKeyHash.LENGTH);
+		assertThat(hash.getLong()).isEqualTo(uuid.getMostSignificantBits());
+		assertThat(hash.getLong()).isEqualTo(uuid.getLeastSignificantBits());
+	}
+
+	@Test
+	@DisplayName("UUID가 아닌 키와 대문자 UUID는 해시로 변환되며, 같은 키는 항상 같은 값이다")
+	void of_otherKeys_useHash() {
+		String uuid = UUID.randomUUID().toString();
+
+		assertThat(IdempotencyKeyHash.of("order-123")).hasSize(IdempotencyKeyHash.LENGTH)
+			.isEqualTo(IdempotencyKeyHash.of("order-123"))
+			.isNotEqualTo(IdempotencyKeyHash.of("order-124"));
+		assertThat(IdempotencyKeyHash.of(uuid.toUpperCase())).isNotEqualTo(IdempotencyKeyHash.of(uuid));
+	}
+}
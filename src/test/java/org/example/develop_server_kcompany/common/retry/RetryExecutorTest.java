@@ -0,0 +1,119 @@
+package org.example.develop_server_kcompany.common.retry;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RetryExecutorTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link RetryExecutor}
+ * 작업별 정책에 따른 재시도/소진, 열린 트랜잭션 안에서의 재시도 생략, backoff 계산을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+public class RetryExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final RetryExecutor retryExecutor = new RetryExecutor(new RetryProperties(
+		policy(3, Duration.ofSeconds(1)),
+		Map.of("single", policy(1, Duration.ofSeconds(1)))), meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	@DisplayName("동시성 충돌은 정책의 최대 시도 횟수 안에서 재시도한다")
+	void execute_retriesConcurrencyFailure() {
+		AtomicInteger calls = new AtomicInteger();
+
+		String result = retryExecutor.execute("op", ErrorCode.SPEND_FAIL, () -> {
+			if (calls.incrementAndGet() < 3) {
+				throw new CannotAcquireLockException("lock wait timeout");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(calls).hasValue(3);
+		assertThat(meterRegistry.counter("app.retry.retries", "operation", "op").count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("재시도를 모두 소진하면 지정한 오류 코드로 실패한다")
+	void execute_whenExhausted_thenThrowsErrorCode() {
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> retryExecutor.execute("single", ErrorCode.CHARGE_FAIL, () -> {
+			calls.incrementAndGet();
+			throw new CannotAcquireLockException("lock wait timeout");
+		}))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.CHARGE_FAIL);
+		assertThat(calls).hasValue(1);
+		assertThat(meterRegistry.counter("app.retry.exhausted", "operation", "single").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("열린 트랜잭션 안에서는 재시도하지 않고 원래 예외를 던진다")
+	void execute_insideTransaction_thenNoRetry() {
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> retryExecutor.execute("op", ErrorCode.SPEND_FAIL, () -> {
+			calls.incrementAndGet();
+			throw new CannotAcquireLockException("lock wait timeout");
+		})).isInstanceOf(CannotAcquireLockException.class);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("최대 경과 시간을 넘기게 되는 재시도는 하지 않는다")
+	void execute_whenBackoffExceedsMaxElapsed_thenGivesUp() {
+		RetryExecutor executor = new RetryExecutor(new RetryProperties(
+			new RetryProperties.Policy(5, Duration.ofSeconds(10), 2.0, Duration.ofSeconds(10), 0.0, Duration.ofSeconds(1)),
+			Map.of()), meterRegistry);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> executor.execute("op", ErrorCode.SPEND_FAIL, () -> {
+			calls.incrementAndGet();
+			throw new CannotAcquireLockException("lock wait timeout");
+		})).isInstanceOf(CustomException.class);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("backoff는 지수적으로 증가하고 상한과 jitter 범위를 지킨다")
+	void backoffMillis_respectsCapAndJitter() {
+		RetryProperties.Policy policy =
+			new RetryProperties.Policy(10, Duration.ofMillis(100), 2.0, Duration.ofMillis(500), 0.2, Duration.ofSeconds(5));
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(RetryExecutor.backoffMillis(policy, 1)).isBetween(80L, 120L);
+			assertThat(RetryExecutor.backoffMillis(policy, 2)).isBetween(160L, 240L);
+			assertThat(RetryExecutor.backoffMillis(policy, 5)).isBetween(400L, 600L);
+		}
+	}
+
+	private static RetryProperties.Policy policy(int maxAttempts, Duration maxElapsed) {
+		return new RetryProperties.Policy(maxAttempts, Duration.ZERO, 2.0, Duration.ZERO, 0.0, maxElapsed);
+	}
+}
@@ -0,0 +1,104 @@
+package org.example.develop_server_kcompany.menu.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.menu.domain.Menu;
+import org.example.develop_server_kcompany.menu.repository.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+/**
+ * MenuCatalogTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link MenuCatalog}
+ * 스냅샷 적재/교체와 주문 가능 메뉴 조회 규칙을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@ExtendWith(MockitoExtension.class)
+public class MenuCatalogTest {
+
+	@Mock
+	MenuRepository menuRepository;
+
+	MenuCatalog menuCatalog;
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(Instant.parse("2026-01-15T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+		menuCatalog = new MenuCatalog(menuRepository, clock);
+	}
+
+	private Menu menu(Long id, String name, Integer price, boolean active) {
+		Menu menu = new Menu(name, price, active);
+		try {
+			Field f = Menu.class.getDeclaredField("id");
+			f.setAccessible(true);
+			f.set(menu, id);
+		} catch (Exception e) {
+			throw new IllegalStateException("테스트용 Menu 생성 실패", e);
+		}
+		return menu;
+	}
+
+	@Test
+	@DisplayName("스냅샷은 한 번 적재된 뒤 재조회 없이 재사용되고, 내용이 같으면 버전이 유지된다")
+	void snapshot_loadedOnce_andVersionKeptWhenUnchanged() {
+		when(menuRepository.findAll(any(Sort.class)))
+			.thenReturn(List.of(menu(1L, "아메리카노", 4000, true), menu(2L, "모카", 5000, false)));
+
+		MenuCatalogSnapshot first = menuCatalog.snapshot();
+		MenuCatalogSnapshot second = menuCatalog.snapshot();
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.activeMenus()).extracting(CatalogMenu::name).containsExactly("아메리카노");
+		verify(menuRepository, times(1)).findAll(any(Sort.class));
+
+		assertThat(menuCatalog.refresh().version()).isEqualTo(first.version());
+	}
+
+	@Test
+	@DisplayName("판매중이 아닌 메뉴를 조회하면 MENU_NOT_FOUND")
+	void resolveActive_whenInactive_throwMenuNotFound() {
+		when(menuRepository.findAll(any(Sort.class)))
+			.thenReturn(List.of(menu(1L, "아메리카노", 4000, true), menu(2L, "모카", 5000, false)));
+
+		assertThatThrownBy(() -> menuCatalog.resolveActive(Set.of(1L, 2L)))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.MENU_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("메뉴 변경 후 갱신하면 새 버전 스냅샷으로 교체된다")
+	void refresh_whenMenusChanged_thenSwapWithNewVersion() {
+		when(menuRepository.findAll(any(Sort.class)))
+			.thenReturn(List.of(menu(1L, "아메리카노", 4000, true)))
+			.thenReturn(List.of(menu(1L, "아메리카노", 4500, true)));
+
+		MenuCatalogSnapshot before = menuCatalog.snapshot();
+		MenuCatalogSnapshot after = menuCatalog.refresh();
+
+		assertThat(after.version()).isEqualTo(before.version() + 1);
+		assertThat(after.find(1L).price()).isEqualTo(4500);
+		assertThat(before.find(1L).price()).isEqualTo(4000);
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
 
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
 import org.example.develop_server_kcompany.menu.domain.Menu;
 import org.example.develop_server_kcompany.menu.dto.MenuListResponse;
 import org.example.develop_server_kcompany.menu.repository.MenuRepository;
@@ -35,11 +36,15 @@ public class MenuServiceTest {
 	@Autowired
 	private MenuService menuService;
 
+	@Autowired
+	private MenuCatalog menuCatalog;
+
 	@BeforeEach
 	void setUp() {
 		menuRepository.save(new Menu("아메리카노", 4000, true));
 		menuRepository.save(new Menu("카페라떼", 4500, true));
 		menuRepository.save(new Menu("모카", 5000, false)); // 판매중 아님
+		menuCatalog.refresh(); // 메뉴 목록은 카탈로그 스냅샷에서 읽으므로 적재 후 갱신
 	}
 
 	@Test
@@ -9,11 +9,23 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
 import org.example.develop_server_kcompany.common.exception.GlobalExceptionHandler;
 import org.example.develop_server_kcompany.payment.controller.OrderController;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderResult;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryEntry;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryItem;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryPage;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderStatusView;
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService;
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService.QuoteResult;
 import org.example.develop_server_kcompany.payment.service.OrderService;
 import org.example.develop_server_kcompany.payment.service.OrderService.CreateOrderItemResult;
 import org.example.develop_server_kcompany.payment.service.OrderService.CreateOrderResult;
+import org.example.develop_server_kcompany.payment.service.OrderService.OrderAcceptResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,7 +41,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * OrderControllerTest 테스트 클래스입니다.
  * <p>
- * 대상 메서드: 주문 생성 API
+ * 대상 메서드: 주문 생성/견적/주문 내역 조회 API
  * </p>
  *
  * @author 재원
@@ -49,6 +61,15 @@ public class OrderControllerTest {
 	@MockitoBean
 	private OrderService orderService;
 
+	@MockitoBean
+	private OrderBatchService orderBatchService;
+
+	@MockitoBean
+	private OrderQueryService orderQueryService;
+
+	@MockitoBean
+	private OrderQuoteService orderQuoteService;
+
 	private static final String URL = "/api/orders";
 
 	@Test
@@ -88,6 +109,44 @@ public class OrderControllerTest {
 			.andExpect(jsonPath("$.items[0].menuId").value(10));
 	}
 
+	@Test
+	@DisplayName("일괄 주문 성공: 주문별 결과와 성공/실패 건수 반환")
+	void createOrders_batch_returnsPerOrderResults() throws Exception {
+		// given
+		CreateOrderResult success = new CreateOrderResult(
+			1L,
+			1L,
+			3000L,
+			7000L,
+			List.of(new CreateOrderItemResult(10L, "라떼", 3000L, 1, 3000L)),
+			"k1",
+			false,
+			LocalDateTime.parse("2026-01-15T10:00:00")
+		);
+		when(orderBatchService.createOrders(anyList())).thenReturn(List.of(
+			BatchOrderResult.success(0, success),
+			BatchOrderResult.failure(1, ErrorCode.INSUFFICIENT_BALANCE)
+		));
+
+		Map<String, Object> order1 = Map.of("userId", 1L, "idempotencyKey", "k1",
+			"items", List.of(Map.of("menuId", 10L, "quantity", 1)));
+		Map<String, Object> order2 = Map.of("userId", 2L, "idempotencyKey", "k2",
+			"items", List.of(Map.of("menuId", 10L, "quantity", 1)));
+
+		String body = objectMapper.writeValueAsString(Map.of("orders", List.of(order1, order2)));
+
+		// when & then
+		mockMvc.perform(post(URL + "/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.totalCount").value(2))
+			.andExpect(jsonPath("$.successCount").value(1))
+			.andExpect(jsonPath("$.results[0].order.orderId").value(1))
+			.andExpect(jsonPath("$.results[1].success").value(false))
+			.andExpect(jsonPath("$.results[1].errorCode").value("INSUFFICIENT_BALANCE"));
+	}
+
 	@Test
 	@DisplayName("요청 검증 실패: items가 비어 있으면 400 Bad Request")
 	void createOrder_invalidRequest_itemsEmpty_returns400() throws Exception {
@@ -107,4 +166,99 @@ public class OrderControllerTest {
 
 		verify(orderService, never()).createOrder(anyLong(), any(), any());
 	}
+
+	@Test
+	@DisplayName("주문 내역 조회: 커서와 페이지 크기를 전달하고 다음 커서를 반환")
+	void getOrderHistory_returnsPageWithNextCursor() throws Exception {
+		// given
+		OrderHistoryEntry entry = new OrderHistoryEntry(
+			500L,
+			OrderStatus.PAID,
+			3000L,
+			"k1",
+			List.of(new OrderHistoryItem(10L, "라떼", 3000L, 1, 3000L)),
+			LocalDateTime.parse("2026-01-15T10:00:00")
+		);
+		when(orderQueryService.getOrderHistory(1L, 900L, 1))
+			.thenReturn(new OrderHistoryPage(List.of(entry), 500L, true));
+
+		// when & then
+		mockMvc.perform(get(URL)
+				.param("userId", "1")
+				.param("cursor", "900")
+				.param("size", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.orders[0].orderId").value(500))
+			.andExpect(jsonPath("$.orders[0].status").value("PAID"))
+			.andExpect(jsonPath("$.orders[0].items[0].menuName").value("라떼"))
+			.andExpect(jsonPath("$.nextCursor").value(500))
+			.andExpect(jsonPath("$.hasNext").value(true));
+	}
+
+	@Test
+	@DisplayName("비동기 주문: Prefer: respond-async 헤더면 202 Accepted와 상태 조회 경로 반환")
+	void createOrder_respondAsync_return202() throws Exception {
+		// given
+		when(orderService.acceptOrder(eq(1L), any(), any()))
+			.thenReturn(new OrderAcceptResult(1L, 1L, OrderStatus.CREATED, 3000L, "k1", false));
+
+		Map<String, Object> request = Map.of("userId", 1L, "idempotencyKey", "k1",
+			"items", List.of(Map.of("menuId", 10L, "quantity", 1)));
+
+		// when & then
+		mockMvc.perform(post(URL)
+				.header("Prefer", "respond-async")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isAccepted())
+			.andExpect(header().string("Location", "/api/orders/1/status"))
+			.andExpect(jsonPath("$.status").value("CREATED"))
+			.andExpect(jsonPath("$.statusUrl").value("/api/orders/1/status"));
+
+		verify(orderService, never()).createOrder(anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("주문 상태 조회: 결제 실패 시 CANCELED와 실패 사유 반환")
+	void getOrderStatus_returnsStatusWithFailureCode() throws Exception {
+		// given
+		when(orderQueryService.getOrderStatus(1L)).thenReturn(new OrderStatusView(
+			1L, 1L, OrderStatus.CANCELED, 3000L, "INSUFFICIENT_BALANCE", LocalDateTime.parse("2026-01-15T10:00:00")));
+
+		// when & then
+		mockMvc.perform(get(URL + "/1/status"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("CANCELED"))
+			.andExpect(jsonPath("$.failureCode").value("INSUFFICIENT_BALANCE"));
+	}
+
+	@Test
+	@DisplayName("장바구니 견적: 총액과 잔액 충분 여부 반환")
+	void quote_returnsTotalAndSufficiency() throws Exception {
+		// given
+		when(orderQuoteService.quote(eq(1L), anyList())).thenReturn(new QuoteResult(
+			1L,
+			List.of(new CreateOrderItemResult(10L, "라떼", 3000L, 2, 6000L)),
+			6000L,
+			5000L,
+			false,
+			1000L,
+			3L
+		));
+
+		Map<String, Object> request = Map.of("userId", 1L,
+			"items", List.of(Map.of("menuId", 10L, "quantity", 2)));
+
+		// when & then
+		mockMvc.perform(post(URL + "/quote")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.totalAmount").value(6000))
+			.andExpect(jsonPath("$.items[0].lineAmount").value(6000))
+			.andExpect(jsonPath("$.sufficient").value(false))
+			.andExpect(jsonPath("$.shortfall").value(1000));
+
+		verifyNoInteractions(orderService);
+	}
 }
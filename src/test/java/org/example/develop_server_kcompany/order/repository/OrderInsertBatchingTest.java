@@ -0,0 +1,64 @@
+package org.example.develop_server_kcompany.order.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.domain.OrderItem;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * OrderInsertBatchingTest 테스트 클래스입니다.
+ * <p>
+ * 대상: {@link Order}/{@link OrderItem} 식별자 생성 전략({@code @TsidId})과 JDBC 배치 설정
+ * </p>
+ * <p>
+ * Hibernate 통계(prepareStatementCount)로 주문 1건 저장 시 DB 왕복 횟수를 측정합니다.
+ * IDENTITY 전략에서는 주문 1 + 항목 N번의 INSERT가 각각 실행되었지만,
+ * 애플리케이션 생성 식별자를 사용하면 테이블별로 하나의 배치 INSERT로 묶입니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.jpa.properties.hibernate.jdbc.batch_size=100",
+	"spring.jpa.properties.hibernate.order_inserts=true"
+})
+public class OrderInsertBatchingTest {
+
+	private static final int ITEM_COUNT = 10;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	@DisplayName("주문 항목 10개 주문 저장 시 INSERT는 테이블별 1회(총 2회)만 준비된다")
+	void saveAndFlush_multiLineOrder_isBatched() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		Order order = Order.create(1L, "batch-key");
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			order.addItem(OrderItem.create((long) (i + 1), "메뉴" + i, 1000L, 1));
+		}
+
+		statistics.clear();
+		orderRepository.saveAndFlush(order);
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEM_COUNT + 1);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(order.getId()).isPositive();
+		assertThat(order.getItems()).allSatisfy(item -> assertThat(item.getId()).isPositive());
+	}
+}
@@ -0,0 +1,105 @@
+package org.example.develop_server_kcompany.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.config.ClockConfig;
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.domain.OrderItem;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.payment.service.OrderArchiveJob;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryEntry;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * OrderArchiveJobTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OrderArchiveJob}
+ * 보관 기간이 지난 결제 완료 주문만 청크 단위로 보관 테이블로 옮겨지고,
+ * 옮겨진 주문도 주문 내역/상태 조회에서 계속 조회되는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = "app.order.archive.chunk-size=2")
+@Import({OrderArchiveJob.class, OrderQueryService.class, ClockConfig.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+public class OrderArchiveJobTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Autowired
+	private OrderArchiveJob orderArchiveJob;
+
+	@Autowired
+	private OrderQueryService orderQueryService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("오래된 PAID 주문만 보관 테이블로 옮겨지고, 주문 내역은 두 테이블을 합쳐 최신순으로 조회된다")
+	void archive_movesOldPaidOrders_andHistoryStillSeesThem() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Order paid = Order.create(USER_ID, "paid-" + i);
+			paid.addItem(OrderItem.create(10L, "아메리카노", 3000L, i + 1));
+			paid.markPaid();
+			ids.add(orderRepository.save(paid).getId());
+		}
+		Order pending = Order.create(USER_ID, "pending");
+		pending.addItem(OrderItem.create(10L, "아메리카노", 3000L, 1));
+		ids.add(orderRepository.save(pending).getId());
+		testEntityManager.flush();
+		jdbcTemplate.update("UPDATE orders SET created_at = ?", LocalDateTime.now().minusDays(365));
+		testEntityManager.clear();
+
+		int archived = orderArchiveJob.archive(LocalDateTime.now().minusDays(90));
+		testEntityManager.clear();
+
+		assertThat(archived).isEqualTo(3);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class)).isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders_archive", Long.class)).isEqualTo(3L);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items_archive", Long.class)).isEqualTo(3L);
+
+		OrderHistoryPage page = orderQueryService.getOrderHistory(USER_ID, null, 10);
+		assertThat(page.orders()).extracting(OrderHistoryEntry::orderId).containsExactlyElementsOf(ids.reversed());
+		assertThat(page.orders()).allSatisfy(order -> assertThat(order.items()).hasSize(1));
+
+		assertThat(orderQueryService.getOrderStatus(ids.get(0)).status()).isEqualTo(OrderStatus.PAID);
+	}
+
+	@Test
+	@DisplayName("보관 기간이 지나지 않은 주문은 옮기지 않는다")
+	void archive_skipsRecentOrders() {
+		Order paid = Order.create(USER_ID, "recent");
+		paid.addItem(OrderItem.create(10L, "아메리카노", 3000L, 1));
+		paid.markPaid();
+		orderRepository.save(paid);
+		testEntityManager.flush();
+		jdbcTemplate.update("UPDATE orders SET created_at = ?", LocalDateTime.now().minusDays(1));
+
+		assertThat(orderArchiveJob.archive(LocalDateTime.now().minusDays(90))).isZero();
+	}
+}
@@ -0,0 +1,209 @@
+package org.example.develop_server_kcompany.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.example.develop_server_kcompany.payment.service.OrderService.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.repository.ArchivedOrderRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderCommand;
+import org.example.develop_server_kcompany.payment.service.OrderBatchService.BatchOrderResult;
+import org.example.develop_server_kcompany.payment.service.OrderService;
+import org.example.develop_server_kcompany.point.service.PointService;
+import org.example.develop_server_kcompany.point.service.PointService.SpendOutcome;
+import org.example.develop_server_kcompany.point.service.PointService.SpendResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * OrderBatchServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OrderBatchService}
+ * 대상 메서드: 일괄 주문 생성(createOrders)
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@ExtendWith(MockitoExtension.class)
+public class OrderBatchServiceTest {
+
+	@Mock
+	OrderService orderService;
+	@Mock
+	OrderRepository orderRepository;
+	@Mock
+	ArchivedOrderRepository archivedOrderRepository;
+	@Mock
+	PointService pointService;
+	@Mock
+	MenuCatalog menuCatalog;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	@Spy
+	Clock clock = Clock.fixed(Instant.parse("2026-01-15T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+	@InjectMocks
+	OrderBatchService orderBatchService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(orderBatchService, "chunkSize", 50);
+	}
+
+	private void setField(Object target, String fieldName, Object value) {
+		try {
+			Field f = target.getClass().getDeclaredField(fieldName);
+			f.setAccessible(true);
+			f.set(target, value);
+		} catch (Exception e) {
+			throw new IllegalStateException("필드 주입 실패: " + fieldName, e);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("같은 사용자의 주문은 한 번에 차감하고, 실패 주문은 삭제하며, 요청 내 중복 키는 중복 결과로 반환")
+	void createOrders_groupsSpendPerUser_andReportsPerOrderResult() {
+		Long userId = 1L;
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
+		List<BatchOrderCommand> commands = List.of(
+			new BatchOrderCommand(userId, "a", items),
+			new BatchOrderCommand(userId, "b", items),
+			new BatchOrderCommand(userId, "a", items)
+		);
+
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, new CatalogMenu(10L, "아메리카노", 3000, true)));
+		doAnswer(inv -> {
+			((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		when(orderRepository.findAllByUserIdInAndIdempotencyKeyIn(anyCollection(), anyCollection()))
+			.thenReturn(List.of());
+		when(orderRepository.saveAll(anyList())).thenAnswer(inv -> {
+			List<Order> orders = inv.getArgument(0);
+			long id = 100L;
+			for (Order o : orders) {
+				setField(o, "id", id++);
+			}
+			return orders;
+		});
+		when(pointService.spendAll(eq(userId), anyList())).thenReturn(List.of(
+			SpendOutcome.success(SpendResult.of(false, 7000L, "a")),
+			SpendOutcome.failure(ErrorCode.INSUFFICIENT_BALANCE)
+		));
+
+		List<BatchOrderResult> results = orderBatchService.createOrders(commands);
+
+		verify(pointService, times(1)).spendAll(eq(userId), anyList());
+		ArgumentCaptor<Order> deleted = ArgumentCaptor.forClass(Order.class);
+		verify(orderRepository).delete(deleted.capture());
+		assertThat(deleted.getValue().getId()).isEqualTo(101L);
+		assertThat(deleted.getValue().getStatus()).isEqualTo(OrderStatus.CREATED);
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).success()).isTrue();
+		assertThat(results.get(0).order().orderId()).isEqualTo(100L);
+		assertThat(results.get(0).order().duplicate()).isFalse();
+		assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+		assertThat(results.get(2).order().orderId()).isEqualTo(100L);
+		assertThat(results.get(2).order().duplicate()).isTrue();
+		verify(orderService, never()).placeOrder(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("청크 처리에 실패하면 정규화된 키로 주문 단위 처리 경로를 호출하고, 키를 다시 정규화하는 경로는 거치지 않음")
+	void createOrders_whenChunkFails_thenPlacesEachOrderWithNormalizedKey() {
+		Long userId = 1L;
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
+		List<BatchOrderCommand> commands = List.of(new BatchOrderCommand(userId, "  k1 ", items));
+
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, new CatalogMenu(10L, "아메리카노", 3000, true)));
+		doThrow(new IllegalStateException("chunk failed")).when(transactionTemplate).executeWithoutResult(any());
+		CreateOrderResult placed = new CreateOrderResult(
+			100L, userId, 3000L, 7000L, List.of(), "k1", false, LocalDateTime.now(clock));
+		when(orderService.placeOrder(userId, "k1", items)).thenReturn(placed);
+
+		List<BatchOrderResult> results = orderBatchService.createOrders(commands);
+
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).success()).isTrue();
+		assertThat(results.get(0).order()).isEqualTo(placed);
+		verify(orderService, never()).createOrder(any(), any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("주문 총액이 long 범위를 넘는 주문만 INVALID_AMOUNT로 실패하고 나머지 주문은 처리")
+	void createOrders_whenTotalOverflows_thenFailsOnlyThatOrder() {
+		Long userId = 1L;
+		List<CreateOrderItemCommand> huge = List.of(
+			new CreateOrderItemCommand(11L, Integer.MAX_VALUE),
+			new CreateOrderItemCommand(12L, Integer.MAX_VALUE),
+			new CreateOrderItemCommand(13L, Integer.MAX_VALUE)
+		);
+		List<BatchOrderCommand> commands = List.of(
+			new BatchOrderCommand(userId, "overflow", huge),
+			new BatchOrderCommand(userId, "a", List.of(new CreateOrderItemCommand(10L, 1)))
+		);
+
+		when(menuCatalog.resolveActive(anyCollection())).thenReturn(Map.of(
+			10L, new CatalogMenu(10L, "아메리카노", 3000, true),
+			11L, new CatalogMenu(11L, "A", Integer.MAX_VALUE, true),
+			12L, new CatalogMenu(12L, "B", Integer.MAX_VALUE, true),
+			13L, new CatalogMenu(13L, "C", Integer.MAX_VALUE, true)
+		));
+		doAnswer(inv -> {
+			((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		when(orderRepository.findAllByUserIdInAndIdempotencyKeyIn(anyCollection(), anyCollection()))
+			.thenReturn(List.of());
+		when(orderRepository.saveAll(anyList())).thenAnswer(inv -> {
+			List<Order> orders = inv.getArgument(0);
+			orders.forEach(o -> setField(o, "id", 100L));
+			return orders;
+		});
+		when(pointService.spendAll(eq(userId), anyList()))
+			.thenReturn(List.of(SpendOutcome.success(SpendResult.of(false, 7000L, "a"))));
+
+		List<BatchOrderResult> results = orderBatchService.createOrders(commands);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).success()).isFalse();
+		assertThat(results.get(0).errorCode()).isEqualTo(ErrorCode.INVALID_AMOUNT);
+		assertThat(results.get(1).success()).isTrue();
+		assertThat(results.get(1).order().orderId()).isEqualTo(100L);
+	}
+}
@@ -0,0 +1,60 @@
+package org.example.develop_server_kcompany.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.payment.service.OrderPaymentWorker;
+import org.example.develop_server_kcompany.payment.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OrderPaymentWorkerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OrderPaymentWorker}
+ * 같은 사용자의 주문은 동시에 처리되지 않고, 실패한 작업이 있어도 다음 작업이 이어서 처리되는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+public class OrderPaymentWorkerTest {
+
+	@Test
+	@DisplayName("같은 사용자의 주문은 한 번에 하나씩 제출 순서대로 처리된다")
+	void submit_sameUser_isSerialized() throws Exception {
+		OrderService orderService = mock(OrderService.class);
+		OrderPaymentWorker worker = new OrderPaymentWorker(orderService, mock(OrderRepository.class), Clock.systemUTC());
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<Long> processed = java.util.Collections.synchronizedList(new ArrayList<>());
+		doAnswer(inv -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			processed.add(inv.getArgument(1));
+			running.decrementAndGet();
+			if ((Long) inv.getArgument(1) == 3L) {
+				throw new IllegalStateException("일시 장애");
+			}
+			return null;
+		}).when(orderService).completePayment(anyLong(), anyLong());
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (long orderId = 1; orderId <= 10; orderId++) {
+			futures.add(worker.submit(1L, orderId));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+		assertThat(maxRunning.get()).isEqualTo(1);
+		assertThat(processed).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+	}
+}
@@ -0,0 +1,116 @@
+package org.example.develop_server_kcompany.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.payment.domain.Order;
+import org.example.develop_server_kcompany.payment.domain.OrderItem;
+import org.example.develop_server_kcompany.payment.repository.OrderRepository;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryEntry;
+import org.example.develop_server_kcompany.payment.service.OrderQueryService.OrderHistoryPage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * OrderQueryServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OrderQueryService}
+ * 대상 메서드: 커서 기반 주문 내역 조회(getOrderHistory)
+ * </p>
+ * <p>
+ * 페이지 경계(nextCursor/hasNext)와 함께, Hibernate 통계로 페이지당 쿼리 수가 일정한지 확인합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OrderQueryService.class)
+public class OrderQueryServiceTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Autowired
+	private OrderQueryService orderQueryService;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Long> savedIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 5; i++) {
+			Order order = Order.create(USER_ID, "history-" + i);
+			order.addItem(OrderItem.create(10L, "아메리카노", 3000L, 1));
+			order.addItem(OrderItem.create(20L, "라떼", 4000L, i + 1));
+			savedIds.add(orderRepository.save(order).getId());
+		}
+		Order other = Order.create(2L, "history-other");
+		other.addItem(OrderItem.create(10L, "아메리카노", 3000L, 1));
+		orderRepository.save(other);
+
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@Test
+	@DisplayName("커서를 따라가면 최신순으로 중복/누락 없이 모든 주문을 조회한다")
+	void getOrderHistory_followCursor_returnsAllOrdersNewestFirst() {
+		OrderHistoryPage first = orderQueryService.getOrderHistory(USER_ID, null, 2);
+		OrderHistoryPage second = orderQueryService.getOrderHistory(USER_ID, first.nextCursor(), 2);
+		OrderHistoryPage last = orderQueryService.getOrderHistory(USER_ID, second.nextCursor(), 2);
+
+		List<Long> expected = savedIds.reversed();
+		assertThat(first.orders()).extracting(OrderHistoryEntry::orderId).containsExactlyElementsOf(expected.subList(0, 2));
+		assertThat(second.orders()).extracting(OrderHistoryEntry::orderId).containsExactlyElementsOf(expected.subList(2, 4));
+		assertThat(last.orders()).extracting(OrderHistoryEntry::orderId).containsExactlyElementsOf(expected.subList(4, 5));
+
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.hasNext()).isTrue();
+		assertThat(last.hasNext()).isFalse();
+		assertThat(last.nextCursor()).isNull();
+		assertThat(first.orders()).allSatisfy(order -> assertThat(order.items()).hasSize(2));
+	}
+
+	@Test
+	@DisplayName("페이지 크기와 무관하게 쿼리는 주문 1회 + 보관 주문 1회 + 항목 1회만 실행된다")
+	void getOrderHistory_executesTwoQueriesPerPage() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		OrderHistoryPage page = orderQueryService.getOrderHistory(USER_ID, null, 5);
+
+		assertThat(page.orders()).hasSize(5);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("페이지 크기가 허용 범위를 벗어나면 예외")
+	void getOrderHistory_whenSizeOutOfRange_throwCustomException() {
+		assertThatThrownBy(() -> orderQueryService.getOrderHistory(USER_ID, null, 0))
+			.isInstanceOf(CustomException.class);
+		assertThatThrownBy(() -> orderQueryService.getOrderHistory(USER_ID, null, OrderQueryService.MAX_PAGE_SIZE + 1))
+			.isInstanceOf(CustomException.class);
+	}
+}
@@ -0,0 +1,87 @@
+package org.example.develop_server_kcompany.order.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.example.develop_server_kcompany.payment.service.OrderService.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalogSnapshot;
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService;
+import org.example.develop_server_kcompany.payment.service.OrderQuoteService.QuoteResult;
+import org.example.develop_server_kcompany.point.service.PointQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * OrderQuoteServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OrderQuoteService}
+ * 대상 메서드: 장바구니 견적(quote)
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@ExtendWith(MockitoExtension.class)
+public class OrderQuoteServiceTest {
+
+	@Mock
+	MenuCatalog menuCatalog;
+	@Mock
+	PointQueryService pointQueryService;
+
+	@InjectMocks
+	OrderQuoteService orderQuoteService;
+
+	@BeforeEach
+	void setUp() {
+		MenuCatalogSnapshot snapshot = mock(MenuCatalogSnapshot.class);
+		lenient().when(snapshot.version()).thenReturn(3L);
+		lenient().when(menuCatalog.snapshot()).thenReturn(snapshot);
+	}
+
+	@Test
+	@DisplayName("주문과 같은 가격 규칙으로 라인 금액/총액을 계산하고 부족 금액을 반환")
+	void quote_pricesCart_andReportsShortfall() {
+		List<CreateOrderItemCommand> items = List.of(
+			new CreateOrderItemCommand(10L, 2),
+			new CreateOrderItemCommand(20L, 1)
+		);
+		when(menuCatalog.resolveActive(anyCollection())).thenReturn(Map.of(
+			10L, new CatalogMenu(10L, "아메리카노", 3000, true),
+			20L, new CatalogMenu(20L, "라떼", 4000, true)
+		));
+		when(pointQueryService.getBalance(1L)).thenReturn(8000L);
+
+		QuoteResult result = orderQuoteService.quote(1L, items);
+
+		assertThat(result.items()).extracting(CreateOrderItemResult::lineAmount).containsExactly(6000L, 4000L);
+		assertThat(result.totalAmount()).isEqualTo(10000L);
+		assertThat(result.sufficient()).isFalse();
+		assertThat(result.shortfall()).isEqualTo(2000L);
+		assertThat(result.catalogVersion()).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("판매중이 아닌 메뉴가 있으면 주문 생성과 같은 예외")
+	void quote_whenMenuNotFound_throwCustomException() {
+		when(menuCatalog.resolveActive(anyCollection())).thenThrow(new CustomException(ErrorCode.MENU_NOT_FOUND));
+
+		assertThatThrownBy(() -> orderQuoteService.quote(1L, List.of(new CreateOrderItemCommand(99L, 1))))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.MENU_NOT_FOUND);
+		verifyNoInteractions(pointQueryService);
+	}
+}
@@ -5,35 +5,62 @@ import static org.example.develop_server_kcompany.payment.service.OrderService.*
 import static org.example.develop_server_kcompany.point.service.PointService.*;
 import static org.mockito.Mockito.*;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.example.develop_server_kcompany.common.exception.CustomException;
 import org.example.develop_server_kcompany.common.exception.ErrorCode;
-import org.example.develop_server_kcompany.menu.domain.Menu;
-import org.example.develop_server_kcompany.menu.repository.MenuRepository;
+import org.example.develop_server_kcompany.common.retry.RetryExecutor;
+import org.example.develop_server_kcompany.common.retry.RetryProperties;
+import org.example.develop_server_kcompany.menu.catalog.CatalogMenu;
+import org.example.develop_server_kcompany.menu.catalog.MenuCatalog;
+import org.example.develop_server_kcompany.payment.domain.ArchivedOrder;
 import org.example.develop_server_kcompany.payment.domain.Order;
 import org.example.develop_server_kcompany.payment.enums.OrderStatus;
+import org.example.develop_server_kcompany.payment.event.OrderAcceptedEvent;
+import org.example.develop_server_kcompany.payment.event.OrderCompletedDomainEvent;
+import org.example.develop_server_kcompany.payment.repository.ArchivedOrderRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderIdempotencyRedisRepository;
+import org.example.develop_server_kcompany.payment.repository.OrderIdempotencyRedisRepository.CachedOrderItem;
+import org.example.develop_server_kcompany.payment.repository.OrderIdempotencyRedisRepository.CachedOrderResult;
 import org.example.develop_server_kcompany.payment.repository.OrderRepository;
 import org.example.develop_server_kcompany.payment.service.OrderService;
+import org.example.develop_server_kcompany.point.lock.UserWalletLock;
+import org.example.develop_server_kcompany.point.metrics.PointMetrics;
 import org.example.develop_server_kcompany.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * OrderServiceTest 테스트 클래스입니다.
  * <p>
  * 대상 클래스: {@link OrderService}
- * 대상 메서드: 주문 생성/결제 유스케이스(createOrder)
+ * 대상 메서드: 주문 생성/결제 유스케이스(createOrder), 비동기 접수/결제(acceptOrder, completePayment)
  * </p>
  *
  * @author 재원
@@ -47,47 +74,56 @@ public class OrderServiceTest {
 	@Mock
 	OrderRepository orderRepository;
 	@Mock
+	ArchivedOrderRepository archivedOrderRepository;
+	@Mock
 	PointService pointService;
 	@Mock
-	MenuRepository menuRepository;
+	MenuCatalog menuCatalog;
 	@Mock
 	ApplicationEventPublisher eventPublisher;
+	@Mock
+	OrderIdempotencyRedisRepository idempotencyRedisRepository;
+	@Mock
+	TransactionTemplate transactionTemplate;
+
+	@Spy
+	PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+	@Spy
+	UserWalletLock userWalletLock = new UserWalletLock(pointMetrics, 16, 1000L);
+	@Spy
+	RetryExecutor retryExecutor = new RetryExecutor(new RetryProperties(
+		new RetryProperties.Policy(3, Duration.ZERO, 2.0, Duration.ZERO, 0.0, Duration.ofSeconds(1)), Map.of()),
+		new SimpleMeterRegistry());
+	@Spy
+	Clock clock = Clock.fixed(Instant.parse("2026-01-15T00:00:00Z"), ZoneId.of("Asia/Seoul"));
 
 	@InjectMocks
 	OrderService orderService;
 
-	private Menu activeMenu(Long id, String name, Integer price) {
-		try {
-			Constructor<Menu> ctor = Menu.class.getDeclaredConstructor();
-			ctor.setAccessible(true);
-			Menu menu = ctor.newInstance();
-			setField(menu, "id", id);
-			setField(menu, "name", name);
-			setField(menu, "price", price);
-			setFieldIfExists(menu, "isActive", true);
-			return menu;
-		} catch (Exception e) {
-			throw new IllegalStateException("테스트용 Menu 생성 실패", e);
-		}
+	@BeforeEach
+	void setUp() {
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(inv -> {
+			TransactionCallback<?> callback = inv.getArgument(0);
+			return callback.doInTransaction(null);
+		});
+		lenient().doAnswer(inv -> {
+			Consumer<TransactionStatus> action = inv.getArgument(0);
+			action.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		lenient().when(idempotencyRedisRepository.tryAcquireInFlight(anyLong(), anyString()))
+			.thenReturn(Optional.of("token"));
 	}
 
-	private void setField(Object target, String fieldName, Object value) {
-		try {
-			Field f = target.getClass().getDeclaredField(fieldName);
-			f.setAccessible(true);
-			f.set(target, value);
-		} catch (Exception e) {
-			throw new IllegalStateException("필드 주입 실패: " + fieldName, e);
-		}
+	private CatalogMenu activeMenu(Long id, String name, Integer price) {
+		return new CatalogMenu(id, name, price, true);
 	}
 
-	private void setFieldIfExists(Object target, String fieldName, Object value) {
+	private void setField(Object target, String fieldName, Object value) {
 		try {
 			Field f = target.getClass().getDeclaredField(fieldName);
 			f.setAccessible(true);
 			f.set(target, value);
-		} catch (NoSuchFieldException ignore) {
-			// ignore
 		} catch (Exception e) {
 			throw new IllegalStateException("필드 주입 실패: " + fieldName, e);
 		}
@@ -103,28 +139,59 @@ public class OrderServiceTest {
 		when(orderRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
 			.thenReturn(Optional.empty());
 
-		when(menuRepository.findById(10L))
-			.thenReturn(Optional.of(activeMenu(10L, "아메리카노", 3000)));
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, activeMenu(10L, "아메리카노", 3000)));
 
 		// save() 이후 주문 ID가 생성된 상황을 가정하기 위해 저장 대상 Order에 id를 주입해 반환
-		when(orderRepository.save(any(Order.class))).thenAnswer(inv -> {
+		when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(inv -> {
 			Order o = inv.getArgument(0);
 			setField(o, "id", 1L);
 			return o;
 		});
 
-		when(pointService.spend(eq(userId), anyLong(), anyString(), anyLong()))
-			.thenReturn(SpendResult.of(false, 10000L, key));
+		when(pointService.hold(userId, 6000L, key)).thenReturn(HoldResult.of(500L, false, 10000L, key));
+		when(pointService.capture(500L, 1L)).thenReturn(SpendResult.of(false, 10000L, key));
 
 		CreateOrderResult result = orderService.createOrder(userId, key, items);
 
-		// spend 호출 검증 (orderId 포함)
-		verify(pointService).spend(eq(userId), anyLong(), anyString(), anyLong());
+		// 가점유 후 주문 트랜잭션에서 확정(orderId 포함)
+		verify(pointService).hold(userId, 6000L, key);
+		verify(pointService).capture(500L, 1L);
+		verify(pointService, never()).release(anyLong());
+		verify(idempotencyRedisRepository).saveResult(userId, key, result.toCache());
+		verify(idempotencyRedisRepository).releaseInFlight(userId, key, "token");
 
 		assertThat(result.userId()).isEqualTo(userId);
 		assertThat(result.items()).hasSize(1);
 	}
 
+	@Test
+	@DisplayName("주문 생성: 가점유 후 주문 트랜잭션이 실패하면 가점유를 해제하고 예외를 전파")
+	void createOrder_whenOrderTransactionFails_thenReleasesHold() {
+		Long userId = 1L;
+		String key = "k1";
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 2));
+
+		when(orderRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
+			.thenReturn(Optional.empty());
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, activeMenu(10L, "아메리카노", 3000)));
+		when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(inv -> {
+			Order o = inv.getArgument(0);
+			setField(o, "id", 1L);
+			return o;
+		});
+		when(pointService.hold(userId, 6000L, key)).thenReturn(HoldResult.of(500L, false, 4000L, key));
+		when(pointService.capture(500L, 1L)).thenThrow(new CustomException(ErrorCode.HOLD_NOT_AVAILABLE));
+
+		assertThatThrownBy(() -> orderService.createOrder(userId, key, items))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.HOLD_NOT_AVAILABLE);
+		verify(pointService).release(500L);
+		verify(orderRepository, times(1)).saveAndFlush(any(Order.class));
+	}
+
 	@Test
 	@DisplayName("멱등성 키 중복 케이스 검증")
 	void createOrder_whenExistingOrder_thenResumeAndReturnDuplicateTrue() {
@@ -151,6 +218,40 @@ public class OrderServiceTest {
 		assertThat(result.duplicate()).isTrue();
 	}
 
+	@Test
+	@DisplayName("기존 주문의 결제 재개는 조회 트랜잭션이 끝난 뒤 차감하고, 새 트랜잭션에서 결제 완료 처리")
+	void createOrder_whenExistingOrder_thenSpendsOutsideLookupTransaction() {
+		Long userId = 1L;
+		String key = "k1";
+		AtomicBoolean inTransaction = new AtomicBoolean(false);
+		when(transactionTemplate.execute(any())).thenAnswer(inv -> {
+			inTransaction.set(true);
+			try {
+				TransactionCallback<?> callback = inv.getArgument(0);
+				return callback.doInTransaction(null);
+			} finally {
+				inTransaction.set(false);
+			}
+		});
+
+		Order existing = mock(Order.class);
+		when(existing.getId()).thenReturn(99L);
+		when(existing.getTotalAmount()).thenReturn(3000L);
+		when(existing.getStatus()).thenReturn(OrderStatus.CREATED);
+		when(orderRepository.findByUserIdAndIdempotencyKey(userId, key)).thenReturn(Optional.of(existing));
+		when(pointService.spend(userId, 3000L, key, 99L)).thenAnswer(inv -> {
+			assertThat(inTransaction).isFalse();
+			return SpendResult.of(false, 7000L, key);
+		});
+
+		CreateOrderResult result = orderService.createOrder(userId, key, List.of(new CreateOrderItemCommand(10L, 1)));
+
+		assertThat(result.duplicate()).isTrue();
+		assertThat(result.balanceAfter()).isEqualTo(7000L);
+		verify(existing).markPaid();
+		verify(transactionTemplate, times(2)).execute(any());
+	}
+
 	@Test
 	@DisplayName("주문 목록이 비어있는 경우")
 	void createOrder_whenItemsEmpty_throwIllegalArgument() {
@@ -164,7 +265,8 @@ public class OrderServiceTest {
 	void createOrder_whenMenuNotFound_throwCustomException() {
 		when(orderRepository.findByUserIdAndIdempotencyKey(anyLong(), anyString()))
 			.thenReturn(Optional.empty());
-		when(menuRepository.findById(10L)).thenReturn(Optional.empty());
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenThrow(new CustomException(ErrorCode.MENU_NOT_FOUND));
 
 		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
 
@@ -174,6 +276,36 @@ public class OrderServiceTest {
 			.isEqualTo(ErrorCode.MENU_NOT_FOUND);
 	}
 
+	@Test
+	@DisplayName("같은 메뉴가 여러 줄에 담겨도 메뉴 조회는 중복 제거 후 한 번만 수행")
+	void createOrder_whenDuplicateMenuLines_thenSingleMenuLookup() {
+		Long userId = 1L;
+		String key = "k1";
+		List<CreateOrderItemCommand> items = List.of(
+			new CreateOrderItemCommand(10L, 1),
+			new CreateOrderItemCommand(10L, 2),
+			new CreateOrderItemCommand(20L, 1)
+		);
+
+		when(orderRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
+			.thenReturn(Optional.empty());
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, activeMenu(10L, "아메리카노", 3000), 20L, activeMenu(20L, "라떼", 4000)));
+		when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(inv -> {
+			Order o = inv.getArgument(0);
+			setField(o, "id", 1L);
+			return o;
+		});
+		when(pointService.hold(userId, 13000L, key)).thenReturn(HoldResult.of(500L, false, 0L, key));
+		when(pointService.capture(500L, 1L)).thenReturn(SpendResult.of(false, 0L, key));
+
+		CreateOrderResult result = orderService.createOrder(userId, key, items);
+
+		verify(menuCatalog, times(1)).resolveActive(argThat((Collection<Long> ids) -> ids.size() == 2));
+		assertThat(result.items()).hasSize(3);
+		assertThat(result.totalAmount()).isEqualTo(13000L);
+	}
+
 	@Test
 	@DisplayName("동시성 문제 발생 시 검증")
 	void createOrder_whenSaveConflict_thenFindAndResume() {
@@ -181,10 +313,10 @@ public class OrderServiceTest {
 		String key = "k1";
 		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
 
-		when(menuRepository.findById(10L))
-			.thenReturn(Optional.of(activeMenu(10L, "라떼", 3000)));
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, activeMenu(10L, "라떼", 3000)));
 
-		when(orderRepository.save(any(Order.class)))
+		when(orderRepository.saveAndFlush(any(Order.class)))
 			.thenThrow(new DataIntegrityViolationException("dup"));
 
 		Order conflict = mock(Order.class);
@@ -198,12 +330,177 @@ public class OrderServiceTest {
 		when(orderRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
 			.thenReturn(Optional.empty(), Optional.of(conflict));
 
+		when(pointService.hold(userId, 3000L, key)).thenReturn(HoldResult.of(500L, false, 5000L, key));
 		when(pointService.spend(eq(userId), eq(3000L), anyString(), eq(77L)))
 			.thenReturn(SpendResult.of(true, 5000L, key));
 
 		CreateOrderResult result = orderService.createOrder(userId, key, items);
 
+		// 먼저 커밋된 주문이 있으므로 이번 요청의 가점유는 해제하고 기존 주문 기준으로 재개
+		verify(pointService).release(500L);
 		verify(pointService).spend(eq(userId), eq(3000L), anyString(), eq(77L));
 		assertThat(result.duplicate()).isTrue();
 	}
+
+	@Test
+	@DisplayName("가점유 중 멱등성 키 충돌이 나면 새 트랜잭션에서 기존 주문을 조회해 재개")
+	void createOrder_whenHoldConflict_thenFindAndResume() {
+		Long userId = 1L;
+		String key = "k1";
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
+
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, activeMenu(10L, "라떼", 3000)));
+		when(pointService.hold(userId, 3000L, key)).thenThrow(new DataIntegrityViolationException("dup"));
+
+		Order conflict = mock(Order.class);
+		when(conflict.getId()).thenReturn(77L);
+		when(conflict.getUserId()).thenReturn(userId);
+		when(conflict.getTotalAmount()).thenReturn(3000L);
+		when(conflict.getStatus()).thenReturn(OrderStatus.CREATED);
+
+		when(orderRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
+			.thenReturn(Optional.empty(), Optional.of(conflict));
+		when(pointService.spend(eq(userId), eq(3000L), anyString(), eq(77L)))
+			.thenReturn(SpendResult.of(true, 5000L, key));
+
+		CreateOrderResult result = orderService.createOrder(userId, key, items);
+
+		assertThat(result.duplicate()).isTrue();
+		verify(pointService, times(1)).hold(userId, 3000L, key);
+		verify(orderRepository, never()).saveAndFlush(any(Order.class));
+		verify(pointService, never()).release(anyLong());
+	}
+
+	@Test
+	@DisplayName("캐시된 결과가 있으면 DB/포인트 경로 없이 중복 응답 반환")
+	void createOrder_whenCachedResult_thenReturnDuplicateWithoutDb() {
+		Long userId = 1L;
+		String key = "k1";
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
+		CachedOrderResult cached = new CachedOrderResult(
+			5L, userId, 3000L, 7000L, List.of(new CachedOrderItem(10L, "아메리카노", 3000L, 1, 3000L)), key,
+			java.time.LocalDateTime.now());
+
+		when(idempotencyRedisRepository.findResult(userId, key)).thenReturn(Optional.of(cached));
+
+		CreateOrderResult result = orderService.createOrder(userId, key, items);
+
+		assertThat(result.orderId()).isEqualTo(5L);
+		assertThat(result.duplicate()).isTrue();
+		assertThat(result.items()).extracting(CreateOrderItemResult::menuName).containsExactly("아메리카노");
+		verifyNoInteractions(orderRepository, pointService, transactionTemplate);
+	}
+
+	@Test
+	@DisplayName("동일 키가 처리 중이면 선행 요청의 결과를 기다려 반환")
+	void createOrder_whenInFlight_thenAwaitCachedResult() {
+		Long userId = 1L;
+		String key = "k1";
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
+		CachedOrderResult first = new CachedOrderResult(
+			5L, userId, 3000L, 7000L, List.of(), key, java.time.LocalDateTime.now());
+
+		when(idempotencyRedisRepository.tryAcquireInFlight(userId, key)).thenReturn(Optional.empty());
+		when(idempotencyRedisRepository.findResult(userId, key))
+			.thenReturn(Optional.empty(), Optional.of(first));
+		when(idempotencyRedisRepository.isInFlight(userId, key)).thenReturn(true);
+
+		CreateOrderResult result = orderService.createOrder(userId, key, items);
+
+		assertThat(result.orderId()).isEqualTo(5L);
+		assertThat(result.duplicate()).isTrue();
+		verifyNoInteractions(orderRepository, pointService);
+		verify(idempotencyRedisRepository, never()).releaseInFlight(anyLong(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("비동기 접수: 주문만 저장하고 포인트 차감 없이 접수 이벤트 발행")
+	void acceptOrder_savesCreatedOrder_andPublishesAcceptedEvent() {
+		Long userId = 1L;
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 2));
+
+		when(orderRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
+			.thenReturn(Optional.empty());
+		when(menuCatalog.resolveActive(anyCollection()))
+			.thenReturn(Map.of(10L, activeMenu(10L, "아메리카노", 3000)));
+		when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(inv -> {
+			Order o = inv.getArgument(0);
+			setField(o, "id", 1L);
+			return o;
+		});
+
+		OrderAcceptResult result = orderService.acceptOrder(userId, "k1", items);
+
+		assertThat(result.orderId()).isEqualTo(1L);
+		assertThat(result.status()).isEqualTo(OrderStatus.CREATED);
+		assertThat(result.totalAmount()).isEqualTo(6000L);
+		verify(eventPublisher).publishEvent(any(OrderAcceptedEvent.class));
+		verifyNoInteractions(pointService);
+	}
+
+	@Test
+	@DisplayName("비동기 결제: 포인트 차감 후 결제 완료 처리")
+	void completePayment_spendsAndMarksPaid() {
+		Order order = Order.create(1L, "k1");
+		setField(order, "id", 5L);
+		setField(order, "totalAmount", 3000L);
+		when(orderRepository.findById(5L)).thenReturn(Optional.of(order));
+		when(pointService.spend(1L, 3000L, "k1", 5L)).thenReturn(SpendResult.of(false, 7000L, "k1"));
+
+		orderService.completePayment(1L, 5L);
+
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+		ArgumentCaptor<OrderCompletedDomainEvent> captor = ArgumentCaptor.forClass(OrderCompletedDomainEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		assertThat(captor.getValue().getOrderId()).isEqualTo(5L);
+		assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+		assertThat(captor.getValue().getTotalAmount()).isEqualTo(3000L);
+		assertThat(captor.getValue().getPaidAt()).isEqualTo(LocalDateTime.now(clock));
+	}
+
+	@Test
+	@DisplayName("비동기 결제: 잔액 부족이면 주문을 취소하고 사유 기록")
+	void completePayment_whenInsufficientBalance_thenCancel() {
+		Order order = Order.create(1L, "k1");
+		setField(order, "id", 5L);
+		setField(order, "totalAmount", 3000L);
+		when(orderRepository.findById(5L)).thenReturn(Optional.of(order));
+		when(pointService.spend(1L, 3000L, "k1", 5L))
+			.thenThrow(new CustomException(ErrorCode.INSUFFICIENT_BALANCE));
+
+		orderService.completePayment(1L, 5L);
+
+		assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELED);
+		assertThat(order.getFailureCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE.getCode());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	@DisplayName("보관된 주문의 멱등성 키로 재요청하면 새 주문 없이 중복 응답 반환")
+	void createOrder_whenArchivedOrder_thenReturnDuplicateWithoutSaving() {
+		Long userId = 1L;
+		String key = "old-key";
+		List<CreateOrderItemCommand> items = List.of(new CreateOrderItemCommand(10L, 1));
+
+		ArchivedOrder archived = mock(ArchivedOrder.class);
+		when(archived.getId()).thenReturn(42L);
+		when(archived.getUserId()).thenReturn(userId);
+		when(archived.getTotalAmount()).thenReturn(3000L);
+		when(archived.getItems()).thenReturn(List.of());
+
+		when(orderRepository.findByUserIdAndIdempotencyKey(userId, key)).thenReturn(Optional.empty());
+		when(archivedOrderRepository.findByUserIdAndIdempotencyKey(userId, key)).thenReturn(Optional.of(archived));
+		when(pointService.findOrderSpend(userId, 42L)).thenReturn(Optional.of(SpendResult.of(true, 7000L, key)));
+
+		CreateOrderResult result = orderService.createOrder(userId, key, items);
+
+		assertThat(result.orderId()).isEqualTo(42L);
+		assertThat(result.duplicate()).isTrue();
+		assertThat(result.balanceAfter()).isEqualTo(7000L);
+		verify(orderRepository, never()).saveAndFlush(any());
+		verify(pointService, never()).spend(anyLong(), anyLong(), anyString(), anyLong());
+		verify(pointService, never()).hold(anyLong(), anyLong(), anyString());
+		verifyNoInteractions(menuCatalog);
+	}
 }
@@ -4,13 +4,28 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.example.develop_server_kcompany.common.exception.GlobalExceptionHandler;
 import org.example.develop_server_kcompany.point.dto.PointChargeRequest;
 import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.enums.PointBulkGrantStatus;
+import org.example.develop_server_kcompany.point.enums.PointChargeStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.projection.PointLedgerRow;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob.GrantProgress;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService.ChargeAcceptResult;
+import org.example.develop_server_kcompany.point.service.PointChargeCommandService.ChargeStatusView;
+import org.example.develop_server_kcompany.point.service.PointLedgerQueryService;
+import org.example.develop_server_kcompany.point.service.PointLedgerQueryService.PointLedgerPage;
+import org.example.develop_server_kcompany.point.service.PointQueryService;
 import org.example.develop_server_kcompany.point.service.PointService;
+import org.example.develop_server_kcompany.point.service.PointWalletShardService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +62,21 @@ public class PointControllerTest {
 	@MockitoBean
 	private PointService pointService;
 
+	@MockitoBean
+	private PointWalletShardService pointWalletShardService;
+
+	@MockitoBean
+	private PointQueryService pointQueryService;
+
+	@MockitoBean
+	private PointLedgerQueryService pointLedgerQueryService;
+
+	@MockitoBean
+	private PointBulkGrantJob pointBulkGrantJob;
+
+	@MockitoBean
+	private PointChargeCommandService pointChargeCommandService;
+
 	@Test
 	@DisplayName("포인트 충전 성공 케이스 검증")
 	void charge_success_returnOkTest() throws Exception {
@@ -84,4 +114,119 @@ public class PointControllerTest {
 				.content(invalidJson))
 			.andExpect(status().isBadRequest());
 	}
+
+	@Test
+	@DisplayName("비동기 충전: Prefer: respond-async 헤더면 202 Accepted와 상태 조회 경로 반환")
+	void charge_respondAsync_return202() throws Exception {
+		// given
+		when(pointChargeCommandService.accept(any(PointChargeRequest.class)))
+			.thenReturn(new ChargeAcceptResult(1L, 1_000L, "k 1", PointChargeStatus.PENDING));
+
+		Map<String, Object> request = Map.of("userId", 1L, "amount", 1000L, "idempotencyKey", "k 1");
+
+		// when & then
+		mockMvc.perform(post("/api/point/charge")
+				.header("Prefer", "respond-async")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isAccepted())
+			.andExpect(header().string("Location", "/api/point/1/charges/k%201/status"))
+			.andExpect(jsonPath("$.status").value("PENDING"))
+			.andExpect(jsonPath("$.idempotencyKey").value("k 1"));
+
+		verify(pointService, never()).charge(any());
+	}
+
+	@Test
+	@DisplayName("충전 상태 조회: 실패 시 FAILED와 실패 사유 반환")
+	void getChargeStatus_returnsStatusWithFailureCode() throws Exception {
+		// given
+		when(pointChargeCommandService.getStatus(1L, "k1")).thenReturn(new ChargeStatusView(
+			1L, "k1", PointChargeStatus.FAILED, null, null, "WALLET_NOT_FOUND"));
+
+		// when & then
+		mockMvc.perform(get("/api/point/1/charges/k1/status"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("FAILED"))
+			.andExpect(jsonPath("$.failureCode").value("WALLET_NOT_FOUND"));
+	}
+
+	@Test
+	@DisplayName("지갑 분할 모드 전환: 성공 시 204, 범위를 벗어난 개수는 400")
+	void enableWalletSharding_validatesShardCount() throws Exception {
+		mockMvc.perform(put("/api/point/1/shards")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"shardCount\":8}"))
+			.andExpect(status().isNoContent());
+		verify(pointWalletShardService).enableSharding(1L, 8);
+
+		mockMvc.perform(put("/api/point/1/shards")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"shardCount\":1}"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("잔액 조회: 캐시 기반 잔액 반환")
+	void getBalance_returnsBalance() throws Exception {
+		when(pointQueryService.getBalance(1L)).thenReturn(12_000L);
+
+		mockMvc.perform(get("/api/point/1/balance"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.userId").value(1))
+			.andExpect(jsonPath("$.balance").value(12000));
+	}
+
+	@Test
+	@DisplayName("원장 내역 조회: 커서/유형/기간 파라미터 전달 및 다음 커서 반환")
+	void getLedger_returnsPage() throws Exception {
+		LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+		LocalDateTime to = LocalDateTime.of(2026, 1, 2, 0, 0);
+		PointLedgerRow row = new PointLedgerRow(
+			11L, PointTransactionType.SPEND, 500L, 1_500L, 7L, LocalDateTime.of(2026, 1, 1, 12, 0));
+		when(pointLedgerQueryService.getLedger(1L, 20L, 1, PointTransactionType.SPEND, from, to))
+			.thenReturn(new PointLedgerPage(List.of(row), 11L, true));
+
+		mockMvc.perform(get("/api/point/1/transactions")
+				.param("cursor", "20")
+				.param("size", "1")
+				.param("type", "SPEND")
+				.param("from", "2026-01-01T00:00:00")
+				.param("to", "2026-01-02T00:00:00"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.transactions[0].transactionId").value(11))
+			.andExpect(jsonPath("$.transactions[0].type").value("SPEND"))
+			.andExpect(jsonPath("$.transactions[0].balanceAfter").value(1500))
+			.andExpect(jsonPath("$.nextCursor").value(11))
+			.andExpect(jsonPath("$.hasNext").value(true));
+	}
+
+	@Test
+	@DisplayName("일괄 지급: CSV 본문을 작업에 접수하고 202와 진행 상태 조회 경로 반환")
+	void bulkGrant_returnsAccepted() throws Exception {
+		when(pointBulkGrantJob.submitCsv(eq("promo-job"), any()))
+			.thenReturn(new GrantProgress("promo-job", PointBulkGrantStatus.RUNNING, 0L, 0L, 0L, 0L));
+
+		mockMvc.perform(post("/api/point/bulk-grants/promo-job")
+				.contentType("text/csv")
+				.content("1,1000,promo-1\n2,500,promo-1\nx,1,promo-1\n"))
+			.andExpect(status().isAccepted())
+			.andExpect(header().string("Location", "/api/point/bulk-grants/promo-job"))
+			.andExpect(jsonPath("$.jobId").value("promo-job"))
+			.andExpect(jsonPath("$.status").value("RUNNING"));
+	}
+
+	@Test
+	@DisplayName("일괄 지급 진행 상태 조회: 체크포인트와 누적 건수 반환")
+	void getBulkGrant_returnsProgress() throws Exception {
+		when(pointBulkGrantJob.getProgress("promo-job"))
+			.thenReturn(new GrantProgress("promo-job", PointBulkGrantStatus.COMPLETED, 3L, 2L, 0L, 1L));
+
+		mockMvc.perform(get("/api/point/bulk-grants/promo-job"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("COMPLETED"))
+			.andExpect(jsonPath("$.lastLine").value(3))
+			.andExpect(jsonPath("$.granted").value(2))
+			.andExpect(jsonPath("$.rejected").value(1));
+	}
 }
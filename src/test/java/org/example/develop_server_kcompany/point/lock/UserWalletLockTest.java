@@ -0,0 +1,104 @@
+package org.example.develop_server_kcompany.point.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UserWalletLockTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link UserWalletLock}
+ * 같은 사용자의 작업이 동시에 실행되지 않는지, 락 대기 시간 초과 시 지정한 오류 코드로 실패하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+public class UserWalletLockTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("같은 사용자의 작업은 동시에 실행되지 않는다")
+	void withLock_sameUser_runsOneAtATime() throws Exception {
+		UserWalletLock lock = new UserWalletLock(new PointMetrics(meterRegistry), 16, 5000L);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			futures.add(executor.submit(() -> lock.withLock(1L, ErrorCode.SPEND_FAIL, () -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return running.decrementAndGet();
+			})));
+		}
+		for (Future<Integer> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertThat(maxRunning.get()).isEqualTo(1);
+		assertThat(meterRegistry.get("point.wallet.lock.wait").timer().count()).isEqualTo(32);
+	}
+
+	@Test
+	@DisplayName("락 대기 시간을 초과하면 지정한 오류 코드로 실패하고 지표를 남긴다")
+	void withLock_whenTimeout_throwCustomException() throws Exception {
+		UserWalletLock lock = new UserWalletLock(new PointMetrics(meterRegistry), 16, 50L);
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Thread holder = new Thread(() -> lock.withLock(1L, ErrorCode.SPEND_FAIL, () -> {
+			holding.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return null;
+		}));
+		holder.start();
+		holding.await();
+
+		assertThatThrownBy(() -> lock.withLock(1L, ErrorCode.CHARGE_FAIL, () -> "unreachable"))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.CHARGE_FAIL);
+		assertThat(meterRegistry.get("point.wallet.lock.timeouts").counter().count()).isEqualTo(1.0);
+
+		release.countDown();
+		holder.join();
+	}
+
+	@Test
+	@DisplayName("락을 가진 스레드는 같은 사용자 락을 다시 획득할 수 있다")
+	void withLock_isReentrant() {
+		UserWalletLock lock = new UserWalletLock(new PointMetrics(meterRegistry), 16, 50L);
+
+		String result = lock.withLock(1L, ErrorCode.SPEND_FAIL,
+			() -> lock.withLock(1L, ErrorCode.SPEND_FAIL, () -> "nested"));
+
+		assertThat(result).isEqualTo("nested");
+	}
+}
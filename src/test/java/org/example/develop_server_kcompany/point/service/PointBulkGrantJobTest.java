@@ -0,0 +1,186 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.example.develop_server_kcompany.common.config.ClockConfig;
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.common.retry.RetryExecutor;
+import org.example.develop_server_kcompany.common.retry.RetryProperties;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.enums.PointBulkGrantStatus;
+import org.example.develop_server_kcompany.point.repository.PointBulkGrantCheckpointRepository;
+import org.example.develop_server_kcompany.point.repository.PointIdempotencyKeyRepository;
+import org.example.develop_server_kcompany.point.repository.PointLotRepository;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob.GrantProgress;
+import org.example.develop_server_kcompany.point.service.PointBulkGrantJob.GrantResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PointBulkGrantJobTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointBulkGrantJob}
+ * CSV 입력이 청크 단위로 병렬 지급되고, 같은 작업을 다시 실행하면 체크포인트 이후만 처리하며,
+ * 다른 작업으로 같은 키를 다시 지급하면 중복으로 걸러지는지, 접수된 작업의 진행 상태를 따로 조회할 수 있는지 검증합니다.
+ * </p>
+ * <p>
+ * 작업이 별도 스레드에서 청크 트랜잭션을 커밋하므로 테스트 트랜잭션을 사용하지 않고, 테스트마다 데이터를 정리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = {"app.point.bulk-grant.chunk-size=2", "app.point.bulk-grant.parallelism=2"})
+@Import({PointBulkGrantJob.class, PointWalletShardService.class, ClockConfig.class,
+	PointBulkGrantJobTest.RetryTestConfig.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PointBulkGrantJobTest {
+
+	private static final String CSV = """
+		userId,amount,key
+		1,1000,promo-1
+		2,500,promo-1
+		1,300,promo-2
+		1,1000,promo-1
+		not-a-number,100,promo-3
+		3,100,promo-1
+		2,-10,promo-2
+		""";
+
+	@Autowired
+	private PointBulkGrantJob pointBulkGrantJob;
+
+	@Autowired
+	private PointWalletRepository pointWalletRepository;
+
+	@Autowired
+	private PointTransactionRepository pointTransactionRepository;
+
+	@Autowired
+	private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+	@Autowired
+	private PointLotRepository pointLotRepository;
+
+	@Autowired
+	private PointBulkGrantCheckpointRepository checkpointRepository;
+
+	@BeforeEach
+	void setUp() {
+		pointWalletRepository.save(new PointWallet(1L));
+		pointWalletRepository.save(new PointWallet(2L));
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointIdempotencyKeyRepository.deleteAllInBatch();
+		pointLotRepository.deleteAllInBatch();
+		pointTransactionRepository.deleteAllInBatch();
+		pointWalletRepository.deleteAllInBatch();
+		checkpointRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("유효한 행만 지급되고, 중복/형식 오류/지갑 없음은 건수로 집계된다")
+	void grantFromCsv_grantsValidLines() {
+		GrantResult result = pointBulkGrantJob.grantFromCsv("promo-job", new StringReader(CSV));
+
+		assertThat(result.completed()).isTrue();
+		assertThat(result.lastLine()).isEqualTo(8L);
+		assertThat(result.granted()).isEqualTo(3L);
+		assertThat(result.duplicated()).isEqualTo(1L);
+		assertThat(result.rejected()).isEqualTo(3L);
+
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(1_300L);
+		assertThat(pointWalletRepository.findBalanceByUserId(2L)).contains(500L);
+		assertThat(pointTransactionRepository.count()).isEqualTo(3L);
+		assertThat(pointIdempotencyKeyRepository.count()).isEqualTo(3L);
+		assertThat(pointLotRepository.count()).isEqualTo(3L);
+		assertThat(checkpointRepository.findById("promo-job"))
+			.hasValueSatisfying(checkpoint -> {
+				assertThat(checkpoint.getLastLine()).isEqualTo(8L);
+				assertThat(checkpoint.getGranted()).isEqualTo(3L);
+				assertThat(checkpoint.getStatus()).isEqualTo(PointBulkGrantStatus.COMPLETED);
+			});
+	}
+
+	@Test
+	@DisplayName("접수된 작업은 백그라운드에서 지급되고, 진행 상태는 체크포인트로 따로 조회된다")
+	void submitCsv_grantsInBackground_andProgressIsReadable() throws InterruptedException {
+		GrantProgress accepted = pointBulkGrantJob.submitCsv("promo-job",
+			new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(accepted.status()).isEqualTo(PointBulkGrantStatus.RUNNING);
+		GrantProgress progress = awaitFinished("promo-job");
+		assertThat(progress.status()).isEqualTo(PointBulkGrantStatus.COMPLETED);
+		assertThat(progress.lastLine()).isEqualTo(8L);
+		assertThat(progress.granted()).isEqualTo(3L);
+		assertThat(progress.rejected()).isEqualTo(3L);
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(1_300L);
+		assertThatThrownBy(() -> pointBulkGrantJob.getProgress("unknown-job"))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.BULK_GRANT_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("같은 작업은 체크포인트 이후만 처리하고, 다른 작업의 같은 키는 중복으로 걸러진다")
+	void grantFromCsv_resumesFromCheckpoint_andSkipsProcessedKeys() {
+		pointBulkGrantJob.grantFromCsv("promo-job", new StringReader(CSV));
+
+		GrantResult resumed = pointBulkGrantJob.grantFromCsv("promo-job", new StringReader(CSV));
+		GrantResult replayed = pointBulkGrantJob.grantFromCsv("promo-job-retry", new StringReader(CSV));
+
+		assertThat(resumed.completed()).isTrue();
+		assertThat(resumed.granted() + resumed.duplicated() + resumed.rejected()).isZero();
+		assertThat(replayed.granted()).isZero();
+		assertThat(replayed.duplicated()).isEqualTo(4L);
+
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(1_300L);
+		assertThat(pointTransactionRepository.count()).isEqualTo(3L);
+	}
+
+	private GrantProgress awaitFinished(String jobId) throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		GrantProgress progress = pointBulkGrantJob.getProgress(jobId);
+		while (progress.status() == PointBulkGrantStatus.RUNNING && System.nanoTime() < deadline) {
+			Thread.sleep(20L);
+			progress = pointBulkGrantJob.getProgress(jobId);
+		}
+		return progress;
+	}
+
+	@TestConfiguration
+	static class RetryTestConfig {
+
+		@Bean
+		RetryExecutor retryExecutor() {
+			RetryProperties.Policy policy = new RetryProperties.Policy(
+				3, Duration.ZERO, 2.0, Duration.ZERO, 0.0, Duration.ofSeconds(1));
+			return new RetryExecutor(new RetryProperties(policy, Map.of()), new SimpleMeterRegistry());
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.enums.PointChargeStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.messaging.PointChargeCommandProducer;
+import org.example.develop_server_kcompany.point.messaging.dto.PointChargeCommandPayload;
+import org.example.develop_server_kcompany.point.repository.PointChargeStatusRedisRepository;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.service.PointService.ChargeCommand;
+import org.example.develop_server_kcompany.point.service.PointService.ChargeOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * PointChargeCommandServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointChargeCommandService}
+ * 수신한 충전 명령이 사용자별로 묶여 순서대로 한 번에 처리되고, 결과에 따라 처리 상태가 갱신되는지,
+ * 상태 조회가 원장을 우선으로 판단하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PointChargeCommandServiceTest {
+
+	@Mock
+	private PointService pointService;
+
+	@Mock
+	private PointChargeCommandProducer pointChargeCommandProducer;
+
+	@Mock
+	private PointChargeStatusRedisRepository pointChargeStatusRedisRepository;
+
+	@Mock
+	private PointTransactionRepository pointTransactionRepository;
+
+	@Mock
+	private Clock clock;
+
+	@InjectMocks
+	private PointChargeCommandService pointChargeCommandService;
+
+	@Test
+	@DisplayName("명령은 사용자별로 수신 순서대로 묶여 한 번에 처리되고, 성공은 상태 삭제, 실패는 오류 코드 기록")
+	void apply_groupsByUser_andUpdatesStatus() {
+		when(pointService.chargeAll(1L, List.of(new ChargeCommand(100L, "a"), new ChargeCommand(200L, "c"))))
+			.thenReturn(List.of(
+				ChargeOutcome.success(PointChargeResponse.of(false, 1L, 100L, 100L, "a")),
+				ChargeOutcome.success(PointChargeResponse.of(false, 1L, 200L, 300L, "c"))));
+		when(pointService.chargeAll(2L, List.of(new ChargeCommand(50L, "b"))))
+			.thenReturn(List.of(ChargeOutcome.failure(ErrorCode.WALLET_NOT_FOUND)));
+
+		pointChargeCommandService.apply(List.of(
+			payload(1L, 100L, "a"),
+			payload(2L, 50L, "b"),
+			payload(1L, 200L, "c")));
+
+		verify(pointService, times(2)).chargeAll(anyLong(), anyList());
+		verify(pointChargeStatusRedisRepository).clear(1L, "a");
+		verify(pointChargeStatusRedisRepository).clear(1L, "c");
+		verify(pointChargeStatusRedisRepository).markFailed(2L, "b", "WALLET_NOT_FOUND");
+	}
+
+	@Test
+	@DisplayName("예상하지 못한 예외는 실패한 사용자의 첫 명령 위치로 전파하고, 이후 사용자는 처리하지 않는다")
+	void apply_whenUnexpectedFailure_thenReportsFirstIndexOfFailedUser() {
+		when(pointService.chargeAll(1L, List.of(new ChargeCommand(100L, "a"))))
+			.thenReturn(List.of(ChargeOutcome.success(PointChargeResponse.of(false, 1L, 100L, 100L, "a"))));
+		when(pointService.chargeAll(2L, List.of(new ChargeCommand(50L, "b"), new ChargeCommand(70L, "d"))))
+			.thenThrow(new CannotCreateTransactionException("db down"));
+
+		assertThatThrownBy(() -> pointChargeCommandService.apply(List.of(
+			payload(1L, 100L, "a"),
+			payload(2L, 50L, "b"),
+			payload(3L, 30L, "c"),
+			payload(2L, 70L, "d"))))
+			.isInstanceOf(BatchListenerFailedException.class)
+			.extracting("index")
+			.isEqualTo(1);
+		verify(pointService, never()).chargeAll(eq(3L), anyList());
+		verify(pointChargeStatusRedisRepository).clear(1L, "a");
+	}
+
+	@Test
+	@DisplayName("처리 중 표시가 지워졌더라도 원장이 있으면 COMPLETED, 둘 다 없으면 404")
+	void getStatus_prefersLedger() {
+		PointTransaction tx = new PointTransaction(1L, PointTransactionType.CHARGE, 100L, 1_100L, null, "a");
+		when(pointChargeStatusRedisRepository.find(1L, "a")).thenReturn(Optional.empty());
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(1L, "a")).thenReturn(Optional.of(tx));
+		when(pointChargeStatusRedisRepository.find(1L, "b")).thenReturn(Optional.of("PENDING"));
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(1L, "b")).thenReturn(Optional.empty());
+		when(pointChargeStatusRedisRepository.find(1L, "x")).thenReturn(Optional.empty());
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(1L, "x")).thenReturn(Optional.empty());
+
+		assertThat(pointChargeCommandService.getStatus(1L, "a"))
+			.satisfies(view -> {
+				assertThat(view.status()).isEqualTo(PointChargeStatus.COMPLETED);
+				assertThat(view.balanceAfter()).isEqualTo(1_100L);
+			});
+		assertThat(pointChargeCommandService.getStatus(1L, "b").status()).isEqualTo(PointChargeStatus.PENDING);
+		assertThatThrownBy(() -> pointChargeCommandService.getStatus(1L, "x"))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.CHARGE_COMMAND_NOT_FOUND);
+	}
+
+	private PointChargeCommandPayload payload(Long userId, Long amount, String key) {
+		return PointChargeCommandPayload.builder().userId(userId).amount(amount).idempotencyKey(key).build();
+	}
+}
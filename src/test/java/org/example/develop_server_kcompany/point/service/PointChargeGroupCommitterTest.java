@@ -0,0 +1,152 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.metrics.PointMetrics;
+import org.example.develop_server_kcompany.point.service.PointService.ChargeCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PointChargeGroupCommitterTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointChargeGroupCommitter}
+ * 같은 사용자의 동시 요청이 하나의 그룹으로 모이고, 각 요청이 자신의 결과(또는 예외)를 받는지,
+ * 혼자 들어온 요청은 기다리지 않고 리더가 끝나지 않으면 팔로워가 시간 초과로 실패하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+public class PointChargeGroupCommitterTest {
+
+	private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("처리 중에 들어온 같은 사용자의 요청은 한 그룹으로 처리되고 각자 결과를 받는다")
+	void submit_groupsConcurrentRequests() throws Exception {
+		PointChargeGroupCommitter committer = new PointChargeGroupCommitter(pointMetrics, 300L, 100, 5000L);
+		List<Integer> groupSizes = new CopyOnWriteArrayList<>();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<PointChargeResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			long amount = i + 1;
+			futures.add(executor.submit(() -> {
+				start.await();
+				return committer.submit(1L, new ChargeCommand(amount, "key-" + amount), group -> {
+					groupSizes.add(group.size());
+					sleep(50L);
+					group.forEach(entry -> entry.complete(PointChargeResponse.of(
+						false, 1L, entry.command().amount(), 0L, entry.command().idempotencyKey())));
+				});
+			}));
+		}
+		start.countDown();
+
+		for (int i = 0; i < 8; i++) {
+			PointChargeResponse response = futures.get(i).get(5, TimeUnit.SECONDS);
+			assertThat(response.getIdempotencyKey()).isEqualTo("key-" + (i + 1));
+		}
+		executor.shutdown();
+
+		assertThat(groupSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(8);
+		assertThat(groupSizes.size()).isLessThan(8);
+	}
+
+	@Test
+	@DisplayName("flush 함수가 실패하거나 결과를 채우지 않으면 요청은 예외로 끝난다")
+	void submit_whenFlushFails_thenThrows() {
+		PointChargeGroupCommitter committer = new PointChargeGroupCommitter(pointMetrics, 0L, 100, 5000L);
+
+		assertThatThrownBy(() -> committer.submit(1L, new ChargeCommand(1000L, "k"), group -> {
+			throw new CustomException(ErrorCode.WALLET_NOT_FOUND);
+		}))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.WALLET_NOT_FOUND);
+
+		assertThatThrownBy(() -> committer.submit(1L, new ChargeCommand(1000L, "k"), group -> {
+		}))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.CHARGE_FAIL);
+	}
+
+	@Test
+	@DisplayName("혼자 들어온 요청은 대기 시간을 기다리지 않고 바로 처리된다")
+	void submit_whenAlone_thenSkipsWindow() {
+		PointChargeGroupCommitter committer = new PointChargeGroupCommitter(pointMetrics, 5000L, 100, 5000L);
+
+		long startedAt = System.nanoTime();
+		PointChargeResponse response = committer.submit(1L, new ChargeCommand(1000L, "k"), group ->
+			group.forEach(entry -> entry.complete(PointChargeResponse.of(false, 1L, 1000L, 1000L, "k"))));
+
+		assertThat(response.getIdempotencyKey()).isEqualTo("k");
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000L);
+	}
+
+	@Test
+	@DisplayName("리더의 처리가 끝나지 않으면 팔로워는 대기 시간 초과 후 CHARGE_FAIL로 실패한다")
+	void submit_whenLeaderStuck_thenFollowerTimesOut() throws Exception {
+		PointChargeGroupCommitter committer = new PointChargeGroupCommitter(pointMetrics, 300L, 100, 200L);
+		CountDownLatch inFlight = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		// 첫 요청은 바로 처리되며 멈춰 있고, 그동안 들어온 두 요청은 다음 리더와 그 팔로워가 됩니다.
+		Future<PointChargeResponse> stuck = executor.submit(() -> committer.submit(1L, new ChargeCommand(1L, "a"),
+			group -> {
+				inFlight.countDown();
+				await(release);
+			}));
+		assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<PointChargeResponse> leader = executor.submit(() -> committer.submit(1L, new ChargeCommand(2L, "b"),
+			group -> await(release)));
+		sleep(50L);
+		Future<PointChargeResponse> follower = executor.submit(() -> committer.submit(1L, new ChargeCommand(3L, "c"),
+			group -> await(release)));
+
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(CustomException.class)
+			.cause()
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.CHARGE_FAIL);
+
+		release.countDown();
+		assertThatThrownBy(() -> stuck.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CustomException.class);
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(CustomException.class);
+		executor.shutdown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.config.ClockConfig;
+import org.example.develop_server_kcompany.point.domain.PointHold;
+import org.example.develop_server_kcompany.point.domain.PointIdempotencyKey;
+import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.PointHoldRepository;
+import org.example.develop_server_kcompany.point.repository.PointIdempotencyKeyRepository;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PointHoldExpiryJobTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointHoldExpiryJob}
+ * 만료된 가점유만 잔액이 복구되고 RELEASE 원장이 기록되며 멱등성 키가 정리되는지,
+ * 확정되었거나 아직 유효한 가점유는 그대로 남는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = "app.point.hold.expiry-chunk-size=2")
+@Import({PointHoldExpiryJob.class, PointWalletShardService.class, ClockConfig.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+public class PointHoldExpiryJobTest {
+
+	@Autowired
+	private PointHoldExpiryJob pointHoldExpiryJob;
+
+	@Autowired
+	private PointWalletRepository pointWalletRepository;
+
+	@Autowired
+	private PointTransactionRepository pointTransactionRepository;
+
+	@Autowired
+	private PointHoldRepository pointHoldRepository;
+
+	@Autowired
+	private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Test
+	@DisplayName("만료된 가점유는 잔액이 복구되고 RELEASE 원장이 기록되며, 키가 다시 사용 가능해진다")
+	void expire_releasesDueHolds() {
+		LocalDateTime now = LocalDateTime.now();
+		// 사용자 1: 10000 충전 후 1000, 2000, 3000 가점유(모두 만료) -> 청크 경계를 넘어 잔액 10000 복구
+		PointWallet first = wallet(1L, 10000L);
+		PointHold a = hold(first, 1000L, "order-a", now.minusSeconds(30));
+		PointHold b = hold(first, 2000L, "order-b", now.minusSeconds(20));
+		PointHold c = hold(first, 3000L, "order-c", now.minusSeconds(10));
+		// 사용자 2: 5000 충전 후 500 가점유(만료)
+		PointWallet second = wallet(2L, 5000L);
+		PointHold d = hold(second, 500L, "order-d", now.minusSeconds(5));
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		int processed = pointHoldExpiryJob.expire(now);
+		testEntityManager.clear();
+
+		assertThat(processed).isEqualTo(4);
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(10000L);
+		assertThat(pointWalletRepository.findBalanceByUserId(2L)).contains(5000L);
+		assertThat(pointHoldRepository.findAllById(List.of(a.getId(), b.getId(), c.getId(), d.getId())))
+			.allMatch(hold -> hold.getStatus() == PointHoldStatus.EXPIRED);
+		assertThat(pointTransactionRepository.findAll())
+			.filteredOn(tx -> tx.getType() == PointTransactionType.RELEASE)
+			.extracting(PointTransaction::getAmount)
+			.containsExactlyInAnyOrder(1000L, 2000L, 3000L, 500L);
+		assertThat(pointIdempotencyKeyRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("확정되었거나 아직 유효한 가점유는 해제하지 않는다")
+	void expire_skipsCapturedAndLiveHolds() {
+		LocalDateTime now = LocalDateTime.now();
+		PointWallet wallet = wallet(1L, 10000L);
+		PointHold captured = hold(wallet, 1000L, "order-captured", now.minusMinutes(1));
+		PointHold live = hold(wallet, 2000L, "order-live", now.plusMinutes(1));
+		testEntityManager.flush();
+		pointHoldRepository.capture(captured.getId(), 99L);
+		testEntityManager.clear();
+
+		int processed = pointHoldExpiryJob.expire(now);
+		testEntityManager.clear();
+
+		assertThat(processed).isZero();
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(7000L);
+		assertThat(pointHoldRepository.findById(captured.getId()))
+			.get().extracting(PointHold::getStatus).isEqualTo(PointHoldStatus.CAPTURED);
+		assertThat(pointHoldRepository.findById(live.getId()))
+			.get().extracting(PointHold::getStatus).isEqualTo(PointHoldStatus.HELD);
+		assertThat(pointTransactionRepository.findAll())
+			.noneMatch(tx -> tx.getType() == PointTransactionType.RELEASE);
+	}
+
+	private PointWallet wallet(Long userId, long amount) {
+		PointWallet wallet = pointWalletRepository.saveAndFlush(new PointWallet(userId));
+		pointWalletRepository.increaseBalance(userId, amount);
+		return wallet;
+	}
+
+	private PointHold hold(PointWallet wallet, long amount, String idempotencyKey, LocalDateTime expiresAt) {
+		pointWalletRepository.decreaseBalance(wallet.getUserId(), amount);
+		long balanceAfter = pointWalletRepository.findBalanceByUserId(wallet.getUserId()).orElseThrow();
+		PointTransaction tx = pointTransactionRepository.saveAndFlush(new PointTransaction(wallet.getUserId(),
+			PointTransactionType.HOLD, amount, balanceAfter, null, idempotencyKey));
+		pointIdempotencyKeyRepository.save(new PointIdempotencyKey(tx, expiresAt.plusDays(1)));
+		return pointHoldRepository.save(new PointHold(tx, expiresAt));
+	}
+}
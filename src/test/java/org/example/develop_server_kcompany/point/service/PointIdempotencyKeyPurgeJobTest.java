@@ -0,0 +1,78 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.example.develop_server_kcompany.common.config.ClockConfig;
+import org.example.develop_server_kcompany.point.domain.PointIdempotencyKey;
+import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.PointIdempotencyKeyRepository;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PointIdempotencyKeyPurgeJobTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointIdempotencyKeyPurgeJob}
+ * 만료된 멱등성 키만 청크 단위로 삭제되고, 원장은 그대로 남으며 만료된 키로는 더 이상 원장이 조회되지 않는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = "app.point.idempotency.purge-chunk-size=2")
+@Import({PointIdempotencyKeyPurgeJob.class, ClockConfig.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+public class PointIdempotencyKeyPurgeJobTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Autowired
+	private PointIdempotencyKeyPurgeJob purgeJob;
+
+	@Autowired
+	private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+	@Autowired
+	private PointTransactionRepository pointTransactionRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Test
+	@DisplayName("만료된 키만 삭제되고 원장은 남으며, 만료된 키로는 원장이 조회되지 않는다")
+	void purge_deletesOnlyExpiredKeys() {
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 3; i++) {
+			register("expired-" + i, now.minusDays(1));
+		}
+		register("live", now.plusDays(1));
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		int purged = purgeJob.purge(now);
+		testEntityManager.clear();
+
+		assertThat(purged).isEqualTo(3);
+		assertThat(pointIdempotencyKeyRepository.count()).isEqualTo(1L);
+		assertThat(pointTransactionRepository.count()).isEqualTo(4L);
+		assertThat(pointTransactionRepository.findByUserIdAndIdempotencyKey(USER_ID, "expired-0")).isEmpty();
+		assertThat(pointTransactionRepository.findByUserIdAndIdempotencyKey(USER_ID, "live"))
+			.hasValueSatisfying(tx -> assertThat(tx.getIdempotencyKey()).isEqualTo("live"));
+	}
+
+	private void register(String key, LocalDateTime expiresAt) {
+		PointTransaction tx = pointTransactionRepository.save(
+			new PointTransaction(USER_ID, PointTransactionType.CHARGE, 1_000L, 1_000L, null, key));
+		pointIdempotencyKeyRepository.save(new PointIdempotencyKey(tx, expiresAt));
+	}
+}
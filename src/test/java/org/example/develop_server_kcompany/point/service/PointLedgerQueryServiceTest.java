@@ -0,0 +1,147 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.repository.projection.PointLedgerRow;
+import org.example.develop_server_kcompany.point.service.PointLedgerQueryService.PointLedgerPage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * PointLedgerQueryServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointLedgerQueryService}
+ * 대상 메서드: 커서 기반 포인트 원장 조회(getLedger)
+ * </p>
+ * <p>
+ * 페이지 경계(nextCursor/hasNext), 유형/기간 필터, 그리고 엔티티를 로딩하지 않고 페이지당 쿼리 1회만 실행되는지 확인합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PointLedgerQueryService.class)
+public class PointLedgerQueryServiceTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Autowired
+	private PointLedgerQueryService pointLedgerQueryService;
+
+	@Autowired
+	private PointTransactionRepository pointTransactionRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final List<Long> savedIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		long balance = 0L;
+		for (int i = 0; i < 5; i++) {
+			boolean charge = i % 2 == 0;
+			balance += charge ? 1_000L : -500L;
+			PointTransaction tx = new PointTransaction(
+				USER_ID,
+				charge ? PointTransactionType.CHARGE : PointTransactionType.SPEND,
+				charge ? 1_000L : 500L,
+				balance,
+				charge ? null : 100L + i,
+				"ledger-" + i);
+			savedIds.add(pointTransactionRepository.save(tx).getId());
+		}
+		pointTransactionRepository.save(
+			new PointTransaction(2L, PointTransactionType.CHARGE, 1_000L, 1_000L, null, "ledger-other"));
+
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@Test
+	@DisplayName("커서를 따라가면 최신순으로 중복/누락 없이 모든 원장을 조회한다")
+	void getLedger_followCursor_returnsAllEntriesNewestFirst() {
+		PointLedgerPage first = pointLedgerQueryService.getLedger(USER_ID, null, 2, null, null, null);
+		PointLedgerPage second = pointLedgerQueryService.getLedger(USER_ID, first.nextCursor(), 2, null, null, null);
+		PointLedgerPage last = pointLedgerQueryService.getLedger(USER_ID, second.nextCursor(), 2, null, null, null);
+
+		List<Long> expected = savedIds.reversed();
+		assertThat(first.entries()).extracting(PointLedgerRow::id).containsExactlyElementsOf(expected.subList(0, 2));
+		assertThat(second.entries()).extracting(PointLedgerRow::id).containsExactlyElementsOf(expected.subList(2, 4));
+		assertThat(last.entries()).extracting(PointLedgerRow::id).containsExactlyElementsOf(expected.subList(4, 5));
+
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.hasNext()).isTrue();
+		assertThat(last.hasNext()).isFalse();
+		assertThat(last.nextCursor()).isNull();
+		assertThat(first.entries().get(0).balanceAfter()).isEqualTo(2_000L);
+	}
+
+	@Test
+	@DisplayName("유형과 기간으로 거르면 조건에 맞는 원장만 반환한다")
+	void getLedger_withFilters_returnsMatchingEntries() {
+		LocalDateTime now = LocalDateTime.now();
+
+		PointLedgerPage spends = pointLedgerQueryService.getLedger(
+			USER_ID, null, 10, PointTransactionType.SPEND, now.minusHours(1), now.plusHours(1));
+		PointLedgerPage past = pointLedgerQueryService.getLedger(
+			USER_ID, null, 10, null, now.minusDays(2), now.minusDays(1));
+
+		assertThat(spends.entries()).extracting(PointLedgerRow::type).containsOnly(PointTransactionType.SPEND);
+		assertThat(spends.entries()).extracting(PointLedgerRow::id).containsExactly(savedIds.get(3), savedIds.get(1));
+		assertThat(spends.entries()).extracting(PointLedgerRow::orderId).containsExactly(103L, 101L);
+		assertThat(past.entries()).isEmpty();
+		assertThat(past.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("페이지 크기와 무관하게 쿼리는 1회만 실행되고 엔티티는 로딩하지 않는다")
+	void getLedger_executesSingleQueryPerPage() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		PointLedgerPage page = pointLedgerQueryService.getLedger(USER_ID, null, 5, null, null, null);
+
+		assertThat(page.entries()).hasSize(5);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("페이지 크기나 기간이 올바르지 않으면 예외")
+	void getLedger_whenInvalidRequest_throwCustomException() {
+		LocalDateTime now = LocalDateTime.now();
+
+		assertThatThrownBy(() -> pointLedgerQueryService.getLedger(USER_ID, null, 0, null, null, null))
+			.isInstanceOf(CustomException.class);
+		assertThatThrownBy(() -> pointLedgerQueryService.getLedger(
+			USER_ID, null, PointLedgerQueryService.MAX_PAGE_SIZE + 1, null, null, null))
+			.isInstanceOf(CustomException.class);
+		assertThatThrownBy(() -> pointLedgerQueryService.getLedger(USER_ID, null, 10, null, now, now))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.INVALID_REQUEST);
+	}
+}
@@ -0,0 +1,157 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.example.develop_server_kcompany.common.config.ClockConfig;
+import org.example.develop_server_kcompany.point.domain.PointHold;
+import org.example.develop_server_kcompany.point.domain.PointLot;
+import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.PointHoldRepository;
+import org.example.develop_server_kcompany.point.repository.PointLotRepository;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.repository.projection.PointWalletTotals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PointLotExpiryJobTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointLotExpiryJob}
+ * 만료된 lot의 남은 포인트만 소멸되고(사용된 양은 오래된 lot부터 차감된 것으로 계산),
+ * 만료되지 않은 lot은 남으며, 소멸 내역이 EXPIRE 원장으로 기록되는지 검증합니다.
+ * 열린 가점유가 있는 사용자는 가점유가 해제될 때까지 소멸을 미루는지도 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = "app.point.lot.expiry-chunk-size=2")
+@Import({PointLotExpiryJob.class, PointWalletShardService.class, ClockConfig.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+public class PointLotExpiryJobTest {
+
+	@Autowired
+	private PointLotExpiryJob pointLotExpiryJob;
+
+	@Autowired
+	private PointWalletRepository pointWalletRepository;
+
+	@Autowired
+	private PointTransactionRepository pointTransactionRepository;
+
+	@Autowired
+	private PointLotRepository pointLotRepository;
+
+	@Autowired
+	private PointHoldRepository pointHoldRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Test
+	@DisplayName("사용한 포인트는 오래된 lot부터 차감되고, 만료된 lot의 남은 양만 소멸된다")
+	void expire_expiresRemainingOfDueLots_fifo() {
+		LocalDateTime now = LocalDateTime.now();
+		// 사용자 1: 600(만료) + 400(유효) 충전 후 200 사용 -> 만료 lot에 400이 남아 소멸, 잔액 400
+		PointWallet first = pointWalletRepository.saveAndFlush(new PointWallet(1L));
+		lot(first, 600L, now.minusHours(2));
+		lot(first, 400L, now.plusDays(30));
+		pointWalletRepository.decreaseBalance(1L, 200L);
+		// 사용자 2: 100 x 3(모두 만료) 충전 후 50 사용 -> 250 소멸, 잔액 0
+		PointWallet second = pointWalletRepository.saveAndFlush(new PointWallet(2L));
+		for (int i = 0; i < 3; i++) {
+			lot(second, 100L, now.minusDays(1).plusMinutes(i));
+		}
+		pointWalletRepository.decreaseBalance(2L, 50L);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		int processed = pointLotExpiryJob.expire(now);
+		testEntityManager.clear();
+
+		assertThat(processed).isEqualTo(4);
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(400L);
+		assertThat(pointWalletRepository.findBalanceByUserId(2L)).contains(0L);
+		assertThat(pointLotRepository.findAll())
+			.singleElement()
+			.satisfies(lot -> assertThat(lot.getAmount()).isEqualTo(400L));
+
+		// 청크 경계에 따라 한 사용자의 소멸이 여러 원장으로 나뉠 수 있으므로 사용자별 합계로 확인합니다.
+		Map<Long, Long> expiredByUser = pointTransactionRepository.findAll().stream()
+			.filter(tx -> tx.getType() == PointTransactionType.EXPIRE)
+			.collect(Collectors.groupingBy(PointTransaction::getUserId,
+				Collectors.summingLong(PointTransaction::getAmount)));
+		assertThat(expiredByUser).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 400L, 2L, 250L));
+	}
+
+	@Test
+	@DisplayName("모두 사용된 만료 lot은 소멸 원장 없이 정리된다")
+	void expire_consumedLot_onlyDeletesLot() {
+		LocalDateTime now = LocalDateTime.now();
+		PointWallet wallet = pointWalletRepository.saveAndFlush(new PointWallet(1L));
+		lot(wallet, 500L, now.minusHours(1));
+		pointWalletRepository.decreaseBalance(1L, 500L);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		int processed = pointLotExpiryJob.expire(now);
+
+		assertThat(processed).isEqualTo(1);
+		assertThat(pointLotRepository.count()).isZero();
+		assertThat(pointTransactionRepository.findAll())
+			.noneMatch(tx -> tx.getType() == PointTransactionType.EXPIRE);
+	}
+
+	@Test
+	@DisplayName("열린 가점유가 있는 사용자는 건너뛰고, 가점유가 해제된 뒤에 되돌아온 포인트까지 소멸된다")
+	void expire_skipsUserWithOpenHold_untilReleased() {
+		LocalDateTime now = LocalDateTime.now();
+		PointWallet wallet = pointWalletRepository.saveAndFlush(new PointWallet(1L));
+		lot(wallet, 500L, now.minusHours(1));
+		pointWalletRepository.decreaseBalance(1L, 200L);
+		PointTransaction holdTx = pointTransactionRepository.save(new PointTransaction(1L,
+			PointTransactionType.HOLD, 200L, 300L, null, "order-1"));
+		PointHold hold = pointHoldRepository.save(new PointHold(holdTx, now.plusMinutes(1)));
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		assertThat(pointLotExpiryJob.expire(now)).isZero();
+		assertThat(pointLotRepository.count()).isEqualTo(1);
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(300L);
+
+		// 가점유 해제: 잔액만 되돌립니다.
+		pointHoldRepository.release(hold.getId(), PointHoldStatus.RELEASED);
+		pointWalletRepository.restoreBalance(1L, 200L);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		assertThat(pointLotExpiryJob.expire(now)).isEqualTo(1);
+		assertThat(pointWalletRepository.findBalanceByUserId(1L)).contains(0L);
+		assertThat(pointTransactionRepository.findAll())
+			.filteredOn(tx -> tx.getType() == PointTransactionType.EXPIRE)
+			.singleElement()
+			.satisfies(tx -> assertThat(tx.getAmount()).isEqualTo(500L));
+	}
+
+	private void lot(PointWallet wallet, long amount, LocalDateTime expiresAt) {
+		pointWalletRepository.increaseBalance(wallet.getUserId(), amount);
+		PointWalletTotals totals = pointWalletRepository.findTotalsByUserId(wallet.getUserId()).orElseThrow();
+		PointTransaction tx = pointTransactionRepository.save(new PointTransaction(wallet.getUserId(),
+			PointTransactionType.CHARGE, amount, totals.balance(), null, "charge-" + totals.lotTotal()));
+		pointLotRepository.save(new PointLot(tx, totals.lotTotal(), expiresAt));
+	}
+}
@@ -0,0 +1,77 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.example.develop_server_kcompany.point.repository.PointBalanceRedisRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * PointQueryServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointQueryService}
+ * 잔액 조회가 로컬 캐시 → Redis → DB 순서로 내려가고, 커밋 이후 갱신이 캐시에 반영되는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@ExtendWith(MockitoExtension.class)
+public class PointQueryServiceTest {
+
+	@Mock
+	private PointWalletRepository pointWalletRepository;
+
+	@Mock
+	private PointBalanceRedisRepository pointBalanceRedisRepository;
+
+	private final Clock clock = Clock.fixed(Instant.parse("2026-01-15T00:00:00Z"), ZoneId.of("UTC"));
+
+	@Test
+	@DisplayName("Redis에 잔액이 있으면 DB를 조회하지 않는다")
+	void getBalance_whenRedisHit_thenSkipsDatabase() {
+		PointQueryService service = new PointQueryService(pointWalletRepository, pointBalanceRedisRepository, clock, 1000L);
+		when(pointBalanceRedisRepository.find(1L)).thenReturn(Optional.of(5000L));
+
+		assertThat(service.getBalance(1L)).isEqualTo(5000L);
+		assertThat(service.getBalance(1L)).isEqualTo(5000L);
+
+		verify(pointBalanceRedisRepository, times(1)).find(1L);
+		verifyNoInteractions(pointWalletRepository);
+	}
+
+	@Test
+	@DisplayName("Redis에 없으면 DB에서 읽고, 커밋 이후 갱신보다 우선하지 않도록 가장 낮은 순서로 저장한다")
+	void getBalance_whenRedisMiss_thenLoadsFromDatabase() {
+		PointQueryService service = new PointQueryService(pointWalletRepository, pointBalanceRedisRepository, clock, 1000L);
+		when(pointBalanceRedisRepository.find(1L)).thenReturn(Optional.empty());
+		when(pointWalletRepository.findBalanceByUserId(1L)).thenReturn(Optional.of(3000L));
+
+		assertThat(service.getBalance(1L)).isEqualTo(3000L);
+
+		verify(pointBalanceRedisRepository).saveIfNewer(1L, null, 3000L);
+	}
+
+	@Test
+	@DisplayName("커밋 이후 갱신은 Redis에 저장하고 로컬 캐시를 비운다")
+	void refresh_updatesRedisAndEvictsLocal() {
+		PointQueryService service = new PointQueryService(pointWalletRepository, pointBalanceRedisRepository, clock, 1000L);
+		when(pointBalanceRedisRepository.find(1L)).thenReturn(Optional.of(5000L), Optional.of(4000L));
+
+		assertThat(service.getBalance(1L)).isEqualTo(5000L);
+		service.refresh(1L, 42L, 4000L);
+
+		verify(pointBalanceRedisRepository).saveIfNewer(1L, 42L, 4000L);
+		assertThat(service.getBalance(1L)).isEqualTo(4000L);
+	}
+}
@@ -0,0 +1,115 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.develop_server_kcompany.point.domain.PointTransaction;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.service.PointReconciliationJob.Drift;
+import org.example.develop_server_kcompany.point.service.PointReconciliationJob.ReconciliationReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PointReconciliationJobTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointReconciliationJob}
+ * 사용자 구간을 나누어 병렬로 점검할 때, 지갑 잔액이 원장 합계/마지막 잔액과 다른 사용자와
+ * 지갑 없는 원장, 원장 없는 잔액이 불일치로 보고되는지 검증합니다.
+ * </p>
+ * <p>
+ * 작업이 별도 스레드에서 구간별 트랜잭션으로 조회하므로 테스트 트랜잭션을 사용하지 않고, 테스트마다 데이터를 정리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest(properties = {"app.point.reconciliation.range-size=2", "app.point.reconciliation.parallelism=2",
+	"app.point.reconciliation.fetch-size=2"})
+@Import(PointReconciliationJob.class)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PointReconciliationJobTest {
+
+	@Autowired
+	private PointReconciliationJob pointReconciliationJob;
+
+	@Autowired
+	private PointWalletRepository pointWalletRepository;
+
+	@Autowired
+	private PointTransactionRepository pointTransactionRepository;
+
+	@AfterEach
+	void tearDown() {
+		pointTransactionRepository.deleteAllInBatch();
+		pointWalletRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("원장과 일치하는 지갑은 통과하고, 잔액 불일치/지갑 없는 원장/원장 없는 잔액은 불일치로 보고된다")
+	void reconcile_reportsDrift() {
+		// 1: 정상(충전 1000, 사용 300)
+		wallet(1L, 700L);
+		ledger(1L, PointTransactionType.CHARGE, 1_000L, 1_000L);
+		ledger(1L, PointTransactionType.SPEND, 300L, 700L);
+		// 2: 지갑 잔액이 원장보다 많음
+		wallet(2L, 500L);
+		ledger(2L, PointTransactionType.CHARGE, 400L, 400L);
+		// 3: 원장 없이 잔액 0(정상)
+		wallet(3L, 0L);
+		// 4: 지갑 없는 원장
+		ledger(4L, PointTransactionType.CHARGE, 100L, 100L);
+		// 5: 원장 없는 잔액
+		wallet(5L, 50L);
+
+		ReconciliationReport report = pointReconciliationJob.reconcile();
+
+		assertThat(report.ranges()).isEqualTo(3);
+		assertThat(report.failedRanges()).isZero();
+		assertThat(report.checkedUsers()).isEqualTo(5L);
+		assertThat(report.driftedUsers()).isEqualTo(3L);
+		assertThat(report.drifts())
+			.extracting(Drift::userId)
+			.containsExactlyInAnyOrder(2L, 4L, 5L);
+		assertThat(report.drifts())
+			.filteredOn(drift -> drift.userId().equals(2L))
+			.singleElement()
+			.satisfies(drift -> {
+				assertThat(drift.walletBalance()).isEqualTo(500L);
+				assertThat(drift.lastBalanceAfter()).isEqualTo(400L);
+				assertThat(drift.ledgerSum()).isEqualTo(400L);
+			});
+	}
+
+	@Test
+	@DisplayName("지갑과 원장이 모두 없으면 점검할 구간이 없다")
+	void reconcile_empty() {
+		ReconciliationReport report = pointReconciliationJob.reconcile();
+
+		assertThat(report.ranges()).isZero();
+		assertThat(report.drifts()).isEmpty();
+	}
+
+	private void wallet(Long userId, long balance) {
+		pointWalletRepository.saveAndFlush(new PointWallet(userId));
+		if (balance > 0) {
+			pointWalletRepository.increaseBalance(userId, balance);
+		}
+	}
+
+	private void ledger(Long userId, PointTransactionType type, long amount, long balanceAfter) {
+		String key = "key-" + userId + "-" + type + "-" + balanceAfter;
+		pointTransactionRepository.save(new PointTransaction(userId, type, amount, balanceAfter, null, key));
+	}
+}
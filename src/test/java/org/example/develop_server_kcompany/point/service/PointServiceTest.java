@@ -3,24 +3,58 @@ package org.example.develop_server_kcompany.point.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.common.retry.RetryExecutor;
+import org.example.develop_server_kcompany.common.retry.RetryProperties;
+import org.example.develop_server_kcompany.point.domain.PointHold;
+import org.example.develop_server_kcompany.point.domain.PointIdempotencyKey;
+import org.example.develop_server_kcompany.point.domain.PointLot;
 import org.example.develop_server_kcompany.point.domain.PointTransaction;
 import org.example.develop_server_kcompany.point.domain.PointWallet;
 import org.example.develop_server_kcompany.point.dto.PointChargeRequest;
 import org.example.develop_server_kcompany.point.dto.PointChargeResponse;
+import org.example.develop_server_kcompany.point.enums.PointHoldStatus;
+import org.example.develop_server_kcompany.point.enums.PointTransactionType;
+import org.example.develop_server_kcompany.point.event.PointBalanceChangedEvent;
+import org.example.develop_server_kcompany.point.lock.UserWalletLock;
+import org.example.develop_server_kcompany.point.metrics.PointMetrics;
+import org.example.develop_server_kcompany.point.repository.PointHoldRepository;
+import org.example.develop_server_kcompany.point.repository.PointIdempotencyKeyRepository;
+import org.example.develop_server_kcompany.point.repository.PointLotRepository;
 import org.example.develop_server_kcompany.point.repository.PointTransactionRepository;
 import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.repository.projection.PointWalletTotals;
 import org.example.develop_server_kcompany.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * PointService 단위 테스트 클래스입니다.
  * <p>
@@ -43,9 +77,37 @@ public class PointServiceTest {
 	@Mock
 	private PointTransactionRepository pointTransactionRepository;
 
+	@Mock
+	private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+	@Mock
+	private PointLotRepository pointLotRepository;
+
+	@Mock
+	private PointHoldRepository pointHoldRepository;
+
+	@Mock
+	private PointWalletShardService pointWalletShardService;
+
 	@Mock
 	private TransactionTemplate transactionTemplate;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+	@Spy
+	private UserWalletLock userWalletLock = new UserWalletLock(pointMetrics, 16, 1000L);
+	@Spy
+	private RetryExecutor retryExecutor = new RetryExecutor(new RetryProperties(
+		new RetryProperties.Policy(3, Duration.ZERO, 2.0, Duration.ZERO, 0.0, Duration.ofSeconds(1)), Map.of()),
+		new SimpleMeterRegistry());
+	@Spy
+	private Clock clock = Clock.fixed(Instant.parse("2026-01-15T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+	@Spy
+	private PointChargeGroupCommitter pointChargeGroupCommitter = new PointChargeGroupCommitter(pointMetrics, 0L, 100, 5000L);
+
 	@InjectMocks
 	private PointService pointService;
 
@@ -60,8 +122,8 @@ public class PointServiceTest {
 		when(request.getUserId()).thenReturn(userId);
 		when(request.getAmount()).thenReturn(amount);
 		when(request.getIdempotencyKey()).thenReturn("test-key");
-
-		when(userRepository.existsById(userId)).thenReturn(true);
+		ReflectionTestUtils.setField(pointService, "idempotencyRetentionDays", 120L);
+		ReflectionTestUtils.setField(pointService, "lotExpireDays", 365L);
 
 		when(transactionTemplate.execute(any(TransactionCallback.class)))
 			.thenAnswer(invocation -> {
@@ -72,11 +134,10 @@ public class PointServiceTest {
 		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "test-key"))
 			.thenReturn(Optional.empty());
 
-		PointWallet wallet = new PointWallet(userId);
-		when(pointWalletRepository.findById(userId))
-			.thenReturn(Optional.of(wallet));
+		when(pointWalletRepository.increaseBalance(userId, amount)).thenReturn(1);
+		when(pointWalletRepository.findTotalsByUserId(userId)).thenReturn(Optional.of(new PointWalletTotals(amount, amount)));
 
-		when(pointTransactionRepository.save(any(PointTransaction.class)))
+		when(pointTransactionRepository.saveAndFlush(any(PointTransaction.class)))
 			.thenAnswer(invocation -> invocation.getArgument(0));
 
 		//when
@@ -89,8 +150,343 @@ public class PointServiceTest {
 		assertThat(response.getBalanceAfter()).isEqualTo(amount);
 
 		verify(pointTransactionRepository).findByUserIdAndIdempotencyKey(userId, "test-key");
-		verify(userRepository).existsById(userId);
+		verifyNoInteractions(userRepository);
+		verify(pointWalletRepository, never()).findById(userId);
 		verify(pointWalletRepository, never()).save(any(PointWallet.class));
-		verify(pointTransactionRepository).save(any(PointTransaction.class));
+		verify(pointTransactionRepository).saveAndFlush(any(PointTransaction.class));
+		ArgumentCaptor<PointIdempotencyKey> keyCaptor = ArgumentCaptor.forClass(PointIdempotencyKey.class);
+		verify(pointIdempotencyKeyRepository).saveAndFlush(keyCaptor.capture());
+		// 키 만료 시각은 주입된 Clock 기준(정리 작업과 같은 기준)입니다.
+		assertThat(keyCaptor.getValue().getExpiresAt()).isEqualTo(LocalDateTime.now(clock).plusDays(120));
+		ArgumentCaptor<List<PointLot>> lotCaptor = ArgumentCaptor.forClass(List.class);
+		verify(pointLotRepository).saveAll(lotCaptor.capture());
+		assertThat(lotCaptor.getValue())
+			.singleElement()
+			.satisfies(lot -> assertThat(lot.getExpiresAt()).isEqualTo(LocalDateTime.now(clock).plusDays(365)));
+	}
+
+	@Test
+	@DisplayName("포인트 사용 성공 - 조건부 UPDATE로 차감하고 원장 기록")
+	void spend_success_guardedUpdate() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "spend-key"))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.decreaseBalance(userId, 3000L)).thenReturn(1);
+		when(pointWalletRepository.findBalanceByUserId(userId)).thenReturn(Optional.of(7000L));
+
+		PointService.SpendResult result = pointService.spend(userId, 3000L, "spend-key", 5L);
+
+		assertThat(result.duplicate()).isFalse();
+		assertThat(result.balanceAfter()).isEqualTo(7000L);
+		verify(pointWalletRepository, never()).findById(userId);
+		verify(pointTransactionRepository).saveAndFlush(any(PointTransaction.class));
+		// lot은 소진 워터마크로 계산되므로 차감은 lot 수와 관계없이 lot 행을 읽거나 갱신하지 않습니다.
+		verifyNoInteractions(pointLotRepository);
+
+		ArgumentCaptor<PointBalanceChangedEvent> captor = ArgumentCaptor.forClass(PointBalanceChangedEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+		assertThat(captor.getValue().getBalance()).isEqualTo(7000L);
+	}
+
+	@Test
+	@DisplayName("포인트 사용 실패 - 조건부 UPDATE 대상이 없고 지갑이 있으면 잔액 부족")
+	void spend_fail_insufficientBalance() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "spend-key"))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.decreaseBalance(userId, 3000L)).thenReturn(0);
+		when(pointWalletRepository.findShardCountByUserId(userId)).thenReturn(Optional.of(0));
+
+		assertThatThrownBy(() -> pointService.spend(userId, 3000L, "spend-key", 5L))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+		verify(pointTransactionRepository, never()).saveAndFlush(any(PointTransaction.class));
+	}
+
+	@Test
+	@DisplayName("포인트 사용 실패 - 조건부 UPDATE 대상이 없고 지갑도 없으면 지갑 없음")
+	void spend_fail_walletNotFound() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		when(userRepository.existsById(userId)).thenReturn(true);
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "spend-key"))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.decreaseBalance(userId, 3000L)).thenReturn(0);
+		when(pointWalletRepository.findShardCountByUserId(userId)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> pointService.spend(userId, 3000L, "spend-key", 5L))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.WALLET_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("포인트 사용 실패 - 지갑이 없고 사용자도 없으면 사용자 없음")
+	void spend_fail_userNotFound() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		when(userRepository.existsById(userId)).thenReturn(false);
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "spend-key"))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.decreaseBalance(userId, 3000L)).thenReturn(0);
+		when(pointWalletRepository.findShardCountByUserId(userId)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> pointService.spend(userId, 3000L, "spend-key", 5L))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.USER_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("포인트 사용 성공 - 분할 지갑이면 하위 행에서 차감하고 합계 잔액을 기록")
+	void spend_success_shardedWallet() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "spend-key"))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.decreaseBalance(userId, 3000L)).thenReturn(0);
+		when(pointWalletRepository.findShardCountByUserId(userId)).thenReturn(Optional.of(8));
+		when(pointWalletRepository.findBalanceByUserId(userId)).thenReturn(Optional.of(97000L));
+
+		PointService.SpendResult result = pointService.spend(userId, 3000L, "spend-key", 5L);
+
+		assertThat(result.balanceAfter()).isEqualTo(97000L);
+		verify(pointWalletShardService).spend(userId, 8, 3000L);
+		verify(pointTransactionRepository).saveAndFlush(any(PointTransaction.class));
+	}
+
+	@Test
+	@DisplayName("포인트 사용 - 같은 키의 가점유가 확정 전이면 차감된 것으로 보지 않고 실패, 확정된 가점유는 중복 결과")
+	void spend_whenKeyHeldByOpenHold_thenHoldInProgress() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		PointTransaction holdTx = new PointTransaction(userId, PointTransactionType.HOLD, 3000L, 7000L, null, "order-key");
+		PointTransaction spendTx = new PointTransaction(userId, PointTransactionType.SPEND, 3000L, 7000L, 5L, "paid-key");
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "order-key")).thenReturn(Optional.of(holdTx));
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "paid-key")).thenReturn(Optional.of(spendTx));
+
+		assertThatThrownBy(() -> pointService.spend(userId, 3000L, "order-key", 5L))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.HOLD_IN_PROGRESS);
+		PointService.SpendResult paid = pointService.spend(userId, 3000L, "paid-key", 5L);
+
+		assertThat(paid.duplicate()).isTrue();
+		assertThat(paid.balanceAfter()).isEqualTo(7000L);
+		verify(pointWalletRepository, never()).decreaseBalance(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("일괄 차감 - 확정되지 않은 가점유의 키는 실패 결과로 반환하고 나머지 건은 차감")
+	void spendAll_whenKeyHeldByOpenHold_thenFailsOnlyThatCommand() {
+		Long userId = 1L;
+		PointTransaction holdTx = new PointTransaction(userId, PointTransactionType.HOLD, 3000L, 7000L, null, "held");
+		when(pointTransactionRepository.findAllByUserIdAndIdempotencyKeyIn(eq(userId), anyCollection()))
+			.thenReturn(List.of(holdTx));
+		when(pointWalletRepository.decreaseBalance(userId, 1000L)).thenReturn(1);
+		when(pointWalletRepository.findBalanceByUserId(userId)).thenReturn(Optional.of(6000L));
+
+		List<PointService.SpendOutcome> outcomes = pointService.spendAll(userId, List.of(
+			new PointService.SpendCommand(3000L, "held", 5L),
+			new PointService.SpendCommand(1000L, "fresh", 6L)));
+
+		assertThat(outcomes.get(0).isSuccess()).isFalse();
+		assertThat(outcomes.get(0).errorCode()).isEqualTo(ErrorCode.HOLD_IN_PROGRESS);
+		assertThat(outcomes.get(1).isSuccess()).isTrue();
+		assertThat(outcomes.get(1).result().balanceAfter()).isEqualTo(6000L);
+		verify(pointWalletRepository, never()).decreaseBalance(userId, 3000L);
+	}
+
+	@Test
+	@DisplayName("포인트 가점유 - 조건부 UPDATE로 잔액을 차감하고 HOLD 원장과 가점유 행을 저장")
+	void hold_success_decreasesBalanceAndSavesHold() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+		ReflectionTestUtils.setField(pointService, "holdTtlSeconds", 60L);
+
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "order-key"))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.decreaseBalance(userId, 3000L)).thenReturn(1);
+		when(pointWalletRepository.findBalanceByUserId(userId)).thenReturn(Optional.of(7000L));
+		when(pointHoldRepository.save(any(PointHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		PointService.HoldResult result = pointService.hold(userId, 3000L, "order-key");
+
+		assertThat(result.duplicate()).isFalse();
+		assertThat(result.balanceAfter()).isEqualTo(7000L);
+		ArgumentCaptor<PointTransaction> txCaptor = ArgumentCaptor.forClass(PointTransaction.class);
+		verify(pointTransactionRepository).saveAndFlush(txCaptor.capture());
+		assertThat(txCaptor.getValue().getType()).isEqualTo(PointTransactionType.HOLD);
+		verify(pointIdempotencyKeyRepository).saveAndFlush(any(PointIdempotencyKey.class));
+		ArgumentCaptor<PointHold> holdCaptor = ArgumentCaptor.forClass(PointHold.class);
+		verify(pointHoldRepository).save(holdCaptor.capture());
+		assertThat(holdCaptor.getValue().getStatus()).isEqualTo(PointHoldStatus.HELD);
+		assertThat(holdCaptor.getValue().getAmount()).isEqualTo(3000L);
+		// 만료 시각은 만료 작업과 같은 기준(주입된 Clock)으로 계산합니다.
+		assertThat(holdCaptor.getValue().getExpiresAt()).isEqualTo(LocalDateTime.now(clock).plusSeconds(60));
+	}
+
+	@Test
+	@DisplayName("포인트 가점유 확정 실패 - 이미 해제/만료된 가점유는 확정하지 않는다")
+	void capture_whenHoldNotHeld_thenHoldNotAvailable() {
+		when(pointHoldRepository.capture(10L, 5L)).thenReturn(0);
+
+		assertThatThrownBy(() -> pointService.capture(10L, 5L))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.HOLD_NOT_AVAILABLE);
+		verify(pointTransactionRepository, never()).captureHold(anyLong(), anyLong());
+		verifyNoInteractions(pointWalletRepository);
+	}
+
+	@Test
+	@DisplayName("포인트 가점유 해제 - 누적 충전량은 그대로 두고 잔액만 되돌리며, 멱등성 키를 삭제")
+	void release_restoresBalance_andFreesKey() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		PointTransaction holdTx = new PointTransaction(userId, PointTransactionType.HOLD, 3000L, 7000L, null, "order-key");
+		ReflectionTestUtils.setField(holdTx, "id", 100L);
+		PointHold hold = new PointHold(holdTx, LocalDateTime.now(clock).plusMinutes(1));
+		ReflectionTestUtils.setField(hold, "id", 10L);
+
+		when(pointHoldRepository.findById(10L)).thenReturn(Optional.of(hold));
+		when(pointHoldRepository.release(10L, PointHoldStatus.RELEASED)).thenReturn(1);
+		when(pointWalletRepository.restoreBalance(userId, 3000L)).thenReturn(1);
+		when(pointWalletRepository.findBalanceByUserId(userId)).thenReturn(Optional.of(10000L));
+		when(pointTransactionRepository.findById(100L)).thenReturn(Optional.of(holdTx));
+
+		pointService.release(10L);
+
+		verify(pointWalletRepository, never()).increaseBalance(anyLong(), anyLong());
+		ArgumentCaptor<PointTransaction> txCaptor = ArgumentCaptor.forClass(PointTransaction.class);
+		verify(pointTransactionRepository).save(txCaptor.capture());
+		assertThat(txCaptor.getValue().getType()).isEqualTo(PointTransactionType.RELEASE);
+		assertThat(txCaptor.getValue().getBalanceAfter()).isEqualTo(10000L);
+		verify(pointIdempotencyKeyRepository).deleteRegistration(eq(userId), any(byte[].class), eq(100L));
+	}
+
+	@Test
+	@DisplayName("그룹 충전 - 같은 사용자의 충전이 처리 중일 때 들어온 충전은 지갑 UPDATE 1회와 원장 배치 저장으로 처리되고 각자 결과를 받는다")
+	void charge_group_mergesConcurrentCharges() throws Exception {
+		Long userId = 1L;
+		PointService service = new PointService(userRepository, pointWalletRepository, pointTransactionRepository,
+			pointIdempotencyKeyRepository, pointLotRepository, pointHoldRepository, pointWalletShardService, transactionTemplate,
+			userWalletLock, retryExecutor, new PointChargeGroupCommitter(pointMetrics, 300L, 100, 5000L), eventPublisher, clock);
+		stubTransactionTemplate();
+
+		// 먼저 들어온 요청은 혼자이므로 바로 처리되며, 처리되는 동안 뒤이은 요청들이 대기열에 모입니다.
+		CountDownLatch inFlight = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PointTransaction processed = new PointTransaction(userId, PointTransactionType.CHARGE, 500L, 500L, null, "warm");
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(userId, "warm")).thenAnswer(invocation -> {
+			inFlight.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Optional.of(processed);
+		});
+		when(pointTransactionRepository.findAllByUserIdAndIdempotencyKeyIn(eq(userId), anyCollection()))
+			.thenReturn(List.of());
+		when(pointWalletRepository.increaseBalance(userId, 3000L)).thenReturn(1);
+		when(pointWalletRepository.findTotalsByUserId(userId)).thenReturn(Optional.of(new PointWalletTotals(3000L, 3000L)));
+
+		PointChargeRequest requestA = chargeRequest(userId, 1000L, "a");
+		PointChargeRequest requestB = chargeRequest(userId, 2000L, "b");
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		Future<PointChargeResponse> warm = executor.submit(() -> service.charge(chargeRequest(userId, 500L, "warm")));
+		assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<PointChargeResponse> first = executor.submit(() -> service.charge(requestA));
+		Thread.sleep(50L);
+		Future<PointChargeResponse> second = executor.submit(() -> service.charge(requestB));
+		release.countDown();
+		assertThat(warm.get(5, TimeUnit.SECONDS).isDuplicate()).isTrue();
+		PointChargeResponse a = first.get(5, TimeUnit.SECONDS);
+		PointChargeResponse b = second.get(5, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		assertThat(List.of(a.getIdempotencyKey(), b.getIdempotencyKey())).containsExactly("a", "b");
+		assertThat(a.getChargedAmount()).isEqualTo(1000L);
+		assertThat(b.getChargedAmount()).isEqualTo(2000L);
+		// 먼저 대기열에 들어간 요청의 잔액은 자신의 충전 금액, 나중 요청의 잔액은 합계입니다.
+		assertThat(List.of(a.getBalanceAfter(), b.getBalanceAfter())).contains(3000L).containsAnyOf(1000L, 2000L);
+		verify(pointWalletRepository).increaseBalance(userId, 3000L);
+		verify(pointTransactionRepository).saveAll(anyList());
+		verify(pointIdempotencyKeyRepository).saveAll(anyList());
+		verify(pointLotRepository).saveAll(anyList());
+		verify(pointTransactionRepository, never()).saveAndFlush(any(PointTransaction.class));
+	}
+
+	@Test
+	@DisplayName("일괄 충전 - 합계가 long 범위를 넘는 요청만 실패로 처리하고 나머지는 반영")
+	void chargeAll_whenSumOverflows_thenFailsOnlyOverflowingCommand() {
+		Long userId = 1L;
+		long large = Long.MAX_VALUE - 10L;
+		stubTransactionTemplate();
+
+		when(pointTransactionRepository.findAllByUserIdAndIdempotencyKeyIn(eq(userId), anyCollection()))
+			.thenReturn(List.of());
+		when(pointWalletRepository.increaseBalance(userId, large)).thenReturn(1);
+		when(pointWalletRepository.findTotalsByUserId(userId)).thenReturn(Optional.of(new PointWalletTotals(large, large)));
+
+		List<PointService.ChargeOutcome> outcomes = pointService.chargeAll(userId,
+			List.of(new PointService.ChargeCommand(large, "a"), new PointService.ChargeCommand(100L, "b")));
+
+		assertThat(outcomes.get(0).isSuccess()).isTrue();
+		assertThat(outcomes.get(1).isSuccess()).isFalse();
+		assertThat(outcomes.get(1).errorCode()).isEqualTo(ErrorCode.BALANCE_OVERFLOW);
+		verify(pointWalletRepository).increaseBalance(userId, large);
+	}
+
+	@Test
+	@DisplayName("일괄 충전 - 합계가 최대 보유 포인트를 넘으면 요청 단위로 다시 처리하여 넘치는 요청만 실패")
+	void chargeAll_whenTotalExceedsMaxBalance_thenRetriesEachCommand() {
+		Long userId = 1L;
+		stubTransactionTemplate();
+
+		when(pointTransactionRepository.findAllByUserIdAndIdempotencyKeyIn(eq(userId), anyCollection()))
+			.thenReturn(List.of());
+		when(pointTransactionRepository.findByUserIdAndIdempotencyKey(eq(userId), anyString()))
+			.thenReturn(Optional.empty());
+		when(pointWalletRepository.increaseBalance(userId, 3000L)).thenReturn(0);
+		when(pointWalletRepository.increaseBalance(userId, 1000L)).thenReturn(1);
+		when(pointWalletRepository.increaseBalance(userId, 2000L)).thenReturn(0);
+		when(pointWalletRepository.findShardCountByUserId(userId)).thenReturn(Optional.of(0));
+		when(pointWalletRepository.findTotalsByUserId(userId))
+			.thenReturn(Optional.of(new PointWalletTotals(PointWallet.MAX_BALANCE - 1000L, 5000L)));
+
+		List<PointService.ChargeOutcome> outcomes = pointService.chargeAll(userId,
+			List.of(new PointService.ChargeCommand(1000L, "a"), new PointService.ChargeCommand(2000L, "b")));
+
+		assertThat(outcomes.get(0).isSuccess()).isTrue();
+		assertThat(outcomes.get(0).response().getBalanceAfter()).isEqualTo(PointWallet.MAX_BALANCE - 1000L);
+		assertThat(outcomes.get(1).isSuccess()).isFalse();
+		assertThat(outcomes.get(1).errorCode()).isEqualTo(ErrorCode.BALANCE_OVERFLOW);
+		verify(pointTransactionRepository).saveAndFlush(any(PointTransaction.class));
+	}
+
+	private PointChargeRequest chargeRequest(Long userId, Long amount, String key) {
+		PointChargeRequest request = mock(PointChargeRequest.class);
+		when(request.getUserId()).thenReturn(userId);
+		when(request.getAmount()).thenReturn(amount);
+		when(request.getIdempotencyKey()).thenReturn(key);
+		return request;
+	}
+
+	private void stubTransactionTemplate() {
+		when(transactionTemplate.execute(any(TransactionCallback.class)))
+			.thenAnswer(invocation -> {
+				TransactionCallback<?> callback = invocation.getArgument(0);
+				return callback.doInTransaction(null);
+			});
 	}
 }
@@ -0,0 +1,144 @@
+package org.example.develop_server_kcompany.point.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.example.develop_server_kcompany.common.exception.CustomException;
+import org.example.develop_server_kcompany.common.exception.ErrorCode;
+import org.example.develop_server_kcompany.point.domain.PointWallet;
+import org.example.develop_server_kcompany.point.domain.PointWalletShard;
+import org.example.develop_server_kcompany.point.repository.PointWalletRepository;
+import org.example.develop_server_kcompany.point.repository.PointWalletShardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PointWalletShardServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PointWalletShardService}
+ * 분할 모드 전환 시 잔액이 하위 행으로 옮겨지고, 차감/충전 후에도 잔액 조회가 하위 행 합계를 반환하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 1. 15.
+ */
+@DataJpaTest
+@Import(PointWalletShardService.class)
+public class PointWalletShardServiceTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Autowired
+	private PointWalletShardService pointWalletShardService;
+
+	@Autowired
+	private PointWalletRepository pointWalletRepository;
+
+	@Autowired
+	private PointWalletShardRepository pointWalletShardRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	@Test
+	@DisplayName("분할 모드 전환 후 잔액 합계가 유지되고, 지갑 행에 대한 조건부 UPDATE는 적용되지 않는다")
+	void enableSharding_movesBalanceIntoShards() {
+		pointWalletRepository.saveAndFlush(new PointWallet(USER_ID));
+		pointWalletRepository.increaseBalance(USER_ID, 10_003L);
+		testEntityManager.clear();
+
+		pointWalletShardService.enableSharding(USER_ID, 4);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		assertThat(pointWalletRepository.findBalanceByUserId(USER_ID)).contains(10_003L);
+		assertThat(pointWalletRepository.findShardCountByUserId(USER_ID)).contains(4);
+		assertThat(pointWalletRepository.decreaseBalance(USER_ID, 1L)).isZero();
+		assertThat(pointWalletRepository.increaseBalance(USER_ID, 1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("충전 후 잔액이 최대 보유 포인트를 넘으면 단일/분할 지갑 모두 충전 UPDATE가 적용되지 않는다")
+	void increase_whenExceedsMaxBalance_thenNotApplied() {
+		pointWalletRepository.saveAndFlush(new PointWallet(USER_ID));
+		pointWalletRepository.increaseBalance(USER_ID, PointWallet.MAX_BALANCE - 1_000L);
+
+		assertThat(pointWalletRepository.increaseBalance(USER_ID, 1_001L)).isZero();
+		assertThat(pointWalletRepository.increaseBalance(USER_ID, 1_000L)).isOne();
+		testEntityManager.clear();
+
+		pointWalletShardService.enableSharding(USER_ID, 4);
+		pointWalletShardService.spend(USER_ID, 4, 500L);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		assertThat(pointWalletRepository.increaseLotTotal(USER_ID, 501L)).isZero();
+		assertThat(pointWalletRepository.increaseLotTotal(USER_ID, 500L)).isOne();
+	}
+
+	@Test
+	@DisplayName("어느 하위 행으로도 차감할 수 없으면 여러 행에 나누어 차감하고, 합계가 부족하면 잔액 부족")
+	void spend_acrossShards_whenNoSingleShardSuffices() {
+		pointWalletRepository.saveAndFlush(new PointWallet(USER_ID));
+		pointWalletRepository.increaseBalance(USER_ID, 4_000L);
+		testEntityManager.clear();
+		pointWalletShardService.enableSharding(USER_ID, 4);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		pointWalletShardService.spend(USER_ID, 4, 2_500L);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		assertThat(pointWalletRepository.findBalanceByUserId(USER_ID)).contains(1_500L);
+		List<PointWalletShard> shards = pointWalletShardRepository.findAllByUserIdForUpdate(USER_ID);
+		assertThat(shards).allSatisfy(shard -> assertThat(shard.getBalance()).isNotNegative());
+
+		assertThatThrownBy(() -> pointWalletShardService.spend(USER_ID, 4, 2_000L))
+			.isInstanceOf(CustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+	}
+
+	@Test
+	@DisplayName("한 트랜잭션에서 조건부 UPDATE와 여러 행 차감이 섞여도 이전에 읽은 하위 행 잔액을 재사용하지 않는다")
+	void spend_mixedWithAcrossShards_readsCurrentShardBalances() {
+		pointWalletRepository.saveAndFlush(new PointWallet(USER_ID));
+		pointWalletRepository.increaseBalance(USER_ID, 4_000L);
+		testEntityManager.clear();
+		pointWalletShardService.enableSharding(USER_ID, 4);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		pointWalletShardService.spend(USER_ID, 4, 2_500L);
+		pointWalletShardService.spend(USER_ID, 4, 400L);
+		pointWalletShardService.spend(USER_ID, 4, 1_100L);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		assertThat(pointWalletRepository.findBalanceByUserId(USER_ID)).contains(0L);
+		assertThat(pointWalletShardRepository.findAllByUserIdForUpdate(USER_ID))
+			.extracting(PointWalletShard::getBalance)
+			.containsOnly(0L);
+	}
+
+	@Test
+	@DisplayName("충전은 하위 행 하나에 반영되고 합계 잔액이 증가한다")
+	void charge_addsToOneShard() {
+		PointWallet wallet = new PointWallet(USER_ID);
+		pointWalletRepository.save(wallet);
+		testEntityManager.flush();
+		pointWalletShardService.enableSharding(USER_ID, 2);
+		testEntityManager.flush();
+
+		pointWalletShardService.charge(USER_ID, 2, 700L);
+		testEntityManager.clear();
+
+		assertThat(pointWalletRepository.findBalanceByUserId(USER_ID)).contains(700L);
+	}
+}